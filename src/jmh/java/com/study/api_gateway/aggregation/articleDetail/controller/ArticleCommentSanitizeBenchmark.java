@@ -0,0 +1,35 @@
+package com.study.api_gateway.aggregation.articleDetail.controller;
+
+import com.study.api_gateway.enrichment.ArticlePayloads;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 댓글 응답 정리 비용 (ArticleController.sanitizeCommentMap, 대댓글 포함)
+ */
+@State(Scope.Benchmark)
+public class ArticleCommentSanitizeBenchmark {
+	
+	@Param({"20", "200"})
+	public int comments;
+	
+	private ArticleController controller;
+	private List<Map<String, Object>> commentList;
+	
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setUp() {
+		controller = new ArticleController(null, null, null, null, null, null, null);
+		commentList = (List<Map<String, Object>>) ArticlePayloads.articleDetail(comments, 3).get("comments");
+	}
+	
+	@Benchmark
+	public void sanitizeCommentMap(Blackhole blackhole) {
+		for (Map<String, Object> comment : commentList) {
+			blackhole.consume(controller.sanitizeCommentMap(comment, "user-7"));
+		}
+	}
+}
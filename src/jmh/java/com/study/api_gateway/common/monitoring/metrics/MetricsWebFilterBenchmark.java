@@ -0,0 +1,34 @@
+package com.study.api_gateway.common.monitoring.metrics;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 메트릭 태그용 경로 정규화 비용 (MetricsWebFilter.normalizeEndpoint)
+ */
+@State(Scope.Benchmark)
+public class MetricsWebFilterBenchmark {
+	
+	private static final String[] PATHS = {
+			"/bff/v1/communities/articles/regular",
+			"/bff/v1/communities/articles/regular/12345",
+			"/bff/v1/profiles/3f2504e0-4f89-11d3-9a0c-0305e82c3301",
+			"/bff/v1/places/987/rooms/654/pricing-policies",
+			"/bff/v1/auth/email/user@example.com",
+			"/bff/v1/enums/all"
+	};
+	
+	private MetricsWebFilter filter;
+	
+	@Setup
+	public void setUp() {
+		filter = new MetricsWebFilter(null);
+	}
+	
+	@Benchmark
+	public void normalizeEndpoint(Blackhole blackhole) {
+		for (String path : PATHS) {
+			blackhole.consume(filter.normalizeEndpoint(path));
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package com.study.api_gateway.common.ratelimit;
+
+import com.study.api_gateway.common.monitoring.metrics.ApiGatewayMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * 로컬 버킷 Rate Limit 체크 비용 (RateLimitService.doCheck)
+ * - hotKey: 같은 키 반복 (버킷 조회 + 토큰 소비)
+ * - rotatingKeys: keyCount개 키 순환 (버킷 저장소 크기/제거 비용 포함)
+ */
+@State(Scope.Benchmark)
+public class RateLimitServiceBenchmark {
+	
+	@Param({"1000", "200000"})
+	public int keyCount;
+	
+	private RateLimitService service;
+	private RateLimitProperties.BucketConfig config;
+	private String[] keys;
+	
+	@Setup
+	public void setUp() {
+		RateLimitProperties properties = new RateLimitProperties();
+		ApiGatewayMetrics metrics = new ApiGatewayMetrics(new SimpleMeterRegistry());
+		service = new RateLimitService(properties, null, null, new RateLimitBucketStore(properties, metrics));
+		// 거부 경로의 warn 로그가 측정에 섞이지 않도록 충분히 큰 한도 사용
+		config = new RateLimitProperties.BucketConfig(1_000_000_000, 1);
+		keys = new String[keyCount];
+		for (int i = 0; i < keyCount; i++) {
+			keys[i] = "user:" + i;
+		}
+	}
+	
+	@State(Scope.Thread)
+	public static class Cursor {
+		int next;
+	}
+	
+	@Benchmark
+	public RateLimitService.RateLimitResult hotKey() {
+		return service.doCheck(keys[0], config);
+	}
+	
+	@Benchmark
+	public RateLimitService.RateLimitResult rotatingKeys(Cursor cursor) {
+		int index = cursor.next;
+		cursor.next = index + 1 == keys.length ? 0 : index + 1;
+		return service.doCheck(keys[index], config);
+	}
+}
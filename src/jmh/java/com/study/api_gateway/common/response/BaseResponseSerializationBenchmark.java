@@ -0,0 +1,54 @@
+package com.study.api_gateway.common.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.study.api_gateway.enrichment.ArticlePayloads;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.Map;
+
+/**
+ * BaseResponse JSON 직렬화 비용
+ * ObjectMapper는 Spring Boot 자동 설정과 같은 방식(Jackson2ObjectMapperBuilder + 날짜 타임스탬프 비활성화)으로 생성합니다.
+ */
+@State(Scope.Benchmark)
+public class BaseResponseSerializationBenchmark {
+	
+	@Param({"20", "200"})
+	public int comments;
+	
+	private ObjectMapper objectMapper;
+	private BaseResponse articleDetailResponse;
+	private BaseResponse errorResponse;
+	
+	@Setup
+	public void setUp() {
+		objectMapper = Jackson2ObjectMapperBuilder.json()
+				.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS,
+						SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+				.build();
+		articleDetailResponse = BaseResponse.builder()
+				.isSuccess(true)
+				.code(200)
+				.data(ArticlePayloads.articleDetail(comments, 3))
+				.request(Map.of("method", "GET", "path", "/bff/v1/communities/articles/regular/article-1"))
+				.build();
+		errorResponse = BaseResponse.builder()
+				.isSuccess(false)
+				.code(429)
+				.errorCode("G429")
+				.data("요청이 너무 많습니다")
+				.build();
+	}
+	
+	@Benchmark
+	public byte[] articleDetail() throws Exception {
+		return objectMapper.writeValueAsBytes(articleDetailResponse);
+	}
+	
+	@Benchmark
+	public byte[] error() throws Exception {
+		return objectMapper.writeValueAsBytes(errorResponse);
+	}
+}
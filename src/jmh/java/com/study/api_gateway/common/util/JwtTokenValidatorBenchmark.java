@@ -0,0 +1,69 @@
+package com.study.api_gateway.common.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * JwtTokenValidator 검증 비용
+ * - cached: 같은 토큰 반복 (검증 캐시 히트)
+ * - uncached: 검증 캐시 비활성화 (분리 + HMAC + payload 파싱)
+ * - invalidSignature: 서명 불일치 (캐시되지 않음)
+ */
+@State(Scope.Benchmark)
+public class JwtTokenValidatorBenchmark {
+	
+	private static final String SECRET = "benchmark-secret-key-benchmark-secret-key";
+	
+	private JwtTokenValidator cachedValidator;
+	private JwtTokenValidator uncachedValidator;
+	private String token;
+	private String tamperedToken;
+	
+	@Setup
+	public void setUp() throws Exception {
+		cachedValidator = newValidator(10_000);
+		uncachedValidator = newValidator(0);
+		
+		Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+		String header = encoder.encodeToString("{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+		long exp = Instant.now().getEpochSecond() + 3600;
+		String payload = encoder.encodeToString(("{\"sub\":\"user-1234\",\"role\":\"USER\",\"deviceId\":\"device-abc\",\"iat\":"
+				+ (exp - 3600) + ",\"exp\":" + exp + "}").getBytes(StandardCharsets.UTF_8));
+		Mac mac = Mac.getInstance("HmacSHA256");
+		mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+		String signature = encoder.encodeToString(mac.doFinal((header + "." + payload).getBytes(StandardCharsets.UTF_8)));
+		
+		token = header + "." + payload + "." + signature;
+		tamperedToken = header + "." + payload + "." + (signature.charAt(0) == 'A' ? 'B' : 'A') + signature.substring(1);
+	}
+	
+	private static JwtTokenValidator newValidator(long cacheSize) throws Exception {
+		JwtTokenValidator validator = new JwtTokenValidator();
+		Field secret = JwtTokenValidator.class.getDeclaredField("jwtSecret");
+		secret.setAccessible(true);
+		secret.set(validator, SECRET);
+		validator.setVerifiedCacheMaximumSize(cacheSize);
+		return validator;
+	}
+	
+	@Benchmark
+	public JwtTokenValidator.Verification cached() {
+		return cachedValidator.verify(token);
+	}
+	
+	@Benchmark
+	public JwtTokenValidator.Verification uncached() {
+		return uncachedValidator.verify(token);
+	}
+	
+	@Benchmark
+	public TokenValidationResult invalidSignature() {
+		return cachedValidator.validate(tamperedToken);
+	}
+}
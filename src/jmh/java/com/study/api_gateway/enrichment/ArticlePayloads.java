@@ -0,0 +1,54 @@
+package com.study.api_gateway.enrichment;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 벤치마크용 게시글 상세 응답 (다운스트림 JSON을 Map으로 역직렬화한 형태)
+ */
+public final class ArticlePayloads {
+	
+	public static final int USERS = 50;
+	
+	private ArticlePayloads() {
+	}
+	
+	public static Map<String, Object> articleDetail(int comments, int repliesPerComment) {
+		Map<String, Object> article = new LinkedHashMap<>();
+		article.put("articleId", "article-1");
+		article.put("title", "합주실 후기");
+		article.put("content", "본문 ".repeat(50));
+		article.put("writerId", "user-0");
+		article.put("images", List.of(Map.of("imageId", "img-1", "imageUrl", "https://cdn.example.com/a.png")));
+		
+		List<Map<String, Object>> commentList = new ArrayList<>(comments);
+		for (int i = 0; i < comments; i++) {
+			Map<String, Object> comment = comment(i);
+			List<Map<String, Object>> replies = new ArrayList<>(repliesPerComment);
+			for (int j = 0; j < repliesPerComment; j++) {
+				replies.add(comment(i * repliesPerComment + j + 1));
+			}
+			comment.put("replies", replies);
+			commentList.add(comment);
+		}
+		
+		Map<String, Object> detail = new LinkedHashMap<>();
+		detail.put("article", article);
+		detail.put("comments", commentList);
+		detail.put("likeDetail", Map.of("likeCount", 12, "isLiked", false));
+		return detail;
+	}
+	
+	public static Map<String, Object> comment(int seq) {
+		Map<String, Object> comment = new LinkedHashMap<>();
+		comment.put("commentId", "comment-" + seq);
+		comment.put("articleId", "article-1");
+		comment.put("referenceId", "article-1");
+		comment.put("writerId", "user-" + (seq % USERS));
+		comment.put("contents", "댓글 내용 " + seq);
+		comment.put("createdAt", "2025-10-01T12:00:00");
+		return comment;
+	}
+}
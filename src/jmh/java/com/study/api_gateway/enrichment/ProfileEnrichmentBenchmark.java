@@ -0,0 +1,76 @@
+package com.study.api_gateway.enrichment;
+
+import com.study.api_gateway.api.article.dto.response.ArticleCursorPageResponse;
+import com.study.api_gateway.api.article.dto.response.ArticleResponse;
+import com.study.api_gateway.api.profile.dto.response.BatchUserSummaryResponse;
+import com.study.api_gateway.enrichment.plan.EnrichmentPlans;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+
+/**
+ * 중첩 응답(게시글 + 댓글 + 대댓글) 프로필 보강 순회 비용
+ * (ProfileEnrichmentUtil.collectUserIdsDeep / injectProfilesDeep)
+ * 비교용으로 같은 개수의 게시글 DTO 페이지를 EnrichmentPlans로 보강하는 비용도 측정합니다.
+ */
+@State(Scope.Benchmark)
+public class ProfileEnrichmentBenchmark {
+	
+	@Param({"20", "200"})
+	public int comments;
+	
+	private ProfileEnrichmentUtil util;
+	private EnrichmentPlans plans;
+	private Map<String, Object> payload;
+	private ArticleCursorPageResponse page;
+	private Map<String, BatchUserSummaryResponse> profiles;
+	
+	@Setup
+	public void setUp() {
+		plans = new EnrichmentPlans();
+		util = new ProfileEnrichmentUtil(null, null, plans);
+		payload = ArticlePayloads.articleDetail(comments, 3);
+		List<ArticleResponse> items = new ArrayList<>(comments);
+		for (int i = 0; i < comments; i++) {
+			items.add(ArticleResponse.builder()
+					.articleId("article-" + i)
+					.writerId("user-" + (i % ArticlePayloads.USERS))
+					.build());
+		}
+		page = ArticleCursorPageResponse.builder().items(items).size(comments).build();
+		profiles = new HashMap<>();
+		for (int i = 0; i < ArticlePayloads.USERS; i++) {
+			BatchUserSummaryResponse profile = new BatchUserSummaryResponse();
+			profile.setUserId("user-" + i);
+			profile.setNickname("nick-" + i);
+			profile.setProfileImageUrl("https://cdn.example.com/profile/" + i + ".png");
+			profiles.put("user-" + i, profile);
+		}
+	}
+	
+	@Benchmark
+	public Set<String> collectUserIdsDeep() {
+		Set<String> userIds = new LinkedHashSet<>();
+		util.collectUserIdsDeep(payload, userIds);
+		return userIds;
+	}
+	
+	@Benchmark
+	public Map<String, Object> injectProfilesDeep() {
+		util.injectProfilesDeep(payload, profiles);
+		return payload;
+	}
+	
+	@Benchmark
+	public Set<String> collectTyped() {
+		Set<String> userIds = new LinkedHashSet<>();
+		plans.collect(page, userIds);
+		return userIds;
+	}
+	
+	@Benchmark
+	public ArticleCursorPageResponse injectTyped() {
+		plans.inject(page, profiles, "nickname", "profileImageUrl");
+		return page;
+	}
+}
@@ -334,7 +334,7 @@ public class ArticleController implements ArticleApi {
 	}
 	
 	@SuppressWarnings("unchecked")
-	private java.util.Map<String, Object> sanitizeCommentMap(java.util.Map<String, Object> c, String currentUserId) {
+	java.util.Map<String, Object> sanitizeCommentMap(java.util.Map<String, Object> c, String currentUserId) {
 		java.util.Map<String, Object> m = new java.util.LinkedHashMap<>();
 		if (c == null) return m;
 		for (java.util.Map.Entry<String, Object> e : c.entrySet()) {
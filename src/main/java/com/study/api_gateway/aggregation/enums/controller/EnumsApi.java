@@ -21,6 +21,17 @@ import reactor.core.publisher.Mono;
 @Tag(name = "Enums", description = "열거형 데이터 API")
 public interface EnumsApi {
 	
+	@Operation(summary = "전체 기준 데이터 번들",
+			description = "모든 열거형 데이터를 한 번에 조회합니다. 응답의 ETag를 If-None-Match로 보내면 변경이 없을 때 304를 반환합니다.")
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "성공",
+					content = @Content(mediaType = "application/json",
+							schema = @Schema(implementation = BaseResponse.class))),
+			@ApiResponse(responseCode = "304", description = "변경 없음")
+	})
+	@GetMapping("/all")
+	Mono<ResponseEntity<BaseResponse>> all(ServerHttpRequest request);
+	
 	@Operation(summary = "장르 목록")
 	@ApiResponses({
 			@ApiResponse(responseCode = "200", description = "성공",
@@ -1,17 +1,16 @@
 package com.study.api_gateway.aggregation.enums.controller;
 
 
-import com.study.api_gateway.api.article.client.ArticleClient;
+import com.study.api_gateway.aggregation.enums.snapshot.ReferenceDataService;
 import com.study.api_gateway.api.auth.client.AuthClient;
-import com.study.api_gateway.api.image.client.ImageClient;
 import com.study.api_gateway.api.place.client.PlaceClient;
-import com.study.api_gateway.api.profile.client.ProfileClient;
-import com.study.api_gateway.api.room.client.RoomClient;
 import com.study.api_gateway.api.support.client.FaqClient;
 import com.study.api_gateway.api.support.dto.faq.FaqCategory;
 import com.study.api_gateway.common.response.BaseResponse;
 import com.study.api_gateway.common.response.ResponseFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -24,68 +23,87 @@ import reactor.core.publisher.Mono;
 @RequestMapping("/bff/v1/enums")
 @RequiredArgsConstructor
 public class EnumsController implements EnumsApi {
-	private final ProfileClient profileClient;
+	private final ReferenceDataService referenceData;
 	private final AuthClient authClient;
-	private final ImageClient imageClient;
 	private final ResponseFactory responseFactory;
-	private final ArticleClient articleClient;
 	private final FaqClient faqClient;
 	private final PlaceClient placeClient;
-	private final RoomClient roomClient;
+	
+	/**
+	 * 전체 기준 데이터 번들 (앱 시작 시 1회 호출, If-None-Match가 일치하면 304)
+	 */
+	@Override
+	@GetMapping("/all")
+	public Mono<ResponseEntity<BaseResponse>> all(ServerHttpRequest request) {
+		return referenceData.snapshot()
+				.map(snapshot -> {
+					if (snapshot.matches(request.getHeaders().getIfNoneMatch())) {
+						return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+								.eTag(snapshot.etag())
+								.<BaseResponse>build();
+					}
+					return ResponseEntity.ok()
+							.eTag(snapshot.etag())
+							.cacheControl(CacheControl.noCache())
+							.body(responseFactory.ok(snapshot.bundle(), request).getBody());
+				});
+	}
 	
 	@Override
 	@GetMapping("/genres")
 	public Mono<ResponseEntity<BaseResponse>> genres(ServerHttpRequest request) {
-		return profileClient.fetchGenres()
+		return referenceData.dataset(ReferenceDataService.GENRES)
 				.map(result -> responseFactory.ok(result, request));
 	}
 	
 	@Override
 	@GetMapping("/instruments")
 	public Mono<ResponseEntity<BaseResponse>> instruments(ServerHttpRequest request) {
-		return profileClient.fetchInstruments()
+		return referenceData.dataset(ReferenceDataService.INSTRUMENTS)
 				.map(result -> responseFactory.ok(result, request));
 	}
 	
 	@Override
 	@GetMapping("/locations")
 	public Mono<ResponseEntity<BaseResponse>> locations(ServerHttpRequest request) {
-		return profileClient.fetchLocations()
+		return referenceData.dataset(ReferenceDataService.LOCATIONS)
 				.map(result -> responseFactory.ok(result, request));
 	}
 	
 	@Override
 	@GetMapping("/consents")
 	public Mono<ResponseEntity<BaseResponse>> consents(@RequestParam(name = "all") Boolean all, ServerHttpRequest request) {
-		return authClient.fetchAllConsents(all)
-				.map(result -> responseFactory.ok(result, request));
+		Mono<?> consents = Boolean.TRUE.equals(all)
+				? referenceData.dataset(ReferenceDataService.CONSENTS)
+				: authClient.fetchAllConsents(all);
+		return consents.map(result -> responseFactory.ok(result, request));
 	}
 	
 	@Override
 	@GetMapping("/extensions")
 	public Mono<ResponseEntity<BaseResponse>> extensions(ServerHttpRequest request) {
-		return imageClient.getExtensions()
+		return referenceData.dataset(ReferenceDataService.EXTENSIONS)
 				.map(result -> responseFactory.ok(result, request));
 	}
 	
 	@Override
 	@GetMapping("/reference-types")
 	public Mono<ResponseEntity<BaseResponse>> referenceType(ServerHttpRequest request) {
-		return imageClient.getReferenceType()
+		return referenceData.dataset(ReferenceDataService.REFERENCE_TYPES)
 				.map(result -> responseFactory.ok(result, request));
 	}
 	
 	@Override
 	@GetMapping("/articles/boards")
 	public Mono<ResponseEntity<BaseResponse>> boards(ServerHttpRequest request) {
-		return articleClient.getBoards()
+		return referenceData.dataset(ReferenceDataService.ARTICLE_BOARDS)
 				.map(result -> responseFactory.ok(result, request));
 	}
 	
 	@Override
 	@GetMapping("/articles/keywords")
 	public Mono<ResponseEntity<BaseResponse>> articleKeywords(ServerHttpRequest request) {
-		return articleClient.getKeywords()
+		return referenceData.dataset(ReferenceDataService.ARTICLE_KEYWORDS)
 				.map(result -> responseFactory.ok(result, request));
 	}
 	
@@ -94,9 +112,10 @@ public class EnumsController implements EnumsApi {
 	public Mono<ResponseEntity<BaseResponse>> getFaqs(
 			@RequestParam(required = false) FaqCategory category,
 			ServerHttpRequest req) {
-		return faqClient.getFaqs(category)
-				.collectList()
-				.map(list -> responseFactory.ok(list, req));
+		Mono<?> faqs = category == null || category == FaqCategory.ALL
+				? referenceData.dataset(ReferenceDataService.FAQS)
+				: faqClient.getFaqs(category).collectList();
+		return faqs.map(list -> responseFactory.ok(list, req));
 	}
 	
 	@Override
@@ -104,14 +123,16 @@ public class EnumsController implements EnumsApi {
 	public Mono<ResponseEntity<BaseResponse>> getPlaceKeywords(
 			@RequestParam(required = false) String type,
 			ServerHttpRequest req) {
-		return placeClient.getKeywords(type)
-				.map(result -> responseFactory.ok(result, req));
+		Mono<?> keywords = type == null
+				? referenceData.dataset(ReferenceDataService.PLACE_KEYWORDS)
+				: placeClient.getKeywords(type);
+		return keywords.map(result -> responseFactory.ok(result, req));
 	}
 	
 	@Override
 	@GetMapping("/room-keywords")
 	public Mono<ResponseEntity<BaseResponse>> getRoomKeywords(ServerHttpRequest req) {
-		return roomClient.getRoomKeywordMap()
+		return referenceData.dataset(ReferenceDataService.ROOM_KEYWORDS)
 				.map(result -> responseFactory.ok(result, req));
 	}
 }
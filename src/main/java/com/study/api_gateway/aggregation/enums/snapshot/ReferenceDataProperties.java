@@ -0,0 +1,43 @@
+package com.study.api_gateway.aggregation.enums.snapshot;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 기준 데이터(enums) 스냅샷 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "reference-data")
+public class ReferenceDataProperties {
+	
+	/**
+	 * 스냅샷 사용 여부 (false면 /bff/v1/enums/* 는 매번 다운스트림 호출)
+	 */
+	private boolean enabled = true;
+	
+	/**
+	 * 정기 갱신 주기
+	 */
+	private Duration refreshInterval = Duration.ofMinutes(5);
+	
+	/**
+	 * 갱신 주기에 더하는 무작위 지연 최대값 (노드들이 동시에 갱신하지 않도록)
+	 */
+	private Duration refreshJitter = Duration.ofSeconds(30);
+	
+	/**
+	 * 한 번도 적재되지 않은 데이터가 있을 때의 재시도 주기
+	 */
+	private Duration retryInterval = Duration.ofSeconds(15);
+	
+	/**
+	 * 데이터 1종 조회 타임아웃
+	 */
+	private Duration loadTimeout = Duration.ofSeconds(5);
+}
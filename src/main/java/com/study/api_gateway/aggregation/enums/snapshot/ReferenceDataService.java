@@ -0,0 +1,196 @@
+package com.study.api_gateway.aggregation.enums.snapshot;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.api_gateway.api.article.client.ArticleClient;
+import com.study.api_gateway.api.auth.client.AuthClient;
+import com.study.api_gateway.api.image.client.ImageClient;
+import com.study.api_gateway.api.place.client.PlaceClient;
+import com.study.api_gateway.api.profile.client.ProfileClient;
+import com.study.api_gateway.api.room.client.RoomClient;
+import com.study.api_gateway.api.support.client.FaqClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 기준 데이터(enums) 스냅샷 서비스
+ * <p>
+ * - 기동 시 모든 기준 데이터를 조회해 직렬화된 JSON으로 보관하고, refresh-interval + 무작위 jitter마다 갱신합니다.
+ * - 갱신에 실패한 데이터는 마지막으로 성공한 값을 유지합니다. (한 번도 적재되지 못한 데이터가 있으면 retry-interval로 재시도)
+ * - 요청 시점에 비어 있는 데이터가 있으면 조회해서 채우되, 동시에 들어온 요청은 진행 중인 조회 하나를 공유합니다.
+ * - /bff/v1/enums/* 와 /bff/v1/enums/all 은 스냅샷으로 응답하므로 다운스트림을 호출하지 않습니다.
+ */
+@Slf4j
+@Service
+public class ReferenceDataService implements DisposableBean {
+	
+	public static final String GENRES = "genres";
+	public static final String INSTRUMENTS = "instruments";
+	public static final String LOCATIONS = "locations";
+	public static final String CONSENTS = "consents";
+	public static final String EXTENSIONS = "extensions";
+	public static final String REFERENCE_TYPES = "referenceTypes";
+	public static final String ARTICLE_BOARDS = "articleBoards";
+	public static final String ARTICLE_KEYWORDS = "articleKeywords";
+	public static final String FAQS = "faqs";
+	public static final String PLACE_KEYWORDS = "placeKeywords";
+	public static final String ROOM_KEYWORDS = "roomKeywords";
+	
+	private final ObjectMapper objectMapper;
+	private final ReferenceDataProperties properties;
+	private final Map<String, Supplier<Mono<?>>> loaders = new LinkedHashMap<>();
+	private final AtomicReference<ReferenceDataSnapshot> snapshot = new AtomicReference<>(ReferenceDataSnapshot.EMPTY);
+	private final Disposable.Swap refreshTask = Disposables.swap();
+	private final AtomicReference<Mono<ReferenceDataSnapshot>> pendingFill = new AtomicReference<>();
+	
+	public ReferenceDataService(
+			ProfileClient profileClient,
+			AuthClient authClient,
+			ImageClient imageClient,
+			ArticleClient articleClient,
+			FaqClient faqClient,
+			PlaceClient placeClient,
+			RoomClient roomClient,
+			ObjectMapper objectMapper,
+			ReferenceDataProperties properties
+	) {
+		this.objectMapper = objectMapper;
+		this.properties = properties;
+		
+		// 번들 내 순서
+		loaders.put(GENRES, profileClient::fetchGenres);
+		loaders.put(INSTRUMENTS, profileClient::fetchInstruments);
+		loaders.put(LOCATIONS, profileClient::fetchLocations);
+		loaders.put(CONSENTS, () -> authClient.fetchAllConsents(true));
+		loaders.put(EXTENSIONS, imageClient::getExtensions);
+		loaders.put(REFERENCE_TYPES, imageClient::getReferenceType);
+		loaders.put(ARTICLE_BOARDS, articleClient::getBoards);
+		loaders.put(ARTICLE_KEYWORDS, articleClient::getKeywords);
+		loaders.put(FAQS, () -> faqClient.getFaqs(null).collectList());
+		loaders.put(PLACE_KEYWORDS, () -> placeClient.getKeywords(null));
+		loaders.put(ROOM_KEYWORDS, roomClient::getRoomKeywordMap);
+	}
+	
+	@EventListener(ApplicationReadyEvent.class)
+	public void start() {
+		if (!properties.isEnabled()) {
+			log.info("[ReferenceData] snapshot disabled - enums are proxied on every request");
+			return;
+		}
+		refreshTask.update(Mono.defer(() -> refresh(loaders.keySet()))
+				.then(Mono.defer(() -> Mono.delay(nextDelay())))
+				.repeat()
+				.subscribe());
+	}
+	
+	@Override
+	public void destroy() {
+		refreshTask.dispose();
+	}
+	
+	/**
+	 * 현재 스냅샷 (아직 적재되지 않은 데이터가 있으면 그 데이터만 조회해서 채움)
+	 */
+	public Mono<ReferenceDataSnapshot> snapshot() {
+		if (!properties.isEnabled()) {
+			return refresh(loaders.keySet());
+		}
+		ReferenceDataSnapshot current = snapshot.get();
+		return missing(current).isEmpty() ? Mono.just(current) : fillMissing();
+	}
+	
+	/**
+	 * 비어 있는 데이터 조회 (진행 중인 조회가 있으면 공유하고, 끝나면 다음 요청이 새로 조회)
+	 */
+	private Mono<ReferenceDataSnapshot> fillMissing() {
+		while (true) {
+			Mono<ReferenceDataSnapshot> pending = pendingFill.get();
+			if (pending != null) return pending;
+			
+			Mono<ReferenceDataSnapshot> fill = Mono.defer(() -> refresh(missing(snapshot.get())))
+					.doFinally(signal -> pendingFill.set(null))
+					.cache();
+			if (pendingFill.compareAndSet(null, fill)) return fill;
+		}
+	}
+	
+	/**
+	 * 데이터 1종 조회 (스냅샷에 있으면 직렬화된 값, 없으면 다운스트림 조회)
+	 */
+	public Mono<Object> dataset(String name) {
+		ReferenceDataSnapshot current = snapshot.get();
+		if (properties.isEnabled() && current.contains(name)) {
+			return Mono.just(current.datasets().get(name));
+		}
+		return loaders.get(name).get().map(Object.class::cast);
+	}
+	
+	/**
+	 * 지정한 데이터를 조회해 스냅샷에 반영 (실패/빈 응답인 데이터는 이전 값 유지)
+	 */
+	private Mono<ReferenceDataSnapshot> refresh(Collection<String> names) {
+		return Flux.fromIterable(names)
+				.flatMap(name -> load(name).map(json -> Map.entry(name, json)))
+				.collectMap(Map.Entry::getKey, Map.Entry::getValue)
+				.map(this::apply);
+	}
+	
+	private Mono<String> load(String name) {
+		return loaders.get(name).get()
+				.timeout(properties.getLoadTimeout())
+				.flatMap(value -> Mono.fromCallable(() -> objectMapper.writeValueAsString(value)))
+				.onErrorResume(e -> {
+					log.warn("[ReferenceData] failed to load {}, keeping last good value: {}", name, e.toString());
+					return Mono.empty();
+				});
+	}
+	
+	private synchronized ReferenceDataSnapshot apply(Map<String, String> loaded) {
+		ReferenceDataSnapshot current = snapshot.get();
+		if (loaded.isEmpty()) return current;
+		
+		Map<String, String> merged = new LinkedHashMap<>();
+		for (String name : loaders.keySet()) {
+			String json = loaded.get(name);
+			if (json == null && current.contains(name)) json = current.json(name);
+			if (json != null) merged.put(name, json);
+		}
+		ReferenceDataSnapshot next = ReferenceDataSnapshot.of(merged, Instant.now());
+		if (next.version().equals(current.version())) return current;
+		
+		snapshot.set(next);
+		log.info("[ReferenceData] snapshot updated: version={} -> {}, datasets={}/{}",
+				current.version(), next.version(), merged.size(), loaders.size());
+		return next;
+	}
+	
+	private List<String> missing(ReferenceDataSnapshot current) {
+		List<String> missing = new ArrayList<>();
+		for (String name : loaders.keySet()) {
+			if (!current.contains(name)) missing.add(name);
+		}
+		return missing;
+	}
+	
+	private Duration nextDelay() {
+		if (!missing(snapshot.get()).isEmpty()) {
+			return properties.getRetryInterval();
+		}
+		long jitterMillis = properties.getRefreshJitter().toMillis();
+		long jitter = jitterMillis > 0 ? ThreadLocalRandom.current().nextLong(jitterMillis + 1) : 0;
+		return properties.getRefreshInterval().plusMillis(jitter);
+	}
+}
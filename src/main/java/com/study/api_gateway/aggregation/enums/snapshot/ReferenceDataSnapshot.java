@@ -0,0 +1,92 @@
+package com.study.api_gateway.aggregation.enums.snapshot;
+
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.util.RawValue;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * 기준 데이터 스냅샷 (불변)
+ * <p>
+ * 데이터별 JSON을 미리 직렬화해 두고, 응답 시에는 RawValue로 그대로 기록합니다.
+ * 번들 형식: {"version":"...","datasets":{"genres":{...},"instruments":{...},...}}
+ * version은 datasets JSON의 SHA-256 앞 16자리라서 내용이 같으면 모든 노드에서 같은 값(ETag)이 됩니다.
+ *
+ * @param version     내용 기반 버전
+ * @param refreshedAt 내용이 마지막으로 바뀐 시각
+ * @param datasets    데이터 이름 → 직렬화된 JSON
+ * @param bundle      전체 번들 JSON
+ */
+public record ReferenceDataSnapshot(String version, Instant refreshedAt, Map<String, RawValue> datasets, RawValue bundle) {
+	
+	static final ReferenceDataSnapshot EMPTY = of(Map.of(), Instant.EPOCH);
+	
+	/**
+	 * @param jsonByName 데이터 이름 → JSON (순서 유지)
+	 */
+	static ReferenceDataSnapshot of(Map<String, String> jsonByName, Instant refreshedAt) {
+		Map<String, RawValue> datasets = new LinkedHashMap<>();
+		StringBuilder datasetsJson = new StringBuilder(4096).append('{');
+		for (Map.Entry<String, String> entry : jsonByName.entrySet()) {
+			if (datasets.size() > 0) datasetsJson.append(',');
+			datasetsJson.append('"').append(entry.getKey()).append("\":").append(entry.getValue());
+			datasets.put(entry.getKey(), raw(entry.getValue()));
+		}
+		datasetsJson.append('}');
+		
+		String version = version(datasetsJson.toString());
+		String bundle = "{\"version\":\"" + version + "\",\"datasets\":" + datasetsJson + '}';
+		return new ReferenceDataSnapshot(version, refreshedAt, Collections.unmodifiableMap(datasets), raw(bundle));
+	}
+	
+	public String etag() {
+		return '"' + version + '"';
+	}
+	
+	public boolean contains(String name) {
+		return datasets.containsKey(name);
+	}
+	
+	/**
+	 * 데이터 1종의 JSON 문자열 (없으면 null)
+	 */
+	String json(String name) {
+		RawValue value = datasets.get(name);
+		return value == null ? null : ((SerializedString) value.rawValue()).getValue();
+	}
+	
+	/**
+	 * If-None-Match 값 중 현재 버전과 일치하는 것이 있는지 (약한 비교)
+	 */
+	public boolean matches(List<String> ifNoneMatch) {
+		String etag = etag();
+		for (String tag : ifNoneMatch) {
+			String candidate = tag.trim();
+			if (candidate.startsWith("W/")) candidate = candidate.substring(2);
+			if ("*".equals(candidate) || etag.equals(candidate)) return true;
+		}
+		return false;
+	}
+	
+	/**
+	 * UTF-8 바이트를 미리 만들어 둔 원시 JSON 값
+	 */
+	private static RawValue raw(String json) {
+		SerializedString serialized = new SerializedString(json);
+		serialized.asUnquotedUTF8();
+		return new RawValue(serialized);
+	}
+	
+	private static String version(String datasetsJson) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(datasetsJson.getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(digest, 0, 8);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 not available", e);
+		}
+	}
+}
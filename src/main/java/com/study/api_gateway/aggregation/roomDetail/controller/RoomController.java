@@ -1,22 +1,24 @@
 package com.study.api_gateway.aggregation.roomDetail.controller;
 
 import com.study.api_gateway.api.place.client.PlaceClient;
-import com.study.api_gateway.api.place.dto.response.PlaceBatchDetailResponse;
 import com.study.api_gateway.api.place.dto.response.PlaceInfoResponse;
 import com.study.api_gateway.api.place.dto.response.PlaceInfoSummary;
 import com.study.api_gateway.api.pricing.dto.response.PricingPolicyResponse;
-import com.study.api_gateway.api.pricing.dto.response.RoomsPricingBatchResponse;
+import com.study.api_gateway.api.pricing.dto.response.RoomPricingInfo;
 import com.study.api_gateway.api.product.dto.response.ProductResponse;
 import com.study.api_gateway.api.reservation.client.YeYakHaeYoClient;
 import com.study.api_gateway.api.room.client.RoomClient;
 import com.study.api_gateway.api.room.dto.request.RoomCreateRequest;
+import com.study.api_gateway.api.room.dto.response.RoomDetailResponse;
 import com.study.api_gateway.api.room.dto.response.RoomDetailWithPlaceResponse;
 import com.study.api_gateway.api.room.dto.response.RoomDetailWithPricingResponse;
 import com.study.api_gateway.api.room.dto.response.RoomSearchWithPlaceResponse;
 import com.study.api_gateway.api.room.dto.response.RoomSimpleResponse;
 import com.study.api_gateway.common.response.BaseResponse;
 import com.study.api_gateway.common.response.ResponseFactory;
+import com.study.api_gateway.enrichment.BatchJoin;
 import com.study.api_gateway.enrichment.PlaceCacheService;
+import com.study.api_gateway.enrichment.PricingCacheService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -25,7 +27,6 @@ import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -44,6 +45,7 @@ public class RoomController implements RoomApi {
 	private final PlaceClient placeClient;
 	private final YeYakHaeYoClient yeYakHaeYoClient;
 	private final PlaceCacheService placeCacheService;
+	private final PricingCacheService pricingCacheService;
 	private final ResponseFactory responseFactory;
 	
 	// ========== Command APIs ==========
@@ -107,7 +109,7 @@ public class RoomController implements RoomApi {
 									});
 					
 					Mono<PricingPolicyResponse> pricingMono =
-							yeYakHaeYoClient.getPricingPolicy(roomId)
+							pricingCacheService.getPricingPolicy(roomId)
 									.onErrorResume(error -> {
 										log.warn("가격 정책 조회 실패: roomId={}, error={}", roomId, error.getMessage());
 										return Mono.just(null);
@@ -161,51 +163,21 @@ public class RoomController implements RoomApi {
 					// RoomSimpleResponse 리스트로 캐스팅
 					List<RoomSimpleResponse> roomList = rooms;
 					
-					// 2. 고유한 Place ID 추출
-					List<Long> uniquePlaceIds = roomList.stream()
-							.map(RoomSimpleResponse::getPlaceId)
-							.distinct()
-							.toList();
+					// 2. Place 정보와 기본 가격을 병렬로 배치 조회 (고유 ID당 한 번, 캐시 활용)
+					Mono<Map<Long, PlaceInfoResponse>> placesMono =
+							BatchJoin.load(roomList, RoomSimpleResponse::getPlaceId, placeCacheService::getPlacesById)
+									.doOnNext(places -> log.info("Place 조회 완료: {} 개", places.size()));
 					
-					// 3. Room ID 리스트 추출
-					List<Long> roomIds = roomList.stream()
-							.map(RoomSimpleResponse::getRoomId)
-							.toList();
+					Mono<Map<Long, RoomPricingInfo>> pricingMono =
+							BatchJoin.load(roomList, RoomSimpleResponse::getRoomId, this::loadDefaultPrices)
+									.doOnNext(prices -> log.info("가격 정책 조회 완료: {} 개", prices.size()));
 					
-					log.info("고유 Place ID: {}, Room ID 개수: {}", uniquePlaceIds, roomIds.size());
-					
-					// 4. Place 정보와 가격 정책을 병렬로 배치 조회
-					Mono<PlaceBatchDetailResponse> placesMono =
-							placeCacheService.getPlacesByBatchWithCache(uniquePlaceIds)
-									.doOnNext(response -> log.info("Place 조회 완료: {} 개",
-											response.getResults() != null ? response.getResults().size() : 0));
-					
-					Mono<RoomsPricingBatchResponse> pricingMono =
-							yeYakHaeYoClient.getPricingPoliciesByRoomIds(roomIds)
-									.doOnNext(response -> log.info("가격 정책 조회 완료: {} 개",
-											response.getRooms() != null ? response.getRooms().size() : 0));
-					
-					// 5. 모든 데이터를 조합
+					// 3. Room 정보와 Place, 가격 정보를 조합
 					return Mono.zip(placesMono, pricingMono)
 							.map(tuple -> {
-								var places = tuple.getT1();
-								var pricingPolicies = tuple.getT2();
+								Map<Long, PlaceInfoResponse> placeMap = tuple.getT1();
+								Map<Long, RoomPricingInfo> priceMap = tuple.getT2();
 								
-								// Place 정보를 Map으로 변환 (빠른 조회를 위해)
-								Map<Long, PlaceInfoResponse> placeMap = new HashMap<>();
-								if (places.getResults() != null) {
-									places.getResults().forEach(place ->
-											placeMap.put(Long.parseLong(place.getId()), place));
-								}
-								
-								// 가격 정책을 Map으로 변환
-								Map<Long, java.math.BigDecimal> priceMap = new HashMap<>();
-								if (pricingPolicies.getRooms() != null) {
-									pricingPolicies.getRooms().forEach(pricing ->
-											priceMap.put(pricing.getRoomId(), pricing.getDefaultPrice()));
-								}
-								
-								// Room 정보와 Place, 가격 정보를 조합
 								return roomList.stream()
 										.map(room -> {
 											// Place 정보 추출
@@ -227,17 +199,17 @@ public class RoomController implements RoomApi {
 											}
 											
 											// 기본 가격 추출
-											java.math.BigDecimal defaultPrice = priceMap.get(room.getRoomId());
+											RoomPricingInfo pricing = priceMap.get(room.getRoomId());
 											
 											// RoomSearchWithPlaceResponse 생성
 											return RoomSearchWithPlaceResponse.fromRoomSimple(
 													room,
 													placeSummary,
-													defaultPrice,
+													pricing != null ? pricing.getDefaultPrice() : null,
 													3.0  // 리뷰 서버 미구현으로 기본값 3.0
 											);
 										})
-										.collect(java.util.stream.Collectors.toList());
+										.toList();
 							});
 				})
 				.map(response -> responseFactory.ok(response, req))
@@ -260,6 +232,14 @@ public class RoomController implements RoomApi {
 		log.info("장소별 룸 목록 조회: placeId={}", placeId);
 		
 		return roomClient.getRoomsByPlaceId(placeId)
+				.flatMap(rooms -> Mono.deferContextual(context -> {
+					// 이어서 룸 상세/검색으로 넘어가는 경우가 많으므로 캐시에 없는 룸 기본 가격을 백그라운드로 미리 적재
+					// (응답을 기다리게 하지 않되 요청 Context/마감은 유지)
+					pricingCacheService.warmPlace(placeId, BatchJoin.keys(rooms, RoomSimpleResponse::getRoomId))
+							.contextWrite(context)
+							.subscribe();
+					return Mono.just(rooms);
+				}))
 				.map(response -> responseFactory.ok(response, req));
 	}
 	
@@ -275,32 +255,27 @@ public class RoomController implements RoomApi {
 	) {
 		log.info("여러 룸 일괄 조회: ids={}, count={}", ids, ids.size());
 		
+		// 가격 정책은 중복 없이 모아 정책 캐시로 한 번에 조회 (미스만 제한된 동시성으로 다운스트림 호출)
 		return roomClient.getRoomsByIds(ids)
-				.flatMapMany(rooms -> reactor.core.publisher.Flux.fromIterable(rooms)
-						.flatMap(room ->
-										yeYakHaeYoClient.getPricingPolicy(room.getRoomId())
-												.map(pricing -> RoomDetailWithPricingResponse.builder()
-														.room(room)
-														.pricingPolicy(pricing)
-														.build())
-												.onErrorResume(error -> {
-													log.warn("가격 정책 조회 실패: roomId={}, error={}", room.getRoomId(), error.getMessage());
-													// 가격 정책 조회 실패 시 null로 설정하고 계속 진행
-													return reactor.core.publisher.Mono.just(
-															RoomDetailWithPricingResponse.builder()
-																	.room(room)
-																	.pricingPolicy(null)
-																	.build()
-													);
-												}),
-								// 동시 실행 수 제한 (기본 256, 필요시 조정 가능)
-								256
-						)
-				)
-				.collectList()
+				.flatMap(rooms -> BatchJoin.join(rooms, RoomDetailResponse::getRoomId, this::loadPricingPolicies,
+						(room, pricing) -> RoomDetailWithPricingResponse.builder()
+								.room(room)
+								.pricingPolicy(pricing)
+								.build()))
 				.map(response -> responseFactory.ok(response, req));
 	}
 	
+	/**
+	 * 룸 가격 정책 배치 조회 (실패 시 가격 정책 없이 계속 진행)
+	 */
+	private Mono<Map<Long, PricingPolicyResponse>> loadPricingPolicies(List<Long> roomIds) {
+		return pricingCacheService.getPricingPolicies(roomIds)
+				.onErrorResume(error -> {
+					log.warn("가격 정책 배치 조회 실패: roomIds={}, error={}", roomIds, error.getMessage());
+					return Mono.just(Map.of());
+				});
+	}
+	
 	/**
 	 * 키워드 맵 조회
 	 * GET /bff/v1/rooms/keywords
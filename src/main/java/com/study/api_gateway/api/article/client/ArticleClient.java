@@ -3,6 +3,7 @@ package com.study.api_gateway.api.article.client;
 
 import com.study.api_gateway.api.article.dto.request.ArticleCreateRequest;
 import com.study.api_gateway.api.article.dto.response.*;
+import com.study.api_gateway.common.resilience.ResilienceOperator;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Component;
@@ -20,11 +21,14 @@ import java.util.Map;
  */
 @Component
 public class ArticleClient {
+	private static final String SERVICE_NAME = "article-service";
 	private final WebClient webClient;
+	private final ResilienceOperator resilience;
 	private final String PREFIX = "/api/v1";
 	
-	public ArticleClient(@Qualifier(value = "articleWebClient") WebClient webClient) {
+	public ArticleClient(@Qualifier(value = "articleWebClient") WebClient webClient, ResilienceOperator resilience) {
 		this.webClient = webClient;
+		this.resilience = resilience;
 	}
 	
 	// ==================== 일반 게시글 API ====================
@@ -138,7 +142,8 @@ public class ArticleClient {
 				.uri(uriString)
 				.retrieve()
 				.bodyToMono(new ParameterizedTypeReference<List<ArticleSimpleResponse>>() {
-				});
+				})
+				.transform(resilience.hedge(SERVICE_NAME));
 	}
 	
 	// ==================== Enums API ====================
@@ -1,5 +1,6 @@
 package com.study.api_gateway.api.article.dto.response;
 
+import com.study.api_gateway.enrichment.plan.EnrichNested;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 
@@ -15,6 +16,7 @@ import java.util.List;
 		example = "{\n  \"items\": [\n    {\n      \"articleId\": \"art_001\",\n      \"title\": \"첫 게시글\",\n      \"content\": \"본문...\",\n      \"writerId\": \"user_123\"\n    }\n  ],\n  \"nextCursorUpdatedAt\": \"2025-01-10T12:35:00\",\n  \"nextCursorId\": \"art_050\",\n  \"hasNext\": true,\n  \"size\": 10\n}")
 public class ArticleCursorPageResponse {
 	@Schema(description = "게시글 목록")
+	@EnrichNested
 	private List<ArticleResponse> items;
 	// 다음 페이지 요청 시 사용할 수정일시 (updated_at)
 	@Schema(description = "다음 페이지 조회용 커서 시각", example = "2025-01-10T12:35:00")
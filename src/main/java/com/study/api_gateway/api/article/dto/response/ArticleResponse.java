@@ -1,6 +1,7 @@
 package com.study.api_gateway.api.article.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.study.api_gateway.enrichment.plan.ProfileRef;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 
@@ -27,6 +28,7 @@ public class ArticleResponse {
 	private String content;
 	
 	@Schema(description = "작성자 ID", example = "user_123")
+	@ProfileRef(nickname = "writerName", profileImageUrl = "writerProfileImage")
 	private String writerId;
 	
 	@Schema(description = "작성자 이름 (API Gateway에서 Profile 정보 기반 주입)", example = "홍길동")
@@ -1,6 +1,7 @@
 package com.study.api_gateway.api.article.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.study.api_gateway.enrichment.plan.ProfileRef;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -40,6 +41,7 @@ public class EnrichedArticleResponse {
 	private BoardInfo board;
 	
 	@Schema(description = "작성자 ID", example = "user123")
+	@ProfileRef(nickname = "writerName", profileImageUrl = "writerProfileImage")
 	private String writerId;
 	
 	@Schema(description = "생성일시", example = "2025-10-25T10:30:00")
@@ -7,9 +7,11 @@ import com.study.api_gateway.api.chat.dto.response.*;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -100,16 +102,7 @@ public class ChatClient {
 	 * GET /api/v1/rooms/{roomId}/messages
 	 */
 	public Mono<Map<String, Object>> getMessages(String roomId, Long userId, String cursor, Integer limit) {
-		UriComponentsBuilder builder = UriComponentsBuilder.fromPath(ROOMS_PREFIX + "/{roomId}/messages");
-		
-		if (cursor != null && !cursor.isBlank()) {
-			builder.queryParam("cursor", cursor);
-		}
-		if (limit != null) {
-			builder.queryParam("limit", limit);
-		}
-		
-		String uriString = builder.buildAndExpand(roomId).toUriString();
+		String uriString = messagesUri(roomId, cursor, limit);
 		
 		log.debug("getMessages: roomId={}, userId={}, cursor={}, limit={}", roomId, userId, cursor, limit);
 		
@@ -121,6 +114,35 @@ public class ChatClient {
 				});
 	}
 	
+	/**
+	 * 메시지 목록 조회 (응답 본문 그대로)
+	 * - 스트리밍 프로필 보강용으로 역직렬화하지 않은 바이트를 반환합니다.
+	 */
+	public Flux<DataBuffer> getMessagesRaw(String roomId, Long userId, String cursor, Integer limit) {
+		String uriString = messagesUri(roomId, cursor, limit);
+		
+		log.debug("getMessagesRaw: roomId={}, userId={}, cursor={}, limit={}", roomId, userId, cursor, limit);
+		
+		return webClient.get()
+				.uri(uriString)
+				.header(X_USER_ID, String.valueOf(userId))
+				.retrieve()
+				.bodyToFlux(DataBuffer.class);
+	}
+	
+	private String messagesUri(String roomId, String cursor, Integer limit) {
+		UriComponentsBuilder builder = UriComponentsBuilder.fromPath(ROOMS_PREFIX + "/{roomId}/messages");
+		
+		if (cursor != null && !cursor.isBlank()) {
+			builder.queryParam("cursor", cursor);
+		}
+		if (limit != null) {
+			builder.queryParam("limit", limit);
+		}
+		
+		return builder.buildAndExpand(roomId).toUriString();
+	}
+	
 	/**
 	 * 메시지 전송
 	 * POST /api/v1/rooms/{roomId}/messages
@@ -3,10 +3,13 @@ package com.study.api_gateway.api.comment.client;
 import com.study.api_gateway.api.comment.dto.request.CommentUpdateRequest;
 import com.study.api_gateway.api.comment.dto.request.ReplyCreateRequest;
 import com.study.api_gateway.api.comment.dto.request.RootCommentCreateRequest;
+import com.study.api_gateway.common.resilience.ResilienceOperator;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
@@ -15,10 +18,13 @@ import java.util.Map;
 @Component
 public class CommentClient {
 	
+	private static final String SERVICE_NAME = "comment-service";
 	private final WebClient webClient;
+	private final ResilienceOperator resilience;
 	
-	public CommentClient(@Qualifier(value = "commentWebClient") WebClient webClient) {
+	public CommentClient(@Qualifier(value = "commentWebClient") WebClient webClient, ResilienceOperator resilience) {
 		this.webClient = webClient;
+		this.resilience = resilience;
 	}
 	
 	public Mono<Map<String, Object>> createRootComment(RootCommentCreateRequest request) {
@@ -64,6 +70,24 @@ public class CommentClient {
 				});
 	}
 	
+	/**
+	 * 게시글 댓글 목록 (응답 본문 그대로, 스트리밍 프로필 보강용)
+	 */
+	public Flux<DataBuffer> getCommentsByArticleRaw(String articleId, Integer page, Integer pageSize, String mode) {
+		return webClient.get()
+				.uri(uriBuilder -> {
+					uriBuilder.path("/api/comments/article/{articleId}");
+					
+					if (page != null) uriBuilder.queryParam("page", page);
+					if (pageSize != null) uriBuilder.queryParam("pageSize", pageSize);
+					if (mode != null && !mode.isBlank()) uriBuilder.queryParam("mode", mode);
+					
+					return uriBuilder.build(articleId);
+				})
+				.retrieve()
+				.bodyToFlux(DataBuffer.class);
+	}
+	
 	public Mono<List<Map<String, Object>>> getReplies(String parentId) {
 		return webClient.get()
 				.uri(uriBuilder -> uriBuilder
@@ -123,7 +147,8 @@ public class CommentClient {
 						.build())
 				.bodyValue(articleIds)
 				.retrieve()
-				.bodyToMono(new ParameterizedTypeReference<>() {
-				});
+				.bodyToMono(new ParameterizedTypeReference<Map<String, Integer>>() {
+				})
+				.transform(resilience.hedge(SERVICE_NAME));
 	}
 }
@@ -8,6 +8,8 @@ import com.study.api_gateway.api.comment.service.CommentFacadeService;
 import com.study.api_gateway.common.response.BaseResponse;
 import com.study.api_gateway.common.response.ResponseFactory;
 import com.study.api_gateway.common.util.UserIdValidator;
+import com.study.api_gateway.enrichment.ProfileEnrichmentUtil;
+import com.study.api_gateway.enrichment.stream.StreamingProfileEnricher;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -23,8 +25,9 @@ import reactor.core.publisher.Mono;
 public class CommentController implements CommentApi {
 	private final CommentFacadeService commentFacadeService;
 	private final ResponseFactory responseFactory;
-	private final com.study.api_gateway.enrichment.ProfileEnrichmentUtil profileEnrichmentUtil;
+	private final ProfileEnrichmentUtil profileEnrichmentUtil;
 	private final UserIdValidator userIdValidator;
+	private final StreamingProfileEnricher streamingProfileEnricher;
 
 //    // 1) 루트 댓글 생성
 //    @Operation(summary = "루트 댓글 생성",
@@ -105,10 +108,11 @@ public class CommentController implements CommentApi {
 	                                                       @RequestParam(required = false, defaultValue = "0") Integer page,
 	                                                       @RequestParam(required = false, defaultValue = "visibleCount") String mode,
 	                                                       ServerHttpRequest req) {
-		return commentFacadeService.getCommentsByArticle(articleId, page, 10, mode)
-				.flatMap(result -> profileEnrichmentUtil.enrichAny(result)
-						.map(enriched -> responseFactory.ok(enriched, req))
-				);
+		// 댓글 목록은 그대로 전달하므로 트리로 역직렬화하지 않고 토큰 스트림에서 프로필만 주입
+		return streamingProfileEnricher.enrich(
+						commentFacadeService.getCommentsByArticleRaw(articleId, page, 10, mode),
+						ProfileEnrichmentUtil.ANY_PROFILE_SPEC)
+				.map(enriched -> responseFactory.ok(enriched, req));
 	}
 
 //    // 4) 특정 부모의 대댓글 목록 조회
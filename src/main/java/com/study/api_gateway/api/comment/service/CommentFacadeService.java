@@ -6,7 +6,9 @@ import com.study.api_gateway.api.comment.dto.request.ReplyCreateRequest;
 import com.study.api_gateway.api.comment.dto.request.RootCommentCreateRequest;
 import com.study.api_gateway.common.resilience.ResilienceOperator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
@@ -44,6 +46,11 @@ public class CommentFacadeService {
 				.transform(resilience.protect(SERVICE_NAME));
 	}
 	
+	public Flux<DataBuffer> getCommentsByArticleRaw(String articleId, Integer page, Integer pageSize, String mode) {
+		return commentClient.getCommentsByArticleRaw(articleId, page, pageSize, mode)
+				.transform(resilience.protectFlux(SERVICE_NAME));
+	}
+	
 	public Mono<List<Map<String, Object>>> getReplies(String parentId) {
 		return commentClient.getReplies(parentId)
 				.transform(resilience.protect(SERVICE_NAME));
@@ -2,6 +2,7 @@ package com.study.api_gateway.api.gaechu.client;
 
 import com.study.api_gateway.api.gaechu.dto.LikeCountResponse;
 import com.study.api_gateway.api.gaechu.dto.LikeDetailResponse;
+import com.study.api_gateway.common.resilience.ResilienceOperator;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.ParameterizedTypeReference;
@@ -16,10 +17,13 @@ import java.util.List;
 @Slf4j
 public class LikeClient {
 	
+	private static final String SERVICE_NAME = "gaechu-service";
 	private final WebClient webClient;
+	private final ResilienceOperator resilience;
 	
-	public LikeClient(@Qualifier(value = "gaechuWebClient") WebClient webClient) {
+	public LikeClient(@Qualifier(value = "gaechuWebClient") WebClient webClient, ResilienceOperator resilience) {
 		this.webClient = webClient;
+		this.resilience = resilience;
 	}
 	
 	// 1) 좋아요/좋아요 취소
@@ -66,7 +70,8 @@ public class LikeClient {
 				.uri(uri)
 				.retrieve()
 				.bodyToMono(new ParameterizedTypeReference<List<LikeCountResponse>>() {
-				});
+				})
+				.transform(resilience.hedge(SERVICE_NAME));
 	}
 	
 	// 4) 특정 사용자(작성자)가 좋아요한 레퍼런스 목록과 각 like count 조회
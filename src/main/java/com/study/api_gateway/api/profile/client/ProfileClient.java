@@ -5,22 +5,22 @@ import com.study.api_gateway.api.profile.dto.request.ProfileUpdateRequest;
 import com.study.api_gateway.api.profile.dto.response.BatchUserSummaryResponse;
 import com.study.api_gateway.api.profile.dto.response.UserPageResponse;
 import com.study.api_gateway.api.profile.dto.response.UserResponse;
+import com.study.api_gateway.common.deadline.Deadline;
+import com.study.api_gateway.common.resilience.ResilienceOperator;
+import com.study.api_gateway.common.resilience.RetryBudgetFilter;
+import com.study.api_gateway.common.resilience.RetryBudgetRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.reactive.function.client.WebClientRequestException;
-import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.util.retry.Retry;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeoutException;
 
 @Component
 @Slf4j
@@ -29,11 +29,17 @@ import java.util.concurrent.TimeoutException;
  * - 프로필 검색/수정, Enums 조회, 배치 프로필 요약 조회 등을 제공합니다.
  */
 public class ProfileClient {
+	private static final String SERVICE_NAME = "profile-service";
 	private final WebClient webClient;
+	private final ResilienceOperator resilience;
+	private final RetryBudgetRegistry retryBudgets;
 	private final String PREFIX = "/api/v1/profiles";
 	
-	public ProfileClient(@Qualifier(value = "profileWebClient") WebClient webClient) {
+	public ProfileClient(@Qualifier(value = "profileWebClient") WebClient webClient, ResilienceOperator resilience,
+	                     RetryBudgetRegistry retryBudgets) {
 		this.webClient = webClient;
+		this.resilience = resilience;
+		this.retryBudgets = retryBudgets;
 	}
 	
 	
@@ -177,33 +183,33 @@ public class ProfileClient {
 	}
 	
 	public Mono<List<BatchUserSummaryResponse>> fetchUserSummariesBatch(List<String> userIds) {
+		return fetchUserSummariesBatchOrError(userIds)
+				.onErrorResume(e -> {
+					log.warn("fetchUserSummariesBatch failed for ids.size={} : {}", userIds == null ? 0 : userIds.size(), e.toString());
+					return Mono.just(Collections.emptyList());
+				});
+	}
+	
+	/**
+	 * 배치 프로필 요약 조회 (실패를 빈 리스트로 바꾸지 않고 error 시그널로 전달)
+	 */
+	public Mono<List<BatchUserSummaryResponse>> fetchUserSummariesBatchOrError(List<String> userIds) {
 		String uriString = UriComponentsBuilder.fromPath(PREFIX + "/batch")
 				.queryParam("detail", false)
 				.toUriString();
+		// 조회 전용 배치 API라 연결 실패뿐 아니라 시도별 타임아웃/5xx도 재시도 (재시도 예산 적용)
+		// 재시도는 여기 한 곳에서만 하도록 WebClient 필터의 재시도는 끈다
 		return webClient.post()
 				.uri(uriString)
+				.attribute(RetryBudgetFilter.IDEMPOTENT, false)
 				.bodyValue(userIds)
 				.retrieve()
 				.bodyToMono(new ParameterizedTypeReference<List<BatchUserSummaryResponse>>() {
 				})
-				.timeout(java.time.Duration.ofSeconds(2))
-				.retryWhen(Retry.backoff(2, java.time.Duration.ofMillis(200))
-						.filter(this::isTransient))
-				.onErrorResume(e -> {
-					log.warn("fetchUserSummariesBatch failed for ids.size={} : {}", userIds == null ? 0 : userIds.size(), e.toString());
-					return Mono.just(Collections.emptyList());
-				});
+				.transform(resilience.hedge(SERVICE_NAME))
+				.transform(Deadline.timeout(java.time.Duration.ofSeconds(2)))
+				.retryWhen(retryBudgets.retrySpec(SERVICE_NAME, RetryBudgetRegistry::isTransientOrServerError));
 	}
 	
 	
-	private boolean isTransient(Throwable t) {
-		// 네트워크 지연, 일시적 장애로 추정되는 경우에만 재시도
-		if (t instanceof TimeoutException) return true;
-		if (t instanceof WebClientRequestException) return true;
-		if (t instanceof WebClientResponseException ex) {
-			int status = ex.getRawStatusCode();
-			return status >= 500 && status < 600; // 서버 오류만 재시도
-		}
-		return false;
-	}
 }
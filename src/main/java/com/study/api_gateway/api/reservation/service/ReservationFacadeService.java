@@ -20,6 +20,7 @@ import com.study.api_gateway.api.reservation.dto.request.UpdateReservationProduc
 import com.study.api_gateway.api.reservation.dto.response.ReservationPreviewResponse;
 import com.study.api_gateway.api.reservation.dto.response.ReservationPriceResponse;
 import com.study.api_gateway.common.resilience.ResilienceOperator;
+import com.study.api_gateway.enrichment.PricingCacheService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
@@ -27,10 +28,12 @@ import reactor.core.publisher.Mono;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * Reservation(YeYakHaeYo) 도메인 Facade Service
  * Controller와 Client 사이의 중간 계층으로 Resilience 패턴 적용
+ * 가격 정책 조회는 PricingCacheService를 거치고, 가격 정책 변경 시 해당 룸의 캐시를 갱신합니다.
  */
 @Service
 @RequiredArgsConstructor
@@ -39,6 +42,7 @@ public class ReservationFacadeService {
 	private static final String SERVICE_NAME = "reservation-service";
 	private final YeYakHaeYoClient yeYakHaeYoClient;
 	private final ResilienceOperator resilience;
+	private final PricingCacheService pricingCacheService;
 	
 	// ========== 상품 관리 API ==========
 	
@@ -48,8 +52,7 @@ public class ReservationFacadeService {
 	}
 	
 	public Mono<PricingPolicyResponse> getPricingPolicy(Long roomId) {
-		return yeYakHaeYoClient.getPricingPolicy(roomId)
-				.transform(resilience.protect(SERVICE_NAME));
+		return pricingCacheService.getPricingPolicy(roomId);
 	}
 	
 	public Mono<ProductResponse> getProductById(Long productId) {
@@ -93,25 +96,36 @@ public class ReservationFacadeService {
 	// ========== 가격 정책 관리 API ==========
 	
 	public Mono<TimeSlotPricesResponse> getTimeSlotPrices(Long roomId, LocalDate date) {
-		return yeYakHaeYoClient.getTimeSlotPrices(roomId, date)
-				.transform(resilience.protect(SERVICE_NAME));
+		return pricingCacheService.getTimeSlotPrices(roomId, date);
 	}
 	
 	public Mono<PricingPolicyResponse> updateDefaultPrice(Long roomId, DefaultPriceUpdateRequest request) {
 		return yeYakHaeYoClient.updateDefaultPrice(roomId, request)
+				.transform(refreshPricingCache(roomId))
 				.transform(resilience.protect(SERVICE_NAME));
 	}
 	
 	public Mono<PricingPolicyResponse> updateTimeRangePrices(Long roomId, TimeRangePricesUpdateRequest request) {
 		return yeYakHaeYoClient.updateTimeRangePrices(roomId, request)
+				.transform(refreshPricingCache(roomId))
 				.transform(resilience.protect(SERVICE_NAME));
 	}
 	
 	public Mono<PricingPolicyResponse> copyPricingPolicy(Long targetRoomId, CopyPricingPolicyRequest request) {
 		return yeYakHaeYoClient.copyPricingPolicy(targetRoomId, request)
+				.transform(refreshPricingCache(targetRoomId))
 				.transform(resilience.protect(SERVICE_NAME));
 	}
 	
+	/**
+	 * 변경 성공 시 새 정책으로 캐시 갱신, 실패 시에도 반영 여부를 알 수 없으므로 캐시 제거
+	 */
+	private Function<Mono<PricingPolicyResponse>, Mono<PricingPolicyResponse>> refreshPricingCache(Long roomId) {
+		return mono -> mono
+				.doOnNext(updated -> pricingCacheService.onPolicyChanged(roomId, updated))
+				.doOnError(e -> pricingCacheService.evictRoom(roomId));
+	}
+	
 	// ========== 예약 가격 관리 API ==========
 	
 	public Mono<ReservationPreviewResponse> previewReservation(ReservationPreviewRequest request) {
@@ -158,6 +172,7 @@ public class ReservationFacadeService {
 	
 	public Mono<PlacePricingBatchResponse> getPricingPoliciesByPlaceId(Long placeId, LocalDate date) {
 		return yeYakHaeYoClient.getPricingPoliciesByPlaceId(placeId, date)
+				.doOnNext(pricingCacheService::putDefaultPrices)
 				.transform(resilience.protect(SERVICE_NAME));
 	}
 	
@@ -167,7 +182,6 @@ public class ReservationFacadeService {
 	}
 	
 	public Mono<RoomsPricingBatchResponse> getPricingPoliciesByRoomIds(List<Long> roomIds) {
-		return yeYakHaeYoClient.getPricingPoliciesByRoomIds(roomIds)
-				.transform(resilience.protect(SERVICE_NAME));
+		return pricingCacheService.getDefaultPrices(roomIds);
 	}
 }
@@ -0,0 +1,88 @@
+package com.study.api_gateway.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+
+/**
+ * 다운스트림 서비스별 커넥션 풀 / 타임아웃 설정
+ * <p>
+ * 바인딩 순서:
+ * 1) 클래스 기본값
+ * 2) service.defaults.* (전체 서비스 공통 오버라이드)
+ * 3) service.{name}.* (서비스별 오버라이드, 예: service.profile.pool.max-connections)
+ */
+@Getter
+@Setter
+public class DownstreamConnectionProperties {
+	
+	/**
+	 * TCP 연결 수립 타임아웃
+	 */
+	private Duration connectTimeout = Duration.ofSeconds(2);
+	
+	/**
+	 * 요청 전송 후 응답 헤더 수신까지의 타임아웃
+	 */
+	private Duration responseTimeout = Duration.ofSeconds(10);
+	
+	/**
+	 * 요청 처리 중 소켓 읽기 유휴 타임아웃 (풀의 유휴 커넥션에는 적용되지 않음)
+	 */
+	private Duration readTimeout = Duration.ofSeconds(10);
+	
+	/**
+	 * 요청 전송 중 소켓 쓰기 타임아웃
+	 */
+	private Duration writeTimeout = Duration.ofSeconds(10);
+	
+	/**
+	 * TCP keep-alive (SO_KEEPALIVE) 사용 여부
+	 */
+	private boolean keepAlive = true;
+	
+	/**
+	 * HTTP/2 cleartext(h2c) 사용 여부 (HTTP/1.1 폴백 포함)
+	 */
+	private boolean h2c = false;
+	
+	/**
+	 * 커넥션 풀 설정
+	 */
+	private Pool pool = new Pool();
+	
+	@Getter
+	@Setter
+	public static class Pool {
+		/**
+		 * 호스트당 최대 커넥션 수
+		 */
+		private int maxConnections = 100;
+		
+		/**
+		 * 커넥션 획득 대기열 최대 길이 (-1: 무제한)
+		 */
+		private int pendingAcquireMaxCount = 500;
+		
+		/**
+		 * 커넥션 획득 대기 타임아웃
+		 */
+		private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+		
+		/**
+		 * 유휴 커넥션 최대 유지 시간 (백엔드 keep-alive 타임아웃보다 짧게 설정)
+		 */
+		private Duration maxIdleTime = Duration.ofSeconds(30);
+		
+		/**
+		 * 커넥션 최대 수명
+		 */
+		private Duration maxLifeTime = Duration.ofMinutes(5);
+		
+		/**
+		 * 백그라운드 만료 커넥션 정리 주기 (0: 비활성화)
+		 */
+		private Duration evictInBackground = Duration.ofSeconds(30);
+	}
+}
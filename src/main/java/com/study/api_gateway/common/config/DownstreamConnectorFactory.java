@@ -0,0 +1,171 @@
+package com.study.api_gateway.common.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.timeout.WriteTimeoutHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.SocketAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 다운스트림 서비스별 Reactor Netty 커넥션 풀 / 커넥터 생성기
+ * <p>
+ * 서비스마다 독립된 ConnectionProvider를 생성하여 한 서비스의 지연이 다른 서비스의 커넥션을 고갈시키지 않도록 격리합니다.
+ * 풀 상태(active, idle, pending)는 downstream 태그와 함께 Micrometer 게이지로 노출됩니다.
+ */
+@Slf4j
+@Component
+public class DownstreamConnectorFactory implements DisposableBean {
+	
+	private static final String PROPERTY_PREFIX = "service.";
+	private static final String DEFAULTS_KEY = "defaults";
+	private static final String READ_TIMEOUT_HANDLER = "downstreamReadTimeout";
+	private static final String WRITE_TIMEOUT_HANDLER = "downstreamWriteTimeout";
+	
+	private final Binder binder;
+	private final MeterRegistry meterRegistry;
+	private final Map<String, ConnectionProvider> providers = new ConcurrentHashMap<>();
+	private final Map<String, List<Meter>> poolMeters = new ConcurrentHashMap<>();
+	
+	public DownstreamConnectorFactory(Environment environment, ObjectProvider<MeterRegistry> meterRegistry) {
+		this.binder = Binder.get(environment);
+		this.meterRegistry = meterRegistry.getIfAvailable();
+	}
+	
+	/**
+	 * 서비스 설정 조회 (기본값 -> service.defaults -> service.{name} 순으로 덮어씀)
+	 *
+	 * @param serviceKey application.yaml의 service 하위 키 (예: profile, place_info)
+	 */
+	public DownstreamConnectionProperties resolve(String serviceKey) {
+		DownstreamConnectionProperties props = new DownstreamConnectionProperties();
+		binder.bind(PROPERTY_PREFIX + DEFAULTS_KEY, Bindable.ofInstance(props));
+		binder.bind(PROPERTY_PREFIX + serviceKey, Bindable.ofInstance(props));
+		return props;
+	}
+	
+	/**
+	 * 서비스 전용 커넥터 생성
+	 *
+	 * @param serviceKey application.yaml의 service 하위 키
+	 * @return 서비스 전용 커넥션 풀을 사용하는 커넥터
+	 */
+	public ReactorClientHttpConnector create(String serviceKey) {
+		DownstreamConnectionProperties props = resolve(serviceKey);
+		ConnectionProvider provider = providers.computeIfAbsent(serviceKey, key -> buildProvider(key, props));
+		
+		HttpClient httpClient = HttpClient.create(provider)
+				.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) props.getConnectTimeout().toMillis())
+				.option(ChannelOption.SO_KEEPALIVE, props.isKeepAlive())
+				.responseTimeout(props.getResponseTimeout())
+				// 타임아웃 핸들러는 요청 단위로만 붙임 (풀에 반납된 유휴 커넥션이 read-timeout으로 닫히지 않도록)
+				.doOnRequest((request, conn) -> conn
+						.addHandlerLast(READ_TIMEOUT_HANDLER, new ReadTimeoutHandler(props.getReadTimeout().toMillis(), TimeUnit.MILLISECONDS))
+						.addHandlerLast(WRITE_TIMEOUT_HANDLER, new WriteTimeoutHandler(props.getWriteTimeout().toMillis(), TimeUnit.MILLISECONDS)))
+				.doOnResponse((response, conn) -> conn.removeHandler(WRITE_TIMEOUT_HANDLER))
+				.doAfterResponseSuccess((response, conn) -> conn.removeHandler(READ_TIMEOUT_HANDLER));
+		
+		if (props.isH2c()) {
+			httpClient = httpClient.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
+		}
+		
+		log.info("[Downstream] {} connector: maxConnections={}, pendingAcquireMaxCount={}, connectTimeout={}, responseTimeout={}, h2c={}",
+				serviceKey, props.getPool().getMaxConnections(), props.getPool().getPendingAcquireMaxCount(),
+				props.getConnectTimeout(), props.getResponseTimeout(), props.isH2c());
+		
+		return new ReactorClientHttpConnector(httpClient);
+	}
+	
+	private ConnectionProvider buildProvider(String serviceKey, DownstreamConnectionProperties props) {
+		DownstreamConnectionProperties.Pool pool = props.getPool();
+		ConnectionProvider.Builder builder = ConnectionProvider.builder("downstream-" + serviceKey)
+				.maxConnections(pool.getMaxConnections())
+				.pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+				.pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+				.maxIdleTime(pool.getMaxIdleTime())
+				.maxLifeTime(pool.getMaxLifeTime());
+		
+		if (meterRegistry != null) {
+			builder.metrics(true, () -> new PoolMeterRegistrar(serviceKey));
+		}
+		
+		if (!pool.getEvictInBackground().isZero()) {
+			builder.evictInBackground(pool.getEvictInBackground());
+		}
+		return builder.build();
+	}
+	
+	@Override
+	public void destroy() {
+		providers.values().forEach(ConnectionProvider::dispose);
+		providers.clear();
+	}
+	
+	/**
+	 * 풀 메트릭을 api_gateway_downstream_pool_* 게이지로 등록
+	 * Reactor Netty는 원격 주소별로 풀을 만들기 때문에 remote_address 태그로 구분합니다.
+	 */
+	private class PoolMeterRegistrar implements ConnectionProvider.MeterRegistrar {
+		
+		private final String serviceKey;
+		
+		PoolMeterRegistrar(String serviceKey) {
+			this.serviceKey = serviceKey;
+		}
+		
+		@Override
+		public void registerMetrics(String poolName, String id, SocketAddress remoteAddress, ConnectionPoolMetrics metrics) {
+			String address = String.valueOf(remoteAddress);
+			List<Meter> meters = List.of(
+					gauge("api_gateway_downstream_pool_active_connections", "Connections currently acquired",
+							address, metrics, ConnectionPoolMetrics::acquiredSize),
+					gauge("api_gateway_downstream_pool_idle_connections", "Idle connections in the pool",
+							address, metrics, ConnectionPoolMetrics::idleSize),
+					gauge("api_gateway_downstream_pool_pending_acquires", "Requests waiting for a connection",
+							address, metrics, ConnectionPoolMetrics::pendingAcquireSize),
+					gauge("api_gateway_downstream_pool_total_connections", "Allocated connections (active + idle)",
+							address, metrics, ConnectionPoolMetrics::allocatedSize),
+					gauge("api_gateway_downstream_pool_max_connections", "Maximum allowed connections",
+							address, metrics, ConnectionPoolMetrics::maxAllocatedSize)
+			);
+			poolMeters.put(id, meters);
+		}
+		
+		@Override
+		public void deRegisterMetrics(String poolName, String id, SocketAddress remoteAddress) {
+			List<Meter> meters = poolMeters.remove(id);
+			if (meters != null) {
+				meters.forEach(meterRegistry::remove);
+			}
+		}
+		
+		private Meter gauge(String name, String description, String address,
+		                    ConnectionPoolMetrics metrics, ToDoubleFunction<ConnectionPoolMetrics> fn) {
+			return Gauge.builder(name, metrics, fn)
+					.description(description)
+					.tag("downstream", serviceKey)
+					.tag("remote_address", address)
+					.strongReference(true)
+					.register(meterRegistry);
+		}
+	}
+}
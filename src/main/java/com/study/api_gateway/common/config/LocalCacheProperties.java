@@ -0,0 +1,46 @@
+package com.study.api_gateway.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 다운스트림 응답 로컬(Caffeine) 캐시 설정 프로퍼티
+ * <p>
+ * 캐시 이름(placeCache, roomCache 등)별로 최대 크기와 TTL을 지정하며, 지정하지 않은 캐시는 기본값을 사용합니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "cache.local")
+public class LocalCacheProperties {
+	
+	/**
+	 * 캐시별 설정 (key: 캐시 이름)
+	 */
+	private Map<String, Spec> specs = new HashMap<>();
+	
+	public Spec spec(String cacheName) {
+		return specs.getOrDefault(cacheName, new Spec());
+	}
+	
+	@Getter
+	@Setter
+	public static class Spec {
+		
+		/**
+		 * 최대 항목 수
+		 */
+		private long maximumSize = 500;
+		
+		/**
+		 * 적재 후 만료 시간
+		 */
+		private Duration ttl = Duration.ofMinutes(10);
+	}
+}
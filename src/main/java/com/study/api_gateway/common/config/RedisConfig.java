@@ -5,6 +5,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -24,5 +25,18 @@ public class RedisConfig {
 		return new ReactiveRedisTemplate<>(connectionFactory, context);
 	}
 	
+	/**
+	 * 바이너리 값 템플릿 (키는 문자열, 값은 byte[] 그대로 저장)
+	 */
+	@Bean(name = "reactiveBytesRedisTemplate")
+	public ReactiveRedisTemplate<String, byte[]> reactiveBytesRedisTemplate(
+			ReactiveRedisConnectionFactory connectionFactory) {
+		RedisSerializationContext.RedisSerializationContextBuilder<String, byte[]> builder =
+				RedisSerializationContext.newSerializationContext(new StringRedisSerializer());
+		
+		RedisSerializationContext<String, byte[]> context = builder.value(RedisSerializer.byteArray()).build();
+		return new ReactiveRedisTemplate<>(connectionFactory, context);
+	}
+	
 	
 }
@@ -1,10 +1,9 @@
 package com.study.api_gateway.common.config;
 
+import com.study.api_gateway.common.deadline.DeadlineExceededException;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig.SlidingWindowType;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
-import io.github.resilience4j.retry.RetryConfig;
-import io.github.resilience4j.retry.RetryRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.reactive.function.client.WebClientRequestException;
@@ -14,7 +13,8 @@ import java.time.Duration;
 import java.util.concurrent.TimeoutException;
 
 /**
- * Resilience4j Circuit Breaker 및 Retry 설정
+ * Resilience4j Circuit Breaker 설정
+ * (재시도는 RetryBudgetRegistry에서 서비스별 예산으로 처리)
  */
 @Configuration
 public class ResilienceConfig {
@@ -47,6 +47,8 @@ public class ResilienceConfig {
 						TimeoutException.class,
 						WebClientRequestException.class
 				)
+				// 클라이언트 마감 초과는 다운스트림 장애가 아니므로 실패로 세지 않음
+				.ignoreExceptions(DeadlineExceededException.class)
 				.build();
 		
 		CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(defaultConfig);
@@ -72,28 +74,6 @@ public class ResilienceConfig {
 		return registry;
 	}
 	
-	/**
-	 * Retry 레지스트리
-	 * <p>
-	 * 설정:
-	 * - 최대 시도: 3회
-	 * - 대기 시간: 500ms
-	 * - 재시도 대상: WebClientRequestException, IOException
-	 */
-	@Bean
-	public RetryRegistry retryRegistry() {
-		RetryConfig defaultConfig = RetryConfig.custom()
-				.maxAttempts(3)
-				.waitDuration(Duration.ofMillis(500))
-				.retryExceptions(
-						WebClientRequestException.class,
-						IOException.class
-				)
-				.build();
-		
-		return RetryRegistry.of(defaultConfig);
-	}
-	
 	private void registerCustomCircuitBreaker(
 			CircuitBreakerRegistry registry,
 			String name,
@@ -1,5 +1,9 @@
 package com.study.api_gateway.common.config;
 
+import com.study.api_gateway.common.deadline.DeadlinePropagationFilter;
+import com.study.api_gateway.common.resilience.RetryBudgetFilter;
+import com.study.api_gateway.common.singleflight.SingleFlightFilter;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -7,7 +11,13 @@ import org.springframework.web.reactive.function.client.WebClient;
 
 
 @Configuration
+@RequiredArgsConstructor
 public class WebClientConfig {
+	private final DownstreamConnectorFactory connectorFactory;
+	private final SingleFlightFilter singleFlightFilter;
+	private final DeadlinePropagationFilter deadlinePropagationFilter;
+	private final RetryBudgetFilter retryBudgetFilter;
+	
 	@Value("${service.auth.url}")
 	private String AuthDns;
 	@Value("${service.auth.port}")
@@ -108,6 +118,10 @@ public class WebClientConfig {
 		
 		return builder
 				.baseUrl(url)
+				.clientConnector(connectorFactory.create("auth"))
+				.filter(deadlinePropagationFilter)
+				.filter(singleFlightFilter.forService("auth"))
+				.filter(retryBudgetFilter.forService("auth-service"))
 				.build();
 	}
 	
@@ -119,6 +133,10 @@ public class WebClientConfig {
 		
 		return builder
 				.baseUrl(url)
+				.clientConnector(connectorFactory.create("profile"))
+				.filter(deadlinePropagationFilter)
+				.filter(singleFlightFilter.forService("profile"))
+				.filter(retryBudgetFilter.forService("profile-service"))
 				.build();
 	}
 	
@@ -130,6 +148,10 @@ public class WebClientConfig {
 		
 		return builder
 				.baseUrl(url)
+				.clientConnector(connectorFactory.create("image"))
+				.filter(deadlinePropagationFilter)
+				.filter(singleFlightFilter.forService("image"))
+				.filter(retryBudgetFilter.forService("image-service"))
 				.build();
 	}
 	
@@ -140,6 +162,10 @@ public class WebClientConfig {
 		
 		return builder
 				.baseUrl(url)
+				.clientConnector(connectorFactory.create("article"))
+				.filter(deadlinePropagationFilter)
+				.filter(singleFlightFilter.forService("article"))
+				.filter(retryBudgetFilter.forService("article-service"))
 				.build();
 	}
 	
@@ -150,6 +176,10 @@ public class WebClientConfig {
 		
 		return builder
 				.baseUrl(url)
+				.clientConnector(connectorFactory.create("comment"))
+				.filter(deadlinePropagationFilter)
+				.filter(singleFlightFilter.forService("comment"))
+				.filter(retryBudgetFilter.forService("comment-service"))
 				.build();
 	}
 	
@@ -160,6 +190,10 @@ public class WebClientConfig {
 		
 		return builder
 				.baseUrl(url)
+				.clientConnector(connectorFactory.create("gaechu"))
+				.filter(deadlinePropagationFilter)
+				.filter(singleFlightFilter.forService("gaechu"))
+				.filter(retryBudgetFilter.forService("gaechu-service"))
 				.build();
 	}
 	
@@ -170,6 +204,10 @@ public class WebClientConfig {
 		
 		return builder
 				.baseUrl(url)
+				.clientConnector(connectorFactory.create("activity"))
+				.filter(deadlinePropagationFilter)
+				.filter(singleFlightFilter.forService("activity"))
+				.filter(retryBudgetFilter.forService("activity-service"))
 				.build();
 	}
 	
@@ -180,6 +218,10 @@ public class WebClientConfig {
 		
 		return builder
 				.baseUrl(url)
+				.clientConnector(connectorFactory.create("support"))
+				.filter(deadlinePropagationFilter)
+				.filter(singleFlightFilter.forService("support"))
+				.filter(retryBudgetFilter.forService("support-service"))
 				.build();
 	}
 	
@@ -190,6 +232,10 @@ public class WebClientConfig {
 		
 		return builder
 				.baseUrl(url)
+				.clientConnector(connectorFactory.create("place_info"))
+				.filter(deadlinePropagationFilter)
+				.filter(singleFlightFilter.forService("place_info"))
+				.filter(retryBudgetFilter.forService("place-service"))
 				.build();
 	}
 	
@@ -200,6 +246,10 @@ public class WebClientConfig {
 		
 		return builder
 				.baseUrl(url)
+				.clientConnector(connectorFactory.create("room_info"))
+				.filter(deadlinePropagationFilter)
+				.filter(singleFlightFilter.forService("room_info"))
+				.filter(retryBudgetFilter.forService("room-service"))
 				.build();
 	}
 	
@@ -210,6 +260,10 @@ public class WebClientConfig {
 		
 		return builder
 				.baseUrl(url)
+				.clientConnector(connectorFactory.create("ye_yak_hae_yo"))
+				.filter(deadlinePropagationFilter)
+				.filter(singleFlightFilter.forService("ye_yak_hae_yo"))
+				.filter(retryBudgetFilter.forService("reservation-service"))
 				.build();
 	}
 	
@@ -220,6 +274,10 @@ public class WebClientConfig {
 		
 		return builder
 				.baseUrl(url)
+				.clientConnector(connectorFactory.create("lee_yong_gwan_lee"))
+				.filter(deadlinePropagationFilter)
+				.filter(singleFlightFilter.forService("lee_yong_gwan_lee"))
+				.filter(retryBudgetFilter.forService("room-reservation-service"))
 				.build();
 	}
 	
@@ -230,6 +288,10 @@ public class WebClientConfig {
 		
 		return builder
 				.baseUrl(url)
+				.clientConnector(connectorFactory.create("ye_yak_manage"))
+				.filter(deadlinePropagationFilter)
+				.filter(singleFlightFilter.forService("ye_yak_manage"))
+				.filter(retryBudgetFilter.forService("reservation-manage-service"))
 				.build();
 	}
 	
@@ -240,6 +302,10 @@ public class WebClientConfig {
 		
 		return builder
 				.baseUrl(url)
+				.clientConnector(connectorFactory.create("coupon"))
+				.filter(deadlinePropagationFilter)
+				.filter(singleFlightFilter.forService("coupon"))
+				.filter(retryBudgetFilter.forService("coupon-service"))
 				.build();
 	}
 	
@@ -250,6 +316,10 @@ public class WebClientConfig {
 		
 		return builder
 				.baseUrl(url)
+				.clientConnector(connectorFactory.create("chat"))
+				.filter(deadlinePropagationFilter)
+				.filter(singleFlightFilter.forService("chat"))
+				.filter(retryBudgetFilter.forService("chat-service"))
 				.build();
 	}
 	
@@ -260,6 +330,10 @@ public class WebClientConfig {
 		
 		return builder
 				.baseUrl(url)
+				.clientConnector(connectorFactory.create("notification"))
+				.filter(deadlinePropagationFilter)
+				.filter(singleFlightFilter.forService("notification"))
+				.filter(retryBudgetFilter.forService("notification-service"))
 				.build();
 	}
 	
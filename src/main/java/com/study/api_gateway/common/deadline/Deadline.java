@@ -0,0 +1,109 @@
+package com.study.api_gateway.common.deadline;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 요청 단위 마감 시각 (Reactor Context로 전달)
+ * <p>
+ * DeadlineWebFilter가 요청 진입 시 Context에 넣고, 다운스트림 호출은 자체 타임아웃과 남은 시간 중 작은 값을 사용합니다.
+ * <pre>
+ * return client.call()
+ *     .transform(Deadline.timeout(Duration.ofSeconds(2)));
+ * </pre>
+ */
+public final class Deadline {
+	
+	/**
+	 * 남은 시간(ms) 헤더 - 클라이언트 요청 시 마감 지정, 다운스트림 호출 시 남은 시간 전달
+	 */
+	public static final String HEADER = "X-Request-Timeout-Ms";
+	private static final Object CONTEXT_KEY = Deadline.class;
+	
+	private final long deadlineNanos;
+	
+	private Deadline(long deadlineNanos) {
+		this.deadlineNanos = deadlineNanos;
+	}
+	
+	public static Deadline after(Duration timeout) {
+		return new Deadline(System.nanoTime() + timeout.toNanos());
+	}
+	
+	public Duration remaining() {
+		return Duration.ofNanos(deadlineNanos - System.nanoTime());
+	}
+	
+	public boolean isExpired() {
+		return deadlineNanos - System.nanoTime() <= 0;
+	}
+	
+	/**
+	 * 두 마감 중 늦은 쪽 (한쪽이 null이면 다른 쪽)
+	 */
+	public static Deadline latest(Deadline a, Deadline b) {
+		if (a == null) return b;
+		if (b == null) return a;
+		return a.deadlineNanos - b.deadlineNanos >= 0 ? a : b;
+	}
+	
+	public Context addTo(Context context) {
+		return context.put(CONTEXT_KEY, this);
+	}
+	
+	public static Deadline from(ContextView context) {
+		return context.getOrDefault(CONTEXT_KEY, null);
+	}
+	
+	/**
+	 * 자체 타임아웃과 남은 시간 중 작은 값 (마감이 없으면 자체 타임아웃)
+	 */
+	public static Duration budget(ContextView context, Duration timeout) {
+		Deadline deadline = from(context);
+		if (deadline == null) return timeout;
+		Duration remaining = deadline.remaining();
+		return remaining.compareTo(timeout) < 0 ? remaining : timeout;
+	}
+	
+	/**
+	 * 마감을 반영한 Mono 타임아웃
+	 * 자체 타임아웃에 걸리면 TimeoutException, 남은 시간에 걸리면(이미 지났으면 호출하지 않고) DeadlineExceededException
+	 */
+	public static <T> Function<Mono<T>, Mono<T>> timeout(Duration timeout) {
+		return mono -> Mono.deferContextual(context -> {
+			Duration budget = budget(context, timeout);
+			if (budget.isNegative() || budget.isZero()) {
+				return Mono.error(expired());
+			}
+			if (budget.compareTo(timeout) < 0) {
+				return mono.timeout(budget, Mono.error(Deadline::expired));
+			}
+			return mono.timeout(budget);
+		});
+	}
+	
+	/**
+	 * 마감을 반영한 Flux 타임아웃
+	 */
+	public static <T> Function<Flux<T>, Flux<T>> timeoutFlux(Duration timeout) {
+		return flux -> Flux.deferContextual(context -> {
+			Duration budget = budget(context, timeout);
+			if (budget.isNegative() || budget.isZero()) {
+				return Flux.error(expired());
+			}
+			if (budget.compareTo(timeout) < 0) {
+				return flux.timeout(budget, Flux.defer(() -> Flux.error(expired())));
+			}
+			return flux.timeout(budget);
+		});
+	}
+	
+	static DeadlineExceededException expired() {
+		return new DeadlineExceededException();
+	}
+}
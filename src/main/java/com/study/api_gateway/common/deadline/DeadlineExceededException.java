@@ -0,0 +1,16 @@
+package com.study.api_gateway.common.deadline;
+
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 서비스 자체 타임아웃이 아니라 클라이언트 요청 마감(Deadline) 때문에 호출이 끊김
+ * <p>
+ * 클라이언트가 정한 마감이라 다운스트림 과부하 신호로 보지 않습니다. (동시 호출 한도를 낮추거나 재시도하지 않음)
+ * 응답 매핑은 일반 타임아웃과 같도록 TimeoutException을 상속합니다.
+ */
+public class DeadlineExceededException extends TimeoutException {
+	
+	public DeadlineExceededException() {
+		super("Request deadline exceeded");
+	}
+}
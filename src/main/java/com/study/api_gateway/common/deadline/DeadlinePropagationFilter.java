@@ -0,0 +1,38 @@
+package com.study.api_gateway.common.deadline;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * 다운스트림 WebClient 호출에 남은 시간을 전달하는 ExchangeFilterFunction
+ * <p>
+ * Context에 마감이 있으면 X-Request-Timeout-Ms 헤더로 남은 시간을 보내고, 이미 지났으면 호출하지 않습니다.
+ * 마감이 없는 호출(백그라운드 갱신 등)은 그대로 통과합니다.
+ */
+@Component
+public class DeadlinePropagationFilter implements ExchangeFilterFunction {
+	
+	@Override
+	public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+		return Mono.deferContextual(context -> {
+			Deadline deadline = Deadline.from(context);
+			if (deadline == null) {
+				return next.exchange(request);
+			}
+			Duration remaining = deadline.remaining();
+			if (remaining.isNegative() || remaining.isZero()) {
+				return Mono.error(Deadline.expired());
+			}
+			ClientRequest withDeadline = ClientRequest.from(request)
+					.headers(headers -> headers.set(Deadline.HEADER, String.valueOf(Math.max(1, remaining.toMillis()))))
+					.build();
+			return next.exchange(withDeadline);
+		});
+	}
+}
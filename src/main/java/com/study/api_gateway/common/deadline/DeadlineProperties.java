@@ -0,0 +1,55 @@
+package com.study.api_gateway.common.deadline;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청 마감(deadline) 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "deadline")
+public class DeadlineProperties {
+	
+	/**
+	 * 마감 적용 여부
+	 */
+	private boolean enabled = true;
+	
+	/**
+	 * 라우트 설정이 없을 때의 요청 마감 (nginx proxy_read_timeout보다 짧게)
+	 */
+	private Duration defaultTimeout = Duration.ofSeconds(25);
+	
+	/**
+	 * 클라이언트 헤더로 지정할 수 있는 최소 마감 (너무 짧은 값으로 모든 호출이 실패하지 않도록)
+	 */
+	private Duration minClientTimeout = Duration.ofMillis(100);
+	
+	/**
+	 * 경로별 마감 (먼저 등록된 패턴 우선)
+	 */
+	private List<Route> routes = new ArrayList<>();
+	
+	@Getter
+	@Setter
+	public static class Route {
+		
+		/**
+		 * 게이트웨이 경로 패턴 (예: /bff/v1/rooms/**)
+		 */
+		private String pattern;
+		
+		/**
+		 * 요청 마감
+		 */
+		private Duration timeout;
+	}
+}
@@ -0,0 +1,108 @@
+package com.study.api_gateway.common.deadline;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.api_gateway.common.exception.ErrorCode;
+import com.study.api_gateway.common.util.PathPatternTrie;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 요청 진입 시 마감을 정해 Reactor Context에 넣는 필터
+ * <p>
+ * - 마감 = min(경로별 timeout 또는 default-timeout, 클라이언트 X-Request-Timeout-Ms)
+ * - 마감이 지나면 처리 중인 체인(다운스트림 호출 포함)을 취소하고, 아직 응답을 쓰지 않았으면 504로 응답합니다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 15)
+public class DeadlineWebFilter implements WebFilter {
+	
+	private final DeadlineProperties properties;
+	private final ObjectMapper objectMapper;
+	private final PathPatternTrie<Duration> routes = new PathPatternTrie<>();
+	
+	public DeadlineWebFilter(DeadlineProperties properties, ObjectMapper objectMapper) {
+		this.properties = properties;
+		this.objectMapper = objectMapper;
+		for (DeadlineProperties.Route route : properties.getRoutes()) {
+			routes.add(route.getPattern(), route.getTimeout());
+		}
+	}
+	
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+		if (!properties.isEnabled()) {
+			return chain.filter(exchange);
+		}
+		Duration timeout = resolveTimeout(exchange);
+		Deadline deadline = Deadline.after(timeout);
+		
+		return chain.filter(exchange)
+				.timeout(timeout, Mono.defer(() -> onExpired(exchange, timeout)))
+				.contextWrite(deadline::addTo);
+	}
+	
+	private Duration resolveTimeout(ServerWebExchange exchange) {
+		Duration routeTimeout = routes.match(exchange.getRequest().getPath().value());
+		Duration timeout = routeTimeout != null ? routeTimeout : properties.getDefaultTimeout();
+		
+		String requested = exchange.getRequest().getHeaders().getFirst(Deadline.HEADER);
+		if (requested != null) {
+			try {
+				Duration clientTimeout = Duration.ofMillis(Long.parseLong(requested.trim()));
+				if (clientTimeout.compareTo(properties.getMinClientTimeout()) < 0) {
+					clientTimeout = properties.getMinClientTimeout();
+				}
+				if (clientTimeout.compareTo(timeout) < 0) timeout = clientTimeout;
+			} catch (NumberFormatException ignored) {
+				// 잘못된 헤더는 무시하고 경로 설정 사용
+			}
+		}
+		return timeout;
+	}
+	
+	private Mono<Void> onExpired(ServerWebExchange exchange, Duration timeout) {
+		ServerHttpResponse response = exchange.getResponse();
+		log.warn("Request deadline exceeded: {} {} (timeout={}ms)",
+				exchange.getRequest().getMethod(), exchange.getRequest().getPath().value(), timeout.toMillis());
+		if (response.isCommitted()) {
+			return Mono.empty();
+		}
+		
+		ErrorCode errorCode = ErrorCode.GATEWAY_TIMEOUT;
+		response.setStatusCode(errorCode.getHttpStatus());
+		response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+		Map<String, Object> errorBody = Map.of(
+				"isSuccess", false,
+				"code", errorCode.getHttpStatus().value(),
+				"errorCode", errorCode.getCode(),
+				"data", String.format("Request did not complete within %d ms.", timeout.toMillis()),
+				"request", Map.of(
+						"path", exchange.getRequest().getURI().getPath()
+				)
+		);
+		
+		try {
+			String json = objectMapper.writeValueAsString(errorBody);
+			DataBuffer buffer = response.bufferFactory().wrap(json.getBytes(StandardCharsets.UTF_8));
+			return response.writeWith(Mono.just(buffer));
+		} catch (JsonProcessingException e) {
+			log.error("Failed to serialize deadline response", e);
+			return response.setComplete();
+		}
+	}
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.study.api_gateway.api.auth.dto.enums.Role;
 import com.study.api_gateway.common.config.AuthorizationConfig;
 import com.study.api_gateway.common.response.BaseResponse;
+import com.study.api_gateway.common.util.JwtClaims;
 import com.study.api_gateway.common.util.JwtTokenValidator;
 import com.study.api_gateway.common.util.TokenValidationResult;
 import lombok.RequiredArgsConstructor;
@@ -88,17 +89,18 @@ public class JwtAuthenticationFilter implements WebFilter {
 		// 토큰이 있으면 무조건 검증 (Public 경로여도)
 		String token = authHeader.substring(7); // "Bearer " 제거
 		
-		// 토큰 검증 (상세한 에러 타입 확인)
-		TokenValidationResult validationResult = jwtTokenValidator.validate(token);
+		// 토큰 검증 + 사용자 정보 추출 (한 번에 처리, 검증된 토큰은 캐시에서 조회)
+		JwtTokenValidator.Verification verification = jwtTokenValidator.verify(token);
+		TokenValidationResult validationResult = verification.result();
 		if (!validationResult.isValid()) {
 			log.warn("Token validation failed for path: {}. Reason: {}", path, validationResult.getMessage());
 			return handleUnauthorized(exchange, validationResult.getMessage());
 		}
 		
-		// 토큰에서 사용자 정보 추출
-		String userId = jwtTokenValidator.extractUserId(token);
-		String role = jwtTokenValidator.extractRole(token);
-		String deviceId = jwtTokenValidator.extractDeviceId(token);
+		JwtClaims claims = verification.claims();
+		String userId = claims.userId();
+		String role = claims.role();
+		String deviceId = claims.deviceId();
 		
 		// 사용자 정보 검증 (추가 안전장치)
 		if (userId == null || userId.isEmpty()) {
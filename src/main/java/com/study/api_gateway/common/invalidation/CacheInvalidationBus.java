@@ -0,0 +1,211 @@
+package com.study.api_gateway.common.invalidation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.api_gateway.common.monitoring.metrics.ApiGatewayMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Redis Pub/Sub 기반 노드 간 로컬 캐시 무효화 버스
+ * <p>
+ * - publishEvict/publishClear 호출 시 이 노드의 캐시는 즉시 무효화하고, 이벤트는 batch-window 동안 모아서
+ * 캐시별로 중복을 제거한 뒤 한 메시지로 브로드캐스트합니다.
+ * - 다른 노드가 보낸 메시지를 수신하면 등록된 LocalCacheInvalidator에 적용합니다. (자기 노드 메시지는 무시)
+ * - Redis 장애 시에도 로컬 무효화는 유지되며, 구독은 백오프로 재연결합니다.
+ * - 발송 실패는 배치 단위로 처리하고, 발송 파이프라인 자체가 종료되면 다시 구독합니다.
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus implements DisposableBean {
+	
+	private static final int OUTBOUND_BUFFER_SIZE = 8192;
+	private static final Duration RESUBSCRIBE_DELAY = Duration.ofSeconds(1);
+	
+	private final ReactiveRedisTemplate<String, String> redis;
+	private final ObjectMapper objectMapper;
+	private final ApiGatewayMetrics metrics;
+	private final ObjectProvider<LocalCacheInvalidator> invalidators;
+	private final boolean enabled;
+	private final String channel;
+	private final int batchSize;
+	private final Duration batchWindow;
+	private final String nodeId = UUID.randomUUID().toString();
+	// 발송 파이프라인을 다시 구독할 수 있도록 구독자가 없어도 종료되지 않는 싱크 사용
+	private final Sinks.Many<CacheInvalidationEvent> outbound =
+			Sinks.many().multicast().onBackpressureBuffer(OUTBOUND_BUFFER_SIZE, false);
+	private final Disposable.Composite subscriptions = Disposables.composite();
+	
+	public CacheInvalidationBus(
+			@Qualifier("reactiveStringRedisTemplate") ReactiveRedisTemplate<String, String> redis,
+			ObjectMapper objectMapper,
+			ApiGatewayMetrics metrics,
+			ObjectProvider<LocalCacheInvalidator> invalidators,
+			@Value("${cache.invalidation.enabled:true}") boolean enabled,
+			@Value("${cache.invalidation.channel:gateway:cache-invalidation}") String channel,
+			@Value("${cache.invalidation.batch-size:256}") int batchSize,
+			@Value("${cache.invalidation.batch-window:PT0.05S}") Duration batchWindow
+	) {
+		this.redis = redis;
+		this.objectMapper = objectMapper;
+		this.metrics = metrics;
+		this.invalidators = invalidators;
+		this.enabled = enabled;
+		this.channel = channel;
+		this.batchSize = batchSize;
+		this.batchWindow = batchWindow;
+	}
+	
+	/**
+	 * 지정 키 무효화 (로컬 즉시 적용 + 전체 노드 브로드캐스트)
+	 */
+	public void publishEvict(String cache, Collection<String> keys) {
+		if (keys == null || keys.isEmpty()) return;
+		List<String> nonNullKeys = keys.stream().filter(Objects::nonNull).toList();
+		if (nonNullKeys.isEmpty()) return;
+		CacheInvalidationEvent event = CacheInvalidationEvent.evict(cache, nonNullKeys);
+		apply(event);
+		enqueue(event);
+	}
+	
+	/**
+	 * 캐시 전체 무효화 (로컬 즉시 적용 + 전체 노드 브로드캐스트)
+	 */
+	public void publishClear(String cache) {
+		CacheInvalidationEvent event = CacheInvalidationEvent.clearAll(cache);
+		apply(event);
+		enqueue(event);
+	}
+	
+	@EventListener(ApplicationReadyEvent.class)
+	public void start() {
+		if (!enabled) {
+			log.info("[CacheInvalidation] bus disabled - invalidation applies to local node only");
+			return;
+		}
+		
+		subscribeOutbound();
+		
+		subscriptions.add(redis.listenToChannel(channel)
+				.doOnSubscribe(s -> log.info("[CacheInvalidation] subscribed channel={}, nodeId={}", channel, nodeId))
+				.retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30))
+						.doBeforeRetry(signal -> log.warn("[CacheInvalidation] subscription lost, retrying: {}", signal.failure().toString())))
+				.subscribe(message -> onMessage(message.getMessage())));
+	}
+	
+	/**
+	 * 발송 파이프라인 구독
+	 * - 배치별 발송 실패는 concatMap 안에서 처리하여 다음 배치에 영향을 주지 않습니다.
+	 * - 그 밖의 오류로 파이프라인이 끝나면 잠시 후 다시 구독합니다. (싱크에 쌓인 이벤트는 유지)
+	 */
+	private void subscribeOutbound() {
+		if (subscriptions.isDisposed()) return;
+		subscriptions.add(outbound.asFlux()
+				.bufferTimeout(batchSize, batchWindow, true)
+				.map(CacheInvalidationBus::coalesce)
+				.filter(events -> !events.isEmpty())
+				.concatMap(events -> broadcast(events)
+						.onErrorResume(e -> {
+							log.warn("[CacheInvalidation] broadcast failed events={}: {}", events.size(), e.toString());
+							metrics.incrementCacheInvalidation("failed");
+							return Mono.empty();
+						}))
+				.subscribe(
+						receivers -> metrics.incrementCacheInvalidation("broadcast"),
+						e -> {
+							log.error("[CacheInvalidation] outbound pipeline terminated, resubscribing in {}: {}", RESUBSCRIBE_DELAY, e.toString());
+							metrics.incrementCacheInvalidation("pipeline_error");
+							Mono.delay(RESUBSCRIBE_DELAY).subscribe(tick -> subscribeOutbound());
+						}));
+	}
+	
+	private void enqueue(CacheInvalidationEvent event) {
+		if (!enabled) return;
+		Sinks.EmitResult result;
+		while ((result = outbound.tryEmitNext(event)) == Sinks.EmitResult.FAIL_NON_SERIALIZED) {
+			Thread.onSpinWait();
+		}
+		if (result.isFailure()) {
+			// 버퍼 초과 등: 로컬 무효화는 이미 적용됨, 다른 노드는 TTL로 수렴
+			log.warn("[CacheInvalidation] dropped event cache={} result={}", event.cache(), result);
+			metrics.incrementCacheInvalidation("dropped");
+		}
+	}
+	
+	/**
+	 * 배치 내 이벤트를 캐시별로 병합 (clear가 있으면 clear 하나로, 아니면 키 합집합)
+	 */
+	static List<CacheInvalidationEvent> coalesce(List<CacheInvalidationEvent> batch) {
+		Map<String, Set<String>> keysByCache = new LinkedHashMap<>();
+		Set<String> cleared = new HashSet<>();
+		for (CacheInvalidationEvent event : batch) {
+			if (event.clear()) {
+				cleared.add(event.cache());
+				keysByCache.remove(event.cache());
+			} else if (!cleared.contains(event.cache())) {
+				keysByCache.computeIfAbsent(event.cache(), k -> new LinkedHashSet<>()).addAll(event.keys());
+			}
+		}
+		List<CacheInvalidationEvent> result = new ArrayList<>(cleared.size() + keysByCache.size());
+		cleared.forEach(cache -> result.add(CacheInvalidationEvent.clearAll(cache)));
+		keysByCache.forEach((cache, keys) -> result.add(CacheInvalidationEvent.evict(cache, List.copyOf(keys))));
+		return result;
+	}
+	
+	private Mono<Long> broadcast(List<CacheInvalidationEvent> events) {
+		return Mono.fromCallable(() -> objectMapper.writeValueAsString(new InvalidationMessage(nodeId, events)))
+				.flatMap(payload -> redis.convertAndSend(channel, payload))
+				.doOnNext(receivers -> log.debug("[CacheInvalidation] broadcast events={} receivers={}", events.size(), receivers));
+	}
+	
+	private void onMessage(String payload) {
+		try {
+			InvalidationMessage message = objectMapper.readValue(payload, InvalidationMessage.class);
+			if (nodeId.equals(message.origin()) || message.events() == null) return;
+			message.events().forEach(this::apply);
+		} catch (Exception e) {
+			log.warn("[CacheInvalidation] failed to handle message: {}", e.toString());
+		}
+	}
+	
+	private void apply(CacheInvalidationEvent event) {
+		invalidators.orderedStream()
+				.filter(invalidator -> invalidator.cacheName().equals(event.cache()))
+				.forEach(invalidator -> {
+					try {
+						if (event.clear()) {
+							invalidator.clearLocal();
+						} else {
+							invalidator.evictLocal(event.keys());
+						}
+					} catch (Exception e) {
+						log.warn("[CacheInvalidation] failed to apply cache={} clear={}: {}", event.cache(), event.clear(), e.toString());
+					}
+				});
+	}
+	
+	@Override
+	public void destroy() {
+		subscriptions.dispose();
+	}
+	
+	/**
+	 * Pub/Sub 메시지 본문
+	 */
+	record InvalidationMessage(String origin, List<CacheInvalidationEvent> events) {
+	}
+}
@@ -0,0 +1,21 @@
+package com.study.api_gateway.common.invalidation;
+
+import java.util.List;
+
+/**
+ * 캐시 무효화 이벤트
+ *
+ * @param cache 캐시 이름
+ * @param keys  제거할 키 목록 (clear=true면 무시)
+ * @param clear 캐시 전체 제거 여부
+ */
+public record CacheInvalidationEvent(String cache, List<String> keys, boolean clear) {
+	
+	public static CacheInvalidationEvent evict(String cache, List<String> keys) {
+		return new CacheInvalidationEvent(cache, keys, false);
+	}
+	
+	public static CacheInvalidationEvent clearAll(String cache) {
+		return new CacheInvalidationEvent(cache, List.of(), true);
+	}
+}
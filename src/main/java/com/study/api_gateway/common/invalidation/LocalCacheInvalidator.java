@@ -0,0 +1,25 @@
+package com.study.api_gateway.common.invalidation;
+
+import java.util.Collection;
+
+/**
+ * 게이트웨이 노드 로컬 캐시 무효화 대상
+ * CacheInvalidationBus가 수신한 이벤트를 cacheName 기준으로 해당 구현체에 적용합니다.
+ */
+public interface LocalCacheInvalidator {
+	
+	/**
+	 * 무효화 이벤트에서 사용하는 캐시 이름 (예: placeCache, roomCache, profile, rateLimit)
+	 */
+	String cacheName();
+	
+	/**
+	 * 이 노드의 로컬 캐시에서 지정 키 제거
+	 */
+	void evictLocal(Collection<String> keys);
+	
+	/**
+	 * 이 노드의 로컬 캐시 전체 제거
+	 */
+	void clearLocal();
+}
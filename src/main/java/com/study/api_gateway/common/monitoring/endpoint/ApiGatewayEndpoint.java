@@ -155,6 +155,14 @@ public class ApiGatewayEndpoint {
 		
 		stats.put("rateLimitedRequests", (long) rateLimited);
 		
+		// 로컬 버킷 저장소
+		meterRegistry.find("api_gateway_rate_limit_buckets").gauges().forEach(gauge ->
+				stats.put("buckets", (long) gauge.value()));
+		meterRegistry.find("api_gateway_rate_limit_bucket_evictions_total").functionCounters().forEach(counter ->
+				stats.put("bucketEvictions", (long) counter.count()));
+		meterRegistry.find("api_gateway_rate_limit_bucket_memory_bytes").gauges().forEach(gauge ->
+				stats.put("bucketMemoryEstimate", formatBytes((long) gauge.value())));
+		
 		return stats;
 	}
 	
@@ -1,15 +1,23 @@
 package com.study.api_gateway.common.monitoring.metrics;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 /**
  * API Gateway 커스텀 메트릭
@@ -21,10 +29,25 @@ public class ApiGatewayMetrics {
 	
 	private final MeterRegistry meterRegistry;
 	
+	/**
+	 * 라우트 템플릿이 아닌(매칭 실패) 경로로 등록할 수 있는 endpoint 태그 최대 수
+	 */
+	static final int MAX_DYNAMIC_ENDPOINTS = 200;
+	static final String UNMATCHED_ENDPOINT = "UNMATCHED";
+	
+	// 요청 메트릭 테이블 (endpoint → method → meters)
+	private final ConcurrentHashMap<String, ConcurrentHashMap<String, RequestMeters>> requestMeters = new ConcurrentHashMap<>();
+	private final AtomicInteger dynamicEndpoints = new AtomicInteger();
+	
 	// 캐시된 메트릭을 위한 Map
-	private final ConcurrentHashMap<String, Counter> requestCounters = new ConcurrentHashMap<>();
-	private final ConcurrentHashMap<String, Counter> errorCounters = new ConcurrentHashMap<>();
-	private final ConcurrentHashMap<String, Timer> requestTimers = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, Counter> singleFlightCounters = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, Counter> cacheInvalidationCounters = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, Counter> hedgeCounters = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, Counter> retryCounters = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, Counter> responseCacheCounters = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, TierStats> profileCacheTiers = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, Counter> profileCacheRefreshes = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, DistributionSummary> profileBatchSizes = new ConcurrentHashMap<>();
 	
 	// Rate Limiting 메트릭
 	private final Counter rateLimitedRequests;
@@ -38,6 +61,12 @@ public class ApiGatewayMetrics {
 	private final Counter cacheHitCounter;
 	private final Counter cacheMissCounter;
 	
+	// 프로필 배치 로더 메트릭
+	private final DistributionSummary profileBatchWaiters;
+	private final Timer profileBatchWait;
+	private final Timer profileBatchChunkSuccess;
+	private final Timer profileBatchChunkFailure;
+	
 	public ApiGatewayMetrics(MeterRegistry meterRegistry) {
 		this.meterRegistry = meterRegistry;
 		
@@ -68,59 +97,151 @@ public class ApiGatewayMetrics {
 				.description("Total number of cache misses")
 				.register(meterRegistry);
 		
+		// 프로필 배치 로더 메트릭 초기화
+		this.profileBatchWaiters = DistributionSummary.builder("api_gateway_profile_batch_waiters")
+				.description("Number of coalesced profile demands per dispatched batch")
+				.publishPercentileHistogram()
+				.register(meterRegistry);
+		
+		this.profileBatchWait = Timer.builder("api_gateway_profile_batch_wait_seconds")
+				.description("Time a profile demand waits in the batch window before dispatch")
+				.publishPercentileHistogram()
+				.publishPercentiles(0.5, 0.95, 0.99)
+				.register(meterRegistry);
+		
+		this.profileBatchChunkSuccess = profileBatchChunkTimer("success");
+		this.profileBatchChunkFailure = profileBatchChunkTimer("failure");
+		
 		log.info("[Metrics] API Gateway metrics initialized");
 	}
 	
+	private Timer profileBatchChunkTimer(String outcome) {
+		return Timer.builder("api_gateway_profile_batch_chunk_duration_seconds")
+				.description("Profile /batch call latency per dispatched chunk")
+				.tag("outcome", outcome)
+				.publishPercentileHistogram()
+				.register(meterRegistry);
+	}
+	
 	// ==================== Request Metrics ====================
 	
 	/**
-	 * 요청 카운터 증가
+	 * 요청 타이머 시작
 	 */
-	public void incrementRequestCount(String endpoint, String method, String status) {
-		String key = endpoint + "_" + method + "_" + status;
-		requestCounters.computeIfAbsent(key, k ->
-				Counter.builder("api_gateway_requests_total")
-						.description("Total API Gateway requests")
-						.tag("endpoint", endpoint)
-						.tag("method", method)
-						.tag("status", status)
-						.register(meterRegistry)
-		).increment();
+	public Timer.Sample startTimer() {
+		return Timer.start(meterRegistry);
 	}
 	
 	/**
-	 * 에러 카운터 증가
+	 * (endpoint, method) 요청 메트릭 조회 (첫 요청 때 생성하여 등록)
+	 * 조회는 문자열 결합 없이 2단계 맵 조회만 수행합니다.
+	 *
+	 * @param endpoint      라우트 템플릿 또는 정규화된 경로
+	 * @param method        HTTP 메서드
+	 * @param routeTemplate 라우트 템플릿 여부 (false면 MAX_DYNAMIC_ENDPOINTS개까지만 등록하고 이후는 UNMATCHED로 집계)
 	 */
-	public void incrementErrorCount(String endpoint, String errorType) {
-		String key = endpoint + "_" + errorType;
-		errorCounters.computeIfAbsent(key, k ->
-				Counter.builder("api_gateway_errors_total")
-						.description("Total API Gateway errors")
-						.tag("endpoint", endpoint)
-						.tag("error_type", errorType)
-						.register(meterRegistry)
-		).increment();
+	public RequestMeters requestMeters(String endpoint, String method, boolean routeTemplate) {
+		ConcurrentHashMap<String, RequestMeters> byMethod = requestMeters.get(endpoint);
+		if (byMethod == null) {
+			if (!routeTemplate && dynamicEndpoints.get() >= MAX_DYNAMIC_ENDPOINTS) {
+				endpoint = UNMATCHED_ENDPOINT;
+			}
+			byMethod = requestMeters.computeIfAbsent(endpoint, e -> {
+				if (!routeTemplate && !UNMATCHED_ENDPOINT.equals(e)) dynamicEndpoints.incrementAndGet();
+				return new ConcurrentHashMap<>();
+			});
+		}
+		RequestMeters meters = byMethod.get(method);
+		if (meters == null) {
+			String resolvedEndpoint = endpoint;
+			meters = byMethod.computeIfAbsent(method, m -> new RequestMeters(meterRegistry, resolvedEndpoint, m));
+		}
+		return meters;
 	}
 	
 	/**
-	 * 요청 타이머 기록
+	 * 등록된 (endpoint, method) 조합 수
 	 */
-	public Timer.Sample startTimer() {
-		return Timer.start(meterRegistry);
+	public int requestMetersCount() {
+		int count = 0;
+		for (ConcurrentHashMap<String, RequestMeters> byMethod : requestMeters.values()) {
+			count += byMethod.size();
+		}
+		return count;
 	}
 	
-	public void recordRequestDuration(Timer.Sample sample, String endpoint, String method, String status) {
-		String key = endpoint + "_" + method;
-		Timer timer = requestTimers.computeIfAbsent(key, k ->
-				Timer.builder("api_gateway_request_duration_seconds")
-						.description("API Gateway request duration")
+	/**
+	 * (endpoint, method) 단위 요청 메트릭 묶음
+	 * api_gateway_requests_total{status}, api_gateway_errors_total{error_type}, api_gateway_request_duration_seconds
+	 * 상태 코드 구간별 카운터는 해당 구간의 응답이 처음 나올 때 등록합니다.
+	 */
+	public static final class RequestMeters {
+		
+		private static final String[] STATUS_CATEGORIES = {"2xx", "3xx", "4xx", "5xx", "unknown"};
+		private static final int UNKNOWN = 4;
+		
+		private final MeterRegistry registry;
+		private final String endpoint;
+		private final String method;
+		private final Counter[] requests = new Counter[STATUS_CATEGORIES.length];
+		private final Counter[] errors = new Counter[STATUS_CATEGORIES.length];
+		private final Timer timer;
+		
+		private RequestMeters(MeterRegistry registry, String endpoint, String method) {
+			this.registry = registry;
+			this.endpoint = endpoint;
+			this.method = method;
+			this.timer = Timer.builder("api_gateway_request_duration_seconds")
+					.description("API Gateway request duration")
+					.tag("endpoint", endpoint)
+					.tag("method", method)
+					.publishPercentileHistogram()
+					.publishPercentiles(0.5, 0.75, 0.95, 0.99)
+					.register(registry);
+		}
+		
+		/**
+		 * 요청 종료 기록
+		 *
+		 * @param statusCode HTTP 상태 코드 (알 수 없으면 음수)
+		 */
+		public void record(Timer.Sample sample, int statusCode) {
+			int category = statusCode >= 200 && statusCode < 600 ? statusCode / 100 - 2 : UNKNOWN;
+			requestCounter(category).increment();
+			sample.stop(timer);
+			// 에러 카운터는 4xx/5xx만 존재
+			if (category == 2 || category == 3) {
+				errorCounter(category).increment();
+			}
+		}
+		
+		// 동시에 처음 등록되어도 레지스트리가 같은 ID에 같은 미터를 반환하므로 배열 캐시는 동기화하지 않음
+		private Counter requestCounter(int category) {
+			Counter counter = requests[category];
+			if (counter == null) {
+				counter = Counter.builder("api_gateway_requests_total")
+						.description("Total API Gateway requests")
 						.tag("endpoint", endpoint)
 						.tag("method", method)
-						.publishPercentileHistogram()
-						.publishPercentiles(0.5, 0.75, 0.95, 0.99)
-						.register(meterRegistry)
-		);
-		sample.stop(timer);
+						.tag("status", STATUS_CATEGORIES[category])
+						.register(registry);
+				requests[category] = counter;
+			}
+			return counter;
+		}
+		
+		private Counter errorCounter(int category) {
+			Counter counter = errors[category];
+			if (counter == null) {
+				counter = Counter.builder("api_gateway_errors_total")
+						.description("Total API Gateway errors")
+						.tag("endpoint", endpoint)
+						.tag("error_type", STATUS_CATEGORIES[category])
+						.register(registry);
+				errors[category] = counter;
+			}
+			return counter;
+		}
 	}
 	
 	// ==================== Rate Limiting Metrics ====================
@@ -132,6 +253,23 @@ public class ApiGatewayMetrics {
 		rateLimitedRequests.increment();
 	}
 	
+	/**
+	 * 로컬 Rate Limit 버킷 저장소 게이지 등록 (버킷 수, 누적 제거 수, 메모리 추정치)
+	 */
+	public void registerRateLimitBucketGauges(Supplier<Number> bucketCount, Supplier<Number> evictions,
+	                                          Supplier<Number> memoryBytes) {
+		Gauge.builder("api_gateway_rate_limit_buckets", bucketCount)
+				.description("Number of live local rate limit buckets")
+				.register(meterRegistry);
+		FunctionCounter.builder("api_gateway_rate_limit_bucket_evictions_total", evictions, s -> s.get().doubleValue())
+				.description("Total number of rate limit buckets evicted by size or idle expiry")
+				.register(meterRegistry);
+		Gauge.builder("api_gateway_rate_limit_bucket_memory_bytes", memoryBytes)
+				.description("Estimated memory used by local rate limit buckets")
+				.baseUnit("bytes")
+				.register(meterRegistry);
+	}
+	
 	// ==================== Active Requests Metrics ====================
 	
 	/**
@@ -180,6 +318,250 @@ public class ApiGatewayMetrics {
 		cacheMissCounter.increment();
 	}
 	
+	// ==================== Local Cache Metrics ====================
+	
+	/**
+	 * Caffeine 로컬 캐시 통계를 cache 태그로 등록 (cache_gets_total, cache_size, cache_evictions_total, cache_load_duration 등)
+	 * 캐시는 recordStats()로 생성되어야 합니다.
+	 */
+	public void registerLocalCache(String cacheName, Cache<?, ?> cache) {
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, cacheName);
+	}
+	
+	/**
+	 * 노드 간 캐시 무효화 발송 결과 기록
+	 *
+	 * @param result broadcast(발송 성공), failed(배치 발송 실패), dropped(버퍼 초과로 버림), pipeline_error(파이프라인 재구독)
+	 */
+	public void incrementCacheInvalidation(String result) {
+		cacheInvalidationCounters.computeIfAbsent(result, key -> Counter.builder("api_gateway_cache_invalidation_total")
+				.description("Cross-node cache invalidation broadcasts by result")
+				.tag("result", key)
+				.register(meterRegistry)).increment();
+	}
+	
+	/**
+	 * 응답 캐시 결과 기록
+	 *
+	 * @param route  캐시 라우트 패턴
+	 * @param result hit, stale, miss, not_modified, bypass, refreshed, refresh_failed
+	 */
+	public void incrementResponseCache(String route, String result) {
+		String key = route + "_" + result;
+		responseCacheCounters.computeIfAbsent(key, k ->
+				Counter.builder("api_gateway_response_cache_requests_total")
+						.description("Response cache lookups by route and result")
+						.tag("route", route)
+						.tag("result", result)
+						.register(meterRegistry)
+		).increment();
+	}
+	
+	// ==================== Profile Cache Metrics ====================
+	
+	/**
+	 * 프로필 캐시 계층별 조회 결과 기록
+	 *
+	 * @param tier         l1(Caffeine), l2(Redis)
+	 * @param hits         히트 건수
+	 * @param negativeHits 음수 엔트리(프로필 없음) 히트 건수
+	 * @param misses       미스 건수
+	 */
+	public void recordProfileCacheLookup(String tier, long hits, long negativeHits, long misses) {
+		TierStats stats = profileCacheTiers.computeIfAbsent(tier, this::registerProfileCacheTier);
+		if (hits > 0) stats.hits().increment(hits);
+		if (negativeHits > 0) stats.negativeHits().increment(negativeHits);
+		if (misses > 0) stats.misses().increment(misses);
+	}
+	
+	/**
+	 * 프로필 캐시 백그라운드 갱신 결과 기록
+	 *
+	 * @param source l2(Redis에서 갱신), origin(원본 API에서 갱신), not_found(프로필 없음으로 전환), failed
+	 */
+	public void recordProfileCacheRefresh(String source) {
+		profileCacheRefreshes.computeIfAbsent(source, key -> Counter.builder("api_gateway_profile_cache_refreshes_total")
+				.description("Profile cache refresh-ahead results by source")
+				.tag("source", key)
+				.register(meterRegistry)).increment();
+	}
+	
+	private TierStats registerProfileCacheTier(String tier) {
+		TierStats stats = new TierStats(
+				profileCacheLookupCounter(tier, "hit"),
+				profileCacheLookupCounter(tier, "negative_hit"),
+				profileCacheLookupCounter(tier, "miss"));
+		Gauge.builder("api_gateway_profile_cache_hit_ratio", stats, TierStats::hitRatio)
+				.description("Profile cache hit ratio by tier (negative hits count as hits)")
+				.tag("tier", tier)
+				.register(meterRegistry);
+		return stats;
+	}
+	
+	private Counter profileCacheLookupCounter(String tier, String result) {
+		return Counter.builder("api_gateway_profile_cache_lookups_total")
+				.description("Profile cache lookups by tier and result")
+				.tag("tier", tier)
+				.tag("result", result)
+				.register(meterRegistry);
+	}
+	
+	private record TierStats(Counter hits, Counter negativeHits, Counter misses) {
+		double hitRatio() {
+			double resolved = hits.count() + negativeHits.count();
+			double total = resolved + misses.count();
+			return total == 0 ? 0.0 : resolved / total;
+		}
+	}
+	
+	// ==================== Profile Batch Loader Metrics ====================
+	
+	/**
+	 * 배치 발송 기록
+	 *
+	 * @param trigger   size(최대 크기 도달) 또는 window(대기 시간 만료)
+	 * @param uniqueIds 중복 제거 후 발송한 ID 수
+	 * @param waiters   이 배치에 합쳐진 요청 수
+	 */
+	public void recordProfileBatch(String trigger, int uniqueIds, int waiters) {
+		profileBatchSizes.computeIfAbsent(trigger, t ->
+				DistributionSummary.builder("api_gateway_profile_batch_size")
+						.description("Number of distinct user IDs per dispatched profile batch")
+						.tag("trigger", t)
+						.publishPercentileHistogram()
+						.register(meterRegistry)
+		).record(uniqueIds);
+		profileBatchWaiters.record(waiters);
+	}
+	
+	/**
+	 * 배치 호출 1건의 지연 시간/성공 여부 기록
+	 */
+	public void recordProfileBatchChunk(boolean success, long latencyNanos) {
+		(success ? profileBatchChunkSuccess : profileBatchChunkFailure).record(latencyNanos, TimeUnit.NANOSECONDS);
+	}
+	
+	/**
+	 * 현재 적응형 배치 크기 게이지 등록
+	 */
+	public void registerProfileBatchSizeGauge(Supplier<Number> batchSize) {
+		Gauge.builder("api_gateway_profile_batch_size_limit", batchSize)
+				.description("Current adaptive profile batch size limit")
+				.register(meterRegistry);
+	}
+	
+	/**
+	 * 배치 윈도우 대기 시간 기록 (요청 등록 → 발송)
+	 */
+	public void recordProfileBatchWait(long waitNanos) {
+		profileBatchWait.record(waitNanos, TimeUnit.NANOSECONDS);
+	}
+	
+	// ==================== Single-Flight Metrics ====================
+	
+	/**
+	 * 동일 요청 병합 결과 카운터 증가
+	 *
+	 * @param downstream 서비스 키
+	 * @param result     originated(실제 호출), coalesced(병합됨), bypassed(테이블 한도 초과로 병합 생략)
+	 */
+	public void incrementSingleFlight(String downstream, String result) {
+		String key = downstream + "_" + result;
+		singleFlightCounters.computeIfAbsent(key, k ->
+				Counter.builder("api_gateway_single_flight_requests_total")
+						.description("Downstream GET requests by single-flight outcome")
+						.tag("downstream", downstream)
+						.tag("result", result)
+						.register(meterRegistry)
+		).increment();
+	}
+	
+	/**
+	 * 진행 중인 병합 요청 수 게이지 등록
+	 */
+	public void registerSingleFlightInFlightGauge(Supplier<Number> inFlightSize) {
+		Gauge.builder("api_gateway_single_flight_in_flight", inFlightSize)
+				.description("Number of distinct in-flight coalesced downstream requests")
+				.register(meterRegistry);
+	}
+	
+	// ==================== Concurrency Limit Metrics ====================
+	
+	/**
+	 * 서비스별 동시 호출 제한 게이지 등록 (현재 한도, 진행 중 호출 수, 누적 거절 수)
+	 */
+	public void registerConcurrencyLimitGauges(String serviceName, Supplier<Number> limit, Supplier<Number> inFlight,
+	                                           Supplier<Number> rejections) {
+		Gauge.builder("api_gateway_concurrency_limit", limit)
+				.description("Current adaptive concurrency limit per downstream service")
+				.tag("service", serviceName)
+				.register(meterRegistry);
+		Gauge.builder("api_gateway_concurrency_in_flight", inFlight)
+				.description("In-flight downstream calls counted against the concurrency limit")
+				.tag("service", serviceName)
+				.register(meterRegistry);
+		FunctionCounter.builder("api_gateway_concurrency_rejected_total", rejections, s -> s.get().doubleValue())
+				.description("Downstream calls rejected because the concurrency limit was reached")
+				.tag("service", serviceName)
+				.register(meterRegistry);
+	}
+	
+	// ==================== Hedging Metrics ====================
+	
+	/**
+	 * 헤지 요청 결과 기록
+	 *
+	 * @param result fired(헤지 전송), won(헤지 응답이 먼저 도착), failed(헤지 실패, 원 요청 결과 사용), budget_exhausted(예산 부족으로 생략)
+	 */
+	public void incrementHedge(String serviceName, String result) {
+		String key = serviceName + "_" + result;
+		hedgeCounters.computeIfAbsent(key, k ->
+				Counter.builder("api_gateway_hedge_requests_total")
+						.description("Hedged downstream requests by service and result")
+						.tag("service", serviceName)
+						.tag("result", result)
+						.register(meterRegistry)
+		).increment();
+	}
+	
+	/**
+	 * 서비스별 현재 헤지 지연 게이지 등록 (샘플이 부족해 헤지하지 않는 동안은 0)
+	 */
+	public void registerHedgeDelayGauge(String serviceName, Supplier<Number> delayMillis) {
+		Gauge.builder("api_gateway_hedge_delay_ms", delayMillis)
+				.description("Current hedge delay derived from observed latency percentile")
+				.tag("service", serviceName)
+				.register(meterRegistry);
+	}
+	
+	// ==================== Retry Budget Metrics ====================
+	
+	/**
+	 * 재시도 결과 기록
+	 *
+	 * @param result attempted(재시도 대상 실패), allowed(재시도 수행), denied(예산/마감 부족으로 포기)
+	 */
+	public void incrementRetry(String serviceName, String result) {
+		String key = serviceName + "_" + result;
+		retryCounters.computeIfAbsent(key, k ->
+				Counter.builder("api_gateway_retries_total")
+						.description("Downstream retries by service and result")
+						.tag("service", serviceName)
+						.tag("result", result)
+						.register(meterRegistry)
+		).increment();
+	}
+	
+	/**
+	 * 서비스별 남은 재시도 예산 게이지 등록
+	 */
+	public void registerRetryBudgetGauge(String serviceName, Supplier<Number> available) {
+		Gauge.builder("api_gateway_retry_budget_available", available)
+				.description("Retries currently available in the per-service retry budget")
+				.tag("service", serviceName)
+				.register(meterRegistry);
+	}
+	
 	// ==================== External Service Metrics ====================
 	
 	/**
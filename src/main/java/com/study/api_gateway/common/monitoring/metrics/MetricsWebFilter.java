@@ -3,21 +3,24 @@ package com.study.api_gateway.common.monitoring.metrics;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.HandlerMapping;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilter;
 import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
 import reactor.core.publisher.Mono;
 
 /**
  * 요청 메트릭을 자동으로 수집하는 WebFilter
+ * <p>
+ * endpoint 태그는 매칭된 라우트 템플릿(BEST_MATCHING_PATTERN_ATTRIBUTE)을 사용하여 카디널리티가 라우트 수로 제한되고,
+ * 라우트별 메트릭은 첫 요청 때 한 번만 등록되어(트래픽이 없는 라우트는 시계열 없음) 이후 요청은 맵 조회만 수행합니다.
  */
-@Slf4j
 @Component
 @RequiredArgsConstructor
 @Order(Ordered.HIGHEST_PRECEDENCE + 10)
@@ -48,65 +51,88 @@ public class MetricsWebFilter implements WebFilter {
 		metrics.incrementActiveRequests();
 		
 		String method = exchange.getRequest().getMethod().name();
-		String endpoint = normalizeEndpoint(path);
 		
 		return chain.filter(exchange)
 				.doFinally(signalType -> {
-					// 요청 종료 시 메트릭 기록
+					// 요청 종료 시 메트릭 기록 (라우트 템플릿은 핸들러 매핑 이후에만 존재)
 					metrics.decrementActiveRequests();
 					
 					HttpStatusCode statusCode = exchange.getResponse().getStatusCode();
-					String status = statusCode != null ? String.valueOf(statusCode.value()) : "unknown";
-					String statusCategory = getStatusCategory(statusCode);
-					
-					// 요청 카운트 기록
-					metrics.incrementRequestCount(endpoint, method, statusCategory);
-					
-					// 응답 시간 기록
-					metrics.recordRequestDuration(sample, endpoint, method, statusCategory);
-					
-					// 에러 발생 시 에러 카운트 기록
-					if (statusCode != null && statusCode.isError()) {
-						metrics.incrementErrorCount(endpoint, statusCategory);
-					}
+					resolveMeters(exchange, path, method).record(sample, statusCode != null ? statusCode.value() : -1);
 				});
 	}
 	
 	/**
-	 * 경로 정규화 (Path Variable 제거)
+	 * 매칭된 라우트 템플릿 기준으로 메트릭 조회, 매칭된 라우트가 없으면 경로 정규화 결과 사용
 	 */
-	private String normalizeEndpoint(String path) {
-		// UUID 패턴 정규화
-		String normalized = path.replaceAll("[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}", "{id}");
-		
-		// 숫자 ID 패턴 정규화
-		normalized = normalized.replaceAll("/\\d+", "/{id}");
-		
-		// 이메일 패턴 정규화
-		normalized = normalized.replaceAll("/[^/]+@[^/]+\\.[^/]+", "/{email}");
-		
-		return normalized;
+	private ApiGatewayMetrics.RequestMeters resolveMeters(ServerWebExchange exchange, String path, String method) {
+		Object pattern = exchange.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		if (pattern instanceof PathPattern pathPattern) {
+			return metrics.requestMeters(pathPattern.getPatternString(), method, true);
+		}
+		return metrics.requestMeters(normalizeEndpoint(path), method, false);
 	}
 	
 	/**
-	 * 상태 코드 카테고리 반환
+	 * 경로 정규화 (Path Variable 제거, 라우트 매칭 실패 시에만 사용)
+	 * 세그먼트 단위 단일 패스: 숫자/UUID → {id}, 이메일 → {email}
+	 * 치환할 세그먼트가 없으면 원본 문자열을 그대로 반환합니다.
 	 */
-	private String getStatusCategory(HttpStatusCode statusCode) {
-		if (statusCode == null) {
-			return "unknown";
+	String normalizeEndpoint(String path) {
+		StringBuilder normalized = null;
+		int length = path.length();
+		int start = 0;
+		while (start < length) {
+			int end = path.indexOf('/', start);
+			if (end < 0) end = length;
+			
+			String placeholder = placeholderOf(path, start, end);
+			if (placeholder != null) {
+				if (normalized == null) {
+					normalized = new StringBuilder(length).append(path, 0, start);
+				}
+				normalized.append(placeholder);
+			} else if (normalized != null) {
+				normalized.append(path, start, end);
+			}
+			if (normalized != null && end < length) {
+				normalized.append('/');
+			}
+			start = end + 1;
 		}
-		
-		int code = statusCode.value();
-		if (code >= 200 && code < 300) {
-			return "2xx";
-		} else if (code >= 300 && code < 400) {
-			return "3xx";
-		} else if (code >= 400 && code < 500) {
-			return "4xx";
-		} else if (code >= 500) {
-			return "5xx";
+		return normalized != null ? normalized.toString() : path;
+	}
+	
+	private static String placeholderOf(String path, int start, int end) {
+		int length = end - start;
+		if (length == 0) return null;
+		if (isDigits(path, start, end) || (length == 36 && isUuid(path, start))) return "{id}";
+		int at = path.indexOf('@', start);
+		if (at > start && at < end) {
+			int dot = path.lastIndexOf('.', end - 1);
+			if (dot > at + 1 && dot < end - 1) return "{email}";
+		}
+		return null;
+	}
+	
+	private static boolean isDigits(String path, int start, int end) {
+		for (int i = start; i < end; i++) {
+			char c = path.charAt(i);
+			if (c < '0' || c > '9') return false;
+		}
+		return true;
+	}
+	
+	private static boolean isUuid(String path, int start) {
+		for (int i = 0; i < 36; i++) {
+			char c = path.charAt(start + i);
+			if (i == 8 || i == 13 || i == 18 || i == 23) {
+				if (c != '-') return false;
+			} else if (Character.digit(c, 16) < 0) {
+				return false;
+			}
 		}
-		return "unknown";
+		return true;
 	}
 	
 	/**
@@ -0,0 +1,164 @@
+package com.study.api_gateway.common.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Redis Lua 토큰 버킷 기반 분산 Rate Limiter
+ * <p>
+ * 모든 게이트웨이 노드가 같은 Redis 버킷을 공유하므로 노드 수와 무관하게 설정된 한도가 적용됩니다.
+ * 요청마다 Redis를 호출하지 않도록 Redis에서 토큰을 여러 개 미리 받아(lease) 로컬에서 소진하며,
+ * 같은 키에 대한 동시 lease 요청은 하나의 스크립트 호출로 병합됩니다.
+ * (Lettuce는 단일 커넥션에서 동시 명령을 파이프라이닝하므로 키가 다른 호출도 왕복 대기 없이 전송됩니다)
+ */
+@Slf4j
+@Component
+public class DistributedRateLimiter {
+	
+	private static final RedisScript<List> TOKEN_BUCKET_SCRIPT =
+			RedisScript.of(new ClassPathResource("scripts/rate_limit_token_bucket.lua"), List.class);
+	
+	private final ReactiveRedisTemplate<String, String> redis;
+	private final RateLimitProperties properties;
+	private final Cache<String, Lease> leases;
+	
+	public DistributedRateLimiter(
+			@Qualifier("reactiveStringRedisTemplate") ReactiveRedisTemplate<String, String> redis,
+			RateLimitProperties properties
+	) {
+		this.redis = redis;
+		this.properties = properties;
+		this.leases = Caffeine.newBuilder()
+				.maximumSize(100_000)
+				.expireAfterAccess(Duration.ofMinutes(1))
+				.build();
+	}
+	
+	/**
+	 * 토큰 1개 소비 시도
+	 *
+	 * @return Redis 오류/타임아웃 시 error 시그널 (호출 측에서 로컬 버킷으로 폴백)
+	 */
+	public Mono<RateLimitService.RateLimitResult> tryConsume(String key, RateLimitProperties.BucketConfig config) {
+		Lease lease = leases.get(key, k -> new Lease());
+		RateLimitService.RateLimitResult leased = lease.tryTake(config);
+		if (leased != null) {
+			return Mono.just(leased);
+		}
+		return acquire(key, config, lease, true);
+	}
+	
+	private Mono<RateLimitService.RateLimitResult> acquire(String key, RateLimitProperties.BucketConfig config,
+	                                                       Lease lease, boolean retryIfRaced) {
+		return lease.refill(() -> evalTokenBucket(key, config))
+				.flatMap(grant -> {
+					RateLimitService.RateLimitResult result = lease.tryTake(config);
+					if (result != null) {
+						return Mono.just(result);
+					}
+					// 같은 lease를 기다리던 다른 요청이 토큰을 모두 가져간 경우 한 번 더 요청
+					if (grant.granted() > 0 && retryIfRaced) {
+						return acquire(key, config, lease, false);
+					}
+					return Mono.just(RateLimitService.RateLimitResult.denied(
+							Math.max(grant.waitMillis(), 1), config.getCapacity(), config.getRefillSeconds()));
+				});
+	}
+	
+	private Mono<Grant> evalTokenBucket(String key, RateLimitProperties.BucketConfig config) {
+		RateLimitProperties.Distributed distributed = properties.getDistributed();
+		int request = leaseSizeFor(config);
+		List<String> keys = List.of(distributed.getKeyPrefix() + key);
+		List<String> args = List.of(
+				String.valueOf(config.getCapacity()),
+				String.valueOf(config.getRefillTokens()),
+				String.valueOf(config.getRefillSeconds() * 1000L),
+				String.valueOf(request)
+		);
+		return redis.execute(TOKEN_BUCKET_SCRIPT, keys, args)
+				.next()
+				.timeout(distributed.getRedisTimeout())
+				.map(Grant::from);
+	}
+	
+	/**
+	 * lease 크기: 설정값과 capacity/10 중 작은 값 (최소 1)
+	 * 한도가 작은 엔드포인트(로그인 등)에서 한 노드가 토큰을 독점하지 않도록 제한합니다.
+	 */
+	private int leaseSizeFor(RateLimitProperties.BucketConfig config) {
+		int cap = Math.max(1, config.getCapacity() / 10);
+		return Math.max(1, Math.min(properties.getDistributed().getLeaseSize(), cap));
+	}
+	
+	/**
+	 * 스크립트 결과 { granted, remaining, waitMillis }
+	 */
+	private record Grant(long granted, long remaining, long waitMillis) {
+		static Grant from(List<?> raw) {
+			return new Grant(toLong(raw, 0), toLong(raw, 1), toLong(raw, 2));
+		}
+		
+		private static long toLong(List<?> raw, int index) {
+			if (raw == null || raw.size() <= index || raw.get(index) == null) return 0L;
+			Object v = raw.get(index);
+			return v instanceof Number n ? n.longValue() : Long.parseLong(v.toString());
+		}
+	}
+	
+	/**
+	 * 노드 로컬 lease 상태
+	 */
+	private final class Lease {
+		private final AtomicLong tokens = new AtomicLong();
+		private volatile long expiresAtNanos;
+		private volatile long remainingHint;
+		private Mono<Grant> inFlight;
+		
+		RateLimitService.RateLimitResult tryTake(RateLimitProperties.BucketConfig config) {
+			if (System.nanoTime() - expiresAtNanos >= 0) {
+				return null;
+			}
+			long left = tokens.decrementAndGet();
+			if (left < 0) {
+				tokens.incrementAndGet();
+				return null;
+			}
+			return RateLimitService.RateLimitResult.allowed(
+					remainingHint + left, config.getCapacity(), config.getRefillSeconds());
+		}
+		
+		synchronized Mono<Grant> refill(Supplier<Mono<Grant>> loader) {
+			if (inFlight != null) {
+				return inFlight;
+			}
+			Mono<Grant> call = loader.get()
+					.doOnNext(this::apply)
+					.doFinally(signal -> clearInFlight())
+					.cache();
+			inFlight = call;
+			return call;
+		}
+		
+		private void apply(Grant grant) {
+			remainingHint = grant.remaining();
+			tokens.set(grant.granted());
+			expiresAtNanos = System.nanoTime() + properties.getDistributed().getLeaseTtl().toNanos();
+		}
+		
+		private synchronized void clearInFlight() {
+			inFlight = null;
+		}
+	}
+}
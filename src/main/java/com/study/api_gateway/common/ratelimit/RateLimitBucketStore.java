@@ -0,0 +1,117 @@
+package com.study.api_gateway.common.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.study.api_gateway.common.monitoring.metrics.ApiGatewayMetrics;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+
+/**
+ * 로컬 Rate Limit 버킷 저장소 (크기 제한 + 유휴 만료)
+ * <p>
+ * - 유휴 만료: 마지막 접근 후 버킷이 가득 찰 때까지의 시간이 지나면 제거합니다.
+ * 가득 찬 버킷은 새로 만든 버킷과 동일하므로 제거해도 Rate Limit 동작은 바뀌지 않습니다.
+ * - 크기 제한: rate-limit.max-buckets 초과 시 W-TinyLFU로 제거하여, 회전 IP/위조 X-Forwarded-For 트래픽에도
+ * 메모리가 일정하게 유지됩니다.
+ */
+@Slf4j
+@Component
+public class RateLimitBucketStore {
+	
+	/**
+	 * 버킷 1개당 메모리 추정치 (키 문자열 + Caffeine 노드 + Bucket4j 상태)
+	 */
+	static final long ESTIMATED_BYTES_PER_BUCKET = 256;
+	
+	private final Cache<String, Entry> buckets;
+	
+	public RateLimitBucketStore(RateLimitProperties properties, ApiGatewayMetrics metrics) {
+		this.buckets = Caffeine.newBuilder()
+				.maximumSize(properties.getMaxBuckets())
+				.expireAfter(new RefillExpiry())
+				.recordStats()
+				.build();
+		
+		metrics.registerRateLimitBucketGauges(
+				buckets::estimatedSize,
+				() -> buckets.stats().evictionCount(),
+				this::estimatedMemoryBytes);
+		
+		log.info("[RateLimit] bucket store initialized: maxBuckets={}", properties.getMaxBuckets());
+	}
+	
+	/**
+	 * 키에 해당하는 버킷 조회 (없으면 생성)
+	 */
+	public Bucket getOrCreate(String key, RateLimitProperties.BucketConfig config) {
+		return buckets.get(key, k -> new Entry(createBucket(config), timeToFullRefill(config))).bucket();
+	}
+	
+	public void removeAll(Collection<String> keys) {
+		buckets.invalidateAll(keys);
+	}
+	
+	public void clear() {
+		buckets.invalidateAll();
+	}
+	
+	public long size() {
+		return buckets.estimatedSize();
+	}
+	
+	public long evictionCount() {
+		return buckets.stats().evictionCount();
+	}
+	
+	public long estimatedMemoryBytes() {
+		return buckets.estimatedSize() * ESTIMATED_BYTES_PER_BUCKET;
+	}
+	
+	private Bucket createBucket(RateLimitProperties.BucketConfig config) {
+		Bandwidth limit = Bandwidth.builder()
+				.capacity(config.getCapacity())
+				.refillGreedy(config.getRefillTokens(), Duration.ofSeconds(config.getRefillSeconds()))
+				.build();
+		
+		return Bucket.builder()
+				.addLimit(limit)
+				.build();
+	}
+	
+	/**
+	 * 빈 버킷이 가득 찰 때까지 걸리는 시간
+	 */
+	private static long timeToFullRefill(RateLimitProperties.BucketConfig config) {
+		long periods = (config.getCapacity() + config.getRefillTokens() - 1) / config.getRefillTokens();
+		return Duration.ofSeconds(periods * config.getRefillSeconds()).toNanos();
+	}
+	
+	private record Entry(Bucket bucket, long idleTtlNanos) {
+	}
+	
+	/**
+	 * 생성/접근 시점부터 버킷별 완전 충전 시간 후 만료
+	 */
+	private static class RefillExpiry implements Expiry<String, Entry> {
+		@Override
+		public long expireAfterCreate(String key, Entry entry, long currentTime) {
+			return entry.idleTtlNanos();
+		}
+		
+		@Override
+		public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+			return entry.idleTtlNanos();
+		}
+		
+		@Override
+		public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+			return entry.idleTtlNanos();
+		}
+	}
+}
@@ -3,7 +3,7 @@ package com.study.api_gateway.common.ratelimit;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.study.api_gateway.common.exception.ErrorCode;
-import lombok.RequiredArgsConstructor;
+import com.study.api_gateway.common.util.PathPatternTrie;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.Ordered;
 import org.springframework.core.io.buffer.DataBuffer;
@@ -13,7 +13,6 @@ import org.springframework.http.MediaType;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilter;
 import org.springframework.web.server.WebFilterChain;
@@ -25,16 +24,34 @@ import java.util.Map;
 /**
  * Rate Limiting WebFilter
  * 모든 요청에 대해 Rate Limit 체크
+ * <p>
+ * 사용자/IP 한도를 먼저 확인하고, rate-limit.endpoints에 해당하는 경로는 엔드포인트 한도를 추가로 적용합니다.
+ * 제외 경로와 엔드포인트 규칙은 시작 시 PathPatternTrie로 한 번만 구성합니다.
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class RateLimitFilter implements WebFilter, Ordered {
 	
 	private final RateLimitService rateLimitService;
 	private final RateLimitProperties properties;
 	private final ObjectMapper objectMapper;
-	private final AntPathMatcher pathMatcher = new AntPathMatcher();
+	private final PathPatternTrie<Boolean> excludedPaths = new PathPatternTrie<>();
+	private final PathPatternTrie<String> endpointRules = new PathPatternTrie<>();
+	
+	public RateLimitFilter(RateLimitService rateLimitService, RateLimitProperties properties, ObjectMapper objectMapper) {
+		this.rateLimitService = rateLimitService;
+		this.properties = properties;
+		this.objectMapper = objectMapper;
+		
+		for (String pattern : properties.getExcludePaths()) {
+			excludedPaths.add(pattern, Boolean.TRUE);
+		}
+		for (String pattern : properties.getEndpoints().keySet()) {
+			endpointRules.add(pattern, pattern);
+		}
+		log.info("[RateLimit] filter initialized: excludePaths={}, endpointRules={}",
+				properties.getExcludePaths().length, properties.getEndpoints().keySet());
+	}
 	
 	/**
 	 * 필터 순서 - JWT 필터보다 먼저 실행 (높은 우선순위)
@@ -61,37 +78,58 @@ public class RateLimitFilter implements WebFilter, Ordered {
 		
 		// 사용자 식별
 		String userId = request.getHeaders().getFirst("X-User-Id");
-		RateLimitService.RateLimitResult result;
+		Mono<RateLimitService.RateLimitResult> resultMono;
+		String identifier;
 		
 		if (userId != null && !userId.isEmpty()) {
 			// 인증된 사용자
-			result = rateLimitService.checkRateLimit(userId);
+			identifier = "user:" + userId;
+			resultMono = rateLimitService.checkRateLimitAsync(userId);
 		} else {
 			// 비인증 사용자 (IP 기반)
 			String clientIp = extractClientIp(request);
-			result = rateLimitService.checkRateLimitByIp(clientIp);
+			identifier = "ip:" + clientIp;
+			resultMono = rateLimitService.checkRateLimitByIpAsync(clientIp);
 		}
 		
-		// Rate Limit 헤더 추가
-		addRateLimitHeaders(exchange.getResponse(), result);
-		
-		if (!result.allowed()) {
-			return handleRateLimitExceeded(exchange, result);
+		// 엔드포인트 한도 (사용자/IP 한도를 통과한 경우에만 추가 적용)
+		String endpointPattern = endpointRules.match(path);
+		if (endpointPattern != null) {
+			resultMono = resultMono.flatMap(base -> !base.allowed()
+					? Mono.just(base)
+					: rateLimitService.checkRateLimitForEndpointAsync(identifier, endpointPattern)
+					.map(endpoint -> mostRestrictive(base, endpoint))
+					.defaultIfEmpty(base));
 		}
 		
-		return chain.filter(exchange);
+		return resultMono.flatMap(result -> {
+			// Rate Limit 헤더 추가
+			addRateLimitHeaders(exchange.getResponse(), result);
+			
+			if (!result.allowed()) {
+				return handleRateLimitExceeded(exchange, result);
+			}
+			
+			return chain.filter(exchange);
+		});
 	}
 	
 	/**
 	 * 제외 경로 체크
 	 */
 	private boolean isExcludedPath(String path) {
-		for (String pattern : properties.getExcludePaths()) {
-			if (pathMatcher.match(pattern, path)) {
-				return true;
-			}
+		return excludedPaths.matches(path);
+	}
+	
+	/**
+	 * 두 한도 중 더 제한적인 결과 (거부 우선, 둘 다 허용이면 남은 토큰이 적은 쪽)
+	 */
+	private RateLimitService.RateLimitResult mostRestrictive(RateLimitService.RateLimitResult base,
+	                                                         RateLimitService.RateLimitResult endpoint) {
+		if (!endpoint.allowed()) {
+			return endpoint;
 		}
-		return false;
+		return endpoint.remainingTokens() < base.remainingTokens() ? endpoint : base;
 	}
 	
 	/**
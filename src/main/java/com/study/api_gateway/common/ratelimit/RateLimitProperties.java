@@ -5,6 +5,7 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -22,6 +23,22 @@ public class RateLimitProperties {
 	 */
 	private boolean enabled = true;
 	
+	/**
+	 * Rate Limit 저장소 모드
+	 * LOCAL: 노드별 인메모리 버킷, DISTRIBUTED: Redis 공유 버킷 (장애 시 LOCAL로 폴백)
+	 */
+	private Mode mode = Mode.LOCAL;
+	
+	/**
+	 * DISTRIBUTED 모드 설정
+	 */
+	private Distributed distributed = new Distributed();
+	
+	/**
+	 * 로컬 버킷 최대 개수 (초과 시 사용 빈도가 낮은 버킷부터 제거)
+	 */
+	private long maxBuckets = 100_000;
+	
 	/**
 	 * 기본 설정 - 인증된 사용자
 	 */
@@ -47,6 +64,41 @@ public class RateLimitProperties {
 			"/health"
 	};
 	
+	public enum Mode {
+		LOCAL,
+		DISTRIBUTED
+	}
+	
+	@Getter
+	@Setter
+	public static class Distributed {
+		/**
+		 * Redis 키 접두사
+		 */
+		private String keyPrefix = "rate-limit:";
+		
+		/**
+		 * Redis 호출 1회에 미리 가져올 최대 토큰 수 (로컬 lease)
+		 * 실제 lease 크기는 capacity의 1/10을 넘지 않도록 제한됩니다.
+		 */
+		private int leaseSize = 10;
+		
+		/**
+		 * lease 토큰 유효 시간 (만료 시 남은 토큰은 버려짐)
+		 */
+		private Duration leaseTtl = Duration.ofMillis(500);
+		
+		/**
+		 * Redis 호출 타임아웃 (초과 시 로컬 버킷으로 폴백)
+		 */
+		private Duration redisTimeout = Duration.ofMillis(50);
+		
+		/**
+		 * Redis 실패 후 로컬 버킷만 사용하는 시간
+		 */
+		private Duration fallbackCooldown = Duration.ofSeconds(5);
+	}
+	
 	@Getter
 	@Setter
 	public static class BucketConfig {
@@ -1,32 +1,42 @@
 package com.study.api_gateway.common.ratelimit;
 
-import io.github.bucket4j.Bandwidth;
+import com.study.api_gateway.common.invalidation.CacheInvalidationBus;
+import com.study.api_gateway.common.invalidation.LocalCacheInvalidator;
 import io.github.bucket4j.Bucket;
 import io.github.bucket4j.ConsumptionProbe;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
-import java.time.Duration;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Rate Limiting 서비스
  * Bucket4j를 사용한 토큰 버킷 알고리즘 기반
+ * <p>
+ * rate-limit.mode=distributed 이면 *Async 메서드는 Redis 공유 버킷(DistributedRateLimiter)을 사용하고,
+ * Redis 장애 시 fallback-cooldown 동안 로컬 버킷으로 폴백합니다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class RateLimitService {
+public class RateLimitService implements LocalCacheInvalidator {
 	
 	private final RateLimitProperties properties;
+	private final CacheInvalidationBus invalidationBus;
+	private final DistributedRateLimiter distributedRateLimiter;
 	
 	/**
-	 * 사용자별 버킷 저장소 (인메모리)
-	 * 실제 분산 환경에서는 Redis 등의 분산 저장소 사용 권장
+	 * Redis 실패 후 로컬 폴백을 유지할 시각 (System.nanoTime 기준)
 	 */
-	private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+	private volatile long localFallbackUntilNanos = 0L;
+	
+	/**
+	 * 사용자별 버킷 저장소 (인메모리, 크기 제한 + 유휴 만료)
+	 */
+	private final RateLimitBucketStore buckets;
 	
 	/**
 	 * 인증된 사용자의 Rate Limit 체크
@@ -59,11 +69,58 @@ public class RateLimitService {
 		return doCheck(key, config);
 	}
 	
+	/**
+	 * 인증된 사용자의 Rate Limit 체크 (모드에 따라 로컬/분산)
+	 */
+	public Mono<RateLimitResult> checkRateLimitAsync(String userId) {
+		return check("user:" + userId, properties.getAuthenticated());
+	}
+	
+	/**
+	 * 비인증 사용자(IP 기반)의 Rate Limit 체크 (모드에 따라 로컬/분산)
+	 */
+	public Mono<RateLimitResult> checkRateLimitByIpAsync(String clientIp) {
+		return check("ip:" + clientIp, properties.getAnonymous());
+	}
+	
+	/**
+	 * 엔드포인트별 커스텀 Rate Limit 체크 (모드에 따라 로컬/분산)
+	 *
+	 * @param identifier      "user:{id}" 또는 "ip:{ip}"
+	 * @param endpointPattern rate-limit.endpoints 키
+	 * @return 엔드포인트 설정이 없으면 empty
+	 */
+	public Mono<RateLimitResult> checkRateLimitForEndpointAsync(String identifier, String endpointPattern) {
+		RateLimitProperties.BucketConfig config = properties.getEndpoints().get(endpointPattern);
+		if (config == null) {
+			return Mono.empty();
+		}
+		return check("endpoint:" + endpointPattern + ":" + identifier, config);
+	}
+	
+	/**
+	 * 분산 모드 체크, Redis 오류/타임아웃 시 로컬 버킷으로 폴백
+	 */
+	private Mono<RateLimitResult> check(String key, RateLimitProperties.BucketConfig config) {
+		if (properties.getMode() != RateLimitProperties.Mode.DISTRIBUTED
+				|| System.nanoTime() - localFallbackUntilNanos < 0) {
+			return Mono.just(doCheck(key, config));
+		}
+		return distributedRateLimiter.tryConsume(key, config)
+				.onErrorResume(e -> {
+					localFallbackUntilNanos = System.nanoTime()
+							+ properties.getDistributed().getFallbackCooldown().toNanos();
+					log.warn("Distributed rate limit unavailable, falling back to local buckets for {}: {}",
+							properties.getDistributed().getFallbackCooldown(), e.toString());
+					return Mono.just(doCheck(key, config));
+				});
+	}
+	
 	/**
 	 * 실제 Rate Limit 체크 로직
 	 */
-	private RateLimitResult doCheck(String key, RateLimitProperties.BucketConfig config) {
-		Bucket bucket = buckets.computeIfAbsent(key, k -> createBucket(config));
+	RateLimitResult doCheck(String key, RateLimitProperties.BucketConfig config) {
+		Bucket bucket = buckets.getOrCreate(key, config);
 		
 		ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(1);
 		
@@ -80,31 +137,32 @@ public class RateLimitService {
 	}
 	
 	/**
-	 * Bucket 생성
-	 */
-	private Bucket createBucket(RateLimitProperties.BucketConfig config) {
-		Bandwidth limit = Bandwidth.builder()
-				.capacity(config.getCapacity())
-				.refillGreedy(config.getRefillTokens(), Duration.ofSeconds(config.getRefillSeconds()))
-				.build();
-		
-		return Bucket.builder()
-				.addLimit(limit)
-				.build();
-	}
-	
-	/**
-	 * 특정 키의 버킷 리셋 (관리용)
+	 * 특정 키의 버킷 리셋 (관리용, 모든 게이트웨이 노드에 전파)
 	 */
 	public void resetBucket(String key) {
-		buckets.remove(key);
-		log.info("Bucket reset: key={}", key);
+		invalidationBus.publishEvict(cacheName(), List.of(key));
 	}
 	
 	/**
-	 * 모든 버킷 클리어 (관리용)
+	 * 모든 버킷 클리어 (관리용, 모든 게이트웨이 노드에 전파)
 	 */
 	public void clearAllBuckets() {
+		invalidationBus.publishClear(cacheName());
+	}
+	
+	@Override
+	public String cacheName() {
+		return "rateLimit";
+	}
+	
+	@Override
+	public void evictLocal(Collection<String> keys) {
+		buckets.removeAll(keys);
+		log.info("Bucket reset: keys={}", keys);
+	}
+	
+	@Override
+	public void clearLocal() {
 		buckets.clear();
 		log.info("All buckets cleared");
 	}
@@ -112,7 +170,7 @@ public class RateLimitService {
 	/**
 	 * 현재 버킷 수 조회 (모니터링용)
 	 */
-	public int getBucketCount() {
+	public long getBucketCount() {
 		return buckets.size();
 	}
 	
@@ -0,0 +1,133 @@
+package com.study.api_gateway.common.resilience;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RTT 기울기(gradient) 기반 적응형 동시 호출 한도
+ * <p>
+ * - 기준 RTT(long): 샘플 RTT의 지수이동평균, 현재 RTT(short): 방금 끝난 호출의 RTT
+ * - gradient = clamp(tolerance * long / short, 0.5, 1.0)
+ * - 새 한도 = 한도 * gradient + sqrt(한도) 를 smoothing 비율로 반영
+ * 지연이 기준보다 늘면 한도가 줄고, 지연이 기준 수준이면 sqrt(한도)만큼씩 늘어납니다.
+ * 단, 호출 시작 시점의 동시 호출 수가 한도의 절반 미만이면(한도까지 쓰지 않는 트래픽) 한도를 늘리지 않습니다.
+ * 한가한 시간에 한도만 max까지 부풀었다가 부하가 몰릴 때 한꺼번에 허용하는 것을 막기 위함입니다.
+ * 타임아웃/연결 실패는 RTT와 관계없이 한도를 절반 방향으로 줄입니다.
+ */
+public class AdaptiveConcurrencyLimiter {
+	
+	private final ConcurrencyLimitProperties properties;
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final AtomicLong rejections = new AtomicLong();
+	private volatile double limit;
+	private double longRttNanos;
+	private long samples;
+	
+	public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties) {
+		this.properties = properties;
+		this.limit = properties.getInitialLimit();
+	}
+	
+	/**
+	 * 한도 안이면 허가를 발급, 초과면 null (거절 수 증가)
+	 */
+	public Permit tryAcquire() {
+		while (true) {
+			int current = inFlight.get();
+			if (current >= (int) limit) {
+				rejections.incrementAndGet();
+				return null;
+			}
+			if (inFlight.compareAndSet(current, current + 1)) {
+				return new Permit(System.nanoTime(), current + 1);
+			}
+		}
+	}
+	
+	public int getLimit() {
+		return (int) limit;
+	}
+	
+	public int getInFlight() {
+		return inFlight.get();
+	}
+	
+	public long getRejections() {
+		return rejections.get();
+	}
+	
+	private synchronized void onSample(long rttNanos, int inFlightAtStart) {
+		if (rttNanos <= 0) return;
+		
+		samples++;
+		if (samples == 1) {
+			longRttNanos = rttNanos;
+		} else {
+			double alpha = 2.0 / (Math.min(samples, properties.getLongWindow()) + 1);
+			longRttNanos = longRttNanos * (1 - alpha) + rttNanos * alpha;
+		}
+		// 기준 RTT가 현재보다 크게 높아진 상태(부하 해소 직후)면 빠르게 끌어내림
+		if (longRttNanos / rttNanos > 2.0) {
+			longRttNanos *= 0.95;
+		}
+		
+		double gradient = Math.max(0.5, Math.min(1.0, properties.getRttTolerance() * longRttNanos / rttNanos));
+		double newLimit = limit * gradient + Math.sqrt(limit);
+		if (inFlightAtStart * 2 < limit) {
+			newLimit = Math.min(newLimit, limit);
+		}
+		update(newLimit);
+	}
+	
+	private synchronized void onDropped() {
+		update(limit * 0.5);
+	}
+	
+	private void update(double newLimit) {
+		double smoothed = limit * (1 - properties.getSmoothing()) + newLimit * properties.getSmoothing();
+		limit = Math.max(properties.getMinLimit(), Math.min(properties.getMaxLimit(), smoothed));
+	}
+	
+	/**
+	 * 호출 1건의 허가 (결과 통지 메서드 중 처음 호출된 것만 반영)
+	 */
+	public final class Permit {
+		
+		private final long startNanos;
+		private final int inFlightAtStart;
+		private final AtomicBoolean released = new AtomicBoolean();
+		
+		private Permit(long startNanos, int inFlightAtStart) {
+			this.startNanos = startNanos;
+			this.inFlightAtStart = inFlightAtStart;
+		}
+		
+		/**
+		 * 정상 응답 - RTT 샘플 반영
+		 */
+		public void success() {
+			if (release()) onSample(System.nanoTime() - startNanos, inFlightAtStart);
+		}
+		
+		/**
+		 * 타임아웃/연결 실패 - 한도 감소
+		 */
+		public void dropped() {
+			if (release()) onDropped();
+		}
+		
+		/**
+		 * 취소 또는 한도와 무관한 실패(4xx 등) - 샘플 없이 반납
+		 */
+		public void ignore() {
+			release();
+		}
+		
+		private boolean release() {
+			if (!released.compareAndSet(false, true)) return false;
+			inFlight.decrementAndGet();
+			return true;
+		}
+	}
+}
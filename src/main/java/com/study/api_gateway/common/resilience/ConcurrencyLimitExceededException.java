@@ -0,0 +1,19 @@
+package com.study.api_gateway.common.resilience;
+
+import lombok.Getter;
+
+/**
+ * 서비스의 동시 호출 한도를 초과해 호출하지 않고 거절됨
+ */
+@Getter
+public class ConcurrencyLimitExceededException extends RuntimeException {
+	
+	private final String serviceName;
+	private final int limit;
+	
+	public ConcurrencyLimitExceededException(String serviceName, int limit) {
+		super(String.format("Concurrency limit reached for %s (limit=%d)", serviceName, limit), null, false, false);
+		this.serviceName = serviceName;
+		this.limit = limit;
+	}
+}
@@ -0,0 +1,51 @@
+package com.study.api_gateway.common.resilience;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다운스트림 서비스별 적응형 동시 호출 제한 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "resilience.concurrency-limit")
+public class ConcurrencyLimitProperties {
+	
+	/**
+	 * 동시 호출 제한 사용 여부
+	 */
+	private boolean enabled = true;
+	
+	/**
+	 * 시작 한도
+	 */
+	private int initialLimit = 20;
+	
+	/**
+	 * 최소 한도 (지연이 계속 늘어도 이 아래로는 줄이지 않음)
+	 */
+	private int minLimit = 5;
+	
+	/**
+	 * 최대 한도
+	 */
+	private int maxLimit = 200;
+	
+	/**
+	 * 기준 RTT 대비 허용하는 지연 배율 (이 배율까지는 한도를 줄이지 않음)
+	 */
+	private double rttTolerance = 1.5;
+	
+	/**
+	 * 새 한도 반영 비율 (0~1, 클수록 빠르게 변함)
+	 */
+	private double smoothing = 0.2;
+	
+	/**
+	 * 기준 RTT 지수이동평균의 샘플 창 크기
+	 */
+	private int longWindow = 600;
+}
@@ -0,0 +1,80 @@
+package com.study.api_gateway.common.resilience;
+
+import com.study.api_gateway.common.deadline.DeadlineExceededException;
+import com.study.api_gateway.common.monitoring.metrics.ApiGatewayMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * 서비스 이름별 AdaptiveConcurrencyLimiter 레지스트리 및 리액티브 연산자
+ * <p>
+ * 구독 시점에 허가를 받고, 한도를 넘으면 다운스트림을 호출하지 않고 ConcurrencyLimitExceededException으로 즉시 실패합니다.
+ * 정상 완료는 RTT 샘플로, 타임아웃/연결 실패는 과부하 신호로 한도에 반영합니다.
+ * 클라이언트 마감(DeadlineExceededException)으로 끊긴 호출은 과부하 신호가 아니므로 반영하지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConcurrencyLimiterRegistry {
+	
+	private final ConcurrencyLimitProperties properties;
+	private final ApiGatewayMetrics metrics;
+	private final ConcurrentHashMap<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+	
+	public AdaptiveConcurrencyLimiter limiter(String serviceName) {
+		return limiters.computeIfAbsent(serviceName, name -> {
+			AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties);
+			metrics.registerConcurrencyLimitGauges(name, limiter::getLimit, limiter::getInFlight, limiter::getRejections);
+			return limiter;
+		});
+	}
+	
+	public <T> Function<Mono<T>, Mono<T>> limit(String serviceName) {
+		if (!properties.isEnabled()) return Function.identity();
+		AdaptiveConcurrencyLimiter limiter = limiter(serviceName);
+		
+		return mono -> Mono.defer(() -> {
+			AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire();
+			if (permit == null) {
+				return Mono.error(new ConcurrencyLimitExceededException(serviceName, limiter.getLimit()));
+			}
+			return mono
+					.doOnSuccess(value -> permit.success())
+					.doOnError(e -> release(permit, e))
+					.doOnCancel(permit::ignore);
+		});
+	}
+	
+	public <T> Function<Flux<T>, Flux<T>> limitFlux(String serviceName) {
+		if (!properties.isEnabled()) return Function.identity();
+		AdaptiveConcurrencyLimiter limiter = limiter(serviceName);
+		
+		return flux -> Flux.defer(() -> {
+			AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire();
+			if (permit == null) {
+				return Flux.error(new ConcurrencyLimitExceededException(serviceName, limiter.getLimit()));
+			}
+			return flux
+					.doOnComplete(permit::success)
+					.doOnError(e -> release(permit, e))
+					.doOnCancel(permit::ignore);
+		});
+	}
+	
+	private static void release(AdaptiveConcurrencyLimiter.Permit permit, Throwable error) {
+		if (error instanceof DeadlineExceededException) {
+			permit.ignore();
+		} else if (error instanceof TimeoutException || error instanceof WebClientRequestException || error instanceof IOException) {
+			permit.dropped();
+		} else {
+			permit.ignore();
+		}
+	}
+}
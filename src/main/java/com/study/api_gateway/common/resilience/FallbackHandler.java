@@ -44,8 +44,8 @@ public class FallbackHandler {
 	 * 예외 타입에 따른 ErrorCode 매핑
 	 */
 	private ErrorCode mapToErrorCode(Throwable throwable) {
-		// Circuit Breaker OPEN 상태
-		if (throwable instanceof CallNotPermittedException) {
+		// Circuit Breaker OPEN 상태, 동시 호출 한도 초과
+		if (throwable instanceof CallNotPermittedException || throwable instanceof ConcurrencyLimitExceededException) {
 			return ErrorCode.SERVICE_UNAVAILABLE;
 		}
 		
@@ -80,6 +80,10 @@ public class FallbackHandler {
 			return String.format("%s is temporarily unavailable. Please try again later.", serviceName);
 		}
 		
+		if (throwable instanceof ConcurrencyLimitExceededException) {
+			return String.format("%s is handling too many requests. Please try again later.", serviceName);
+		}
+		
 		if (throwable instanceof TimeoutException) {
 			return String.format("%s did not respond within the expected time.", serviceName);
 		}
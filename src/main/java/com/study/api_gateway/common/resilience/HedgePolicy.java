@@ -0,0 +1,75 @@
+package com.study.api_gateway.common.resilience;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 서비스 1개의 헤지 정책 상태
+ * <p>
+ * - 헤지 지연: 최근 windowSize개 응답 시간의 percentile 값 (minSamples 미만이면 헤지하지 않음)
+ * - 예산: 원 요청마다 budgetPercent/100개의 토큰을 적립하고 헤지 1회에 1개를 사용 (최대 maxBurst개 적립)
+ */
+public class HedgePolicy {
+	
+	private static final int RECOMPUTE_EVERY = 32;
+	
+	private final HedgingProperties properties;
+	private final long[] samples;
+	private final TokenBudget budget;
+	private int next;
+	private int count;
+	private int sinceRecompute;
+	private volatile long delayNanos = -1;
+	
+	public HedgePolicy(HedgingProperties properties) {
+		this.properties = properties;
+		this.samples = new long[Math.max(1, properties.getWindowSize())];
+		this.budget = new TokenBudget(properties.getBudgetPercent(), properties.getMaxBurst(), 0);
+	}
+	
+	/**
+	 * 현재 헤지 지연 (샘플이 부족하면 null)
+	 */
+	public Duration hedgeDelay() {
+		long delay = delayNanos;
+		if (delay < 0) return null;
+		return Duration.ofNanos(Math.max(delay, properties.getMinDelay().toNanos()));
+	}
+	
+	public long getHedgeDelayMillis() {
+		Duration delay = hedgeDelay();
+		return delay == null ? 0 : delay.toMillis();
+	}
+	
+	/**
+	 * 원 요청 1건의 예산 적립
+	 */
+	public void deposit() {
+		budget.deposit();
+	}
+	
+	/**
+	 * 헤지 1회분 예산 사용 (부족하면 false)
+	 */
+	public boolean tryWithdraw() {
+		return budget.tryWithdraw();
+	}
+	
+	/**
+	 * 응답 시간 샘플 기록 (RECOMPUTE_EVERY건마다 백분위수 재계산)
+	 */
+	public synchronized void record(long latencyNanos) {
+		samples[next] = latencyNanos;
+		next = (next + 1) % samples.length;
+		if (count < samples.length) count++;
+		
+		if (++sinceRecompute < RECOMPUTE_EVERY && delayNanos >= 0) return;
+		sinceRecompute = 0;
+		if (count < properties.getMinSamples()) return;
+		
+		long[] sorted = Arrays.copyOf(samples, count);
+		Arrays.sort(sorted);
+		int index = (int) Math.ceil(properties.getPercentile() * count) - 1;
+		delayNanos = sorted[Math.max(0, Math.min(count - 1, index))];
+	}
+}
@@ -0,0 +1,79 @@
+package com.study.api_gateway.common.resilience;
+
+import com.study.api_gateway.common.monitoring.metrics.ApiGatewayMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * 서비스 이름별 HedgePolicy 레지스트리 및 헤지 연산자
+ * <p>
+ * 원 요청이 헤지 지연(p95) 안에 끝나지 않고 예산이 남아 있으면 같은 요청을 한 번 더 구독하고,
+ * 먼저 신호를 보낸 쪽을 결과로 사용하며 나머지는 취소합니다.
+ * 헤지가 먼저 실패해도(연결 거부, 느린 인스턴스의 5xx 등) 결과로 쓰지 않고 원 요청을 기다립니다.
+ * 원본 Mono는 구독할 때마다 새 요청을 보내는 cold Mono(WebClient 호출)여야 합니다.
+ * 지연 샘플은 항상 원 요청 기준으로 기록합니다. 헤지가 이겨 원 요청이 취소되면 그때까지의 경과 시간(실제 지연의 하한)을 기록하여,
+ * 느린 원 요청이 샘플에서 빠져 헤지 지연이 점점 낮아지는 것을 막습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class HedgeRegistry {
+	
+	private final HedgingProperties properties;
+	private final ApiGatewayMetrics metrics;
+	private final ConcurrentHashMap<String, HedgePolicy> policies = new ConcurrentHashMap<>();
+	
+	public HedgePolicy policy(String serviceName) {
+		return policies.computeIfAbsent(serviceName, name -> {
+			HedgePolicy policy = new HedgePolicy(properties);
+			metrics.registerHedgeDelayGauge(name, policy::getHedgeDelayMillis);
+			return policy;
+		});
+	}
+	
+	public <T> Function<Mono<T>, Mono<T>> hedge(String serviceName) {
+		if (!properties.isEnabled()) return Function.identity();
+		HedgePolicy policy = policy(serviceName);
+		
+		return mono -> Mono.defer(() -> {
+			long startedAt = System.nanoTime();
+			policy.deposit();
+			Duration delay = policy.hedgeDelay();
+			if (delay == null) {
+				return mono.doOnSuccess(value -> policy.record(System.nanoTime() - startedAt));
+			}
+			
+			AtomicBoolean hedgeWon = new AtomicBoolean();
+			Mono<T> primary = mono
+					.doOnSuccess(value -> policy.record(System.nanoTime() - startedAt))
+					.doOnCancel(() -> {
+						// 호출자 취소가 아니라 헤지에 져서 취소된 경우만 기록
+						if (hedgeWon.get()) policy.record(System.nanoTime() - startedAt);
+					});
+			
+			Mono<T> hedged = Mono.delay(delay)
+					.flatMap(tick -> {
+						if (!policy.tryWithdraw()) {
+							metrics.incrementHedge(serviceName, "budget_exhausted");
+							return Mono.<T>never();
+						}
+						metrics.incrementHedge(serviceName, "fired");
+						return mono
+								.doOnSuccess(value -> {
+									hedgeWon.set(true);
+									metrics.incrementHedge(serviceName, "won");
+								})
+								.onErrorResume(e -> {
+									metrics.incrementHedge(serviceName, "failed");
+									return Mono.never();
+								});
+					});
+			return Mono.firstWithSignal(primary, hedged);
+		});
+	}
+}
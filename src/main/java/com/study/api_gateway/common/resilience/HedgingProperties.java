@@ -0,0 +1,53 @@
+package com.study.api_gateway.common.resilience;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 멱등 조회용 헤지 요청 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "resilience.hedging")
+public class HedgingProperties {
+	
+	/**
+	 * 헤지 요청 사용 여부
+	 */
+	private boolean enabled = true;
+	
+	/**
+	 * 헤지 지연으로 사용할 지연 백분위수 (0~1)
+	 */
+	private double percentile = 0.95;
+	
+	/**
+	 * 백분위수 계산에 쓰는 최근 응답 시간 샘플 수
+	 */
+	private int windowSize = 500;
+	
+	/**
+	 * 헤지를 시작하기 전에 필요한 최소 샘플 수 (그 전에는 헤지하지 않음)
+	 */
+	private int minSamples = 50;
+	
+	/**
+	 * 헤지 지연 하한 (p95가 매우 짧을 때 불필요한 헤지 방지)
+	 */
+	private Duration minDelay = Duration.ofMillis(20);
+	
+	/**
+	 * 추가 요청 예산 (원 요청 대비 %)
+	 */
+	private double budgetPercent = 10;
+	
+	/**
+	 * 예산으로 모아 둘 수 있는 최대 헤지 수 (순간 버스트 상한)
+	 */
+	private int maxBurst = 10;
+}
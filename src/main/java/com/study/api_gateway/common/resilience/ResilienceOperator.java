@@ -1,11 +1,9 @@
 package com.study.api_gateway.common.resilience;
 
+import com.study.api_gateway.common.deadline.Deadline;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
-import io.github.resilience4j.reactor.retry.RetryOperator;
-import io.github.resilience4j.retry.Retry;
-import io.github.resilience4j.retry.RetryRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -18,7 +16,8 @@ import java.util.function.Function;
 /**
  * WebFlux용 Resilience Operator
  * <p>
- * Operator Composition 패턴을 사용하여 Circuit Breaker, Timeout, Retry를 적용
+ * Operator Composition 패턴을 사용하여 Circuit Breaker, Timeout, 동시 호출 제한을 적용
+ * 재시도는 여기서 하지 않습니다. (WebClient 필터 RetryBudgetFilter 참고)
  * 상속 대신 조합(Composition)을 통해 리액티브 패러다임에 맞는 구현 제공
  * <p>
  * 사용 예시:
@@ -34,11 +33,13 @@ public class ResilienceOperator {
 	
 	private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
 	private final CircuitBreakerRegistry circuitBreakerRegistry;
-	private final RetryRegistry retryRegistry;
 	private final FallbackHandler fallbackHandler;
+	private final ConcurrencyLimiterRegistry concurrencyLimiters;
+	private final HedgeRegistry hedgeRegistry;
 	
 	/**
-	 * 기본 보호: Circuit Breaker + Timeout + Fallback
+	 * 기본 보호: 동시 호출 제한 + Circuit Breaker + Timeout + Fallback
+	 * 한도를 넘은 호출은 다운스트림을 호출하지 않고 SERVICE_UNAVAILABLE로 실패합니다.
 	 *
 	 * @param serviceName 서비스 이름 (Circuit Breaker 인스턴스 식별자)
 	 * @return Mono 변환 함수
@@ -49,6 +50,7 @@ public class ResilienceOperator {
 	
 	/**
 	 * 커스텀 타임아웃 보호
+	 * 요청 마감(Deadline)이 있으면 남은 시간과 timeout 중 작은 값을 사용합니다.
 	 *
 	 * @param serviceName 서비스 이름
 	 * @param timeout     타임아웃 시간
@@ -60,37 +62,8 @@ public class ResilienceOperator {
 		return mono -> mono
 				.doOnSubscribe(s -> log.debug("Calling {} with circuit breaker", serviceName))
 				.transformDeferred(CircuitBreakerOperator.of(cb))
-				.timeout(timeout)
-				.doOnError(e -> log.warn("Error from {}: {}", serviceName, e.getMessage()))
-				.onErrorResume(t -> fallbackHandler.handle(serviceName, t));
-	}
-	
-	/**
-	 * Retry 포함 보호: Retry -> Circuit Breaker -> Timeout -> Fallback
-	 *
-	 * @param serviceName 서비스 이름
-	 * @return Mono 변환 함수
-	 */
-	public <T> Function<Mono<T>, Mono<T>> protectWithRetry(String serviceName) {
-		return protectWithRetry(serviceName, DEFAULT_TIMEOUT);
-	}
-	
-	/**
-	 * Retry 포함 보호 (커스텀 타임아웃)
-	 *
-	 * @param serviceName 서비스 이름
-	 * @param timeout     타임아웃 시간
-	 * @return Mono 변환 함수
-	 */
-	public <T> Function<Mono<T>, Mono<T>> protectWithRetry(String serviceName, Duration timeout) {
-		CircuitBreaker cb = circuitBreakerRegistry.circuitBreaker(serviceName);
-		Retry retry = retryRegistry.retry(serviceName);
-		
-		return mono -> mono
-				.doOnSubscribe(s -> log.debug("Calling {} with retry and circuit breaker", serviceName))
-				.transformDeferred(RetryOperator.of(retry))
-				.transformDeferred(CircuitBreakerOperator.of(cb))
-				.timeout(timeout)
+				.transform(Deadline.<T>timeout(timeout))
+				.transformDeferred(concurrencyLimiters.<T>limit(serviceName))
 				.doOnError(e -> log.warn("Error from {}: {}", serviceName, e.getMessage()))
 				.onErrorResume(t -> fallbackHandler.handle(serviceName, t));
 	}
@@ -118,11 +91,24 @@ public class ResilienceOperator {
 		return flux -> flux
 				.doOnSubscribe(s -> log.debug("Calling {} (Flux) with circuit breaker", serviceName))
 				.transformDeferred(CircuitBreakerOperator.of(cb))
-				.timeout(timeout)
+				.transform(Deadline.<T>timeoutFlux(timeout))
+				.transformDeferred(concurrencyLimiters.<T>limitFlux(serviceName))
 				.doOnError(e -> log.warn("Error from {}: {}", serviceName, e.getMessage()))
 				.onErrorResume(t -> fallbackHandler.handleFlux(serviceName, t));
 	}
 	
+	/**
+	 * 헤지 요청: 서비스의 p95 응답 시간 안에 끝나지 않으면 같은 요청을 한 번 더 보내고 먼저 끝난 쪽을 사용
+	 * 추가 요청은 resilience.hedging.budget-percent 이내로 제한됩니다.
+	 * 멱등한 조회에만 사용해야 합니다. (POST라도 조회 전용 배치 API는 가능)
+	 *
+	 * @param serviceName 서비스 이름 (지연 통계/예산 식별자)
+	 * @return Mono 변환 함수
+	 */
+	public <T> Function<Mono<T>, Mono<T>> hedge(String serviceName) {
+		return hedgeRegistry.hedge(serviceName);
+	}
+	
 	/**
 	 * 보호 없이 Fallback만 적용 (기존 로직 호환용)
 	 *
@@ -0,0 +1,53 @@
+package com.study.api_gateway.common.resilience;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+
+/**
+ * 다운스트림 WebClient 재시도 ExchangeFilterFunction 생성기
+ * <p>
+ * 기본으로는 조회 메서드(GET, HEAD, OPTIONS)만 연결 실패 시 재시도하며, 재시도는 서비스별 재시도 예산(RetryBudgetRegistry)을 사용합니다.
+ * PUT/DELETE는 HTTP상 멱등이어도 다운스트림 구현이 멱등하다는 보장이 없어 기본으로 재시도하지 않습니다.
+ * 요청별로 IDEMPOTENT 속성을 지정하면 메서드와 관계없이 그 값을 따릅니다. (true: 재시도, false: 재시도 안 함)
+ * <pre>
+ * webClient.post()
+ *     .uri(uri)
+ *     .attribute(RetryBudgetFilter.IDEMPOTENT, true)
+ * </pre>
+ * 예산 적립(5xx가 아닌 응답)은 이 필터에서만 합니다.
+ * 5xx/타임아웃까지 재시도해야 하는 호출은 IDEMPOTENT=false로 이 필터의 재시도를 끄고 호출 지점에서 RetryBudgetRegistry.retrySpec을 사용합니다.
+ * (한 호출에 재시도 계층이 둘 이상 겹치지 않도록)
+ */
+@Component
+@RequiredArgsConstructor
+public class RetryBudgetFilter {
+	
+	public static final String IDEMPOTENT = RetryBudgetFilter.class.getName() + ".idempotent";
+	private static final Set<HttpMethod> RETRYABLE_METHODS = Set.of(HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS);
+	
+	private final RetryBudgetRegistry retryBudgets;
+	
+	/**
+	 * 서비스 전용 필터 생성
+	 *
+	 * @param serviceName 재시도 예산/메트릭 식별자
+	 */
+	public ExchangeFilterFunction forService(String serviceName) {
+		return (request, next) -> {
+			boolean idempotent = request.attribute(IDEMPOTENT)
+					.map(Boolean.TRUE::equals)
+					.orElseGet(() -> RETRYABLE_METHODS.contains(request.method()));
+			Mono<ClientResponse> exchange = next.exchange(request)
+					.doOnNext(response -> {
+						if (!response.statusCode().is5xxServerError()) retryBudgets.onSuccess(serviceName);
+					});
+			return idempotent ? exchange.retryWhen(retryBudgets.retrySpec(serviceName)) : exchange;
+		};
+	}
+}
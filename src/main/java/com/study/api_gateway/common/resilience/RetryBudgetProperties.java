@@ -0,0 +1,48 @@
+package com.study.api_gateway.common.resilience;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 재시도 예산 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "resilience.retry")
+public class RetryBudgetProperties {
+	
+	/**
+	 * 재시도 사용 여부
+	 */
+	private boolean enabled = true;
+	
+	/**
+	 * 최대 시도 횟수 (첫 시도 포함)
+	 */
+	private int maxAttempts = 3;
+	
+	/**
+	 * 첫 재시도 백오프 상한 (n번째 재시도는 0 ~ min(max-backoff, initial-backoff * 2^n) 중 무작위)
+	 */
+	private Duration initialBackoff = Duration.ofMillis(100);
+	
+	/**
+	 * 백오프 상한
+	 */
+	private Duration maxBackoff = Duration.ofSeconds(2);
+	
+	/**
+	 * 재시도 예산 (성공 응답 대비 %)
+	 */
+	private double budgetPercent = 10;
+	
+	/**
+	 * 예산으로 모아 둘 수 있는 최대 재시도 수 (시작 시에도 이만큼 허용)
+	 */
+	private int maxBurst = 10;
+}
@@ -0,0 +1,108 @@
+package com.study.api_gateway.common.resilience;
+
+import com.study.api_gateway.common.deadline.Deadline;
+import com.study.api_gateway.common.deadline.DeadlineExceededException;
+import com.study.api_gateway.common.monitoring.metrics.ApiGatewayMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+
+/**
+ * 서비스 이름별 재시도 예산 및 재시도 스펙
+ * <p>
+ * - 재시도 대상: 연결 실패(WebClientRequestException, IOException), 호출 지점에서 조건을 넓힐 수 있음 (isTransientOrServerError)
+ * - 예산: 성공 응답마다 budget-percent/100개의 토큰을 적립하고 재시도 1회에 1개 사용 (부분 장애 시 부하 증폭 방지)
+ * - 백오프: full jitter, 요청 마감(Deadline)까지 남은 시간보다 길면 재시도하지 않음
+ * 재시도 스펙은 멱등한 호출에만 적용해야 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RetryBudgetRegistry {
+	
+	private final RetryBudgetProperties properties;
+	private final ApiGatewayMetrics metrics;
+	private final ConcurrentHashMap<String, TokenBudget> budgets = new ConcurrentHashMap<>();
+	
+	public TokenBudget budget(String serviceName) {
+		return budgets.computeIfAbsent(serviceName, name -> {
+			TokenBudget budget = new TokenBudget(properties.getBudgetPercent(), properties.getMaxBurst(), properties.getMaxBurst());
+			metrics.registerRetryBudgetGauge(name, budget::getAvailable);
+			return budget;
+		});
+	}
+	
+	/**
+	 * 성공 응답 기록 (예산 적립)
+	 */
+	public void onSuccess(String serviceName) {
+		if (properties.isEnabled()) budget(serviceName).deposit();
+	}
+	
+	/**
+	 * 예산/백오프/마감을 적용한 retryWhen 스펙 (연결 실패만 재시도)
+	 */
+	public Retry retrySpec(String serviceName) {
+		return retrySpec(serviceName, RetryBudgetRegistry::isTransient);
+	}
+	
+	/**
+	 * 재시도 조건을 지정한 retryWhen 스펙
+	 *
+	 * @param retryable 재시도할 실패 조건
+	 */
+	public Retry retrySpec(String serviceName, Predicate<Throwable> retryable) {
+		TokenBudget budget = budget(serviceName);
+		
+		return Retry.from(signals -> signals.concatMap(signal -> {
+			Throwable failure = signal.failure();
+			if (!properties.isEnabled() || !retryable.test(failure)
+					|| signal.totalRetries() + 1 >= properties.getMaxAttempts()) {
+				return Mono.error(failure);
+			}
+			metrics.incrementRetry(serviceName, "attempted");
+			Duration backoff = backoff(signal.totalRetries());
+			return Mono.deferContextual(context -> {
+				// 백오프 후 남은 시간이 없으면 예산을 쓰지 않고 포기
+				if (Deadline.budget(context, backoff).compareTo(backoff) < 0 || !budget.tryWithdraw()) {
+					metrics.incrementRetry(serviceName, "denied");
+					return Mono.error(failure);
+				}
+				metrics.incrementRetry(serviceName, "allowed");
+				return Mono.delay(backoff);
+			});
+		}));
+	}
+	
+	/**
+	 * n번째 재시도(0부터) 백오프: 0 ~ min(max-backoff, initial-backoff * 2^n)
+	 */
+	Duration backoff(long retry) {
+		long base = properties.getInitialBackoff().toMillis();
+		long ceiling = Math.min(properties.getMaxBackoff().toMillis(), base << Math.min(retry, 20));
+		return Duration.ofMillis(ThreadLocalRandom.current().nextLong(ceiling + 1));
+	}
+	
+	public static boolean isTransient(Throwable t) {
+		return t instanceof WebClientRequestException || t instanceof IOException;
+	}
+	
+	/**
+	 * 연결 실패, 타임아웃, 5xx 응답 (응답 본문까지 받는 조회 호출의 재시도 조건)
+	 * 클라이언트 마감 초과는 다시 시도할 시간이 없으므로 제외합니다.
+	 */
+	public static boolean isTransientOrServerError(Throwable t) {
+		if (t instanceof DeadlineExceededException) return false;
+		if (isTransient(t) || t instanceof TimeoutException) return true;
+		return t instanceof WebClientResponseException ex && ex.getStatusCode().is5xxServerError();
+	}
+}
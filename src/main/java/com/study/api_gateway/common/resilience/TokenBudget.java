@@ -0,0 +1,48 @@
+package com.study.api_gateway.common.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 비율 기반 토큰 예산 (헤지/재시도 등 추가 요청 상한)
+ * <p>
+ * 기준 이벤트(요청, 성공 응답)마다 percent/100개의 토큰을 적립하고, 추가 요청 1회에 1개를 사용합니다.
+ * 적립은 maxBurst개까지만 되므로 장기적으로 추가 요청은 기준 이벤트의 percent%를 넘지 않습니다.
+ */
+public class TokenBudget {
+	
+	private static final long TOKEN = 1000;
+	
+	private final long credit;
+	private final long cap;
+	private final AtomicLong balance;
+	
+	/**
+	 * @param percent  기준 이벤트 대비 허용 비율 (%)
+	 * @param maxBurst 최대 적립 토큰 수
+	 * @param initial  시작 토큰 수
+	 */
+	public TokenBudget(double percent, int maxBurst, int initial) {
+		this.credit = (long) (TOKEN * percent / 100);
+		this.cap = TOKEN * maxBurst;
+		this.balance = new AtomicLong(Math.min(cap, TOKEN * initial));
+	}
+	
+	public void deposit() {
+		balance.getAndUpdate(current -> Math.min(cap, current + credit));
+	}
+	
+	/**
+	 * 토큰 1개 사용 (부족하면 false)
+	 */
+	public boolean tryWithdraw() {
+		while (true) {
+			long current = balance.get();
+			if (current < TOKEN) return false;
+			if (balance.compareAndSet(current, current - TOKEN)) return true;
+		}
+	}
+	
+	public double getAvailable() {
+		return (double) balance.get() / TOKEN;
+	}
+}
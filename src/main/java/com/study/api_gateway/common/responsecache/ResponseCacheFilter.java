@@ -0,0 +1,459 @@
+package com.study.api_gateway.common.responsecache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.study.api_gateway.common.invalidation.LocalCacheInvalidator;
+import com.study.api_gateway.common.monitoring.metrics.ApiGatewayMetrics;
+import com.study.api_gateway.common.util.PathPatternTrie;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpCookie;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.server.reactive.AbstractServerHttpRequest;
+import org.springframework.http.server.reactive.AbstractServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.http.server.reactive.SslInfo;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.server.adapter.DefaultServerWebExchange;
+import org.springframework.web.server.i18n.AcceptHeaderLocaleContextResolver;
+import org.springframework.web.server.i18n.LocaleContextResolver;
+import org.springframework.web.server.session.DefaultWebSessionManager;
+import org.springframework.web.server.session.WebSessionManager;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 공개 GET 응답 캐시 (stale-while-revalidate + ETag/304)
+ * <p>
+ * - response-cache.routes에 등록된 경로의 200 응답 본문 바이트를 host + 경로 + 정렬된 쿼리 키로 저장합니다.
+ * - ttl 이내: 캐시로 응답 / ttl 이후 stale-while-revalidate 이내: 이전 응답을 내려주고 백그라운드로 한 번만 갱신
+ * - 본문 SHA-256 기반 강한 ETag를 붙이고, If-None-Match가 일치하면 본문 없이 304로 응답합니다.
+ * - 캐시 대상 응답에는 라우트별 Cache-Control(public, max-age, stale-while-revalidate)을 붙이므로
+ *   SecurityHeadersFilter의 no-store(addIfAbsent)가 적용되지 않고, nginx/모바일 클라이언트도 캐시할 수 있습니다.
+ * 사용자마다 달라지는 응답은 등록하면 안 됩니다. (인증 헤더는 캐시 키에 포함하지 않음)
+ * <p>
+ * - JWT 인증 필터(SecurityFilterConfig, -100) 다음에 실행되므로 익명 요청도 인증 필터의 공개 경로 판정을 먼저 거칩니다.
+ * - Authorization/X-User-Id 헤더가 있는 요청은 캐시를 읽지도 쓰지도 않습니다. (익명 응답만 공유)
+ * - 백그라운드 갱신은 이미 끝난 exchange를 재사용하지 않고, 요청 헤더/쿠키 스냅샷으로 만든 새 exchange로 나머지 체인을 호출합니다.
+ */
+@Slf4j
+@Component
+@Order(-90)
+public class ResponseCacheFilter implements WebFilter, LocalCacheInvalidator {
+	
+	public static final String CACHE_NAME = "responseCache";
+	private static final String CACHE_STATUS_HEADER = "X-Cache";
+	
+	/**
+	 * 요청자별 응답을 만들 수 있는 헤더 (있으면 캐시 우회)
+	 */
+	private static final List<String> BYPASS_HEADERS = List.of(HttpHeaders.AUTHORIZATION, "X-User-Id");
+	
+	private final ResponseCacheProperties properties;
+	private final ApiGatewayMetrics metrics;
+	private final PathPatternTrie<CacheRoute> routes = new PathPatternTrie<>();
+	private final Cache<String, CachedResponse> cache;
+	private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+	private final long maxEntryBytes;
+	private final ServerCodecConfigurer codecConfigurer;
+	private final WebSessionManager refreshSessionManager = new DefaultWebSessionManager();
+	private final LocaleContextResolver refreshLocaleResolver = new AcceptHeaderLocaleContextResolver();
+	
+	public ResponseCacheFilter(ResponseCacheProperties properties, ApiGatewayMetrics metrics, ServerCodecConfigurer codecConfigurer) {
+		this.properties = properties;
+		this.metrics = metrics;
+		this.codecConfigurer = codecConfigurer;
+		this.maxEntryBytes = properties.getMaxEntrySize().toBytes();
+		for (ResponseCacheProperties.Route route : properties.getRoutes()) {
+			routes.add(route.getPattern(), CacheRoute.of(route));
+		}
+		this.cache = Caffeine.newBuilder()
+				.maximumWeight(properties.getMaxTotalSize().toBytes())
+				.weigher((String key, CachedResponse value) -> key.length() + value.body().length)
+				.expireAfter(new RouteExpiry())
+				.recordStats()
+				.build();
+		metrics.registerLocalCache(CACHE_NAME, cache);
+		
+		log.info("[ResponseCache] initialized: enabled={}, routes={}, maxTotalSize={}",
+				properties.isEnabled(), properties.getRoutes().size(), properties.getMaxTotalSize());
+	}
+	
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+		ServerHttpRequest request = exchange.getRequest();
+		if (!properties.isEnabled()
+				|| (!HttpMethod.GET.equals(request.getMethod()) && !HttpMethod.HEAD.equals(request.getMethod()))) {
+			return chain.filter(exchange);
+		}
+		CacheRoute route = routes.match(request.getPath().value());
+		if (route == null) {
+			return chain.filter(exchange);
+		}
+		if (hasBypassHeader(request)) {
+			metrics.incrementResponseCache(route.pattern(), "bypass");
+			return chain.filter(exchange);
+		}
+		
+		String key = cacheKey(request);
+		CachedResponse cached = cache.getIfPresent(key);
+		if (cached == null) {
+			metrics.incrementResponseCache(route.pattern(), "miss");
+			CachingResponse caching = new CachingResponse(exchange, key, route);
+			return chain.filter(exchange.mutate().response(caching).build());
+		}
+		
+		if (System.nanoTime() - cached.storedAtNanos() <= route.ttlNanos()) {
+			metrics.incrementResponseCache(route.pattern(), "hit");
+			return writeCached(exchange, cached, "HIT");
+		}
+		metrics.incrementResponseCache(route.pattern(), "stale");
+		// 응답이 끝나면 원래 요청은 사용할 수 없으므로 지금 스냅샷을 떠 둠
+		RefreshRequest refreshRequest = RefreshRequest.of(request);
+		return writeCached(exchange, cached, "STALE")
+				.doFinally(signal -> refreshInBackground(refreshRequest, chain, key, route));
+	}
+	
+	private static boolean hasBypassHeader(ServerHttpRequest request) {
+		HttpHeaders headers = request.getHeaders();
+		for (String name : BYPASS_HEADERS) {
+			if (headers.containsKey(name)) return true;
+		}
+		return false;
+	}
+	
+	/**
+	 * 같은 키는 동시에 한 번만 갱신 (새 exchange로 나머지 체인을 호출하고 응답은 캐시에만 저장)
+	 */
+	private void refreshInBackground(RefreshRequest request, WebFilterChain chain, String key, CacheRoute route) {
+		if (!refreshing.add(key)) return;
+		ServerWebExchange refreshExchange = new DefaultServerWebExchange(
+				request, new RefreshResponse(key, route), refreshSessionManager, codecConfigurer, refreshLocaleResolver);
+		chain.filter(refreshExchange)
+				.doFinally(signal -> refreshing.remove(key))
+				.subscribe(
+						null,
+						e -> {
+							metrics.incrementResponseCache(route.pattern(), "refresh_failed");
+							log.debug("[ResponseCache] background refresh failed: key={}, error={}", key, e.toString());
+						});
+	}
+	
+	private Mono<Void> writeCached(ServerWebExchange exchange, CachedResponse cached, String cacheStatus) {
+		ServerHttpResponse response = exchange.getResponse();
+		HttpHeaders headers = response.getHeaders();
+		headers.setETag(cached.etag());
+		headers.setCacheControl(cached.route().cacheControl());
+		headers.set(HttpHeaders.AGE, String.valueOf((System.nanoTime() - cached.storedAtNanos()) / 1_000_000_000L));
+		headers.set(CACHE_STATUS_HEADER, cacheStatus);
+		
+		if (isNotModified(exchange.getRequest(), cached.etag())) {
+			metrics.incrementResponseCache(cached.route().pattern(), "not_modified");
+			response.setStatusCode(HttpStatus.NOT_MODIFIED);
+			return response.setComplete();
+		}
+		
+		response.setStatusCode(HttpStatus.OK);
+		if (cached.contentType() != null) headers.setContentType(cached.contentType());
+		headers.setContentLength(cached.body().length);
+		if (HttpMethod.HEAD.equals(exchange.getRequest().getMethod())) {
+			return response.setComplete();
+		}
+		return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(cached.body())));
+	}
+	
+	private static boolean isNotModified(ServerHttpRequest request, String etag) {
+		List<String> ifNoneMatch;
+		try {
+			ifNoneMatch = request.getHeaders().getIfNoneMatch();
+		} catch (IllegalArgumentException e) {
+			return false;
+		}
+		for (String tag : ifNoneMatch) {
+			String candidate = tag.trim();
+			if ("*".equals(candidate)) return true;
+			// If-None-Match는 약한 비교 (W/ 접두사 무시)
+			if (candidate.startsWith("W/")) candidate = candidate.substring(2);
+			if (candidate.equals(etag)) return true;
+		}
+		return false;
+	}
+	
+	/**
+	 * 캐시 키: host + 경로(끝 슬래시 제거) + 이름순 정렬된 쿼리
+	 * 응답 본문의 request.url은 처음 캐시한 요청의 쿼리 순서를 따릅니다.
+	 */
+	static String cacheKey(ServerHttpRequest request) {
+		HttpHeaders headers = request.getHeaders();
+		String host = headers.getFirst("X-Forwarded-Host");
+		if (host == null) host = headers.getFirst(HttpHeaders.HOST);
+		
+		URI uri = request.getURI();
+		String path = uri.getRawPath();
+		if (path.length() > 1 && path.endsWith("/")) path = path.substring(0, path.length() - 1);
+		
+		StringBuilder key = new StringBuilder(64).append(host == null ? "" : host).append(path);
+		String query = uri.getRawQuery();
+		if (query != null && !query.isEmpty()) {
+			String[] params = query.split("&");
+			Arrays.sort(params);
+			char separator = '?';
+			for (String param : params) {
+				if (param.isEmpty()) continue;
+				key.append(separator).append(param);
+				separator = '&';
+			}
+		}
+		return key.toString();
+	}
+	
+	static String strongEtag(byte[] body) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+			return '"' + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + '"';
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 not available", e);
+		}
+	}
+	
+	private boolean isCacheable(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+		if (status != null && status.value() != HttpStatus.OK.value()) return false;
+		if (body.length > maxEntryBytes || headers.containsKey(HttpHeaders.SET_COOKIE)) return false;
+		// 핸들러가 직접 ETag로 검증하는 응답(예: /bff/v1/enums/all)은 그대로 통과
+		if (headers.getETag() != null) return false;
+		String cacheControl = headers.getCacheControl();
+		return cacheControl == null || !(cacheControl.contains("no-store") || cacheControl.contains("private"));
+	}
+	
+	@Override
+	public String cacheName() {
+		return CACHE_NAME;
+	}
+	
+	/**
+	 * 경로 접두사로 제거 (키는 host를 포함하므로 host 이후의 경로와 비교)
+	 */
+	@Override
+	public void evictLocal(Collection<String> keys) {
+		cache.asMap().keySet().removeIf(cacheKey -> {
+			for (String prefix : keys) {
+				int pathStart = cacheKey.indexOf('/');
+				if (pathStart >= 0 && cacheKey.startsWith(prefix, pathStart)) return true;
+			}
+			return false;
+		});
+		log.info("Evicted response cache entries under {}", keys);
+	}
+	
+	@Override
+	public void clearLocal() {
+		cache.invalidateAll();
+		log.info("Cleared all local response cache");
+	}
+	
+	/**
+	 * 라우트 설정 (요청마다 계산하지 않도록 시작 시 변환)
+	 */
+	record CacheRoute(String pattern, long ttlNanos, long lifetimeNanos, String cacheControl) {
+		
+		static CacheRoute of(ResponseCacheProperties.Route route) {
+			long ttl = route.getTtl().toNanos();
+			long swr = route.getStaleWhileRevalidate().toNanos();
+			String cacheControl = "public, max-age=" + route.effectiveMaxAge().toSeconds()
+					+ ", stale-while-revalidate=" + route.getStaleWhileRevalidate().toSeconds();
+			return new CacheRoute(route.getPattern(), ttl, ttl + swr, cacheControl);
+		}
+	}
+	
+	record CachedResponse(byte[] body, MediaType contentType, String etag, long storedAtNanos, CacheRoute route) {
+	}
+	
+	/**
+	 * 항목은 라우트의 ttl + stale-while-revalidate가 지나면 제거
+	 */
+	private static final class RouteExpiry implements Expiry<String, CachedResponse> {
+		
+		@Override
+		public long expireAfterCreate(String key, CachedResponse value, long currentTime) {
+			return value.route().lifetimeNanos();
+		}
+		
+		@Override
+		public long expireAfterUpdate(String key, CachedResponse value, long currentTime, long currentDuration) {
+			return value.route().lifetimeNanos();
+		}
+		
+		@Override
+		public long expireAfterRead(String key, CachedResponse value, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+	
+	/**
+	 * 캐시 미스 요청의 본문을 모아 캐시에 저장하고, ETag/Cache-Control을 붙여 실제 응답에 기록하는 데코레이터
+	 */
+	private final class CachingResponse extends ServerHttpResponseDecorator {
+		
+		private final ServerWebExchange exchange;
+		private final String key;
+		private final CacheRoute route;
+		
+		CachingResponse(ServerWebExchange exchange, String key, CacheRoute route) {
+			super(exchange.getResponse());
+			this.exchange = exchange;
+			this.key = key;
+			this.route = route;
+		}
+		
+		@Override
+		public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+			return join(body).flatMap(this::store);
+		}
+		
+		private Mono<Void> store(byte[] bytes) {
+			HttpHeaders headers = getHeaders();
+			if (!isCacheable(getStatusCode(), headers, bytes)) {
+				return getDelegate().writeWith(Mono.just(bufferFactory().wrap(bytes)));
+			}
+			CachedResponse entry = new CachedResponse(bytes, headers.getContentType(), strongEtag(bytes), System.nanoTime(), route);
+			cache.put(key, entry);
+			return writeCached(exchange, entry, "MISS");
+		}
+	}
+	
+	/**
+	 * 백그라운드 갱신용 응답 (실제 연결 없이 본문을 모아 캐시에만 저장)
+	 * 스트리밍 응답(writeAndFlushWith)은 캐시하지 않고 버립니다.
+	 */
+	private final class RefreshResponse extends AbstractServerHttpResponse {
+		
+		private final String key;
+		private final CacheRoute route;
+		
+		RefreshResponse(String key, CacheRoute route) {
+			super(DefaultDataBufferFactory.sharedInstance);
+			this.key = key;
+			this.route = route;
+		}
+		
+		@Override
+		protected Mono<Void> writeWithInternal(Publisher<? extends DataBuffer> body) {
+			return join(body).doOnNext(bytes -> {
+				if (!getCookies().isEmpty() || !isCacheable(getStatusCode(), getHeaders(), bytes)) return;
+				cache.put(key, new CachedResponse(bytes, getHeaders().getContentType(), strongEtag(bytes), System.nanoTime(), route));
+				metrics.incrementResponseCache(route.pattern(), "refreshed");
+			}).then();
+		}
+		
+		@Override
+		protected Mono<Void> writeAndFlushWithInternal(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+			return Flux.from(body).concatMap(Flux::from).doOnNext(DataBufferUtils::release).then();
+		}
+		
+		@Override
+		protected void applyStatusCode() {
+		}
+		
+		@Override
+		protected void applyHeaders() {
+		}
+		
+		@Override
+		protected void applyCookies() {
+		}
+		
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T> T getNativeResponse() {
+			return (T) this;
+		}
+	}
+	
+	/**
+	 * 백그라운드 갱신용 요청 스냅샷 (항상 GET, 조건부 요청 헤더 제거, 본문 없음)
+	 */
+	private static final class RefreshRequest extends AbstractServerHttpRequest {
+		
+		private final MultiValueMap<String, HttpCookie> cookies;
+		private final InetSocketAddress remoteAddress;
+		private final SslInfo sslInfo;
+		
+		private RefreshRequest(URI uri, String contextPath, HttpHeaders headers, MultiValueMap<String, HttpCookie> cookies,
+		                       InetSocketAddress remoteAddress, SslInfo sslInfo) {
+			super(HttpMethod.GET, uri, contextPath, headers);
+			this.cookies = cookies;
+			this.remoteAddress = remoteAddress;
+			this.sslInfo = sslInfo;
+		}
+		
+		static RefreshRequest of(ServerHttpRequest request) {
+			HttpHeaders headers = new HttpHeaders();
+			headers.putAll(request.getHeaders());
+			headers.remove(HttpHeaders.IF_NONE_MATCH);
+			headers.remove(HttpHeaders.IF_MODIFIED_SINCE);
+			return new RefreshRequest(request.getURI(), request.getPath().contextPath().value(), headers,
+					new LinkedMultiValueMap<>(request.getCookies()), request.getRemoteAddress(), request.getSslInfo());
+		}
+		
+		@Override
+		protected MultiValueMap<String, HttpCookie> initCookies() {
+			return cookies;
+		}
+		
+		@Override
+		protected SslInfo initSslInfo() {
+			return sslInfo;
+		}
+		
+		@Override
+		public InetSocketAddress getRemoteAddress() {
+			return remoteAddress;
+		}
+		
+		@Override
+		public Flux<DataBuffer> getBody() {
+			return Flux.empty();
+		}
+		
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T> T getNativeRequest() {
+			return (T) this;
+		}
+	}
+	
+	private static Mono<byte[]> join(Publisher<? extends DataBuffer> body) {
+		return DataBufferUtils.join(Flux.from(body))
+				.map(buffer -> {
+					byte[] bytes = new byte[buffer.readableByteCount()];
+					buffer.read(bytes);
+					DataBufferUtils.release(buffer);
+					return bytes;
+				})
+				.defaultIfEmpty(new byte[0]);
+	}
+}
@@ -0,0 +1,70 @@
+package com.study.api_gateway.common.responsecache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게이트웨이 응답 캐시 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "response-cache")
+public class ResponseCacheProperties {
+	
+	/**
+	 * 응답 캐시 활성화 여부
+	 */
+	private boolean enabled = true;
+	
+	/**
+	 * 캐시 전체 최대 크기 (본문 바이트 기준)
+	 */
+	private DataSize maxTotalSize = DataSize.ofMegabytes(32);
+	
+	/**
+	 * 항목 1개 최대 크기 (초과하는 응답은 캐시하지 않음)
+	 */
+	private DataSize maxEntrySize = DataSize.ofKilobytes(512);
+	
+	/**
+	 * 캐시 대상 경로 (opt-in, 먼저 등록된 패턴 우선)
+	 */
+	private List<Route> routes = new ArrayList<>();
+	
+	@Getter
+	@Setter
+	public static class Route {
+		
+		/**
+		 * 게이트웨이 경로 패턴 (예: /bff/v1/enums/**)
+		 */
+		private String pattern;
+		
+		/**
+		 * 신선 기간 (이 기간 동안은 다운스트림 호출 없이 캐시로 응답)
+		 */
+		private Duration ttl = Duration.ofMinutes(1);
+		
+		/**
+		 * 신선 기간 이후에도 이전 응답을 내려주며 백그라운드로 갱신하는 기간
+		 */
+		private Duration staleWhileRevalidate = Duration.ofMinutes(5);
+		
+		/**
+		 * 클라이언트/nginx용 Cache-Control max-age (미지정 시 ttl)
+		 */
+		private Duration maxAge;
+		
+		Duration effectiveMaxAge() {
+			return maxAge != null ? maxAge : ttl;
+		}
+	}
+}
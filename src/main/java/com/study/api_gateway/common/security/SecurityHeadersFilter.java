@@ -38,8 +38,10 @@ public class SecurityHeadersFilter implements WebFilter {
 	
 	@Override
 	public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
-		return chain.filter(exchange)
-				.doOnSuccess(aVoid -> addSecurityHeaders(exchange.getResponse()));
+		// 응답 커밋 직전에 추가 (체인 완료 후에는 헤더가 이미 읽기 전용일 수 있음)
+		ServerHttpResponse response = exchange.getResponse();
+		response.beforeCommit(() -> Mono.fromRunnable(() -> addSecurityHeaders(response)));
+		return chain.filter(exchange);
 	}
 	
 	private void addSecurityHeaders(ServerHttpResponse response) {
@@ -63,8 +65,8 @@ public class SecurityHeadersFilter implements WebFilter {
 		// Content Security Policy
 		headers.addIfAbsent("Content-Security-Policy", properties.getContentSecurityPolicy());
 		
-		// 캐시 제어 (민감한 데이터 캐싱 방지)
-		if (properties.isNoCacheEnabled()) {
+		// 캐시 제어 (민감한 데이터 캐싱 방지, 응답 캐시가 Cache-Control을 정한 경우 제외)
+		if (properties.isNoCacheEnabled() && !headers.containsKey(HttpHeaders.CACHE_CONTROL)) {
 			headers.addIfAbsent("Cache-Control", "no-store, no-cache, must-revalidate, private");
 			headers.addIfAbsent("Pragma", "no-cache");
 			headers.addIfAbsent("Expires", "0");
@@ -0,0 +1,155 @@
+package com.study.api_gateway.common.singleflight;
+
+import com.study.api_gateway.common.monitoring.metrics.ApiGatewayMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 동일 GET 요청 병합(Single-Flight) ExchangeFilterFunction 생성기
+ * <p>
+ * 같은 서비스/경로/쿼리/키 헤더를 가진 GET 요청이 동시에 들어오면 다운스트림 호출은 한 번만 수행하고,
+ * 응답 본문을 버퍼링하여 대기 중인 모든 구독자에게 각자의 ClientResponse로 다시 만들어 전달합니다.
+ * 병합 대상은 single-flight.routes에 등록된 경로로 한정됩니다.
+ */
+@Slf4j
+@Component
+public class SingleFlightFilter {
+	
+	private final SingleFlightProperties properties;
+	private final ApiGatewayMetrics metrics;
+	private final AntPathMatcher pathMatcher = new AntPathMatcher();
+	private final ConcurrentHashMap<String, Mono<ResponseSnapshot>> inFlight = new ConcurrentHashMap<>();
+	
+	public SingleFlightFilter(SingleFlightProperties properties, ApiGatewayMetrics metrics) {
+		this.properties = properties;
+		this.metrics = metrics;
+		metrics.registerSingleFlightInFlightGauge(inFlight::size);
+	}
+	
+	/**
+	 * 서비스 전용 필터 생성
+	 *
+	 * @param serviceKey application.yaml의 service 하위 키 (single-flight.routes 키와 동일)
+	 */
+	public ExchangeFilterFunction forService(String serviceKey) {
+		List<String> patterns = properties.getRoutes().getOrDefault(serviceKey, List.of());
+		if (patterns.isEmpty()) {
+			return (request, next) -> next.exchange(request);
+		}
+		
+		return (request, next) -> {
+			if (!properties.isEnabled()
+					|| !HttpMethod.GET.equals(request.method())
+					|| !matches(patterns, request.url().getRawPath())) {
+				return next.exchange(request);
+			}
+			return coalesce(serviceKey, request, next);
+		};
+	}
+	
+	private Mono<ClientResponse> coalesce(String serviceKey, ClientRequest request, ExchangeFunction next) {
+		String key = buildKey(serviceKey, request);
+		
+		Mono<ResponseSnapshot> existing = inFlight.get(key);
+		if (existing != null) {
+			metrics.incrementSingleFlight(serviceKey, "coalesced");
+			return existing.map(ResponseSnapshot::toClientResponse);
+		}
+		
+		if (inFlight.size() >= properties.getMaxInFlight()) {
+			metrics.incrementSingleFlight(serviceKey, "bypassed");
+			return next.exchange(request);
+		}
+		
+		AtomicReference<Mono<ResponseSnapshot>> self = new AtomicReference<>();
+		Mono<ResponseSnapshot> flight = next.exchange(request)
+				.flatMap(ResponseSnapshot::capture)
+				.doFinally(signal -> inFlight.remove(key, self.get()))
+				.share();
+		self.set(flight);
+		
+		existing = inFlight.putIfAbsent(key, flight);
+		if (existing != null) {
+			metrics.incrementSingleFlight(serviceKey, "coalesced");
+			return existing.map(ResponseSnapshot::toClientResponse);
+		}
+		
+		metrics.incrementSingleFlight(serviceKey, "originated");
+		return flight.map(ResponseSnapshot::toClientResponse);
+	}
+	
+	private boolean matches(List<String> patterns, String path) {
+		for (String pattern : patterns) {
+			if (pathMatcher.match(pattern, path)) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * 병합 키: service + path + query + 키 헤더 값
+	 */
+	private String buildKey(String serviceKey, ClientRequest request) {
+		URI url = request.url();
+		StringBuilder sb = new StringBuilder(64)
+				.append(serviceKey).append(' ')
+				.append(url.getRawPath());
+		if (url.getRawQuery() != null) {
+			sb.append('?').append(url.getRawQuery());
+		}
+		HttpHeaders headers = request.headers();
+		for (String name : properties.getKeyHeaders()) {
+			List<String> values = headers.get(name);
+			if (values != null && !values.isEmpty()) {
+				sb.append('|').append(name).append('=').append(String.join(",", values));
+			}
+		}
+		return sb.toString();
+	}
+	
+	/**
+	 * 버퍼링된 다운스트림 응답
+	 * 구독자마다 새 ClientResponse를 만들어 본문을 독립적으로 소비할 수 있게 합니다.
+	 */
+	private record ResponseSnapshot(HttpStatusCode status, HttpHeaders headers, byte[] body,
+	                                ExchangeStrategies strategies) {
+		
+		static Mono<ResponseSnapshot> capture(ClientResponse response) {
+			HttpHeaders headers = new HttpHeaders();
+			headers.addAll(response.headers().asHttpHeaders());
+			return response.bodyToMono(byte[].class)
+					.defaultIfEmpty(new byte[0])
+					.map(body -> new ResponseSnapshot(response.statusCode(),
+							HttpHeaders.readOnlyHttpHeaders(headers), body, response.strategies()));
+		}
+		
+		ClientResponse toClientResponse() {
+			Flux<DataBuffer> bodyFlux = Flux.defer(() -> body.length == 0
+					? Flux.empty()
+					: Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(body)));
+			return ClientResponse.create(status, strategies)
+					.headers(h -> h.addAll(headers))
+					.body(bodyFlux)
+					.build();
+		}
+	}
+}
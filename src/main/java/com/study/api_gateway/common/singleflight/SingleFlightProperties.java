@@ -0,0 +1,42 @@
+package com.study.api_gateway.common.singleflight;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Single-Flight(동일 요청 병합) 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "single-flight")
+public class SingleFlightProperties {
+	
+	/**
+	 * Single-Flight 활성화 여부
+	 */
+	private boolean enabled = true;
+	
+	/**
+	 * 동시에 진행 중인 병합 대상 요청의 최대 개수 (초과 시 병합 없이 바로 호출)
+	 */
+	private int maxInFlight = 10_000;
+	
+	/**
+	 * 병합 키에 포함할 요청 헤더 (사용자별로 응답이 달라지는 헤더)
+	 */
+	private List<String> keyHeaders = new ArrayList<>(List.of("Authorization", "X-User-Id", "Accept-Language"));
+	
+	/**
+	 * 서비스별 병합 대상 경로 패턴 (opt-in)
+	 * key: service 키 (예: place_info), value: 다운스트림 경로 패턴 목록
+	 */
+	private Map<String, List<String>> routes = new HashMap<>();
+}
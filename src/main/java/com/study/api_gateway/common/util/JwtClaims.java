@@ -0,0 +1,16 @@
+package com.study.api_gateway.common.util;
+
+/**
+ * 검증된 JWT에서 추출한 클레임 (불변)
+ *
+ * @param userId    sub 클레임
+ * @param role      role 클레임 (없으면 null)
+ * @param deviceId  deviceId 클레임 (없으면 null)
+ * @param expiresAt exp 클레임 (epoch seconds)
+ */
+public record JwtClaims(String userId, String role, String deviceId, long expiresAt) {
+	
+	public boolean isExpired(long nowEpochSecond) {
+		return nowEpochSecond >= expiresAt;
+	}
+}
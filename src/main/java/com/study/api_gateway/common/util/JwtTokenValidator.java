@@ -1,30 +1,60 @@
 package com.study.api_gateway.common.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
 import java.time.Instant;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * HS256 JWT 검증기
+ * <p>
+ * - 토큰당 한 번만 분리/서명 검증/파싱하여 {@link JwtClaims}로 반환합니다.
+ * - Mac은 스레드별로 재사용하고, 서명은 디코딩한 바이트끼리 상수 시간으로 비교합니다.
+ * - 서명 세그먼트는 패딩 없는 43자 정규 base64url만 허용하여, 한 서명에 대응하는 토큰 문자열이 하나뿐이도록 합니다.
+ * - 검증에 성공한 토큰은 exp까지 캐시되어, 같은 토큰의 재요청은 캐시 조회만으로 처리됩니다.
+ * 캐시 키는 토큰 원문이므로 서명이 한 글자라도 다르면 캐시에 걸리지 않고 다시 검증합니다.
+ */
 @Slf4j
 @Component
 public class JwtTokenValidator {
 	
+	private static final String HMAC_ALGORITHM = "HmacSHA256";
+	private static final long DEFAULT_VERIFIED_CACHE_SIZE = 10_000;
+	private static final int SIGNATURE_LENGTH = 43; // HMAC-SHA256 32바이트의 패딩 없는 base64url 길이
+	
+	private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(this::newMac);
+	private volatile Cache<String, JwtClaims> verifiedTokens = buildVerifiedCache(DEFAULT_VERIFIED_CACHE_SIZE);
+	
 	@Value("${security.jwt.secret}")
 	private String jwtSecret;
 	
-	private static String base64UrlEncode(byte[] bytes) {
-		return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+	/**
+	 * 검증 캐시 최대 크기 (0이면 캐시 미사용)
+	 */
+	@Value("${security.jwt.verified-cache.maximum-size:10000}")
+	void setVerifiedCacheMaximumSize(long maximumSize) {
+		this.verifiedTokens = maximumSize > 0 ? buildVerifiedCache(maximumSize) : null;
 	}
 	
-	private static byte[] base64UrlDecode(String str) {
-		return Base64.getUrlDecoder().decode(str);
+	private static Cache<String, JwtClaims> buildVerifiedCache(long maximumSize) {
+		return Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfter(new ExpiresAtExpiry())
+				.build();
 	}
 	
 	// Minimal JSON parser for flat objects with string/number/boolean/null values
@@ -120,31 +150,63 @@ public class JwtTokenValidator {
 	}
 	
 	public TokenValidationResult validate(String token) {
+		return verify(token).result();
+	}
+	
+	/**
+	 * 토큰 검증 + 클레임 추출 (단일 패스)
+	 *
+	 * @return result가 VALID일 때만 claims가 존재
+	 */
+	public Verification verify(String token) {
+		if (token == null) {
+			return Verification.failed(TokenValidationResult.INVALID_FORMAT);
+		}
+		
+		Cache<String, JwtClaims> cache = verifiedTokens;
+		if (cache != null) {
+			JwtClaims cached = cache.getIfPresent(token);
+			if (cached != null) {
+				if (cached.isExpired(Instant.now().getEpochSecond())) {
+					cache.invalidate(token);
+					return Verification.failed(TokenValidationResult.EXPIRED);
+				}
+				return Verification.valid(cached);
+			}
+		}
+		
+		Verification verification = verifyUncached(token);
+		if (cache != null && verification.result().isValid()) {
+			cache.put(token, verification.claims());
+		}
+		return verification;
+	}
+	
+	private Verification verifyUncached(String token) {
 		try {
-			// 토큰 형식 검증
-			String[] parts;
-			try {
-				parts = splitToken(token);
-			} catch (IllegalArgumentException e) {
-				log.debug("Invalid token format: {}", e.getMessage());
-				return TokenValidationResult.INVALID_FORMAT;
+			// 토큰 형식 검증 (header.payload.signature)
+			int firstDot = token.indexOf('.');
+			int secondDot = firstDot < 0 ? -1 : token.indexOf('.', firstDot + 1);
+			if (firstDot <= 0 || secondDot < 0 || secondDot == firstDot + 1
+					|| secondDot == token.length() - 1 || token.indexOf('.', secondDot + 1) >= 0) {
+				log.debug("Invalid token format");
+				return Verification.failed(TokenValidationResult.INVALID_FORMAT);
 			}
 			
-			// 서명 검증
-			String unsigned = parts[0] + "." + parts[1];
-			String expectedSig = sign(unsigned, jwtSecret);
-			if (!constantTimeEquals(expectedSig, parts[2])) {
+			// 서명 검증 (base64url 문자열은 ASCII이므로 바이트 변환은 한 번만 수행)
+			byte[] tokenBytes = token.getBytes(StandardCharsets.US_ASCII);
+			if (!verifySignature(tokenBytes, secondDot)) {
 				log.debug("Token signature validation failed");
-				return TokenValidationResult.INVALID_SIGNATURE;
+				return Verification.failed(TokenValidationResult.INVALID_SIGNATURE);
 			}
 			
 			// Payload 파싱
 			Map<String, Object> payload;
 			try {
-				payload = parsePayload(parts[1]);
+				payload = parsePayload(tokenBytes, firstDot + 1, secondDot);
 			} catch (Exception e) {
 				log.debug("Failed to parse token payload: {}", e.getMessage());
-				return TokenValidationResult.MALFORMED;
+				return Verification.failed(TokenValidationResult.MALFORMED);
 			}
 			
 			// 필수 클레임 검증 (sub, exp)
@@ -153,7 +215,7 @@ public class JwtTokenValidator {
 			
 			if (subObj == null || expObj == null) {
 				log.debug("Token missing required claims. sub: {}, exp: {}", subObj, expObj);
-				return TokenValidationResult.MISSING_CLAIMS;
+				return Verification.failed(TokenValidationResult.MISSING_CLAIMS);
 			}
 			
 			// 만료 시간 검증
@@ -162,92 +224,166 @@ public class JwtTokenValidator {
 				long now = Instant.now().getEpochSecond();
 				if (now >= exp) {
 					log.debug("Token has expired. Current: {}, Expiration: {}", now, exp);
-					return TokenValidationResult.EXPIRED;
+					return Verification.failed(TokenValidationResult.EXPIRED);
 				}
-				return TokenValidationResult.VALID;
+				return Verification.valid(toClaims(payload, exp));
 			}
 			
 			log.debug("Token expiration claim is not a number");
-			return TokenValidationResult.MALFORMED;
+			return Verification.failed(TokenValidationResult.MALFORMED);
 		} catch (Exception e) {
 			log.error("Unexpected token validation error: {}", e.getMessage(), e);
-			return TokenValidationResult.MALFORMED;
+			return Verification.failed(TokenValidationResult.MALFORMED);
 		}
 	}
 	
 	public String extractUserId(String token) {
-		Map<String, Object> payload = safePayload(token);
-		Object sub = payload.get("sub");
-		return sub != null ? sub.toString() : null;
+		return claimsOf(token).userId();
 	}
 	
 	public String extractRole(String token) {
-		Map<String, Object> payload = safePayload(token);
-		Object role = payload.get("role");
-		return role != null ? role.toString() : null;
+		return claimsOf(token).role();
 	}
 	
 	public String extractDeviceId(String token) {
-		Map<String, Object> payload = safePayload(token);
-		Object deviceId = payload.get("deviceId");
-		return deviceId != null ? deviceId.toString() : null;
+		return claimsOf(token).deviceId();
 	}
 	
 	public long extractExpiration(String token) {
+		JwtClaims claims = claimsOf(token);
+		if (claims.expiresAt() == 0) {
+			return 0;
+		}
+		return claims.expiresAt() - Instant.now().getEpochSecond();
+	}
+	
+	/**
+	 * 클레임 조회 (서명 검증 없이 payload만 파싱, 검증 캐시에 있으면 재사용)
+	 */
+	private JwtClaims claimsOf(String token) {
+		Cache<String, JwtClaims> cache = verifiedTokens;
+		JwtClaims cached = cache != null && token != null ? cache.getIfPresent(token) : null;
+		if (cached != null) {
+			return cached;
+		}
 		Map<String, Object> payload = safePayload(token);
 		Object expObj = payload.get("exp");
-		if (expObj instanceof Number) {
-			long exp = ((Number) expObj).longValue();
-			long now = Instant.now().getEpochSecond();
-			return (exp - now);
-		}
-		return 0;
+		return toClaims(payload, expObj instanceof Number n ? n.longValue() : 0);
 	}
 	
 	private Map<String, Object> safePayload(String token) {
 		try {
-			String[] parts = splitToken(token);
-			return parsePayload(parts[1]);
+			int firstDot = token.indexOf('.');
+			int secondDot = token.indexOf('.', firstDot + 1);
+			if (firstDot < 0 || secondDot < 0) throw new IllegalArgumentException("invalid JWT format");
+			return parsePayload(token.getBytes(StandardCharsets.US_ASCII), firstDot + 1, secondDot);
 		} catch (Exception e) {
 			log.error("Error parsing token payload: {}", e.getMessage());
 			return new HashMap<>();
 		}
 	}
 	
-	private String[] splitToken(String token) {
-		if (token == null) throw new IllegalArgumentException("token is null");
-		String[] parts = token.split("\\.");
-		if (parts.length != 3) throw new IllegalArgumentException("invalid JWT format");
-		return parts;
+	private static JwtClaims toClaims(Map<String, Object> payload, long exp) {
+		return new JwtClaims(stringClaim(payload, "sub"), stringClaim(payload, "role"),
+				stringClaim(payload, "deviceId"), exp);
 	}
 	
-	private Map<String, Object> parsePayload(String payloadB64) {
-		byte[] jsonBytes = base64UrlDecode(payloadB64);
-		String json = new String(jsonBytes, StandardCharsets.UTF_8);
+	private static String stringClaim(Map<String, Object> payload, String name) {
+		Object value = payload.get(name);
+		return value != null ? value.toString() : null;
+	}
+	
+	private Map<String, Object> parsePayload(byte[] tokenBytes, int from, int to) {
+		ByteBuffer decoded = Base64.getUrlDecoder().decode(ByteBuffer.wrap(tokenBytes, from, to - from));
+		String json = new String(decoded.array(), decoded.arrayOffset() + decoded.position(), decoded.remaining(),
+				StandardCharsets.UTF_8);
 		return parseJsonObject(json);
 	}
 	
-	private boolean constantTimeEquals(String a, String b) {
-		if (a == null || b == null) return false;
-		if (a.length() != b.length()) return false;
-		int result = 0;
-		for (int i = 0; i < a.length(); i++) {
-			result |= a.charAt(i) ^ b.charAt(i);
+	/**
+	 * tokenBytes[0, secondDot)의 HMAC과 서명 세그먼트를 디코딩한 바이트를 상수 시간 비교
+	 */
+	private boolean verifySignature(byte[] tokenBytes, int secondDot) {
+		if (!isCanonicalSignature(tokenBytes, secondDot + 1)) {
+			return false;
+		}
+		ByteBuffer decoded = Base64.getUrlDecoder()
+				.decode(ByteBuffer.wrap(tokenBytes, secondDot + 1, SIGNATURE_LENGTH));
+		byte[] provided = new byte[decoded.remaining()];
+		decoded.get(provided);
+		Mac mac = macs.get();
+		mac.update(tokenBytes, 0, secondDot);
+		byte[] expected = mac.doFinal();
+		return MessageDigest.isEqual(expected, provided);
+	}
+	
+	/**
+	 * 서명 세그먼트가 패딩 없는 43자 base64url이고 마지막 문자의 남는 2비트가 0인지 확인
+	 * (디코더는 패딩/비정규 끝 비트도 받아들이므로 디코딩 전에 거름)
+	 */
+	private static boolean isCanonicalSignature(byte[] tokenBytes, int start) {
+		if (tokenBytes.length - start != SIGNATURE_LENGTH) {
+			return false;
 		}
-		return result == 0;
+		for (int i = start; i < tokenBytes.length; i++) {
+			if (base64UrlValue(tokenBytes[i]) < 0) {
+				return false;
+			}
+		}
+		return (base64UrlValue(tokenBytes[tokenBytes.length - 1]) & 0b11) == 0;
 	}
 	
-	private String sign(String data, String secret) {
+	private static int base64UrlValue(byte b) {
+		if (b >= 'A' && b <= 'Z') return b - 'A';
+		if (b >= 'a' && b <= 'z') return b - 'a' + 26;
+		if (b >= '0' && b <= '9') return b - '0' + 52;
+		if (b == '-') return 62;
+		if (b == '_') return 63;
+		return -1;
+	}
+	
+	private Mac newMac() {
 		try {
-			Mac mac = Mac.getInstance("HmacSHA256");
-			SecretKeySpec keySpec =
-					new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
-			mac.init(keySpec);
-			byte[] sig = mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
-			return base64UrlEncode(sig);
-		} catch (Exception e) {
-			log.error("Error signing token: {}", e.getMessage());
-			return "";
+			Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+			mac.init(new SecretKeySpec(jwtSecret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM));
+			return mac;
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("HMAC 초기화 실패", e);
+		}
+	}
+	
+	/**
+	 * 검증 결과 (VALID가 아니면 claims는 null)
+	 */
+	public record Verification(TokenValidationResult result, JwtClaims claims) {
+		
+		static Verification valid(JwtClaims claims) {
+			return new Verification(TokenValidationResult.VALID, claims);
+		}
+		
+		static Verification failed(TokenValidationResult result) {
+			return new Verification(result, null);
+		}
+	}
+	
+	/**
+	 * 캐시 엔트리를 토큰 exp 시점에 만료
+	 */
+	private static class ExpiresAtExpiry implements Expiry<String, JwtClaims> {
+		@Override
+		public long expireAfterCreate(String token, JwtClaims claims, long currentTime) {
+			long seconds = claims.expiresAt() - Instant.now().getEpochSecond();
+			return seconds <= 0 ? 0 : TimeUnit.SECONDS.toNanos(seconds);
+		}
+		
+		@Override
+		public long expireAfterUpdate(String token, JwtClaims claims, long currentTime, long currentDuration) {
+			return expireAfterCreate(token, claims, currentTime);
+		}
+		
+		@Override
+		public long expireAfterRead(String token, JwtClaims claims, long currentTime, long currentDuration) {
+			return currentDuration;
 		}
 	}
 }
@@ -0,0 +1,186 @@
+package com.study.api_gateway.common.util;
+
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 경로 패턴 트라이 (시작 시 한 번 구성, 요청마다 조회)
+ * <p>
+ * 지원 패턴: 리터럴 세그먼트, "*" / "{var}" (세그먼트 1개), "**" (세그먼트 0개 이상)
+ * 조회는 경로 문자열을 잘라내지 않고 인덱스로 세그먼트를 비교하므로 요청당 할당이 없고,
+ * 비용은 규칙 수와 무관하게 경로 세그먼트 수에 비례합니다.
+ * 우선순위: 리터럴 > 단일 와일드카드 > "**"
+ * 세그먼트 일부에만 와일드카드가 있는 패턴(예: "*.html", "{id:[0-9]+}")은 AntPathMatcher로 처리합니다.
+ *
+ * @param <T> 패턴에 연결된 값
+ */
+public final class PathPatternTrie<T> {
+	
+	private final Node<T> root = new Node<>();
+	private final List<String> complexPatterns = new ArrayList<>();
+	private final List<T> complexValues = new ArrayList<>();
+	private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+	
+	/**
+	 * 패턴 등록 (같은 패턴이 다시 등록되면 먼저 등록된 값을 유지)
+	 */
+	public PathPatternTrie<T> add(String pattern, T value) {
+		String[] segments = tokenize(pattern);
+		for (String segment : segments) {
+			if (isComplex(segment)) {
+				complexPatterns.add(pattern);
+				complexValues.add(value);
+				return this;
+			}
+		}
+		
+		Node<T> node = root;
+		for (String segment : segments) {
+			if ("**".equals(segment)) {
+				if (node.doubleWildcard == null) node.doubleWildcard = new Node<>();
+				node = node.doubleWildcard;
+			} else if ("*".equals(segment) || (segment.startsWith("{") && segment.endsWith("}"))) {
+				if (node.singleWildcard == null) node.singleWildcard = new Node<>();
+				node = node.singleWildcard;
+			} else {
+				node = node.literalChild(segment);
+			}
+		}
+		if (node.value == null) {
+			node.value = value;
+		}
+		return this;
+	}
+	
+	/**
+	 * 경로와 일치하는 패턴의 값 조회
+	 *
+	 * @return 일치하는 패턴이 없으면 null
+	 */
+	public T match(String path) {
+		if (path == null) return null;
+		T value = match(root, path, skipSlashes(path, 0));
+		if (value != null || complexPatterns.isEmpty()) {
+			return value;
+		}
+		for (int i = 0; i < complexPatterns.size(); i++) {
+			if (antPathMatcher.match(complexPatterns.get(i), path)) {
+				return complexValues.get(i);
+			}
+		}
+		return null;
+	}
+	
+	public boolean matches(String path) {
+		return match(path) != null;
+	}
+	
+	private T match(Node<T> node, String path, int start) {
+		int length = path.length();
+		if (start >= length) {
+			if (node.value != null) return node.value;
+			// 끝에 남은 "**"는 세그먼트 0개와 일치
+			Node<T> tail = node.doubleWildcard;
+			while (tail != null) {
+				if (tail.value != null) return tail.value;
+				tail = tail.doubleWildcard;
+			}
+			return null;
+		}
+		
+		int end = path.indexOf('/', start);
+		if (end < 0) end = length;
+		int next = skipSlashes(path, end);
+		
+		Node<T> literal = node.findLiteral(path, start, end);
+		if (literal != null) {
+			T value = match(literal, path, next);
+			if (value != null) return value;
+		}
+		
+		if (node.singleWildcard != null) {
+			T value = match(node.singleWildcard, path, next);
+			if (value != null) return value;
+		}
+		
+		if (node.doubleWildcard != null) {
+			// "**"가 현재 위치부터 세그먼트 0개 이상을 소비
+			int position = start;
+			while (true) {
+				T value = match(node.doubleWildcard, path, position);
+				if (value != null) return value;
+				if (position >= length) break;
+				int segmentEnd = path.indexOf('/', position);
+				position = segmentEnd < 0 ? length : skipSlashes(path, segmentEnd);
+			}
+		}
+		return null;
+	}
+	
+	private static int skipSlashes(String path, int index) {
+		while (index < path.length() && path.charAt(index) == '/') {
+			index++;
+		}
+		return index;
+	}
+	
+	private static String[] tokenize(String pattern) {
+		return pattern.chars().anyMatch(c -> c != '/')
+				? pattern.replaceAll("^/+", "").split("/+")
+				: new String[0];
+	}
+	
+	private static boolean isComplex(String segment) {
+		if ("*".equals(segment) || "**".equals(segment)) return false;
+		if (segment.startsWith("{") && segment.endsWith("}")) return segment.indexOf(':') >= 0;
+		return segment.indexOf('*') >= 0 || segment.indexOf('?') >= 0 || segment.indexOf('{') >= 0;
+	}
+	
+	private static final class Node<T> {
+		private String[] literalKeys = new String[0];
+		private int[] literalHashes = new int[0];
+		private List<Node<T>> literalNodes = new ArrayList<>();
+		private Node<T> singleWildcard;
+		private Node<T> doubleWildcard;
+		private T value;
+		
+		Node<T> literalChild(String segment) {
+			int hash = segment.hashCode();
+			for (int i = 0; i < literalKeys.length; i++) {
+				if (literalHashes[i] == hash && literalKeys[i].equals(segment)) {
+					return literalNodes.get(i);
+				}
+			}
+			Node<T> child = new Node<>();
+			int n = literalKeys.length;
+			literalKeys = Arrays.copyOf(literalKeys, n + 1);
+			literalHashes = Arrays.copyOf(literalHashes, n + 1);
+			literalKeys[n] = segment;
+			literalHashes[n] = hash;
+			literalNodes.add(child);
+			return child;
+		}
+		
+		/**
+		 * path[start, end) 구간과 같은 리터럴 자식 조회 (String.hashCode와 같은 방식으로 해시 계산)
+		 */
+		Node<T> findLiteral(String path, int start, int end) {
+			if (literalKeys.length == 0) return null;
+			int hash = 0;
+			for (int i = start; i < end; i++) {
+				hash = 31 * hash + path.charAt(i);
+			}
+			int length = end - start;
+			for (int i = 0; i < literalKeys.length; i++) {
+				String key = literalKeys[i];
+				if (literalHashes[i] == hash && key.length() == length && path.regionMatches(start, key, 0, length)) {
+					return literalNodes.get(i);
+				}
+			}
+			return null;
+		}
+	}
+}
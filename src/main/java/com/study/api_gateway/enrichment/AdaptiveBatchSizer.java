@@ -0,0 +1,59 @@
+package com.study.api_gateway.enrichment;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 관측된 배치 지연 시간과 응답 크기로 배치 크기를 조절 (AIMD)
+ * <p>
+ * - 목표 지연 이하, 목표 응답 크기 이하로 끝난 꽉 찬 배치: 크기를 step만큼 증가 (max까지)
+ * - 목표 지연 또는 목표 응답 크기 초과: 크기를 3/4로 감소, 실패: 절반으로 감소 (min까지)
+ * 배치가 현재 크기의 절반도 채우지 못했으면 지연 시간이 크기를 대표하지 않으므로 증가시키지 않습니다.
+ * ID당 응답 바이트는 EWMA로 추적하여 target-payload-bytes를 넘길 만큼은 키우지 않습니다. (0 이하면 응답 크기 제한 없음)
+ */
+final class AdaptiveBatchSizer {
+	
+	private final int min;
+	private final int max;
+	private final int step;
+	private final long targetLatencyNanos;
+	private final long targetPayloadBytes;
+	private final AtomicInteger current;
+	private final AtomicLong bytesPerId = new AtomicLong();
+	
+	AdaptiveBatchSizer(int min, int max, int initial, long targetLatencyNanos, long targetPayloadBytes) {
+		this.min = Math.max(1, min);
+		this.max = Math.max(this.min, max);
+		this.step = Math.max(1, this.max / 20);
+		this.targetLatencyNanos = targetLatencyNanos;
+		this.targetPayloadBytes = targetPayloadBytes;
+		this.current = new AtomicInteger(Math.min(this.max, Math.max(this.min, initial)));
+	}
+	
+	int current() {
+		return current.get();
+	}
+	
+	void onSuccess(int batchSize, long latencyNanos, long payloadBytes) {
+		int cap = payloadCap(batchSize, payloadBytes);
+		if (latencyNanos > targetLatencyNanos || (targetPayloadBytes > 0 && payloadBytes > targetPayloadBytes)) {
+			current.updateAndGet(size -> Math.max(min, Math.min(cap, size * 3 / 4)));
+		} else if (batchSize * 2 >= current.get()) {
+			current.updateAndGet(size -> Math.max(min, Math.min(cap, size + step)));
+		}
+	}
+	
+	void onFailure() {
+		current.updateAndGet(size -> Math.max(min, size / 2));
+	}
+	
+	/**
+	 * ID당 응답 바이트 EWMA(1/8 가중)를 갱신하고, 목표 응답 크기에 맞는 최대 배치 크기를 반환
+	 */
+	private int payloadCap(int batchSize, long payloadBytes) {
+		if (targetPayloadBytes <= 0 || batchSize <= 0) return max;
+		long sample = Math.max(1, payloadBytes / batchSize);
+		long perId = bytesPerId.updateAndGet(prev -> prev == 0 ? sample : prev + (sample - prev) / 8);
+		return (int) Math.min(max, Math.max(1, targetPayloadBytes / Math.max(1, perId)));
+	}
+}
@@ -0,0 +1,72 @@
+package com.study.api_gateway.enrichment;
+
+import reactor.core.publisher.Mono;
+
+import java.util.*;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 집계(BFF) 응답 조합용 배치 조인
+ * <p>
+ * 상위 항목 목록에서 조인 키를 중복 없이 모아 배치 로더를 한 번만 호출하고, 결과를 키로 다시 붙입니다.
+ * 항목마다 다운스트림을 호출하는 flatMap(N+1) 대신 사용하며, 로더로는 캐시를 거치는 배치 조회
+ * (PlaceCacheService.getPlacesById, RoomCacheService.getRoomsByBatchWithCache 등)를 넘깁니다.
+ * <pre>
+ * BatchJoin.join(rooms, RoomDetailResponse::getRoomId, pricingCacheService::getPricingPolicies,
+ *         (room, pricing) -> ...)
+ * </pre>
+ */
+public final class BatchJoin {
+	
+	private BatchJoin() {
+	}
+	
+	/**
+	 * 상위 항목의 조인 키 (등장 순서 유지, null/중복 제외)
+	 */
+	public static <P, K> List<K> keys(Collection<P> parents, Function<? super P, ? extends K> keyOf) {
+		if (parents == null || parents.isEmpty()) return List.of();
+		Set<K> keys = new LinkedHashSet<>();
+		for (P parent : parents) {
+			if (parent == null) continue;
+			K key = keyOf.apply(parent);
+			if (key != null) keys.add(key);
+		}
+		return List.copyOf(keys);
+	}
+	
+	/**
+	 * 조인 키를 모아 배치 로더를 한 번 호출 (키가 없으면 호출하지 않음)
+	 *
+	 * @return 키 → 값 (로더가 돌려주지 않은 키는 없음)
+	 */
+	public static <P, K, V> Mono<Map<K, V>> load(Collection<P> parents, Function<? super P, ? extends K> keyOf,
+	                                             Function<List<K>, Mono<Map<K, V>>> loader) {
+		List<K> keys = keys(parents, keyOf);
+		if (keys.isEmpty()) return Mono.just(Map.of());
+		return loader.apply(keys).defaultIfEmpty(Map.of());
+	}
+	
+	/**
+	 * 배치 로드 후 상위 항목 순서대로 결합
+	 *
+	 * @param combiner (상위 항목, 조인 값) → 결과, 조인 값이 없으면 null 전달
+	 * @return 상위 항목과 같은 순서의 결과 (null 항목은 제외)
+	 */
+	public static <P, K, V, R> Mono<List<R>> join(List<P> parents, Function<? super P, ? extends K> keyOf,
+	                                              Function<List<K>, Mono<Map<K, V>>> loader,
+	                                              BiFunction<? super P, ? super V, ? extends R> combiner) {
+		if (parents == null || parents.isEmpty()) return Mono.just(List.of());
+		return load(parents, keyOf, loader)
+				.map(values -> {
+					List<R> joined = new ArrayList<>(parents.size());
+					for (P parent : parents) {
+						if (parent == null) continue;
+						K key = keyOf.apply(parent);
+						joined.add(combiner.apply(parent, key == null ? null : values.get(key)));
+					}
+					return joined;
+				});
+	}
+}
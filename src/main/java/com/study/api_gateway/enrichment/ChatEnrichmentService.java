@@ -1,10 +1,13 @@
 package com.study.api_gateway.enrichment;
 
+import com.fasterxml.jackson.databind.util.RawValue;
 import com.study.api_gateway.api.chat.client.ChatClient;
 import com.study.api_gateway.api.chat.dto.enums.ChatRoomType;
 import com.study.api_gateway.api.chat.dto.request.CreateDmRoomRequest;
 import com.study.api_gateway.api.chat.dto.response.*;
 import com.study.api_gateway.api.profile.dto.response.BatchUserSummaryResponse;
+import com.study.api_gateway.enrichment.stream.JsonRewriteSpec;
+import com.study.api_gateway.enrichment.stream.StreamingProfileEnricher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -27,8 +30,14 @@ public class ChatEnrichmentService {
 	
 	private static final String DEFAULT_NICKNAME = "알 수 없음";
 	private static final String DEFAULT_PROFILE_IMAGE = null;
+	
+	// 메시지: senderId -> sender{userId, nickname, profileImage}, 채팅 서버의 data 래퍼는 벗겨서 반환
+	private static final JsonRewriteSpec MESSAGE_SPEC = JsonRewriteSpec.nested(
+			Set.of("senderId"), "sender", "userId", "nickname", "profileImage",
+			DEFAULT_NICKNAME, DEFAULT_PROFILE_IMAGE).withUnwrapData();
 	private final ChatClient chatClient;
 	private final ProfileEnrichmentUtil profileEnrichmentUtil;
+	private final StreamingProfileEnricher streamingProfileEnricher;
 	
 	// ==================== DM 채팅방 생성 ====================
 	
@@ -183,60 +192,10 @@ public class ChatEnrichmentService {
 	
 	/**
 	 * 메시지 목록 조회 및 프로필 병합
+	 * - 메시지 페이지는 트리로 역직렬화하지 않고 토큰 스트림으로 senderId를 sender 객체로 교체합니다.
 	 */
-	public Mono<MessageListResponse> getMessagesWithProfiles(String roomId, Long userId, String cursor, Integer limit) {
-		return chatClient.getMessages(roomId, userId, cursor, limit)
-				.flatMap(this::enrichMessages);
-	}
-	
-	@SuppressWarnings("unchecked")
-	private Mono<MessageListResponse> enrichMessages(Map<String, Object> response) {
-		Map<String, Object> data = extractData(response);
-		List<Map<String, Object>> messages = (List<Map<String, Object>>) data.get("messages");
-		
-		if (messages == null || messages.isEmpty()) {
-			return Mono.just(MessageListResponse.builder()
-					.messages(List.of())
-					.nextCursor((String) data.get("nextCursor"))
-					.hasMore((Boolean) data.get("hasMore"))
-					.build());
-		}
-		
-		// 모든 senderId 수집
-		Set<Long> senderIds = messages.stream()
-				.map(m -> toLong(m.get("senderId")))
-				.filter(Objects::nonNull)
-				.collect(Collectors.toCollection(LinkedHashSet::new));
-		
-		return loadProfiles(senderIds)
-				.map(profileMap -> {
-					List<MessageResponse> enrichedMessages = messages.stream()
-							.map(msg -> buildMessageResponse(msg, profileMap))
-							.collect(Collectors.toList());
-					
-					return MessageListResponse.builder()
-							.messages(enrichedMessages)
-							.nextCursor((String) data.get("nextCursor"))
-							.hasMore((Boolean) data.get("hasMore"))
-							.build();
-				});
-	}
-	
-	private MessageResponse buildMessageResponse(Map<String, Object> msg, Map<Long, BatchUserSummaryResponse> profileMap) {
-		Long senderId = toLong(msg.get("senderId"));
-		SenderInfo sender = senderId != null
-				? buildSenderInfo(senderId, profileMap)
-				: null;
-		
-		return MessageResponse.builder()
-				.messageId((String) msg.get("messageId"))
-				.roomId((String) msg.get("roomId"))
-				.sender(sender)
-				.content((String) msg.get("content"))
-				.readCount(toInt(msg.get("readCount")))
-				.deleted((Boolean) msg.get("deleted"))
-				.createdAt(parseDateTime(msg.get("createdAt")))
-				.build();
+	public Mono<RawValue> getMessagesWithProfiles(String roomId, Long userId, String cursor, Integer limit) {
+		return streamingProfileEnricher.enrich(chatClient.getMessagesRaw(roomId, userId, cursor, limit), MESSAGE_SPEC);
 	}
 	
 	// ==================== 호스트 문의 목록 ====================
@@ -339,15 +298,6 @@ public class ChatEnrichmentService {
 				.build();
 	}
 	
-	private SenderInfo buildSenderInfo(Long userId, Map<Long, BatchUserSummaryResponse> profileMap) {
-		BatchUserSummaryResponse profile = profileMap.get(userId);
-		return SenderInfo.builder()
-				.userId(userId)
-				.nickname(profile != null && profile.getNickname() != null ? profile.getNickname() : DEFAULT_NICKNAME)
-				.profileImage(profile != null ? profile.getProfileImageUrl() : DEFAULT_PROFILE_IMAGE)
-				.build();
-	}
-	
 	@SuppressWarnings("unchecked")
 	private Map<String, Object> extractData(Map<String, Object> response) {
 		Object data = response.get("data");
@@ -372,13 +322,6 @@ public class ChatEnrichmentService {
 		return null;
 	}
 	
-	private Integer toInt(Object value) {
-		if (value == null) return null;
-		if (value instanceof Integer) return (Integer) value;
-		if (value instanceof Number) return ((Number) value).intValue();
-		return null;
-	}
-	
 	private LocalDateTime parseDateTime(Object value) {
 		if (value == null) return null;
 		if (value instanceof LocalDateTime) return (LocalDateTime) value;
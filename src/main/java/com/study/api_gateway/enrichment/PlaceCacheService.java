@@ -1,34 +1,60 @@
 package com.study.api_gateway.enrichment;
 
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.study.api_gateway.api.place.client.PlaceClient;
 import com.study.api_gateway.api.place.dto.response.PlaceBatchDetailResponse;
 import com.study.api_gateway.api.place.dto.response.PlaceInfoResponse;
-import lombok.RequiredArgsConstructor;
+import com.study.api_gateway.common.config.LocalCacheProperties;
+import com.study.api_gateway.common.invalidation.CacheInvalidationBus;
+import com.study.api_gateway.common.invalidation.LocalCacheInvalidator;
+import com.study.api_gateway.common.monitoring.metrics.ApiGatewayMetrics;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Place 정보 캐싱 서비스
- * 개별 조회와 배치 조회 모두 캐싱하여 중복 요청 최소화
+ * <p>
+ * Caffeine AsyncLoadingCache에 Place 값을 저장합니다. (Mono가 아닌 조회 결과 자체를 저장)
+ * - 미스 키는 getPlacesByBatch 한 번으로 모아서 조회하고, 이미 다른 요청이 조회 중인 키는 그 결과를 함께 기다립니다.
+ * - 서버가 돌려주지 않은 ID는 캐시하지 않고 failed로 응답합니다.
+ * - 크기/TTL은 cache.local.specs.placeCache, 통계는 Micrometer cache 메트릭(cache=placeCache)으로 노출됩니다.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
-public class PlaceCacheService {
+public class PlaceCacheService implements LocalCacheInvalidator {
+	
+	private static final String CACHE_NAME = "placeCache";
 	
 	private final PlaceClient placeClient;
-	private final CacheManager placeCacheManager;
+	private final CacheInvalidationBus invalidationBus;
+	private final AsyncLoadingCache<Long, PlaceInfoResponse> cache;
 	
-	// 개별 Place 캐시를 저장할 로컬 캐시
-	private final Map<Long, PlaceInfoResponse> localCache = new ConcurrentHashMap<>();
+	public PlaceCacheService(
+			PlaceClient placeClient,
+			CacheInvalidationBus invalidationBus,
+			LocalCacheProperties cacheProperties,
+			ApiGatewayMetrics metrics
+	) {
+		this.placeClient = placeClient;
+		this.invalidationBus = invalidationBus;
+		
+		LocalCacheProperties.Spec spec = cacheProperties.spec(CACHE_NAME);
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(spec.getMaximumSize())
+				.expireAfterWrite(spec.getTtl())
+				.recordStats()
+				.buildAsync(new PlaceLoader());
+		metrics.registerLocalCache(CACHE_NAME, cache.synchronous());
+		
+		log.info("[PlaceCache] initialized: maximumSize={}, ttl={}", spec.getMaximumSize(), spec.getTtl());
+	}
 	
 	/**
 	 * 개별 Place 조회 (캐싱 적용)
@@ -36,19 +62,20 @@ public class PlaceCacheService {
 	 * @param placeId 조회할 Place ID
 	 * @return Place 정보
 	 */
-	@Cacheable(value = "placeCache", key = "#placeId", cacheManager = "placeCacheManager")
 	public Mono<PlaceInfoResponse> getPlaceById(String placeId) {
-		log.debug("Cache miss - fetching place from server: placeId={}", placeId);
-		return placeClient.getPlaceById(placeId)
-				.doOnNext(place -> log.debug("Place fetched and cached: placeId={}", placeId));
+		Long key = parseKey(placeId);
+		if (key == null) {
+			return placeClient.getPlaceById(placeId);
+		}
+		return Mono.fromFuture(() -> cache.get(key), true);
 	}
 	
 	/**
-	 * 배치 Place 조회 (스마트 캐싱 적용)
-	 * 캐시된 항목과 캐시되지 않은 항목을 분리하여 처리
+	 * 배치 Place 조회 (캐싱 적용)
+	 * 캐시 미스 ID만 한 번의 배치 호출로 조회합니다.
 	 *
 	 * @param placeIds 조회할 Place ID 목록
-	 * @return 배치 조회 결과
+	 * @return 배치 조회 결과 (ID 오름차순, 조회하지 못한 ID는 failed)
 	 */
 	public Mono<PlaceBatchDetailResponse> getPlacesByBatchWithCache(List<Long> placeIds) {
 		if (placeIds == null || placeIds.isEmpty()) {
@@ -57,133 +84,127 @@ public class PlaceCacheService {
 					.build());
 		}
 		
-		// 중복 제거 및 정렬 (캐시 키 일관성)
+		// 중복 제거 및 정렬 (응답 순서 일관성)
 		List<Long> uniquePlaceIds = placeIds.stream()
+				.filter(Objects::nonNull)
 				.distinct()
 				.sorted()
-				.collect(Collectors.toList());
-		
-		log.info("Processing batch request for {} unique place IDs", uniquePlaceIds.size());
-		
-		// 캐시 확인
-		Cache cache = placeCacheManager.getCache("placeCache");
-		if (cache == null) {
-			log.warn("Cache not available, fetching all from server");
-			return fetchFromServer(uniquePlaceIds);
-		}
-		
-		// 캐시된 항목과 캐시되지 않은 항목 분리
-		Map<Long, PlaceInfoResponse> cachedResults = new HashMap<>();
-		List<Long> uncachedIds = new ArrayList<>();
-		
-		for (Long placeId : uniquePlaceIds) {
-			PlaceInfoResponse cached = cache.get(placeId, PlaceInfoResponse.class);
-			if (cached != null) {
-				cachedResults.put(placeId, cached);
-				log.debug("Cache hit for placeId: {}", placeId);
-			} else {
-				uncachedIds.add(placeId);
-				log.debug("Cache miss for placeId: {}", placeId);
-			}
-		}
+				.toList();
 		
-		log.info("Cache status - hits: {}, misses: {}", cachedResults.size(), uncachedIds.size());
-		
-		// 캐시되지 않은 항목이 없으면 캐시된 결과만 반환
-		if (uncachedIds.isEmpty()) {
-			return Mono.just(PlaceBatchDetailResponse.builder()
-					.results(new ArrayList<>(cachedResults.values()))
-					.build());
-		}
-		
-		// 캐시되지 않은 항목만 서버에서 조회
-		return fetchFromServer(uncachedIds)
-				.map(response -> {
-					// 새로 조회한 결과를 캐시에 저장
-					if (response.getResults() != null) {
-						for (PlaceInfoResponse place : response.getResults()) {
-							Long placeId = Long.parseLong(place.getId());
-							cache.put(placeId, place);
-							cachedResults.put(placeId, place);
-							log.debug("Cached new place: placeId={}", placeId);
+		return getPlacesById(uniquePlaceIds)
+				.map(places -> {
+					List<PlaceInfoResponse> results = new ArrayList<>(places.size());
+					List<Long> failedIds = new ArrayList<>();
+					for (Long placeId : uniquePlaceIds) {
+						PlaceInfoResponse place = places.get(placeId);
+						if (place != null) {
+							results.add(place);
+						} else {
+							failedIds.add(placeId);
 						}
 					}
-					
-					// 캐시된 결과와 새로 조회한 결과 병합
-					List<PlaceInfoResponse> allResults = uniquePlaceIds.stream()
-							.map(cachedResults::get)
-							.filter(Objects::nonNull)
-							.collect(Collectors.toList());
-					
-					// 실패한 ID 목록 구성 (캐시에도 없고 서버에서도 못 가져온 경우)
-					List<Long> failedIds = uniquePlaceIds.stream()
-							.filter(id -> !cachedResults.containsKey(id))
-							.collect(Collectors.toList());
-					
-					if (response.getFailed() != null) {
-						failedIds.addAll(response.getFailed());
-					}
-					
 					return PlaceBatchDetailResponse.builder()
-							.results(allResults)
+							.results(results)
 							.failed(failedIds.isEmpty() ? null : failedIds)
 							.build();
 				});
 	}
 	
 	/**
-	 * 서버에서 Place 정보 배치 조회
+	 * 배치 Place 조회 (캐싱 적용, BatchJoin 로더용)
+	 *
+	 * @return Place ID → Place 정보 (조회하지 못한 ID는 없음)
 	 */
-	private Mono<PlaceBatchDetailResponse> fetchFromServer(List<Long> placeIds) {
-		log.info("Fetching {} places from server", placeIds.size());
-		return placeClient.getPlacesByBatch(placeIds)
-				.doOnNext(response -> {
-					if (response.getResults() != null) {
-						log.info("Fetched {} places from server", response.getResults().size());
-					}
-					if (response.getFailed() != null && !response.getFailed().isEmpty()) {
-						log.warn("Failed to fetch {} places: {}", response.getFailed().size(), response.getFailed());
+	public Mono<Map<Long, PlaceInfoResponse>> getPlacesById(Collection<Long> placeIds) {
+		if (placeIds == null || placeIds.isEmpty()) {
+			return Mono.just(Map.of());
+		}
+		return Mono.fromFuture(() -> cache.getAll(placeIds), true)
+				.doOnNext(places -> {
+					if (places.size() < placeIds.size()) {
+						log.warn("Failed to resolve {} of {} places", placeIds.size() - places.size(), placeIds.size());
 					}
 				});
 	}
 	
 	/**
-	 * 캐시 통계 조회
+	 * 캐시 무효화 (특정 Place) - 모든 게이트웨이 노드에 전파
 	 */
-	public Map<String, Object> getCacheStats() {
-		Map<String, Object> stats = new HashMap<>();
-		Cache cache = placeCacheManager.getCache("placeCache");
-		
-		if (cache != null && cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache) {
-			com.github.benmanes.caffeine.cache.Cache<Object, Object> caffeineCache =
-					(com.github.benmanes.caffeine.cache.Cache<Object, Object>) cache.getNativeCache();
-			
-			stats.put("size", caffeineCache.estimatedSize());
-			stats.put("stats", caffeineCache.stats().toString());
-		}
-		
-		return stats;
+	public void evictPlace(Long placeId) {
+		invalidationBus.publishEvict(cacheName(), List.of(String.valueOf(placeId)));
 	}
 	
 	/**
-	 * 캐시 무효화 (특정 Place)
+	 * 전체 캐시 클리어 - 모든 게이트웨이 노드에 전파
 	 */
-	public void evictPlace(Long placeId) {
-		Cache cache = placeCacheManager.getCache("placeCache");
-		if (cache != null) {
-			cache.evict(placeId);
-			log.info("Evicted place from cache: placeId={}", placeId);
+	public void clearAllCache() {
+		invalidationBus.publishClear(cacheName());
+	}
+	
+	@Override
+	public String cacheName() {
+		return CACHE_NAME;
+	}
+	
+	/**
+	 * 이 노드의 캐시에서만 제거 (조회 중인 값도 함께 제거되어 완료 후 저장되지 않음)
+	 */
+	@Override
+	public void evictLocal(Collection<String> keys) {
+		List<Long> placeIds = new ArrayList<>(keys.size());
+		for (String key : keys) {
+			Long placeId = parseKey(key);
+			if (placeId != null) placeIds.add(placeId);
+		}
+		cache.synchronous().invalidateAll(placeIds);
+		log.info("Evicted {} place(s) from local cache: {}", placeIds.size(), placeIds);
+	}
+	
+	@Override
+	public void clearLocal() {
+		cache.synchronous().invalidateAll();
+		log.info("Cleared all local place cache");
+	}
+	
+	private static Long parseKey(String placeId) {
+		try {
+			return placeId == null ? null : Long.valueOf(placeId);
+		} catch (NumberFormatException e) {
+			return null;
 		}
 	}
 	
 	/**
-	 * 전체 캐시 클리어
+	 * 단건 미스는 상세 API, 다건 미스는 배치 API로 적재
 	 */
-	public void clearAllCache() {
-		Cache cache = placeCacheManager.getCache("placeCache");
-		if (cache != null) {
-			cache.clear();
-			log.info("Cleared all place cache");
+	private final class PlaceLoader implements AsyncCacheLoader<Long, PlaceInfoResponse> {
+		
+		@Override
+		public CompletableFuture<? extends PlaceInfoResponse> asyncLoad(Long placeId, Executor executor) {
+			return placeClient.getPlaceById(String.valueOf(placeId)).toFuture();
+		}
+		
+		@Override
+		public CompletableFuture<? extends Map<? extends Long, ? extends PlaceInfoResponse>> asyncLoadAll(
+				Set<? extends Long> placeIds, Executor executor) {
+			List<Long> ids = List.copyOf(placeIds);
+			log.info("Fetching {} places from server", ids.size());
+			return placeClient.getPlacesByBatch(ids)
+					.map(response -> {
+						Map<Long, PlaceInfoResponse> places = new HashMap<>();
+						if (response.getResults() != null) {
+							for (PlaceInfoResponse place : response.getResults()) {
+								Long placeId = parseKey(place.getId());
+								if (placeId != null) places.put(placeId, place);
+							}
+						}
+						if (response.getFailed() != null && !response.getFailed().isEmpty()) {
+							log.warn("Failed to fetch {} places: {}", response.getFailed().size(), response.getFailed());
+						}
+						return places;
+					})
+					.defaultIfEmpty(Map.of())
+					.toFuture();
 		}
 	}
 }
@@ -0,0 +1,304 @@
+package com.study.api_gateway.enrichment;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.study.api_gateway.api.pricing.dto.response.PlacePricingBatchResponse;
+import com.study.api_gateway.api.pricing.dto.response.PricingPolicyResponse;
+import com.study.api_gateway.api.pricing.dto.response.RoomPricingInfo;
+import com.study.api_gateway.api.pricing.dto.response.RoomsPricingBatchResponse;
+import com.study.api_gateway.api.pricing.dto.response.TimeSlotPricesResponse;
+import com.study.api_gateway.api.reservation.client.YeYakHaeYoClient;
+import com.study.api_gateway.common.config.LocalCacheProperties;
+import com.study.api_gateway.common.invalidation.CacheInvalidationBus;
+import com.study.api_gateway.common.invalidation.LocalCacheInvalidator;
+import com.study.api_gateway.common.monitoring.metrics.ApiGatewayMetrics;
+import com.study.api_gateway.common.resilience.ResilienceOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 가격 정책 캐싱 서비스
+ * <p>
+ * 가격은 PricingPolicyController의 변경 API를 거쳐서만 바뀌므로, 조회 결과를 캐시하고 변경 시 무효화합니다.
+ * - 룸 가격 정책(roomId): 상세/배치 조회용 전체 정책, 배치 미스 키는 룸별로 제한된 동시성으로 조회
+ * - 룸 기본 가격(roomId): 검색/배치 조회용 요약, 미스 키는 rooms/batch 한 번으로 조회
+ * - 날짜별 시간대 가격(roomId + date)
+ * 변경 API가 호출되면 해당 roomId의 세 캐시 항목을 모두 제거하고(모든 노드에 전파), 응답으로 받은 새 정책은 바로 적재합니다.
+ */
+@Slf4j
+@Service
+public class PricingCacheService implements LocalCacheInvalidator {
+	
+	public static final String CACHE_NAME = "pricingCache";
+	private static final String SERVICE_NAME = "reservation-service";
+	private static final int POLICY_LOAD_CONCURRENCY = 8;
+	
+	private final YeYakHaeYoClient yeYakHaeYoClient;
+	private final ResilienceOperator resilience;
+	private final CacheInvalidationBus invalidationBus;
+	private final AsyncLoadingCache<Long, PricingPolicyResponse> policies;
+	private final AsyncLoadingCache<Long, RoomPricingInfo> defaultPrices;
+	private final AsyncLoadingCache<RoomDate, TimeSlotPricesResponse> timeSlotPrices;
+	private final Cache<Long, Boolean> recentWarmUps;
+	
+	public PricingCacheService(
+			YeYakHaeYoClient yeYakHaeYoClient,
+			ResilienceOperator resilience,
+			CacheInvalidationBus invalidationBus,
+			LocalCacheProperties cacheProperties,
+			ApiGatewayMetrics metrics
+	) {
+		this.yeYakHaeYoClient = yeYakHaeYoClient;
+		this.resilience = resilience;
+		this.invalidationBus = invalidationBus;
+		
+		this.policies = build(cacheProperties, metrics, "pricingPolicyCache", new PolicyLoader());
+		this.defaultPrices = build(cacheProperties, metrics, "pricingDefaultPriceCache", new DefaultPriceLoader());
+		this.timeSlotPrices = build(cacheProperties, metrics, "pricingTimeSlotCache", (key, executor) ->
+				yeYakHaeYoClient.getTimeSlotPrices(key.roomId(), key.date())
+						.transform(resilience.protect(SERVICE_NAME))
+						.toFuture());
+		// 장소별 사전 적재는 기본 가격 TTL마다 최대 1회
+		LocalCacheProperties.Spec defaultPriceSpec = cacheProperties.spec("pricingDefaultPriceCache");
+		this.recentWarmUps = Caffeine.newBuilder()
+				.maximumSize(defaultPriceSpec.getMaximumSize())
+				.expireAfterWrite(defaultPriceSpec.getTtl())
+				.build();
+	}
+	
+	private static <K, V> AsyncLoadingCache<K, V> build(LocalCacheProperties cacheProperties, ApiGatewayMetrics metrics,
+	                                                   String name, AsyncCacheLoader<K, V> loader) {
+		LocalCacheProperties.Spec spec = cacheProperties.spec(name);
+		AsyncLoadingCache<K, V> cache = Caffeine.newBuilder()
+				.maximumSize(spec.getMaximumSize())
+				.expireAfterWrite(spec.getTtl())
+				.recordStats()
+				.buildAsync(loader);
+		metrics.registerLocalCache(name, cache.synchronous());
+		log.info("[PricingCache] {} initialized: maximumSize={}, ttl={}", name, spec.getMaximumSize(), spec.getTtl());
+		return cache;
+	}
+	
+	/**
+	 * 룸 가격 정책 조회 (캐싱 적용)
+	 */
+	public Mono<PricingPolicyResponse> getPricingPolicy(Long roomId) {
+		return Mono.fromFuture(() -> policies.get(roomId), true);
+	}
+	
+	/**
+	 * 여러 룸의 가격 정책 조회 (캐싱 적용, BatchJoin 로더용)
+	 *
+	 * @return roomId → 가격 정책 (조회하지 못한 룸은 없음)
+	 */
+	public Mono<Map<Long, PricingPolicyResponse>> getPricingPolicies(Collection<Long> roomIds) {
+		if (roomIds == null || roomIds.isEmpty()) {
+			return Mono.just(Map.of());
+		}
+		return Mono.fromFuture(() -> policies.getAll(roomIds), true);
+	}
+	
+	/**
+	 * 날짜별 시간대 가격 조회 (캐싱 적용)
+	 */
+	public Mono<TimeSlotPricesResponse> getTimeSlotPrices(Long roomId, LocalDate date) {
+		return Mono.fromFuture(() -> timeSlotPrices.get(new RoomDate(roomId, date)), true);
+	}
+	
+	/**
+	 * 룸 기본 가격 배치 조회 (캐싱 적용)
+	 *
+	 * @return 요청 순서대로 정렬된 룸별 기본 가격 (조회하지 못한 룸은 제외)
+	 */
+	public Mono<RoomsPricingBatchResponse> getDefaultPrices(List<Long> roomIds) {
+		if (roomIds == null || roomIds.isEmpty()) {
+			return Mono.just(RoomsPricingBatchResponse.builder()
+					.rooms(List.of())
+					.build());
+		}
+		List<Long> uniqueRoomIds = roomIds.stream()
+				.filter(Objects::nonNull)
+				.distinct()
+				.toList();
+		
+		return getDefaultPricesByRoomId(uniqueRoomIds)
+				.map(prices -> RoomsPricingBatchResponse.builder()
+						.rooms(uniqueRoomIds.stream()
+								.map(prices::get)
+								.filter(Objects::nonNull)
+								.toList())
+						.build());
+	}
+	
+	/**
+	 * 룸 기본 가격 배치 조회 (캐싱 적용, BatchJoin 로더용)
+	 *
+	 * @return roomId → 기본 가격 (조회하지 못한 룸은 없음)
+	 */
+	public Mono<Map<Long, RoomPricingInfo>> getDefaultPricesByRoomId(Collection<Long> roomIds) {
+		if (roomIds == null || roomIds.isEmpty()) {
+			return Mono.just(Map.of());
+		}
+		return Mono.fromFuture(() -> defaultPrices.getAll(roomIds), true);
+	}
+	
+	/**
+	 * 장소의 모든 룸 기본 가격을 한 번에 조회해 캐시에 미리 적재
+	 * 룸 기본 가격이 모두 캐시에 있거나, 기본 가격 TTL 안에 이미 적재를 시도한 장소면 호출하지 않습니다.
+	 *
+	 * @param roomIds 장소의 룸 ID (캐시 적재 여부 확인용)
+	 */
+	public Mono<Void> warmPlace(Long placeId, Collection<Long> roomIds) {
+		if (placeId == null || roomIds == null || roomIds.isEmpty()) return Mono.empty();
+		if (defaultPrices.synchronous().getAllPresent(roomIds).keySet().containsAll(roomIds)) return Mono.empty();
+		if (recentWarmUps.asMap().putIfAbsent(placeId, Boolean.TRUE) != null) return Mono.empty();
+		
+		return yeYakHaeYoClient.getPricingPoliciesByPlaceId(placeId, null)
+				.transform(resilience.protect(SERVICE_NAME))
+				.doOnNext(this::putDefaultPrices)
+				.doOnError(e -> log.debug("[PricingCache] warm-up failed: placeId={}, error={}", placeId, e.toString()))
+				.onErrorResume(e -> Mono.empty())
+				.then();
+	}
+	
+	/**
+	 * 장소 단위 배치 조회 결과를 기본 가격 캐시에 적재 (date 없이 조회한 결과만 사용)
+	 */
+	public void putDefaultPrices(PlacePricingBatchResponse response) {
+		if (response == null || response.getRooms() == null) return;
+		for (RoomPricingInfo room : response.getRooms()) {
+			if (room.getRoomId() != null && room.getTimeSlotPrices() == null) {
+				defaultPrices.synchronous().put(room.getRoomId(), room);
+			}
+		}
+	}
+	
+	/**
+	 * 가격 정책 변경 반영 (write-through)
+	 * 이전 값을 모든 노드에서 제거한 뒤, 변경 응답으로 받은 정책을 이 노드에 적재합니다.
+	 */
+	public void onPolicyChanged(Long roomId, PricingPolicyResponse updated) {
+		evictRoom(roomId);
+		if (updated != null && roomId.equals(updated.getRoomId())) {
+			policies.synchronous().put(roomId, updated);
+		}
+	}
+	
+	/**
+	 * 캐시 무효화 (특정 Room) - 모든 게이트웨이 노드에 전파
+	 */
+	public void evictRoom(Long roomId) {
+		invalidationBus.publishEvict(cacheName(), List.of(String.valueOf(roomId)));
+	}
+	
+	@Override
+	public String cacheName() {
+		return CACHE_NAME;
+	}
+	
+	/**
+	 * 이 노드의 캐시에서 룸의 정책/기본 가격/날짜별 가격을 모두 제거
+	 */
+	@Override
+	public void evictLocal(Collection<String> keys) {
+		Set<Long> roomIds = new HashSet<>();
+		for (String key : keys) {
+			try {
+				roomIds.add(Long.valueOf(key));
+			} catch (NumberFormatException ignored) {
+				// 가격 캐시 키는 roomId만 사용
+			}
+		}
+		if (roomIds.isEmpty()) return;
+		policies.synchronous().invalidateAll(roomIds);
+		defaultPrices.synchronous().invalidateAll(roomIds);
+		timeSlotPrices.synchronous().asMap().keySet().removeIf(key -> roomIds.contains(key.roomId()));
+		log.info("Evicted pricing of {} room(s) from local cache: {}", roomIds.size(), roomIds);
+	}
+	
+	@Override
+	public void clearLocal() {
+		policies.synchronous().invalidateAll();
+		defaultPrices.synchronous().invalidateAll();
+		timeSlotPrices.synchronous().invalidateAll();
+		recentWarmUps.invalidateAll();
+		log.info("Cleared all local pricing cache");
+	}
+	
+	/**
+	 * 날짜별 시간대 가격 캐시 키
+	 */
+	private record RoomDate(Long roomId, LocalDate date) {
+	}
+	
+	/**
+	 * 가격 정책 미스 적재
+	 * 정책 배치 API가 없으므로 배치 미스는 룸별로 조회하되 동시 호출을 POLICY_LOAD_CONCURRENCY개로 제한합니다.
+	 * 조회에 실패한 룸은 결과에서 빠지고 캐시하지 않습니다.
+	 */
+	private final class PolicyLoader implements AsyncCacheLoader<Long, PricingPolicyResponse> {
+		
+		@Override
+		public CompletableFuture<? extends PricingPolicyResponse> asyncLoad(Long roomId, Executor executor) {
+			return load(roomId).toFuture();
+		}
+		
+		@Override
+		public CompletableFuture<? extends Map<? extends Long, ? extends PricingPolicyResponse>> asyncLoadAll(
+				Set<? extends Long> roomIds, Executor executor) {
+			return Flux.fromIterable(roomIds)
+					.flatMap(roomId -> load(roomId)
+									.map(policy -> Map.entry(roomId, policy))
+									.onErrorResume(e -> {
+										log.warn("[PricingCache] policy load failed: roomId={}, error={}", roomId, e.getMessage());
+										return Mono.empty();
+									}),
+							POLICY_LOAD_CONCURRENCY)
+					.collectMap(Map.Entry::getKey, Map.Entry::getValue)
+					.toFuture();
+		}
+		
+		private Mono<PricingPolicyResponse> load(Long roomId) {
+			return yeYakHaeYoClient.getPricingPolicy(roomId)
+					.transform(resilience.protect(SERVICE_NAME));
+		}
+	}
+	
+	/**
+	 * 기본 가격 미스는 rooms/batch 한 번으로 적재 (응답에 없는 룸은 캐시하지 않음)
+	 */
+	private final class DefaultPriceLoader implements AsyncCacheLoader<Long, RoomPricingInfo> {
+		
+		@Override
+		public CompletableFuture<? extends RoomPricingInfo> asyncLoad(Long roomId, Executor executor) {
+			return asyncLoadAll(Set.of(roomId), executor).thenApply(prices -> prices.get(roomId));
+		}
+		
+		@Override
+		public CompletableFuture<? extends Map<? extends Long, ? extends RoomPricingInfo>> asyncLoadAll(
+				Set<? extends Long> roomIds, Executor executor) {
+			return yeYakHaeYoClient.getPricingPoliciesByRoomIds(List.copyOf(roomIds))
+					.transform(resilience.protect(SERVICE_NAME))
+					.map(response -> {
+						Map<Long, RoomPricingInfo> prices = new HashMap<>();
+						if (response.getRooms() != null) {
+							for (RoomPricingInfo room : response.getRooms()) {
+								if (room.getRoomId() != null) prices.put(room.getRoomId(), room);
+							}
+						}
+						return prices;
+					})
+					.defaultIfEmpty(Map.of())
+					.toFuture();
+		}
+	}
+}
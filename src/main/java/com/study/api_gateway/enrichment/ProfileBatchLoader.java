@@ -0,0 +1,346 @@
+package com.study.api_gateway.enrichment;
+
+import com.study.api_gateway.api.profile.client.ProfileClient;
+import com.study.api_gateway.api.profile.dto.response.BatchUserSummaryResponse;
+import com.study.api_gateway.common.deadline.Deadline;
+import com.study.api_gateway.common.monitoring.metrics.ApiGatewayMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 요청 간 프로필 요약 배치 로더 (DataLoader 방식)
+ * <p>
+ * 동시에 처리 중인 요청들이 필요로 하는 사용자 ID를 max-wait 동안(또는 max-batch-size개가 모일 때까지) 모아
+ * 중복을 제거한 한 번의 /batch 호출로 조회하고, 결과를 각 요청이 요청한 ID만큼 나눠 돌려줍니다.
+ * 배치 윈도우는 첫 ID가 들어온 시점부터 시작하므로 추가 지연은 최대 max-wait입니다.
+ * 배치 크기는 고정값이 아니라 배치 호출 지연 시간(target-latency), 응답 크기(target-payload-bytes)와 실패 여부에 따라 조절됩니다.
+ * 한 요청의 ID가 배치 크기를 넘으면 여기서 한 번만 나눠 등록합니다. (호출 측에서 따로 나누지 않음)
+ * <p>
+ * - 대기 중인 배치는 호출 스레드 기준으로 shards개로 나눠 잠금 경합을 줄입니다. (이벤트 루프별로 따로 모임)
+ * - 배치 호출은 합류한 요청 중 가장 늦은 마감(Deadline)을 따르고, 모든 요청이 취소되면 호출도 취소합니다.
+ */
+@Slf4j
+@Component
+public class ProfileBatchLoader {
+	
+	/**
+	 * 응답 크기 추정 시 항목 1개당 더하는 JSON 구조 오버헤드 (키 이름, 따옴표, 구분자)
+	 */
+	private static final int ENTRY_OVERHEAD_BYTES = 48;
+	
+	private final ProfileClient profileClient;
+	private final ApiGatewayMetrics metrics;
+	private final boolean enabled;
+	private final long maxWaitNanos;
+	private final int maxConcurrency;
+	private final AdaptiveBatchSizer batchSizer;
+	private final Scheduler timer = Schedulers.parallel();
+	private final Shard[] shards;
+	
+	public ProfileBatchLoader(
+			ProfileClient profileClient,
+			ApiGatewayMetrics metrics,
+			@Value("${app.profile.batch-loader.enabled:true}") boolean enabled,
+			@Value("${app.profile.batch-loader.max-wait:PT0.002S}") Duration maxWait,
+			@Value("${app.profile.batch-loader.initial-batch-size:200}") int initialBatchSize,
+			@Value("${app.profile.batch-loader.min-batch-size:20}") int minBatchSize,
+			@Value("${app.profile.batch-loader.max-batch-size:500}") int maxBatchSize,
+			@Value("${app.profile.batch-loader.target-latency:PT0.15S}") Duration targetLatency,
+			@Value("${app.profile.batch-loader.target-payload-bytes:262144}") long targetPayloadBytes,
+			@Value("${app.profile.batch-loader.max-concurrency:4}") int maxConcurrency,
+			@Value("${app.profile.batch-loader.shards:4}") int shardCount
+	) {
+		this.profileClient = profileClient;
+		this.metrics = metrics;
+		this.enabled = enabled;
+		this.maxWaitNanos = maxWait.toNanos();
+		this.maxConcurrency = Math.max(1, maxConcurrency);
+		this.batchSizer = new AdaptiveBatchSizer(minBatchSize, maxBatchSize, initialBatchSize, targetLatency.toNanos(), targetPayloadBytes);
+		this.shards = new Shard[Math.max(1, shardCount)];
+		for (int i = 0; i < shards.length; i++) {
+			shards[i] = new Shard();
+		}
+		metrics.registerProfileBatchSizeGauge(batchSizer::current);
+		
+		log.info("[ProfileBatchLoader] initialized: enabled={}, maxWait={}, batchSize={}..{} (initial {}), targetLatency={}, targetPayloadBytes={}, maxConcurrency={}, shards={}",
+				enabled, maxWait, minBatchSize, maxBatchSize, batchSizer.current(), targetLatency, targetPayloadBytes, this.maxConcurrency, shards.length);
+	}
+	
+	/**
+	 * 사용자 ID 목록의 프로필 조회 (다른 요청의 ID와 합쳐서 배치 호출)
+	 *
+	 * @return 조회된 ID만 포함하는 맵 (응답에 없는 ID는 프로필이 없는 사용자), 조각 중 하나라도 실패하면 error
+	 */
+	public Mono<Map<String, BatchUserSummaryResponse>> load(Collection<String> userIds) {
+		return loadChunks(userIds)
+				.<Map<String, BatchUserSummaryResponse>>handle((chunk, sink) -> {
+					if (chunk.failed()) {
+						sink.error(chunk.error());
+					} else {
+						sink.next(chunk.found());
+					}
+				})
+				.reduceWith(HashMap::new, (acc, found) -> {
+					acc.putAll(found);
+					return acc;
+				});
+	}
+	
+	/**
+	 * 사용자 ID 목록을 현재 배치 크기 단위 조각으로 나눠 조회하고, 조각별 결과를 끝나는 순서대로 발행
+	 * - 동시 진행 조각 수는 max-concurrency로 제한되고, 각 조각은 다른 요청의 ID와 합쳐져 발송될 수 있습니다.
+	 * - 실패한 조각은 error 대신 {@link Chunk#failed()} 조각으로 발행하므로 나머지 조각의 결과는 그대로 사용할 수 있습니다.
+	 */
+	public Flux<Chunk> loadChunks(Collection<String> userIds) {
+		if (userIds == null || userIds.isEmpty()) {
+			return Flux.empty();
+		}
+		List<String> ids = new ArrayList<>(new LinkedHashSet<>(userIds));
+		if (!enabled) {
+			return profileClient.fetchUserSummariesBatchOrError(ids)
+					.map(ProfileBatchLoader::toMap)
+					.defaultIfEmpty(Map.of())
+					.map(found -> Chunk.of(ids, found))
+					.onErrorResume(e -> Mono.just(Chunk.failed(ids, e)))
+					.flux();
+		}
+		
+		int maxBatchSize = batchSizer.current();
+		List<List<String>> parts = new ArrayList<>();
+		for (int i = 0; i < ids.size(); i += maxBatchSize) {
+			parts.add(ids.subList(i, Math.min(i + maxBatchSize, ids.size())));
+		}
+		return Flux.fromIterable(parts)
+				.flatMap(part -> Mono.deferContextual(context -> enqueue(part, Deadline.from(context)))
+						.map(found -> Chunk.of(part, found))
+						.onErrorResume(e -> Mono.just(Chunk.failed(part, e))), maxConcurrency);
+	}
+	
+	private Mono<Map<String, BatchUserSummaryResponse>> enqueue(List<String> ids, Deadline deadline) {
+		Waiter waiter = new Waiter(ids, System.nanoTime(), deadline);
+		int maxBatchSize = batchSizer.current();
+		Shard shard = shards[(int) (Thread.currentThread().threadId() % shards.length)];
+		List<PendingBatch> ready = new ArrayList<>(2);
+		PendingBatch opened = null;
+		synchronized (shard) {
+			// 합치면 최대 크기를 넘는 경우 기존 배치를 먼저 발송
+			if (shard.pending != null && shard.pending.wouldExceed(ids, maxBatchSize)) {
+				ready.add(shard.pending);
+				shard.pending = null;
+			}
+			if (shard.pending == null) {
+				shard.pending = new PendingBatch();
+				opened = shard.pending;
+			}
+			shard.pending.add(waiter);
+			if (shard.pending.ids.size() >= maxBatchSize) {
+				ready.add(shard.pending);
+				shard.pending = null;
+			}
+		}
+		if (opened != null) {
+			PendingBatch batch = opened;
+			timer.schedule(() -> flushIfPending(shard, batch), maxWaitNanos, TimeUnit.NANOSECONDS);
+		}
+		for (PendingBatch batch : ready) {
+			dispatch(batch, "size");
+		}
+		return waiter.sink.asMono().doOnCancel(waiter::cancel);
+	}
+	
+	private void flushIfPending(Shard shard, PendingBatch batch) {
+		synchronized (shard) {
+			if (shard.pending != batch) return; // 이미 크기 도달로 발송됨
+			shard.pending = null;
+		}
+		dispatch(batch, "window");
+	}
+	
+	private void dispatch(PendingBatch batch, String trigger) {
+		batch.dispatched = true;
+		if (batch.live.get() == 0) {
+			return; // 발송 전에 합류한 요청이 모두 취소됨
+		}
+		long now = System.nanoTime();
+		for (Waiter waiter : batch.waiters) {
+			metrics.recordProfileBatchWait(now - waiter.enqueuedAtNanos);
+		}
+		metrics.recordProfileBatch(trigger, batch.ids.size(), batch.waiters.size());
+		
+		int size = batch.ids.size();
+		long startedAt = System.nanoTime();
+		Deadline deadline = batch.deadline;
+		Disposable call = profileClient.fetchUserSummariesBatchOrError(new ArrayList<>(batch.ids))
+				.map(ProfileBatchLoader::toMap)
+				.defaultIfEmpty(Map.of())
+				.contextWrite(context -> deadline != null ? deadline.addTo(context) : context)
+				.subscribe(profiles -> {
+					long latency = System.nanoTime() - startedAt;
+					batchSizer.onSuccess(size, latency, estimatePayloadBytes(profiles));
+					metrics.recordProfileBatchChunk(true, latency);
+					batch.complete(profiles);
+				}, e -> {
+					long latency = System.nanoTime() - startedAt;
+					batchSizer.onFailure();
+					metrics.recordProfileBatchChunk(false, latency);
+					log.warn("[ProfileBatchLoader] batch fetch failed ids.size={}, nextBatchSize={}: {}",
+							size, batchSizer.current(), e.toString());
+					// 실패를 빈 결과로 바꾸면 호출자가 '프로필 없음'으로 오인하므로 그대로 전달
+					batch.fail(e);
+				});
+		// 구독 직전에 마지막 요청이 취소된 경우 swap이 이미 dispose 상태라 call도 함께 취소됨
+		batch.call.update(call);
+	}
+	
+	/**
+	 * 응답 JSON 크기 추정 (문자열 필드 길이 + 항목당 구조 오버헤드)
+	 */
+	static long estimatePayloadBytes(Map<String, BatchUserSummaryResponse> profiles) {
+		long bytes = 0;
+		for (BatchUserSummaryResponse profile : profiles.values()) {
+			bytes += ENTRY_OVERHEAD_BYTES + length(profile.getUserId()) + length(profile.getNickname()) + length(profile.getProfileImageUrl());
+		}
+		return bytes;
+	}
+	
+	private static int length(String value) {
+		return value == null ? 0 : value.length();
+	}
+	
+	private static Map<String, BatchUserSummaryResponse> toMap(List<BatchUserSummaryResponse> profiles) {
+		if (profiles == null || profiles.isEmpty()) return Map.of();
+		Map<String, BatchUserSummaryResponse> map = new HashMap<>(profiles.size() * 2);
+		for (BatchUserSummaryResponse profile : profiles) {
+			if (profile != null && profile.getUserId() != null) {
+				map.putIfAbsent(profile.getUserId(), profile);
+			}
+		}
+		return map;
+	}
+	
+	/**
+	 * 조각 1개의 조회 결과
+	 *
+	 * @param requested 조각에 포함된 ID
+	 * @param found     조회된 프로필 (실패한 조각이면 빈 맵)
+	 * @param error     실패 원인 (성공이면 null)
+	 */
+	public record Chunk(List<String> requested, Map<String, BatchUserSummaryResponse> found, Throwable error) {
+		
+		static Chunk of(List<String> requested, Map<String, BatchUserSummaryResponse> found) {
+			return new Chunk(requested, found, null);
+		}
+		
+		static Chunk failed(List<String> requested, Throwable error) {
+			return new Chunk(requested, Map.of(), error);
+		}
+		
+		public boolean failed() {
+			return error != null;
+		}
+	}
+	
+	/**
+	 * 대기 중인 배치 1개를 가지는 샤드 (자기 자신으로 동기화)
+	 */
+	private static final class Shard {
+		private PendingBatch pending;
+	}
+	
+	/**
+	 * 배치에 합류한 개별 요청
+	 */
+	private static final class Waiter {
+		private final List<String> ids;
+		private final long enqueuedAtNanos;
+		private final Deadline deadline;
+		private final Sinks.One<Map<String, BatchUserSummaryResponse>> sink = Sinks.one();
+		private final AtomicBoolean cancelled = new AtomicBoolean();
+		private volatile PendingBatch batch;
+		
+		private Waiter(List<String> ids, long enqueuedAtNanos, Deadline deadline) {
+			this.ids = ids;
+			this.enqueuedAtNanos = enqueuedAtNanos;
+			this.deadline = deadline;
+		}
+		
+		void cancel() {
+			if (cancelled.compareAndSet(false, true)) {
+				batch.onWaiterCancelled();
+			}
+		}
+	}
+	
+	/**
+	 * 발송 전 배치 (ID 합집합 + 대기 중인 요청)
+	 * 발송 후에는 waiters가 바뀌지 않고, live/call로 취소만 추적합니다.
+	 */
+	private static final class PendingBatch {
+		private final Set<String> ids = new LinkedHashSet<>();
+		private final List<Waiter> waiters = new ArrayList<>();
+		private final AtomicInteger live = new AtomicInteger();
+		private final Disposable.Swap call = Disposables.swap();
+		private Deadline deadline;
+		private boolean unbounded;
+		private volatile boolean dispatched;
+		
+		boolean wouldExceed(List<String> newIds, int maxBatchSize) {
+			int size = ids.size();
+			for (String id : newIds) {
+				if (!ids.contains(id) && ++size > maxBatchSize) return true;
+			}
+			return false;
+		}
+		
+		void add(Waiter waiter) {
+			ids.addAll(waiter.ids);
+			waiters.add(waiter);
+			waiter.batch = this;
+			live.incrementAndGet();
+			// 마감이 없는 요청이 하나라도 있으면 배치도 마감 없이 진행
+			if (waiter.deadline == null) {
+				unbounded = true;
+				deadline = null;
+			} else if (!unbounded) {
+				deadline = Deadline.latest(deadline, waiter.deadline);
+			}
+		}
+		
+		void onWaiterCancelled() {
+			if (live.decrementAndGet() == 0 && dispatched) {
+				call.dispose();
+			}
+		}
+		
+		void complete(Map<String, BatchUserSummaryResponse> profiles) {
+			for (Waiter waiter : waiters) {
+				Map<String, BatchUserSummaryResponse> own = new HashMap<>(waiter.ids.size() * 2);
+				for (String id : waiter.ids) {
+					BatchUserSummaryResponse profile = profiles.get(id);
+					if (profile != null) own.put(id, profile);
+				}
+				waiter.sink.tryEmitValue(own);
+			}
+		}
+		
+		void fail(Throwable error) {
+			for (Waiter waiter : waiters) {
+				waiter.sink.tryEmitError(error);
+			}
+		}
+	}
+}
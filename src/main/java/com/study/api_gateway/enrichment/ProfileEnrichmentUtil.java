@@ -3,26 +3,25 @@ package com.study.api_gateway.enrichment;
 import com.study.api_gateway.api.article.dto.response.ArticleResponse;
 import com.study.api_gateway.api.article.dto.response.ArticleSimpleResponse;
 import com.study.api_gateway.api.article.dto.response.EnrichedArticleResponse;
-import com.study.api_gateway.api.profile.client.ProfileClient;
 import com.study.api_gateway.api.profile.dto.response.BatchUserSummaryResponse;
 import com.study.api_gateway.enrichment.cache.ProfileCache;
+import com.study.api_gateway.enrichment.plan.EnrichmentPlans;
+import com.study.api_gateway.enrichment.stream.JsonRewriteSpec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
 import java.util.*;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
  * 프로필 보강 유틸리티
  * - 응답 맵에서 userId 또는 writerId를 찾아 닉네임, 프로필 이미지 URL을 채워 넣습니다.
- * - 향후 Redis 캐싱을 고려하여 설계되었으며, 현재는 Noop 캐시를 통해 항상 미스 처리됩니다.
+ * - 프로필은 2단계 캐시(로컬 Caffeine → Redis)를 먼저 조회하고, 없는 항목만 프로필 서버에서 가져옵니다.
  * <p>
  * 처리 파이프라인:
  * 1) 페이로드에 포함된 모든 사용자 ID 수집 (중복 제거)
- * 2) 캐시 조회 (향후 Redis)로 존재하는 항목 로드
+ * 2) 캐시 조회 (Caffeine → Redis)로 존재하는 항목 로드
  * 3) 캐시에 없는 ID만 프로필 서버 배치 API로 조회
  * 4) 캐시 결과와 API 결과를 머지 후, 대상 응답에 닉네임/프로필 이미지를 주입
  */
@@ -40,11 +39,17 @@ public class ProfileEnrichmentUtil {
 	private static final String DEFAULT_NICKNAME = "상어크앙";
 	private static final String DEFAULT_PROFILE_IMAGE_URL = "와방쌘 상어";
 	
-	private static final int BATCH_SIZE = 200; // 대량 방어용 내부 분할 크기
-	private static final int SOFT_CAP = 5000; // 너무 큰 요청에 대한 소프트 상한
+	/**
+	 * enrichAny와 같은 규칙(USER_ID_KEYS 옆에 nickname/profileImageUrl 추가)의 스트리밍 보강 스펙
+	 */
+	public static final JsonRewriteSpec ANY_PROFILE_SPEC = JsonRewriteSpec.siblings(
+			USER_ID_KEYS, "nickname", "profileImageUrl", DEFAULT_NICKNAME, DEFAULT_PROFILE_IMAGE_URL);
+	
+	private static final int LARGE_REQUEST_WARN_SIZE = 5000; // 이 이상이면 경고 로그만 남기고 모두 조회
 	
-	private final ProfileClient profileClient;
-	private final ProfileCache profileCache; // placeholder for future Redis integration
+	private final ProfileCache profileCache; // Caffeine + Redis 2단계 캐시
+	private final ProfileBatchLoader profileBatchLoader;
+	private final EnrichmentPlans enrichmentPlans;
 	
 	/**
 	 * 항목 리스트 보강
@@ -129,42 +134,11 @@ public class ProfileEnrichmentUtil {
 		if (articles == null || articles.isEmpty()) {
 			return Mono.just(List.of());
 		}
-		
-		// Extract all unique writerIds
-		Set<String> writerIds = articles.stream()
-				.map(ArticleSimpleResponse::getWriterId)
-				.filter(Objects::nonNull)
-				.collect(Collectors.toCollection(LinkedHashSet::new));
-		
-		if (writerIds.isEmpty()) {
-			// No writerIds to enrich, just convert to EnrichedArticleResponse
-			return Mono.just(articles.stream()
-					.map(EnrichedArticleResponse::from)
-					.collect(Collectors.toList()));
+		List<EnrichedArticleResponse> enriched = new ArrayList<>(articles.size());
+		for (ArticleSimpleResponse article : articles) {
+			enriched.add(EnrichedArticleResponse.from(article));
 		}
-		
-		// Load profiles (uses cache first, then batch API for missing profiles)
-		return loadProfiles(writerIds)
-				.map(profileMap -> articles.stream()
-						.map(article -> {
-							EnrichedArticleResponse enriched = EnrichedArticleResponse.from(article);
-							
-							// Apply profile information if available
-							String writerId = article.getWriterId();
-							if (writerId != null) {
-								BatchUserSummaryResponse profile = profileMap.get(writerId);
-								String writerName = (profile == null || isBlank(profile.getNickname()))
-										? DEFAULT_NICKNAME
-										: profile.getNickname();
-								String writerProfileImage = (profile == null || isBlank(profile.getProfileImageUrl()))
-										? DEFAULT_PROFILE_IMAGE_URL
-										: profile.getProfileImageUrl();
-								enriched.withProfile(writerName, writerProfileImage);
-							}
-							
-							return enriched;
-						})
-						.collect(Collectors.toList()));
+		return enrichProfiles(enriched);
 	}
 	
 	/**
@@ -180,43 +154,34 @@ public class ProfileEnrichmentUtil {
 		if (articles == null || articles.isEmpty()) {
 			return Mono.just(articles == null ? List.of() : articles);
 		}
-		
-		// Extract all unique writerIds
-		Set<String> writerIds = articles.stream()
-				.map(ArticleResponse::getWriterId)
-				.filter(Objects::nonNull)
-				.collect(Collectors.toCollection(LinkedHashSet::new));
-		
-		if (writerIds.isEmpty()) {
-			// No writerIds to enrich, return as is
-			return Mono.just(articles);
-		}
-		
-		// Load profiles (uses cache first, then batch API for missing profiles)
-		return loadProfiles(writerIds)
+		return enrichProfiles(articles);
+	}
+	
+	/**
+	 * 타입 기반 프로필 보강
+	 * - @ProfileRef 필드에서 사용자 ID를 수집하고, 지정된 필드에 닉네임/프로필 이미지를 주입합니다.
+	 * - @EnrichNested 필드를 따라 하위 객체/컬렉션도 함께 보강합니다.
+	 * - 타입별 접근자는 EnrichmentPlans에서 한 번만 컴파일되므로 맵 변환이나 키 탐색이 없습니다.
+	 *
+	 * @param target 보강 대상 DTO, DTO 컬렉션 또는 이를 포함하는 페이지 객체
+	 * @return 같은 인스턴스(제자리 수정)를 포함하는 Mono
+	 */
+	public <T> Mono<T> enrichProfiles(T target) {
+		if (target == null) return Mono.empty();
+		Set<String> userIds = new LinkedHashSet<>();
+		enrichmentPlans.collect(target, userIds);
+		if (userIds.isEmpty()) return Mono.just(target);
+		return loadProfiles(userIds)
 				.map(profileMap -> {
-					// Apply profile information to each article in-place
-					for (ArticleResponse article : articles) {
-						String writerId = article.getWriterId();
-						if (writerId != null) {
-							BatchUserSummaryResponse profile = profileMap.get(writerId);
-							String writerName = (profile == null || isBlank(profile.getNickname()))
-									? DEFAULT_NICKNAME
-									: profile.getNickname();
-							String writerProfileImage = (profile == null || isBlank(profile.getProfileImageUrl()))
-									? DEFAULT_PROFILE_IMAGE_URL
-									: profile.getProfileImageUrl();
-							article.setWriterName(writerName);
-							article.setWriterProfileImage(writerProfileImage);
-						}
-					}
-					return articles;
+					enrichmentPlans.inject(target, profileMap, DEFAULT_NICKNAME, DEFAULT_PROFILE_IMAGE_URL);
+					return target;
 				});
 	}
 	
 	/**
 	 * 프로필 로딩 (캐시 + 배치 API)
 	 * - 전달된 userIds를 캐시에서 먼저 조회하고, 누락분만 배치 API로 조회한 뒤 병합합니다.
+	 * - 캐시된 음수 엔트리(프로필 없음)는 다시 조회하지 않고 결과에서 제외합니다. (호출자는 기본값 사용)
 	 *
 	 * @param userIds 조회 대상 사용자 ID 집합
 	 * @return userId -> BatchUserSummaryResponse 맵을 포함하는 Mono
@@ -229,34 +194,29 @@ public class ProfileEnrichmentUtil {
 		
 		log.info("[ProfileEnrichmentUtil] Loading profiles for {} userIds: {}", userIds.size(), userIds);
 		
-		// 너무 큰 요청에 대해서는 소프트 상한을 적용하고 경고 로그만 남김
-		final Set<String> idsToUse;
-		if (userIds.size() > SOFT_CAP) {
-			log.warn("profile enrichment requested for too many userIds: size={} > cap={}, truncating", userIds.size(), SOFT_CAP);
-			idsToUse = userIds.stream().limit(SOFT_CAP).collect(Collectors.toCollection(LinkedHashSet::new));
-		} else {
-			idsToUse = new LinkedHashSet<>(userIds);
+		// 큰 요청도 잘라내지 않고 배치 단위로 나눠 조회 (경고 로그만 남김)
+		if (userIds.size() > LARGE_REQUEST_WARN_SIZE) {
+			log.warn("profile enrichment requested for many userIds: size={} > {}", userIds.size(), LARGE_REQUEST_WARN_SIZE);
 		}
+		final Set<String> idsToUse = new LinkedHashSet<>(userIds);
 		return profileCache.getAll(idsToUse)
 				.onErrorResume(e -> {
 					log.warn("profile cache getAll failed: {}", e.toString());
 					return Mono.just(Map.of());
 				})
 				.defaultIfEmpty(Map.of())
-				.flatMap(cached -> {
+				.flatMap(cachedWithNegatives -> {
 					Set<String> missing = new LinkedHashSet<>(idsToUse);
-					missing.removeAll(cached.keySet());
+					missing.removeAll(cachedWithNegatives.keySet());
+					Map<String, BatchUserSummaryResponse> cached = withoutNegatives(cachedWithNegatives);
 					Mono<Map<String, BatchUserSummaryResponse>> fetchedMono;
 					if (missing.isEmpty()) {
 						fetchedMono = Mono.just(Map.of());
 					} else {
 						log.info("[ProfileEnrichmentUtil] Cache miss for {} userIds, fetching from API: {}", missing.size(), missing);
 						fetchedMono = fetchInBatches(new ArrayList<>(missing))
-								.doOnNext(list -> log.info("[ProfileEnrichmentUtil] API returned {} profiles", list.size()))
-								.defaultIfEmpty(List.of())
-								.map(list -> list.stream()
-										.filter(Objects::nonNull)
-										.collect(Collectors.toMap(BatchUserSummaryResponse::getUserId, Function.identity(), (a, b) -> a)))
+								.doOnNext(map -> log.info("[ProfileEnrichmentUtil] API returned {} profiles", map.size()))
+								.defaultIfEmpty(Map.of())
 								// 캐시 저장은 응답 체인과 분리하여 비동기로 처리합니다.
 								// 즉시 map을 반환하여 응답 구성을 진행하고, putAll은 fire-and-forget으로 수행합니다.
 								.doOnNext(map -> profileCache.putAll(map)
@@ -274,16 +234,53 @@ public class ProfileEnrichmentUtil {
 				});
 	}
 	
-	private Mono<List<BatchUserSummaryResponse>> fetchInBatches(List<String> ids) {
-		if (ids == null || ids.isEmpty()) return Mono.just(List.of());
-		List<List<String>> parts = new ArrayList<>();
-		for (int i = 0; i < ids.size(); i += BATCH_SIZE) {
-			parts.add(ids.subList(i, Math.min(i + BATCH_SIZE, ids.size())));
+	private static Map<String, BatchUserSummaryResponse> withoutNegatives(Map<String, BatchUserSummaryResponse> cached) {
+		boolean hasNegative = false;
+		for (BatchUserSummaryResponse profile : cached.values()) {
+			if (ProfileCache.isNotFound(profile)) {
+				hasNegative = true;
+				break;
+			}
 		}
-		return reactor.core.publisher.Flux.fromIterable(parts)
-				.concatMap(profileClient::fetchUserSummariesBatch)
-				.collectList()
-				.map(listOfLists -> listOfLists.stream().filter(java.util.Objects::nonNull).flatMap(java.util.Collection::stream).collect(java.util.stream.Collectors.toList()));
+		if (!hasNegative) return cached;
+		Map<String, BatchUserSummaryResponse> positives = new LinkedHashMap<>(cached);
+		positives.values().removeIf(ProfileCache::isNotFound);
+		return positives;
+	}
+	
+	/**
+	 * 누락된 ID를 배치 로더로 조회 (조각 분할과 동시성 제한은 ProfileBatchLoader가 담당)
+	 * - 조각이 끝나는 순서대로 결과를 병합합니다.
+	 * - 성공한 조각에서 응답에 없던 ID는 음수 엔트리로 캐시하고, 실패한 조각은 빈 결과로 처리합니다(캐시하지 않음).
+	 */
+	private Mono<Map<String, BatchUserSummaryResponse>> fetchInBatches(List<String> ids) {
+		if (ids == null || ids.isEmpty()) return Mono.just(Map.of());
+		return profileBatchLoader.loadChunks(ids)
+				.doOnNext(chunk -> {
+					if (chunk.failed()) {
+						log.warn("profile batch fetch failed ids.size={}: {}", chunk.requested().size(), chunk.error().toString());
+					} else {
+						cacheMissing(chunk.requested(), chunk.found());
+					}
+				})
+				.reduceWith(LinkedHashMap::new, (acc, chunk) -> {
+					acc.putAll(chunk.found());
+					return acc;
+				});
+	}
+	
+	private void cacheMissing(List<String> requested, Map<String, BatchUserSummaryResponse> found) {
+		if (found.size() >= requested.size()) return;
+		List<String> notFound = new ArrayList<>(requested.size() - found.size());
+		for (String id : requested) {
+			if (!found.containsKey(id)) notFound.add(id);
+		}
+		if (notFound.isEmpty()) return;
+		log.debug("[ProfileEnrichmentUtil] caching {} userIds without profile", notFound.size());
+		profileCache.putMissing(notFound)
+				.doOnError(e -> log.warn("failed to write negative profile entries: {}", e.toString()))
+				.subscribeOn(reactor.core.scheduler.Schedulers.boundedElastic())
+				.subscribe();
 	}
 	
 	/**
@@ -386,6 +383,7 @@ public class ProfileEnrichmentUtil {
 	/**
 	 * 임의의 객체(맵/리스트 구조)를 스캔하여 userId/writerId 등으로 추정되는 값을 찾고 보강합니다.
 	 * - 맵/리스트의 중첩 구조를 모두 순회합니다.
+	 * - 맵이 아닌 DTO는 키 탐색 대신 타입별 보강 계획(@ProfileRef/@EnrichNested)을 사용합니다.
 	 */
 	public Mono<Object> enrichAny(Object data) {
 		if (data == null) return Mono.justOrEmpty(data);
@@ -400,7 +398,7 @@ public class ProfileEnrichmentUtil {
 	}
 	
 	@SuppressWarnings("unchecked")
-	private void collectUserIdsDeep(Object node, Set<String> acc) {
+	void collectUserIdsDeep(Object node, Set<String> acc) {
 		if (node == null) return;
 		if (node instanceof Map<?, ?> mm) {
 			Map<String, Object> m = (Map<String, Object>) mm;
@@ -423,14 +421,19 @@ public class ProfileEnrichmentUtil {
 			for (Object elem : list) {
 				if (elem instanceof Map<?, ?> || elem instanceof List<?>) {
 					collectUserIdsDeep(elem, acc);
+				} else if (elem != null) {
+					enrichmentPlans.collect(elem, acc);
 				}
 			}
+		} else {
+			enrichmentPlans.collect(node, acc);
 		}
 	}
 	
 	@SuppressWarnings("unchecked")
-	private void injectProfilesDeep(Object node, Map<String, BatchUserSummaryResponse> profileMap) {
-		if (node == null || profileMap == null || profileMap.isEmpty()) return;
+	void injectProfilesDeep(Object node, Map<String, BatchUserSummaryResponse> profileMap) {
+		// 프로필을 하나도 찾지 못해도 기본값은 주입해야 하므로 빈 맵이어도 순회합니다.
+		if (node == null || profileMap == null) return;
 		if (node instanceof Map<?, ?> mm) {
 			Map<String, Object> m = (Map<String, Object>) mm;
 			String uid = null;
@@ -457,8 +460,12 @@ public class ProfileEnrichmentUtil {
 			for (Object elem : list) {
 				if (elem instanceof Map<?, ?> || elem instanceof List<?>) {
 					injectProfilesDeep(elem, profileMap);
+				} else if (elem != null) {
+					enrichmentPlans.inject(elem, profileMap, DEFAULT_NICKNAME, DEFAULT_PROFILE_IMAGE_URL);
 				}
 			}
+		} else {
+			enrichmentPlans.inject(node, profileMap, DEFAULT_NICKNAME, DEFAULT_PROFILE_IMAGE_URL);
 		}
 	}
 	
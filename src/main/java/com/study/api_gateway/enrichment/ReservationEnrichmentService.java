@@ -13,7 +13,6 @@ import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -50,41 +49,20 @@ public class ReservationEnrichmentService {
 		
 		List<InternalUserReservationsResponse.InternalUserReservationItem> items = internalResponse.getContent();
 		
-		// 1. 유니크한 placeId, roomId 수집
-		List<Long> uniquePlaceIds = items.stream()
-				.map(InternalUserReservationsResponse.InternalUserReservationItem::getPlaceId)
-				.filter(Objects::nonNull)
-				.distinct()
-				.collect(Collectors.toList());
+		log.info("Enriching {} reservations", items.size());
 		
-		List<Long> uniqueRoomIds = items.stream()
-				.map(InternalUserReservationsResponse.InternalUserReservationItem::getRoomId)
-				.filter(Objects::nonNull)
-				.distinct()
-				.collect(Collectors.toList());
-		
-		log.info("Enriching {} reservations with {} unique places and {} unique rooms",
-				items.size(), uniquePlaceIds.size(), uniqueRoomIds.size());
-		
-		// 2. Place/Room 정보 병렬 배치 조회 (캐시 활용)
-		Mono<Map<Long, PlaceInfoResponse>> placesMono = placeCacheService.getPlacesByBatchWithCache(uniquePlaceIds)
-				.map(response -> {
-					if (response.getResults() == null) {
-						return Map.<Long, PlaceInfoResponse>of();
-					}
-					return response.getResults().stream()
-							.collect(Collectors.toMap(
-									place -> Long.parseLong(place.getId()),
-									place -> place,
-									(existing, replacement) -> existing
-							));
-				})
+		// 1. Place/Room 정보 병렬 배치 조회 (고유 ID당 한 번, 캐시 활용)
+		Mono<Map<Long, PlaceInfoResponse>> placesMono = BatchJoin.load(items,
+						InternalUserReservationsResponse.InternalUserReservationItem::getPlaceId,
+						placeCacheService::getPlacesById)
 				.doOnNext(map -> log.info("Fetched {} places", map.size()));
 		
-		Mono<Map<Long, RoomDetailResponse>> roomsMono = roomCacheService.getRoomsByBatchWithCache(uniqueRoomIds)
+		Mono<Map<Long, RoomDetailResponse>> roomsMono = BatchJoin.load(items,
+						InternalUserReservationsResponse.InternalUserReservationItem::getRoomId,
+						roomCacheService::getRoomsByBatchWithCache)
 				.doOnNext(map -> log.info("Fetched {} rooms", map.size()));
 		
-		// 3. 데이터 조합하여 최종 응답 생성
+		// 2. 데이터 조합하여 최종 응답 생성
 		return Mono.zip(placesMono, roomsMono)
 				.map(tuple -> {
 					Map<Long, PlaceInfoResponse> placeMap = tuple.getT1();
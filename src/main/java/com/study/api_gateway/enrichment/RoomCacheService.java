@@ -1,34 +1,63 @@
 package com.study.api_gateway.enrichment;
 
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.study.api_gateway.api.room.client.RoomClient;
 import com.study.api_gateway.api.room.dto.response.RoomDetailResponse;
-import lombok.RequiredArgsConstructor;
+import com.study.api_gateway.common.config.LocalCacheProperties;
+import com.study.api_gateway.common.invalidation.CacheInvalidationBus;
+import com.study.api_gateway.common.invalidation.LocalCacheInvalidator;
+import com.study.api_gateway.common.monitoring.metrics.ApiGatewayMetrics;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Room 정보 캐싱 서비스
- * 개별 조회와 배치 조회 모두 캐싱하여 중복 요청 최소화
+ * <p>
+ * Caffeine AsyncLoadingCache 기반으로, 미스 키는 getRoomsByIds 한 번으로 모아서 조회하고
+ * 동시에 같은 Room을 요청한 호출은 진행 중인 조회를 공유합니다.
+ * 크기/TTL은 cache.local.specs.roomCache 설정을 따릅니다.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
-public class RoomCacheService {
+public class RoomCacheService implements LocalCacheInvalidator {
 	
 	private static final String CACHE_NAME = "roomCache";
 	private final RoomClient roomClient;
-	private final CacheManager roomCacheManager;
+	private final CacheInvalidationBus invalidationBus;
+	private final AsyncLoadingCache<Long, RoomDetailResponse> cache;
+	
+	public RoomCacheService(
+			RoomClient roomClient,
+			CacheInvalidationBus invalidationBus,
+			LocalCacheProperties cacheProperties,
+			ApiGatewayMetrics metrics
+	) {
+		this.roomClient = roomClient;
+		this.invalidationBus = invalidationBus;
+		
+		LocalCacheProperties.Spec spec = cacheProperties.spec(CACHE_NAME);
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(spec.getMaximumSize())
+				.expireAfterWrite(spec.getTtl())
+				.recordStats()
+				.buildAsync(new RoomLoader());
+		metrics.registerLocalCache(CACHE_NAME, cache.synchronous());
+		
+		log.info("[RoomCache] initialized: maximumSize={}, ttl={}", spec.getMaximumSize(), spec.getTtl());
+	}
 	
 	/**
 	 * 개별 Room 조회 (캐싱 적용)
@@ -36,16 +65,13 @@ public class RoomCacheService {
 	 * @param roomId 조회할 Room ID
 	 * @return Room 정보
 	 */
-	@Cacheable(value = CACHE_NAME, key = "#roomId", cacheManager = "roomCacheManager")
 	public Mono<RoomDetailResponse> getRoomById(Long roomId) {
-		log.debug("Cache miss - fetching room from server: roomId={}", roomId);
-		return roomClient.getRoomById(roomId)
-				.doOnNext(room -> log.debug("Room fetched and cached: roomId={}", roomId));
+		return Mono.fromFuture(() -> cache.get(roomId), true);
 	}
 	
 	/**
-	 * 배치 Room 조회 (스마트 캐싱 적용)
-	 * 캐시된 항목과 캐시되지 않은 항목을 분리하여 처리
+	 * 배치 Room 조회 (캐싱 적용)
+	 * 서버 조회가 실패하면 캐시에 있던 Room만 반환합니다.
 	 *
 	 * @param roomIds 조회할 Room ID 목록
 	 * @return Room ID를 키로 하는 Map
@@ -57,117 +83,86 @@ public class RoomCacheService {
 		
 		// 중복 제거
 		List<Long> uniqueRoomIds = roomIds.stream()
+				.filter(Objects::nonNull)
 				.distinct()
 				.sorted()
-				.collect(Collectors.toList());
-		
-		log.info("Processing batch request for {} unique room IDs", uniqueRoomIds.size());
-		
-		// 캐시 확인
-		Cache cache = roomCacheManager.getCache(CACHE_NAME);
-		if (cache == null) {
-			log.warn("Cache not available, fetching all from server");
-			return fetchFromServer(uniqueRoomIds);
-		}
-		
-		// 캐시된 항목과 캐시되지 않은 항목 분리
-		Map<Long, RoomDetailResponse> cachedResults = new HashMap<>();
-		List<Long> uncachedIds = new ArrayList<>();
+				.toList();
 		
-		for (Long roomId : uniqueRoomIds) {
-			RoomDetailResponse cached = cache.get(roomId, RoomDetailResponse.class);
-			if (cached != null) {
-				cachedResults.put(roomId, cached);
-				log.debug("Cache hit for roomId: {}", roomId);
-			} else {
-				uncachedIds.add(roomId);
-				log.debug("Cache miss for roomId: {}", roomId);
-			}
-		}
-		
-		log.info("Cache status - hits: {}, misses: {}", cachedResults.size(), uncachedIds.size());
-		
-		// 캐시되지 않은 항목이 없으면 캐시된 결과만 반환
-		if (uncachedIds.isEmpty()) {
-			return Mono.just(cachedResults);
-		}
-		
-		// 캐시되지 않은 항목만 서버에서 조회
-		return fetchFromServer(uncachedIds)
-				.map(fetchedRooms -> {
-					// 새로 조회한 결과를 캐시에 저장
-					fetchedRooms.forEach((roomId, room) -> {
-						cache.put(roomId, room);
-						log.debug("Cached new room: roomId={}", roomId);
-					});
-					
-					// 캐시된 결과와 새로 조회한 결과 병합
-					Map<Long, RoomDetailResponse> allResults = new HashMap<>(cachedResults);
-					allResults.putAll(fetchedRooms);
-					
-					return allResults;
+		return Mono.fromFuture(() -> cache.getAll(uniqueRoomIds), true)
+				.onErrorResume(error -> {
+					log.error("Room 배치 조회 실패: roomIds={}, error={}", uniqueRoomIds, error.getMessage());
+					return Mono.just(cache.synchronous().getAllPresent(uniqueRoomIds));
 				});
 	}
 	
 	/**
-	 * 서버에서 Room 정보 배치 조회
+	 * 캐시 무효화 (특정 Room) - 모든 게이트웨이 노드에 전파
 	 */
-	private Mono<Map<Long, RoomDetailResponse>> fetchFromServer(List<Long> roomIds) {
-		log.info("Fetching {} rooms from server", roomIds.size());
-		return roomClient.getRoomsByIds(roomIds)
-				.map(rooms -> {
-					Map<Long, RoomDetailResponse> roomMap = rooms.stream()
-							.collect(Collectors.toMap(
-									RoomDetailResponse::getRoomId,
-									Function.identity(),
-									(existing, replacement) -> existing
-							));
-					log.info("Fetched {} rooms from server", roomMap.size());
-					return roomMap;
-				})
-				.onErrorResume(error -> {
-					log.error("Room 배치 조회 실패: roomIds={}, error={}", roomIds, error.getMessage());
-					return Mono.just(Map.of());
-				});
+	public void evictRoom(Long roomId) {
+		invalidationBus.publishEvict(cacheName(), List.of(String.valueOf(roomId)));
 	}
 	
 	/**
-	 * 캐시 통계 조회
+	 * 전체 캐시 클리어 - 모든 게이트웨이 노드에 전파
 	 */
-	public Map<String, Object> getCacheStats() {
-		Map<String, Object> stats = new HashMap<>();
-		Cache cache = roomCacheManager.getCache(CACHE_NAME);
-		
-		if (cache != null && cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache) {
-			com.github.benmanes.caffeine.cache.Cache<Object, Object> caffeineCache =
-					(com.github.benmanes.caffeine.cache.Cache<Object, Object>) cache.getNativeCache();
-			
-			stats.put("size", caffeineCache.estimatedSize());
-			stats.put("stats", caffeineCache.stats().toString());
-		}
-		
-		return stats;
+	public void clearAllCache() {
+		invalidationBus.publishClear(cacheName());
+	}
+	
+	@Override
+	public String cacheName() {
+		return CACHE_NAME;
 	}
 	
 	/**
-	 * 캐시 무효화 (특정 Room)
+	 * 이 노드의 캐시에서만 제거
 	 */
-	public void evictRoom(Long roomId) {
-		Cache cache = roomCacheManager.getCache(CACHE_NAME);
-		if (cache != null) {
-			cache.evict(roomId);
-			log.info("Evicted room from cache: roomId={}", roomId);
+	@Override
+	public void evictLocal(Collection<String> keys) {
+		List<Long> roomIds = new ArrayList<>(keys.size());
+		for (String key : keys) {
+			try {
+				roomIds.add(Long.valueOf(key));
+			} catch (NumberFormatException ignored) {
+				// Room 캐시 키는 숫자 ID만 사용
+			}
 		}
+		cache.synchronous().invalidateAll(roomIds);
+		log.info("Evicted {} room(s) from local cache: {}", roomIds.size(), roomIds);
+	}
+	
+	@Override
+	public void clearLocal() {
+		cache.synchronous().invalidateAll();
+		log.info("Cleared all local room cache");
 	}
 	
 	/**
-	 * 전체 캐시 클리어
+	 * 단건 미스는 상세 API, 다건 미스는 배치 API로 적재 (응답에 없는 ID는 캐시하지 않음)
 	 */
-	public void clearAllCache() {
-		Cache cache = roomCacheManager.getCache(CACHE_NAME);
-		if (cache != null) {
-			cache.clear();
-			log.info("Cleared all room cache");
+	private final class RoomLoader implements AsyncCacheLoader<Long, RoomDetailResponse> {
+		
+		@Override
+		public CompletableFuture<? extends RoomDetailResponse> asyncLoad(Long roomId, Executor executor) {
+			return roomClient.getRoomById(roomId).toFuture();
+		}
+		
+		@Override
+		public CompletableFuture<? extends Map<? extends Long, ? extends RoomDetailResponse>> asyncLoadAll(
+				Set<? extends Long> roomIds, Executor executor) {
+			List<Long> ids = List.copyOf(roomIds);
+			log.info("Fetching {} rooms from server", ids.size());
+			return roomClient.getRoomsByIds(ids)
+					.map(rooms -> {
+						Map<Long, RoomDetailResponse> roomMap = new HashMap<>(rooms.size());
+						for (RoomDetailResponse room : rooms) {
+							if (room != null && room.getRoomId() != null) roomMap.putIfAbsent(room.getRoomId(), room);
+						}
+						log.info("Fetched {} rooms from server", roomMap.size());
+						return roomMap;
+					})
+					.defaultIfEmpty(Map.of())
+					.toFuture();
 		}
 	}
 }
@@ -11,8 +11,8 @@ import java.util.Map;
  * No-op cache implementation used before Redis integration.
  * Always returns empty results and ignores put operations.
  * <p>
- * Always registered; when RedisProfileCache is available it will be marked @Primary
- * so injections will prefer Redis-backed cache. Otherwise this no-op bean will be used.
+ * Always registered; TwoTierProfileCache (@Primary) uses it as the L2 tier
+ * when RedisProfileCache is not available.
  */
 @Component
 public class NoopProfileCache implements ProfileCache {
@@ -0,0 +1,55 @@
+package com.study.api_gateway.enrichment.cache;
+
+import com.study.api_gateway.api.profile.dto.response.BatchUserSummaryResponse;
+
+/**
+ * 음수 엔트리 마커 ({@link ProfileCache#NOT_FOUND})
+ * <p>
+ * 모든 호출자가 같은 인스턴스를 공유하므로 값을 바꿀 수 없고, 같은 필드 값을 가진 일반 DTO와도 같지 않습니다.
+ */
+final class NotFoundProfile extends BatchUserSummaryResponse {
+	
+	static final NotFoundProfile INSTANCE = new NotFoundProfile();
+	
+	private NotFoundProfile() {
+	}
+	
+	@Override
+	public void setUserId(String userId) {
+		throw immutable();
+	}
+	
+	@Override
+	public void setNickname(String nickname) {
+		throw immutable();
+	}
+	
+	@Override
+	public void setProfileImageUrl(String profileImageUrl) {
+		throw immutable();
+	}
+	
+	@Override
+	public boolean equals(Object o) {
+		return o == this;
+	}
+	
+	@Override
+	protected boolean canEqual(Object other) {
+		return other == this;
+	}
+	
+	@Override
+	public int hashCode() {
+		return System.identityHashCode(this);
+	}
+	
+	@Override
+	public String toString() {
+		return "ProfileCache.NOT_FOUND";
+	}
+	
+	private static UnsupportedOperationException immutable() {
+		return new UnsupportedOperationException("ProfileCache.NOT_FOUND는 변경할 수 없습니다");
+	}
+}
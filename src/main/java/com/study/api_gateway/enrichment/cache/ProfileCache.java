@@ -11,9 +11,22 @@ import java.util.Map;
  * For now, a Noop implementation will behave as cache-miss for all keys.
  */
 public interface ProfileCache {
+	
+	/**
+	 * Negative entry marker: the profile service confirmed that no summary exists for the userId
+	 * (deleted/withdrawn users). getAll may return it as a value; compare by identity via {@link #isNotFound}.
+	 * The marker is shared by every caller, so its setters throw instead of mutating it.
+	 */
+	BatchUserSummaryResponse NOT_FOUND = NotFoundProfile.INSTANCE;
+	
+	static boolean isNotFound(BatchUserSummaryResponse profile) {
+		return profile == NOT_FOUND;
+	}
+	
 	/**
 	 * Fetch cached profile summaries for the given userIds.
 	 * Should return a map of userId -> summary for the entries found in cache.
+	 * Negative entries are returned as {@link #NOT_FOUND} so callers can skip re-fetching them.
 	 * If none found, return an empty map (never null).
 	 */
 	Mono<Map<String, BatchUserSummaryResponse>> getAll(Collection<String> userIds);
@@ -23,6 +36,14 @@ public interface ProfileCache {
 	 */
 	Mono<Void> putAll(Map<String, BatchUserSummaryResponse> profiles);
 	
+	/**
+	 * Store short-lived negative entries for userIds the profile service did not return.
+	 * Implementations without negative caching may ignore this.
+	 */
+	default Mono<Void> putMissing(Collection<String> userIds) {
+		return Mono.empty();
+	}
+	
 	/**
 	 * Evict single user's cached profile summary if present.
 	 */
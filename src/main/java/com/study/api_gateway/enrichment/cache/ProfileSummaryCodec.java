@@ -0,0 +1,147 @@
+package com.study.api_gateway.enrichment.cache;
+
+import com.study.api_gateway.api.profile.dto.response.BatchUserSummaryResponse;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Redis 프로필 요약 값의 바이너리 코덱
+ * <p>
+ * 레이아웃 (v1): [version:1][flags:1] + 존재하는 필드마다 [길이:varint][UTF-8 바이트]
+ * - flags: bit0 음수 엔트리(NOT_FOUND), bit1 userId, bit2 nickname, bit3 profileImageUrl
+ * - 필드 순서는 userId, nickname, profileImageUrl 고정
+ * JSON 대비 키 이름/따옴표가 없어 크기가 작고, 디코딩은 길이만큼 잘라 문자열을 만드는 것이 전부입니다.
+ * 첫 바이트가 버전이므로 레이아웃을 바꿀 때는 VERSION을 올리고, 모르는 버전은 캐시 미스로 처리합니다.
+ */
+final class ProfileSummaryCodec {
+	
+	static final byte VERSION = 1;
+	
+	private static final int FLAG_NOT_FOUND = 1;
+	private static final int FLAG_USER_ID = 1 << 1;
+	private static final int FLAG_NICKNAME = 1 << 2;
+	private static final int FLAG_PROFILE_IMAGE_URL = 1 << 3;
+	
+	private static final byte[] NOT_FOUND_BYTES = {VERSION, FLAG_NOT_FOUND};
+	
+	private ProfileSummaryCodec() {
+	}
+	
+	static byte[] encode(BatchUserSummaryResponse profile) {
+		if (ProfileCache.isNotFound(profile)) {
+			return NOT_FOUND_BYTES.clone();
+		}
+		byte[] userId = utf8(profile.getUserId());
+		byte[] nickname = utf8(profile.getNickname());
+		byte[] profileImageUrl = utf8(profile.getProfileImageUrl());
+		
+		int flags = 0;
+		int size = 2;
+		if (userId != null) {
+			flags |= FLAG_USER_ID;
+			size += varintSize(userId.length) + userId.length;
+		}
+		if (nickname != null) {
+			flags |= FLAG_NICKNAME;
+			size += varintSize(nickname.length) + nickname.length;
+		}
+		if (profileImageUrl != null) {
+			flags |= FLAG_PROFILE_IMAGE_URL;
+			size += varintSize(profileImageUrl.length) + profileImageUrl.length;
+		}
+		
+		byte[] out = new byte[size];
+		out[0] = VERSION;
+		out[1] = (byte) flags;
+		int pos = 2;
+		pos = writeField(out, pos, userId);
+		pos = writeField(out, pos, nickname);
+		writeField(out, pos, profileImageUrl);
+		return out;
+	}
+	
+	/**
+	 * @return 디코딩된 프로필, 음수 엔트리는 ProfileCache.NOT_FOUND, 모르는 버전/손상된 값은 null
+	 */
+	static BatchUserSummaryResponse decode(byte[] bytes) {
+		if (bytes == null || bytes.length < 2 || bytes[0] != VERSION) {
+			return null;
+		}
+		int flags = bytes[1];
+		if ((flags & FLAG_NOT_FOUND) != 0) {
+			return ProfileCache.NOT_FOUND;
+		}
+		Reader reader = new Reader(bytes);
+		String userId = (flags & FLAG_USER_ID) != 0 ? reader.readString() : null;
+		String nickname = (flags & FLAG_NICKNAME) != 0 ? reader.readString() : null;
+		String profileImageUrl = (flags & FLAG_PROFILE_IMAGE_URL) != 0 ? reader.readString() : null;
+		if (reader.corrupted) {
+			return null;
+		}
+		return new BatchUserSummaryResponse(userId, nickname, profileImageUrl);
+	}
+	
+	/**
+	 * 바이너리 코덱 도입 전의 JSON 값인지 여부 (롤아웃 중 기존 엔트리 호환용)
+	 */
+	static boolean isLegacyJson(byte[] bytes) {
+		return bytes != null && bytes.length > 0 && bytes[0] == '{';
+	}
+	
+	private static byte[] utf8(String value) {
+		return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+	}
+	
+	private static int writeField(byte[] out, int pos, byte[] value) {
+		if (value == null) return pos;
+		int length = value.length;
+		while ((length & ~0x7F) != 0) {
+			out[pos++] = (byte) ((length & 0x7F) | 0x80);
+			length >>>= 7;
+		}
+		out[pos++] = (byte) length;
+		System.arraycopy(value, 0, out, pos, value.length);
+		return pos + value.length;
+	}
+	
+	private static int varintSize(int value) {
+		int size = 1;
+		while ((value & ~0x7F) != 0) {
+			size++;
+			value >>>= 7;
+		}
+		return size;
+	}
+	
+	private static final class Reader {
+		private final byte[] bytes;
+		private int pos = 2;
+		private boolean corrupted;
+		
+		private Reader(byte[] bytes) {
+			this.bytes = bytes;
+		}
+		
+		String readString() {
+			int length = 0;
+			int shift = 0;
+			while (true) {
+				if (pos >= bytes.length || shift > 28) {
+					corrupted = true;
+					return null;
+				}
+				byte b = bytes[pos++];
+				length |= (b & 0x7F) << shift;
+				if ((b & 0x80) == 0) break;
+				shift += 7;
+			}
+			if (length < 0 || pos + length > bytes.length) {
+				corrupted = true;
+				return null;
+			}
+			String value = new String(bytes, pos, length, StandardCharsets.UTF_8);
+			pos += length;
+			return value;
+		}
+	}
+}
@@ -7,49 +7,94 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Reactive Redis 기반 ProfileCache 구현
- * Key 형식: "profile:summary:{userId}"
+ * Key 형식: "profile:summary:{userId}" (slot-buckets > 0이면 "profile:summary:{bucket}:{userId}")
+ * <p>
+ * - 값은 ProfileSummaryCodec 바이너리 형식(버전 바이트 포함)으로 저장하고, 도입 전 JSON 값도 읽을 수 있습니다.
+ * - putAll/putMissing은 Lua 스크립트 한 번으로 키마다 TTL을 지정해 일괄 SET 합니다. (키 수만큼의 왕복 없음)
+ * - 프로필 서버가 돌려주지 않은 ID는 음수 엔트리로 negative-ttl 동안만 저장합니다.
+ * - 같은 시점에 적재된 키가 한꺼번에 만료되지 않도록 TTL에 ttl-jitter 비율만큼 무작위 편차를 줍니다.
+ * - Redis Cluster에서는 여러 키를 다루는 스크립트가 같은 슬롯의 키만 허용하므로 slot-buckets를 설정해야 합니다.
+ *   userId를 bucket으로 나눠 해시 태그({bucket})를 붙이면 bucket마다 스크립트/MGET 한 번으로 처리됩니다.
  * <p>
  * ProfileCache 추상화(getAll/putAll)에 맞춰 구현하여, 유틸에서 캐시 선조회 후 미스만 원격 호출하도록 지원합니다.
+ * 직접 주입되지 않고 TwoTierProfileCache의 L2로 사용됩니다.
  */
 @Slf4j
 @Component
-@Primary
 @ConditionalOnBean(ReactiveRedisTemplate.class)
 @ConditionalOnProperty(name = "app.profile.cache.redis.enabled", havingValue = "true", matchIfMissing = false)
 public class RedisProfileCache implements ProfileCache {
 	
 	private static final String KEY_PREFIX = "profile:summary:";
-	private final ReactiveRedisTemplate<String, String> redis;
+	private static final RedisScript<Long> MULTI_SET_SCRIPT =
+			RedisScript.of(new ClassPathResource("scripts/profile_cache_mset.lua"), Long.class);
+	// 스크립트 한 번에 처리할 최대 키 수 (Redis 단일 스레드를 오래 점유하지 않도록)
+	private static final int MAX_KEYS_PER_SCRIPT = 500;
+	
+	private final ReactiveRedisTemplate<String, byte[]> redis;
 	private final ObjectMapper mapper;
 	private final Duration ttl; // 예: Duration.ofHours(1)
+	private final Duration negativeTtl;
+	private final double ttlJitter;
+	private final int slotBuckets;
 	
 	public RedisProfileCache(
-			@Qualifier("reactiveStringRedisTemplate") ReactiveRedisTemplate<String, String> redis,
+			@Qualifier("reactiveBytesRedisTemplate") ReactiveRedisTemplate<String, byte[]> redis,
 			ObjectMapper mapper,
-			@Value("${app.profile.cache.ttl:PT1H}") Duration ttl
+			@Value("${app.profile.cache.ttl:PT1H}") Duration ttl,
+			@Value("${app.profile.cache.negative-ttl:PT30S}") Duration negativeTtl,
+			@Value("${app.profile.cache.ttl-jitter:0.1}") double ttlJitter,
+			@Value("${app.profile.cache.redis.slot-buckets:0}") int slotBuckets
 	) {
 		this.redis = redis;
 		this.mapper = mapper;
 		this.ttl = ttl != null ? ttl : Duration.ofHours(1);
+		this.negativeTtl = negativeTtl;
+		this.ttlJitter = Math.max(0.0, Math.min(0.5, ttlJitter));
+		this.slotBuckets = Math.max(0, slotBuckets);
+		
+		log.info("[RedisProfileCache] initialized: ttl={}, negativeTtl={}, ttlJitter={}, slotBuckets={}, codecVersion={}",
+				this.ttl, negativeTtl, this.ttlJitter, this.slotBuckets, ProfileSummaryCodec.VERSION);
 	}
 	
 	private String keyFor(String userId) {
-		return KEY_PREFIX + userId;
+		if (slotBuckets <= 0) {
+			return KEY_PREFIX + userId;
+		}
+		return KEY_PREFIX + "{" + bucketOf(userId) + "}:" + userId;
+	}
+	
+	private int bucketOf(String userId) {
+		return slotBuckets <= 0 ? 0 : Math.floorMod(userId.hashCode(), slotBuckets);
 	}
 	
 	/**
-	 * 여러 userId에 대해 mget으로 일괄 조회 후, 존재하는 항목만 역직렬화하여 맵으로 반환합니다.
+	 * TTL을 [ttl * (1 - jitter), ttl] 범위에서 무작위로 선택
+	 */
+	private long jitteredTtlMillis() {
+		long millis = ttl.toMillis();
+		if (ttlJitter <= 0) return millis;
+		return millis - (long) (millis * ttlJitter * ThreadLocalRandom.current().nextDouble());
+	}
+	
+	/**
+	 * 여러 userId에 대해 mget으로 일괄 조회 후, 존재하는 항목만 디코딩하여 맵으로 반환합니다.
+	 * slot-buckets를 쓰면 bucket별로 나눠 병렬 조회합니다.
+	 * 음수 엔트리는 ProfileCache.NOT_FOUND로 반환합니다.
 	 */
 	@Override
 	public Mono<Map<String, BatchUserSummaryResponse>> getAll(Collection<String> userIds) {
@@ -61,7 +106,17 @@ public class RedisProfileCache implements ProfileCache {
 			if (id != null && !id.isBlank()) ids.add(id);
 		}
 		if (ids.isEmpty()) return Mono.just(Map.of());
+		if (slotBuckets <= 0) return multiGet(ids);
 		
+		return Flux.fromIterable(groupByBucket(ids).values())
+				.flatMap(this::multiGet)
+				.reduceWith(LinkedHashMap::new, (acc, part) -> {
+					acc.putAll(part);
+					return acc;
+				});
+	}
+	
+	private Mono<Map<String, BatchUserSummaryResponse>> multiGet(List<String> ids) {
 		List<String> keys = ids.stream().map(this::keyFor).toList();
 		return redis.opsForValue().multiGet(keys)
 				.defaultIfEmpty(Collections.emptyList())
@@ -71,42 +126,117 @@ public class RedisProfileCache implements ProfileCache {
 					}
 					Map<String, BatchUserSummaryResponse> result = new LinkedHashMap<>();
 					for (int i = 0; i < ids.size(); i++) {
-						String json = (values.size() > i) ? values.get(i) : null;
-						if (json == null) continue;
-						try {
-							BatchUserSummaryResponse v = mapper.readValue(json, BatchUserSummaryResponse.class);
-							if (v != null && v.getUserId() != null) {
-								result.put(ids.get(i), v);
-							}
-						} catch (Exception e) {
-							String sample = json.length() > 128 ? json.substring(0, 128) + "..." : json;
-							log.warn("Failed to deserialize profile cache entry for key={}, sample={}: {}", keys.get(i), sample, e.toString());
+						byte[] value = (values.size() > i) ? values.get(i) : null;
+						if (value == null) continue;
+						BatchUserSummaryResponse v = decode(keys.get(i), value);
+						if (v != null) {
+							result.put(ids.get(i), v);
 						}
 					}
 					return result;
 				});
 	}
 	
+	private BatchUserSummaryResponse decode(String key, byte[] value) {
+		if (ProfileSummaryCodec.isLegacyJson(value)) {
+			try {
+				BatchUserSummaryResponse v = mapper.readValue(value, BatchUserSummaryResponse.class);
+				return v != null && v.getUserId() != null ? v : null;
+			} catch (Exception e) {
+				log.warn("Failed to deserialize legacy profile cache entry for key={}: {}", key, e.toString());
+				return null;
+			}
+		}
+		BatchUserSummaryResponse v = ProfileSummaryCodec.decode(value);
+		if (v == null) {
+			// 다른 버전의 코덱이 쓴 값 (롤아웃 중) 또는 손상된 값: 미스로 처리하고 원본에서 다시 채움
+			log.debug("Unsupported profile cache entry for key={}, version={}", key, value.length > 0 ? value[0] : -1);
+		}
+		return v;
+	}
+	
 	/**
-	 * putAll은 개별 set 호출로 처리(reactive에서 TTL을 유지한 멀티 set 미지원). 병렬 실행 후 완료.
+	 * putAll은 Lua 스크립트 한 번으로 키마다 TTL을 지정해 저장합니다. (slot-buckets 사용 시 bucket별 한 번)
 	 */
 	@Override
 	public Mono<Void> putAll(Map<String, BatchUserSummaryResponse> profiles) {
 		if (profiles == null || profiles.isEmpty()) return Mono.empty();
-		List<Mono<Boolean>> ops = new ArrayList<>();
+		List<Entry> entries = new ArrayList<>(profiles.size());
 		for (Map.Entry<String, BatchUserSummaryResponse> e : profiles.entrySet()) {
 			String userId = e.getKey();
 			BatchUserSummaryResponse v = e.getValue();
 			if (userId == null || userId.isBlank() || v == null) continue;
-			try {
-				String json = mapper.writeValueAsString(v);
-				ops.add(redis.opsForValue().set(keyFor(userId), json, ttl));
-			} catch (Exception e1) {
-				log.warn("Failed to serialize profile for userId={}: {}", userId, e1.toString());
+			if (ProfileCache.isNotFound(v)) {
+				if (!negativeTtl.isZero()) entries.add(new Entry(userId, negativeTtl.toMillis(), ProfileSummaryCodec.encode(v)));
+				continue;
 			}
+			entries.add(new Entry(userId, jitteredTtlMillis(), ProfileSummaryCodec.encode(v)));
 		}
-		if (ops.isEmpty()) return Mono.empty();
-		return Mono.when(ops).then();
+		return write(entries);
+	}
+	
+	/**
+	 * 프로필이 없는 userId를 음수 엔트리로 저장 (negative-ttl)
+	 */
+	@Override
+	public Mono<Void> putMissing(Collection<String> userIds) {
+		if (userIds == null || userIds.isEmpty() || negativeTtl.isZero()) return Mono.empty();
+		byte[] notFound = ProfileSummaryCodec.encode(NOT_FOUND);
+		List<Entry> entries = new ArrayList<>(userIds.size());
+		for (String userId : userIds) {
+			if (userId != null && !userId.isBlank()) {
+				entries.add(new Entry(userId, negativeTtl.toMillis(), notFound));
+			}
+		}
+		return write(entries);
+	}
+	
+	private Mono<Void> write(List<Entry> entries) {
+		if (entries.isEmpty()) return Mono.empty();
+		List<List<Entry>> groups = new ArrayList<>();
+		if (slotBuckets <= 0) {
+			groups.add(entries);
+		} else {
+			Map<Integer, List<Entry>> byBucket = new HashMap<>();
+			for (Entry entry : entries) {
+				byBucket.computeIfAbsent(bucketOf(entry.userId()), b -> new ArrayList<>()).add(entry);
+			}
+			groups.addAll(byBucket.values());
+		}
+		return Flux.fromIterable(groups)
+				.flatMapIterable(group -> partition(group, MAX_KEYS_PER_SCRIPT))
+				.flatMap(this::multiSet)
+				.then();
+	}
+	
+	private Mono<Long> multiSet(List<Entry> entries) {
+		List<String> keys = new ArrayList<>(entries.size());
+		List<byte[]> args = new ArrayList<>(entries.size() * 2);
+		for (Entry entry : entries) {
+			keys.add(keyFor(entry.userId()));
+			args.add(Long.toString(entry.ttlMillis()).getBytes(StandardCharsets.US_ASCII));
+			args.add(entry.value());
+		}
+		return redis.execute(MULTI_SET_SCRIPT, keys, args)
+				.next()
+				.doOnError(e -> log.warn("Failed to write profile cache entries size={}: {}", entries.size(), e.toString()));
+	}
+	
+	private Map<Integer, List<String>> groupByBucket(List<String> ids) {
+		Map<Integer, List<String>> groups = new HashMap<>();
+		for (String id : ids) {
+			groups.computeIfAbsent(bucketOf(id), b -> new ArrayList<>()).add(id);
+		}
+		return groups;
+	}
+	
+	private static <T> List<List<T>> partition(List<T> list, int size) {
+		if (list.size() <= size) return List.of(list);
+		List<List<T>> parts = new ArrayList<>();
+		for (int i = 0; i < list.size(); i += size) {
+			parts.add(list.subList(i, Math.min(i + size, list.size())));
+		}
+		return parts;
 	}
 	
 	/**
@@ -135,4 +265,10 @@ public class RedisProfileCache implements ProfileCache {
 				.doOnError(e -> log.warn("Failed to evict multiple profile caches size={}: {}", keys.size(), e.toString()))
 				.then();
 	}
+	
+	/**
+	 * 저장할 엔트리 (userId, TTL, 인코딩된 값)
+	 */
+	private record Entry(String userId, long ttlMillis, byte[] value) {
+	}
 }
@@ -0,0 +1,284 @@
+package com.study.api_gateway.enrichment.cache;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.study.api_gateway.api.profile.dto.response.BatchUserSummaryResponse;
+import com.study.api_gateway.common.invalidation.CacheInvalidationBus;
+import com.study.api_gateway.common.invalidation.LocalCacheInvalidator;
+import com.study.api_gateway.common.monitoring.metrics.ApiGatewayMetrics;
+import com.study.api_gateway.enrichment.ProfileBatchLoader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caffeine(L1) + Redis(L2) 2단 ProfileCache 구현
+ * <p>
+ * - 조회: L1 → (L1 미스만) L2 → (L2 미스는 호출자가 ProfileClient로 조회)
+ * - L2 히트는 L1에 적재, putAll은 L1/L2 모두 기록
+ * - 프로필 서버가 돌려주지 않은 ID는 NOT_FOUND 음수 엔트리로 negative-ttl 동안 캐시하여 반복 조회를 막음
+ * - 만료 refresh-ahead 전부터 조회될 때마다 만료에 가까울수록 높은 확률로 백그라운드 갱신 (L2, 없으면 원본 API)
+ *   고정 시점 갱신과 달리 같은 시점에 적재된 인기 키들의 갱신/만료가 한꺼번에 몰리지 않습니다.
+ * - evict는 CacheInvalidationBus로 전파되어 모든 노드의 L1에서 제거됩니다.
+ * Redis가 비활성화된 환경에서는 L2로 NoopProfileCache를 사용합니다.
+ */
+@Slf4j
+@Component
+@Primary
+public class TwoTierProfileCache implements ProfileCache, LocalCacheInvalidator {
+	
+	public static final String CACHE_NAME = "profile";
+	
+	private final ProfileCache l2;
+	private final ProfileBatchLoader profileBatchLoader;
+	private final ApiGatewayMetrics metrics;
+	private final CacheInvalidationBus invalidationBus;
+	private final boolean localEnabled;
+	private final long ttlNanos;
+	private final long negativeTtlNanos;
+	private final long refreshAheadNanos;
+	private final double ttlJitter;
+	private final LoadingCache<String, BatchUserSummaryResponse> l1;
+	private final Policy.VarExpiration<String, BatchUserSummaryResponse> l1Expiration;
+	
+	public TwoTierProfileCache(
+			ObjectProvider<RedisProfileCache> redisProfileCache,
+			NoopProfileCache noopProfileCache,
+			ProfileBatchLoader profileBatchLoader,
+			ApiGatewayMetrics metrics,
+			CacheInvalidationBus invalidationBus,
+			@Value("${app.profile.cache.local.enabled:true}") boolean localEnabled,
+			@Value("${app.profile.cache.local.maximum-size:10000}") long maximumSize,
+			@Value("${app.profile.cache.local.ttl:PT5M}") Duration ttl,
+			@Value("${app.profile.cache.local.refresh-ahead:PT1M}") Duration refreshAhead,
+			@Value("${app.profile.cache.negative-ttl:PT30S}") Duration negativeTtl,
+			@Value("${app.profile.cache.ttl-jitter:0.1}") double ttlJitter
+	) {
+		this.l2 = redisProfileCache.getIfAvailable(() -> noopProfileCache);
+		this.profileBatchLoader = profileBatchLoader;
+		this.metrics = metrics;
+		this.invalidationBus = invalidationBus;
+		this.localEnabled = localEnabled;
+		this.ttlNanos = ttl.toNanos();
+		this.negativeTtlNanos = negativeTtl.toNanos();
+		this.refreshAheadNanos = Math.min(refreshAhead.toNanos(), ttlNanos);
+		this.ttlJitter = Math.max(0.0, Math.min(0.5, ttlJitter));
+		this.l1 = Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfter(new ProfileExpiry())
+				.recordStats()
+				.build(new RefreshAheadLoader());
+		this.l1Expiration = l1.policy().expireVariably().orElseThrow();
+		
+		log.info("[ProfileCache] two-tier cache initialized: l1Enabled={}, l1MaxSize={}, l1Ttl={}, refreshAhead={}, negativeTtl={}, ttlJitter={}, l2={}",
+				localEnabled, maximumSize, ttl, refreshAhead, negativeTtl, this.ttlJitter, l2.getClass().getSimpleName());
+	}
+	
+	@Override
+	public Mono<Map<String, BatchUserSummaryResponse>> getAll(Collection<String> userIds) {
+		if (userIds == null || userIds.isEmpty()) {
+			return Mono.just(Map.of());
+		}
+		if (!localEnabled) {
+			return l2.getAll(userIds);
+		}
+		
+		Set<String> ids = new LinkedHashSet<>();
+		for (String id : userIds) {
+			if (id != null && !id.isBlank()) ids.add(id);
+		}
+		if (ids.isEmpty()) return Mono.just(Map.of());
+		
+		Map<String, BatchUserSummaryResponse> l1Hits = l1.getAllPresent(ids);
+		int l1Negative = 0;
+		for (Map.Entry<String, BatchUserSummaryResponse> hit : l1Hits.entrySet()) {
+			if (ProfileCache.isNotFound(hit.getValue())) {
+				l1Negative++;
+			} else {
+				maybeRefreshEarly(hit.getKey());
+			}
+		}
+		metrics.recordProfileCacheLookup("l1", l1Hits.size() - l1Negative, l1Negative, ids.size() - l1Hits.size());
+		if (l1Hits.size() == ids.size()) {
+			return Mono.just(l1Hits);
+		}
+		
+		List<String> l1Misses = new ArrayList<>(ids.size() - l1Hits.size());
+		for (String id : ids) {
+			if (!l1Hits.containsKey(id)) l1Misses.add(id);
+		}
+		
+		return l2.getAll(l1Misses)
+				.defaultIfEmpty(Map.of())
+				.map(l2Hits -> {
+					int l2Negative = 0;
+					for (BatchUserSummaryResponse hit : l2Hits.values()) {
+						if (ProfileCache.isNotFound(hit)) l2Negative++;
+					}
+					metrics.recordProfileCacheLookup("l2", l2Hits.size() - l2Negative, l2Negative, l1Misses.size() - l2Hits.size());
+					if (l2Hits.isEmpty()) return l1Hits;
+					l1.putAll(l2Hits);
+					Map<String, BatchUserSummaryResponse> merged = new LinkedHashMap<>(l1Hits);
+					merged.putAll(l2Hits);
+					return merged;
+				});
+	}
+	
+	@Override
+	public Mono<Void> putAll(Map<String, BatchUserSummaryResponse> profiles) {
+		if (profiles == null || profiles.isEmpty()) return Mono.empty();
+		if (localEnabled) {
+			l1.putAll(profiles);
+		}
+		return l2.putAll(profiles);
+	}
+	
+	@Override
+	public Mono<Void> putMissing(Collection<String> userIds) {
+		if (userIds == null || userIds.isEmpty() || negativeTtlNanos <= 0) return Mono.empty();
+		if (localEnabled) {
+			Map<String, BatchUserSummaryResponse> negatives = new HashMap<>(userIds.size() * 2);
+			for (String id : userIds) {
+				if (id != null && !id.isBlank()) negatives.put(id, NOT_FOUND);
+			}
+			l1.putAll(negatives);
+		}
+		return l2.putMissing(userIds);
+	}
+	
+	@Override
+	public Mono<Void> evict(String userId) {
+		if (userId == null || userId.isBlank()) return Mono.empty();
+		invalidationBus.publishEvict(CACHE_NAME, List.of(userId));
+		return l2.evict(userId);
+	}
+	
+	@Override
+	public Mono<Void> evictAll(Collection<String> userIds) {
+		if (userIds == null || userIds.isEmpty()) return Mono.empty();
+		invalidationBus.publishEvict(CACHE_NAME, userIds);
+		return l2.evictAll(userIds);
+	}
+	
+	@Override
+	public String cacheName() {
+		return CACHE_NAME;
+	}
+	
+	/**
+	 * L1 전용 무효화 (무효화 버스가 이벤트 적용 시 호출)
+	 */
+	@Override
+	public void evictLocal(Collection<String> userIds) {
+		l1.invalidateAll(userIds);
+	}
+	
+	/**
+	 * L1 전체 무효화
+	 */
+	@Override
+	public void clearLocal() {
+		l1.invalidateAll();
+	}
+	
+	/**
+	 * L1 통계 (hitRate 등)
+	 */
+	public String getLocalStats() {
+		return l1.stats().toString();
+	}
+	
+	/**
+	 * 확률적 조기 갱신 (남은 수명이 refresh-ahead 이하일 때, 만료에 가까울수록 높은 확률)
+	 * 같은 키의 갱신이 진행 중이면 Caffeine이 중복 요청을 합칩니다.
+	 */
+	private void maybeRefreshEarly(String userId) {
+		if (refreshAheadNanos <= 0) return;
+		OptionalLong remaining = l1Expiration.getExpiresAfter(userId, TimeUnit.NANOSECONDS);
+		if (remaining.isEmpty() || remaining.getAsLong() > refreshAheadNanos) return;
+		double probability = 1.0 - (double) remaining.getAsLong() / refreshAheadNanos;
+		if (ThreadLocalRandom.current().nextDouble() < probability) {
+			l1.refresh(userId);
+		}
+	}
+	
+	/**
+	 * L1 엔트리 수명: 음수 엔트리는 negative-ttl, 일반 엔트리는 ttl에서 ttl-jitter 비율 이내로 무작위 단축
+	 */
+	private class ProfileExpiry implements Expiry<String, BatchUserSummaryResponse> {
+		
+		@Override
+		public long expireAfterCreate(String userId, BatchUserSummaryResponse value, long currentTime) {
+			if (ProfileCache.isNotFound(value)) return negativeTtlNanos;
+			if (ttlJitter <= 0) return ttlNanos;
+			return ttlNanos - (long) (ttlNanos * ttlJitter * ThreadLocalRandom.current().nextDouble());
+		}
+		
+		@Override
+		public long expireAfterUpdate(String userId, BatchUserSummaryResponse value, long currentTime, long currentDuration) {
+			return expireAfterCreate(userId, value, currentTime);
+		}
+		
+		@Override
+		public long expireAfterRead(String userId, BatchUserSummaryResponse value, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+	
+	/**
+	 * refresh-ahead 로더
+	 * 최초 적재는 getAll/putAll 경로에서만 일어나므로 load는 항상 미스이고,
+	 * 갱신(reload)은 L2를 먼저 확인하고 없으면 배치 로더로 원본 API를 조회합니다. (동시에 갱신되는 키는 한 번의 배치로 합쳐짐)
+	 * 원본 API가 프로필을 돌려주지 않으면 음수 엔트리로 바꾸고, 실패 시 기존 값을 유지합니다.
+	 */
+	private class RefreshAheadLoader implements CacheLoader<String, BatchUserSummaryResponse> {
+		
+		@Override
+		public BatchUserSummaryResponse load(String userId) {
+			return null;
+		}
+		
+		@Override
+		public CompletableFuture<BatchUserSummaryResponse> asyncReload(
+				String userId, BatchUserSummaryResponse oldValue, Executor executor) {
+			return l2.getAll(List.of(userId))
+					.flatMap(hits -> {
+						BatchUserSummaryResponse hit = hits.get(userId);
+						if (hit != null) {
+							metrics.recordProfileCacheRefresh("l2");
+							return Mono.just(hit);
+						}
+						return profileBatchLoader.load(List.of(userId))
+								.flatMap(profiles -> {
+									BatchUserSummaryResponse fresh = profiles.get(userId);
+									if (fresh == null) {
+										metrics.recordProfileCacheRefresh("not_found");
+										return l2.putMissing(List.of(userId)).thenReturn(NOT_FOUND);
+									}
+									metrics.recordProfileCacheRefresh("origin");
+									return l2.putAll(Map.of(userId, fresh)).thenReturn(fresh);
+								});
+					})
+					.defaultIfEmpty(oldValue)
+					.onErrorResume(e -> {
+						metrics.recordProfileCacheRefresh("failed");
+						log.debug("profile refresh-ahead failed userId={}: {}", userId, e.toString());
+						return Mono.just(oldValue);
+					})
+					.toFuture();
+		}
+	}
+}
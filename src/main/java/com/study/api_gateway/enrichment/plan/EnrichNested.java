@@ -0,0 +1,14 @@
+package com.study.api_gateway.enrichment.plan;
+
+import java.lang.annotation.*;
+
+/**
+ * 하위 객체/컬렉션 필드 표시 (보강 시 이 필드 안의 객체도 순회)
+ * <p>
+ * 표시되지 않은 필드는 순회하지 않으므로, 프로필 대상이 들어있는 필드에만 붙입니다.
+ */
+@Documented
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface EnrichNested {
+}
@@ -0,0 +1,75 @@
+package com.study.api_gateway.enrichment.plan;
+
+import com.study.api_gateway.api.profile.dto.response.BatchUserSummaryResponse;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 클래스별로 한 번 컴파일된 프로필 보강 계획
+ * <p>
+ * {@link ProfileRef} 필드의 getter와 주입 대상 setter, {@link EnrichNested} 필드의 getter를
+ * 람다로 보관하므로 실행 시에는 리플렉션이나 키 탐색 없이 호출만 수행합니다.
+ */
+final class EnrichmentPlan {
+	
+	static final EnrichmentPlan EMPTY = new EnrichmentPlan(new ProfileSlot[0], newNestedArray(0));
+	
+	private final ProfileSlot[] slots;
+	private final Function<Object, Object>[] nested;
+	
+	EnrichmentPlan(ProfileSlot[] slots, Function<Object, Object>[] nested) {
+		this.slots = slots;
+		this.nested = nested;
+	}
+	
+	@SuppressWarnings("unchecked")
+	static Function<Object, Object>[] newNestedArray(int size) {
+		return (Function<Object, Object>[]) new Function[size];
+	}
+	
+	boolean isEmpty() {
+		return slots.length == 0 && nested.length == 0;
+	}
+	
+	void collect(Object target, Set<String> acc, EnrichmentPlans plans) {
+		for (ProfileSlot slot : slots) {
+			Object id = slot.id().apply(target);
+			if (id != null) acc.add(id.toString());
+		}
+		for (Function<Object, Object> child : nested) {
+			plans.collect(child.apply(target), acc);
+		}
+	}
+	
+	void inject(Object target, Map<String, BatchUserSummaryResponse> profiles,
+	            String defaultNickname, String defaultProfileImageUrl, EnrichmentPlans plans) {
+		for (ProfileSlot slot : slots) {
+			Object id = slot.id().apply(target);
+			if (id == null) continue;
+			BatchUserSummaryResponse profile = profiles.get(id.toString());
+			String nickname = profile == null || isBlank(profile.getNickname()) ? defaultNickname : profile.getNickname();
+			String imageUrl = profile == null || isBlank(profile.getProfileImageUrl())
+					? defaultProfileImageUrl : profile.getProfileImageUrl();
+			slot.nickname().accept(target, nickname);
+			slot.profileImageUrl().accept(target, imageUrl);
+		}
+		for (Function<Object, Object> child : nested) {
+			plans.inject(child.apply(target), profiles, defaultNickname, defaultProfileImageUrl);
+		}
+	}
+	
+	private static boolean isBlank(String s) {
+		return s == null || s.isBlank();
+	}
+	
+	/**
+	 * {@link ProfileRef} 필드 1개에 대한 접근자
+	 */
+	record ProfileSlot(Function<Object, Object> id,
+	                   BiConsumer<Object, String> nickname,
+	                   BiConsumer<Object, String> profileImageUrl) {
+	}
+}
@@ -0,0 +1,230 @@
+package com.study.api_gateway.enrichment.plan;
+
+import com.study.api_gateway.api.article.dto.response.ArticleCursorPageResponse;
+import com.study.api_gateway.api.article.dto.response.ArticleResponse;
+import com.study.api_gateway.api.article.dto.response.EnrichedArticleResponse;
+import com.study.api_gateway.api.profile.dto.response.BatchUserSummaryResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.beans.BeanInfo;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.*;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 타입별 프로필 보강 계획 저장소
+ * <p>
+ * 클래스마다 {@link ProfileRef}/{@link EnrichNested} 필드를 한 번 분석하여 LambdaMetafactory로 접근자 람다를 만들고
+ * 이후에는 캐시된 계획으로 ID 수집/주입만 수행합니다. 주요 응답 DTO는 빈 생성 시점에 미리 컴파일하여
+ * 잘못된 필드 이름 등 설정 오류가 기동 시 드러나도록 합니다.
+ * Map/List 이외의 객체 중 어노테이션이 없는 타입은 빈 계획으로 처리됩니다.
+ */
+@Slf4j
+@Component
+public class EnrichmentPlans {
+	
+	/**
+	 * 기동 시 미리 컴파일할 응답 타입
+	 */
+	private static final List<Class<?>> PRECOMPILED = List.of(
+			ArticleResponse.class,
+			ArticleCursorPageResponse.class,
+			EnrichedArticleResponse.class
+	);
+	
+	private final ClassValue<EnrichmentPlan> plans = new ClassValue<>() {
+		@Override
+		protected EnrichmentPlan computeValue(Class<?> type) {
+			return compile(type);
+		}
+	};
+	
+	public EnrichmentPlans() {
+		for (Class<?> type : PRECOMPILED) {
+			plans.get(type);
+		}
+		log.info("[EnrichmentPlans] precompiled enrichment plans for {} types", PRECOMPILED.size());
+	}
+	
+	/**
+	 * 대상(객체/컬렉션/배열)에서 프로필 대상 사용자 ID 수집
+	 */
+	public void collect(Object node, Set<String> acc) {
+		if (node == null) return;
+		if (node instanceof Collection<?> collection) {
+			for (Object element : collection) collect(element, acc);
+			return;
+		}
+		if (node instanceof Object[] array) {
+			for (Object element : array) collect(element, acc);
+			return;
+		}
+		if (node instanceof Map<?, ?> || isLeaf(node.getClass())) return;
+		EnrichmentPlan plan = plans.get(node.getClass());
+		if (!plan.isEmpty()) plan.collect(node, acc, this);
+	}
+	
+	/**
+	 * 대상(객체/컬렉션/배열)에 닉네임/프로필 이미지 주입
+	 */
+	public void inject(Object node, Map<String, BatchUserSummaryResponse> profiles,
+	                   String defaultNickname, String defaultProfileImageUrl) {
+		if (node == null || profiles == null) return;
+		if (node instanceof Collection<?> collection) {
+			for (Object element : collection) inject(element, profiles, defaultNickname, defaultProfileImageUrl);
+			return;
+		}
+		if (node instanceof Object[] array) {
+			for (Object element : array) inject(element, profiles, defaultNickname, defaultProfileImageUrl);
+			return;
+		}
+		if (node instanceof Map<?, ?> || isLeaf(node.getClass())) return;
+		EnrichmentPlan plan = plans.get(node.getClass());
+		if (!plan.isEmpty()) plan.inject(node, profiles, defaultNickname, defaultProfileImageUrl, this);
+	}
+	
+	/**
+	 * 타입에 보강할 필드가 있는지 여부
+	 */
+	public boolean hasPlan(Class<?> type) {
+		return !isLeaf(type) && !plans.get(type).isEmpty();
+	}
+	
+	private static boolean isLeaf(Class<?> type) {
+		return type.isPrimitive() || type.isEnum() || type.getName().startsWith("java.");
+	}
+	
+	private static EnrichmentPlan compile(Class<?> type) {
+		if (isLeaf(type)) return EnrichmentPlan.EMPTY;
+		
+		List<EnrichmentPlan.ProfileSlot> slots = new ArrayList<>();
+		List<Function<Object, Object>> nested = new ArrayList<>();
+		Map<String, PropertyDescriptor> properties = null;
+		
+		for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+			for (Field field : c.getDeclaredFields()) {
+				ProfileRef ref = field.getAnnotation(ProfileRef.class);
+				boolean isNested = field.isAnnotationPresent(EnrichNested.class);
+				if (ref == null && !isNested) continue;
+				if (properties == null) properties = properties(type);
+				
+				Function<Object, Object> getter = getter(requireRead(type, properties, field.getName()));
+				if (ref != null) {
+					slots.add(new EnrichmentPlan.ProfileSlot(
+							getter,
+							injector(type, properties, ref.nickname()),
+							injector(type, properties, ref.profileImageUrl())));
+				}
+				if (isNested) {
+					nested.add(getter);
+				}
+			}
+		}
+		
+		if (slots.isEmpty() && nested.isEmpty()) return EnrichmentPlan.EMPTY;
+		log.debug("[EnrichmentPlans] compiled plan for {}: profileRefs={}, nested={}", type.getName(), slots.size(), nested.size());
+		return new EnrichmentPlan(
+				slots.toArray(new EnrichmentPlan.ProfileSlot[0]),
+				nested.toArray(EnrichmentPlan.newNestedArray(0)));
+	}
+	
+	private static Map<String, PropertyDescriptor> properties(Class<?> type) {
+		try {
+			BeanInfo info = Introspector.getBeanInfo(type, Object.class);
+			Map<String, PropertyDescriptor> map = new HashMap<>();
+			for (PropertyDescriptor descriptor : info.getPropertyDescriptors()) {
+				map.put(descriptor.getName(), descriptor);
+			}
+			return map;
+		} catch (IntrospectionException e) {
+			throw new IllegalStateException("보강 계획 분석 실패: " + type.getName(), e);
+		}
+	}
+	
+	private static Method requireRead(Class<?> type, Map<String, PropertyDescriptor> properties, String name) {
+		PropertyDescriptor descriptor = properties.get(name);
+		if (descriptor == null || descriptor.getReadMethod() == null) {
+			throw new IllegalStateException("보강 대상 필드의 getter가 없습니다: " + type.getName() + "." + name);
+		}
+		return descriptor.getReadMethod();
+	}
+	
+	/**
+	 * 주입 대상 필드 setter (필드 이름이 빈 문자열이면 주입하지 않음)
+	 */
+	private static BiConsumer<Object, String> injector(Class<?> type, Map<String, PropertyDescriptor> properties, String name) {
+		if (name.isEmpty()) return (target, value) -> {
+		};
+		return setter(requireWrite(type, properties, name));
+	}
+	
+	private static Method requireWrite(Class<?> type, Map<String, PropertyDescriptor> properties, String name) {
+		PropertyDescriptor descriptor = properties.get(name);
+		if (descriptor == null || descriptor.getWriteMethod() == null
+				|| !descriptor.getPropertyType().isAssignableFrom(String.class)) {
+			throw new IllegalStateException("프로필 주입 대상 필드의 String setter가 없습니다: " + type.getName() + "." + name);
+		}
+		return descriptor.getWriteMethod();
+	}
+	
+	@SuppressWarnings("unchecked")
+	private static Function<Object, Object> getter(Method method) {
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+			MethodHandle handle = lookup.unreflect(method);
+			CallSite site = LambdaMetafactory.metafactory(lookup, "apply",
+					MethodType.methodType(Function.class),
+					MethodType.methodType(Object.class, Object.class),
+					handle, handle.type().wrap());
+			return (Function<Object, Object>) site.getTarget().invokeExact();
+		} catch (Throwable e) {
+			log.debug("[EnrichmentPlans] LambdaMetafactory unavailable for {}, using MethodHandle: {}", method, e.toString());
+			MethodHandle handle = unreflect(method).asType(MethodType.methodType(Object.class, Object.class));
+			return target -> {
+				try {
+					return handle.invokeExact(target);
+				} catch (Throwable t) {
+					throw new IllegalStateException(t);
+				}
+			};
+		}
+	}
+	
+	@SuppressWarnings("unchecked")
+	private static BiConsumer<Object, String> setter(Method method) {
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+			MethodHandle handle = lookup.unreflect(method);
+			CallSite site = LambdaMetafactory.metafactory(lookup, "accept",
+					MethodType.methodType(BiConsumer.class),
+					MethodType.methodType(void.class, Object.class, Object.class),
+					handle, handle.type().changeReturnType(void.class));
+			return (BiConsumer<Object, String>) site.getTarget().invokeExact();
+		} catch (Throwable e) {
+			log.debug("[EnrichmentPlans] LambdaMetafactory unavailable for {}, using MethodHandle: {}", method, e.toString());
+			MethodHandle handle = unreflect(method).asType(MethodType.methodType(void.class, Object.class, String.class));
+			return (target, value) -> {
+				try {
+					handle.invokeExact(target, value);
+				} catch (Throwable t) {
+					throw new IllegalStateException(t);
+				}
+			};
+		}
+	}
+	
+	private static MethodHandle unreflect(Method method) {
+		try {
+			return MethodHandles.publicLookup().unreflect(method);
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException("접근자 생성 실패: " + method, e);
+		}
+	}
+}
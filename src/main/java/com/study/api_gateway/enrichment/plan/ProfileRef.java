@@ -0,0 +1,30 @@
+package com.study.api_gateway.enrichment.plan;
+
+import java.lang.annotation.*;
+
+/**
+ * 사용자 ID 필드 표시 (프로필 보강 대상)
+ * <p>
+ * 보강 시 이 필드의 값으로 프로필을 조회하여 같은 객체의 nickname / profileImageUrl 대상 필드에 주입합니다.
+ * 대상 필드는 setter가 있어야 하며, 빈 문자열이면 해당 값은 주입하지 않습니다.
+ *
+ * <pre>
+ * &#64;ProfileRef(nickname = "writerName", profileImageUrl = "writerProfileImage")
+ * private String writerId;
+ * </pre>
+ */
+@Documented
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ProfileRef {
+	
+	/**
+	 * 닉네임을 주입할 필드 이름
+	 */
+	String nickname() default "nickname";
+	
+	/**
+	 * 프로필 이미지 URL을 주입할 필드 이름
+	 */
+	String profileImageUrl() default "profileImageUrl";
+}
@@ -0,0 +1,246 @@
+package com.study.api_gateway.enrichment.stream;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.study.api_gateway.api.profile.dto.response.BatchUserSummaryResponse;
+import org.springframework.core.io.buffer.DataBuffer;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 토큰 스트림 기반 JSON 프로필 보강 (JsonParser -> JsonGenerator)
+ * <p>
+ * 1차 패스(scan)는 버퍼를 한 번 읽으며 객체 순번별 사용자 ID를 기록하고,
+ * 2차 패스(rewrite)는 같은 버퍼를 다시 읽어 토큰을 그대로 복사하면서 기록된 객체에만 프로필 필드를 주입합니다.
+ * Map/List 트리를 만들지 않으므로 응답 크기에 비례하는 임시 객체가 생기지 않습니다.
+ * 두 패스 모두 START_OBJECT 등장 순서로 객체 순번을 매기므로, 건너뛰는 값 안의 객체도 순번에 포함해야 합니다.
+ */
+final class JsonProfileRewriter {
+	
+	private static final String DATA_FIELD = "data";
+	
+	private final JsonFactory jsonFactory;
+	
+	JsonProfileRewriter(JsonFactory jsonFactory) {
+		this.jsonFactory = jsonFactory;
+	}
+	
+	/**
+	 * 1차 패스: 사용자 ID 수집 (버퍼의 읽기 위치는 원래대로 복원)
+	 */
+	Scan scan(DataBuffer body, JsonRewriteSpec spec) throws IOException {
+		int start = body.readPosition();
+		Set<String> userIds = new LinkedHashSet<>();
+		String[] objectIds = new String[16];
+		int[] stack = new int[16];
+		int depth = 0;
+		int objects = 0;
+		boolean envelope = false;
+		boolean pendingId = false;
+		boolean pendingData = false;
+		
+		try (JsonParser parser = jsonFactory.createParser(body.asInputStream())) {
+			JsonToken token;
+			while ((token = parser.nextToken()) != null) {
+				if (pendingData) {
+					envelope = token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY;
+					pendingData = false;
+				}
+				if (pendingId) {
+					pendingId = false;
+					if (isIdValue(token)) {
+						int ordinal = stack[depth - 1];
+						if (ordinal >= 0 && objectIds[ordinal] == null) {
+							String id = parser.getText();
+							objectIds[ordinal] = id;
+							userIds.add(id);
+						}
+					}
+				}
+				switch (token) {
+					case START_OBJECT -> {
+						if (objects == objectIds.length) objectIds = Arrays.copyOf(objectIds, objects * 2);
+						if (depth == stack.length) stack = Arrays.copyOf(stack, depth * 2);
+						stack[depth++] = objects++;
+					}
+					case START_ARRAY -> {
+						if (depth == stack.length) stack = Arrays.copyOf(stack, depth * 2);
+						stack[depth++] = -1;
+					}
+					case END_OBJECT, END_ARRAY -> depth--;
+					case FIELD_NAME -> {
+						String name = parser.currentName();
+						pendingId = spec.idFields().contains(name);
+						pendingData = spec.unwrapData() && depth == 1 && !envelope && DATA_FIELD.equals(name);
+					}
+					default -> {
+					}
+				}
+			}
+		} finally {
+			body.readPosition(start);
+		}
+		return new Scan(userIds, objectIds, envelope);
+	}
+	
+	/**
+	 * 2차 패스: 토큰을 복사하며 프로필 주입 (버퍼의 읽기 위치는 원래대로 복원)
+	 */
+	String rewrite(DataBuffer body, JsonRewriteSpec spec, Scan scan, Map<String, BatchUserSummaryResponse> profiles) throws IOException {
+		int start = body.readPosition();
+		StringWriter out = new StringWriter(body.readableByteCount() + scan.userIds().size() * 64);
+		String[] stack = new String[16];
+		boolean[] injected = new boolean[16];
+		int depth = 0;
+		int objects = 0;
+		// envelope면 data 값 시작 전까지는 출력하지 않음 (객체 순번만 센다)
+		boolean emitting = !scan.envelope();
+		int emitDepth = 0;
+		boolean pendingData = false;
+		String pendingIdField = null;
+		
+		try (JsonParser parser = jsonFactory.createParser(body.asInputStream());
+		     JsonGenerator generator = jsonFactory.createGenerator(out)) {
+			JsonToken token;
+			while ((token = parser.nextToken()) != null) {
+				if (pendingData) {
+					pendingData = false;
+					emitting = true;
+					emitDepth = depth;
+				}
+				
+				if (pendingIdField != null) {
+					String field = pendingIdField;
+					pendingIdField = null;
+					if (isIdValue(token)) {
+						writeProfile(generator, parser, field, spec, profiles.get(parser.getText()));
+						injected[depth - 1] = true;
+						continue;
+					}
+					generator.writeFieldName(field);
+				}
+				
+				switch (token) {
+					case START_OBJECT -> {
+						if (depth == stack.length) {
+							stack = Arrays.copyOf(stack, depth * 2);
+							injected = Arrays.copyOf(injected, depth * 2);
+						}
+						int ordinal = objects++;
+						injected[depth] = false;
+						stack[depth++] = ordinal < scan.objectIds().length ? scan.objectIds()[ordinal] : null;
+						if (emitting) generator.writeStartObject();
+					}
+					case START_ARRAY -> {
+						if (depth == stack.length) {
+							stack = Arrays.copyOf(stack, depth * 2);
+							injected = Arrays.copyOf(injected, depth * 2);
+						}
+						stack[depth++] = null;
+						if (emitting) generator.writeStartArray();
+					}
+					case END_OBJECT, END_ARRAY -> {
+						depth--;
+						if (emitting) {
+							generator.copyCurrentEvent(parser);
+							if (scan.envelope() && depth == emitDepth) {
+								generator.flush();
+								return out.toString();
+							}
+						}
+					}
+					case FIELD_NAME -> {
+						String name = parser.currentName();
+						String objectId = stack[depth - 1];
+						if (!emitting) {
+							pendingData = scan.envelope() && depth == 1 && DATA_FIELD.equals(name);
+						} else if (objectId != null && spec.isReplaced(name)) {
+							objects += skipValue(parser);
+						} else if (objectId != null && !injected[depth - 1] && spec.idFields().contains(name)) {
+							pendingIdField = name;
+						} else {
+							generator.writeFieldName(name);
+						}
+					}
+					default -> {
+						if (emitting) generator.copyCurrentEvent(parser);
+					}
+				}
+			}
+			generator.flush();
+		} finally {
+			body.readPosition(start);
+		}
+		return out.toString();
+	}
+	
+	private static void writeProfile(JsonGenerator generator, JsonParser parser, String idField,
+	                                 JsonRewriteSpec spec, BatchUserSummaryResponse profile) throws IOException {
+		String nickname = profile == null || isBlank(profile.getNickname())
+				? spec.defaultNickname() : profile.getNickname();
+		String profileImage = profile == null || isBlank(profile.getProfileImageUrl())
+				? spec.defaultProfileImage() : profile.getProfileImageUrl();
+		if (spec.isNested()) {
+			generator.writeFieldName(spec.nestedField());
+			generator.writeStartObject();
+			generator.writeFieldName(spec.idProperty());
+			generator.copyCurrentEvent(parser);
+			generator.writeStringField(spec.nicknameField(), nickname);
+			generator.writeStringField(spec.profileImageField(), profileImage);
+			generator.writeEndObject();
+		} else {
+			generator.writeFieldName(idField);
+			generator.copyCurrentEvent(parser);
+			generator.writeStringField(spec.nicknameField(), nickname);
+			generator.writeStringField(spec.profileImageField(), profileImage);
+		}
+	}
+	
+	/**
+	 * FIELD_NAME 다음 값을 출력 없이 건너뜀
+	 *
+	 * @return 건너뛴 값 안에 있던 객체 수 (객체 순번 보정용)
+	 */
+	private static int skipValue(JsonParser parser) throws IOException {
+		JsonToken token = parser.nextToken();
+		if (token != JsonToken.START_OBJECT && token != JsonToken.START_ARRAY) return 0;
+		int objects = token == JsonToken.START_OBJECT ? 1 : 0;
+		int depth = 1;
+		while (depth > 0 && (token = parser.nextToken()) != null) {
+			if (token == JsonToken.START_OBJECT) {
+				objects++;
+				depth++;
+			} else if (token == JsonToken.START_ARRAY) {
+				depth++;
+			} else if (token == JsonToken.END_OBJECT || token == JsonToken.END_ARRAY) {
+				depth--;
+			}
+		}
+		return objects;
+	}
+	
+	private static boolean isIdValue(JsonToken token) {
+		return token == JsonToken.VALUE_STRING || token == JsonToken.VALUE_NUMBER_INT;
+	}
+	
+	private static boolean isBlank(String s) {
+		return s == null || s.isBlank();
+	}
+	
+	/**
+	 * 1차 패스 결과
+	 *
+	 * @param userIds   수집된 사용자 ID (등장 순서)
+	 * @param objectIds 객체 순번별 사용자 ID (ID가 없는 객체는 null)
+	 * @param envelope  최상위 data 값만 출력해야 하는지 여부
+	 */
+	record Scan(Set<String> userIds, String[] objectIds, boolean envelope) {
+	}
+}
@@ -0,0 +1,62 @@
+package com.study.api_gateway.enrichment.stream;
+
+import java.util.Set;
+
+/**
+ * 스트리밍 JSON 프로필 보강 규칙
+ * <p>
+ * 객체마다 idFields 중 처음 나오는 스칼라 값을 사용자 ID로 보고 프로필을 주입합니다.
+ * - nestedField == null: ID 필드 바로 뒤에 nicknameField/profileImageField를 형제 필드로 추가
+ * - nestedField != null: ID 필드를 {nestedField: {idProperty, nicknameField, profileImageField}} 객체로 교체
+ * 주입 대상 이름과 같은 원본 필드는 중복을 막기 위해 출력에서 제외합니다.
+ *
+ * @param unwrapData 최상위가 {"data": {...}} 형태면 data 값만 출력
+ */
+public record JsonRewriteSpec(
+		Set<String> idFields,
+		String nestedField,
+		String idProperty,
+		String nicknameField,
+		String profileImageField,
+		String defaultNickname,
+		String defaultProfileImage,
+		boolean unwrapData
+) {
+	
+	/**
+	 * ID 필드 옆에 닉네임/프로필 이미지 필드를 추가하는 규칙 (ProfileEnrichmentUtil.enrichAny와 같은 형태)
+	 */
+	public static JsonRewriteSpec siblings(Set<String> idFields, String nicknameField, String profileImageField,
+	                                       String defaultNickname, String defaultProfileImage) {
+		return new JsonRewriteSpec(idFields, null, null, nicknameField, profileImageField,
+				defaultNickname, defaultProfileImage, false);
+	}
+	
+	/**
+	 * ID 필드를 프로필 객체로 교체하는 규칙 (예: senderId -> sender{userId, nickname, profileImage})
+	 */
+	public static JsonRewriteSpec nested(Set<String> idFields, String nestedField, String idProperty,
+	                                     String nicknameField, String profileImageField,
+	                                     String defaultNickname, String defaultProfileImage) {
+		return new JsonRewriteSpec(idFields, nestedField, idProperty, nicknameField, profileImageField,
+				defaultNickname, defaultProfileImage, false);
+	}
+	
+	public JsonRewriteSpec withUnwrapData() {
+		return new JsonRewriteSpec(idFields, nestedField, idProperty, nicknameField, profileImageField,
+				defaultNickname, defaultProfileImage, true);
+	}
+	
+	boolean isNested() {
+		return nestedField != null;
+	}
+	
+	/**
+	 * ID가 있는 객체에서 원본 값을 버릴 필드 (주입 값으로 대체됨)
+	 */
+	boolean isReplaced(String fieldName) {
+		return isNested()
+				? nestedField.equals(fieldName)
+				: nicknameField.equals(fieldName) || profileImageField.equals(fieldName);
+	}
+}
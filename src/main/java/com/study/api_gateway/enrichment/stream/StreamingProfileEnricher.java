@@ -0,0 +1,65 @@
+package com.study.api_gateway.enrichment.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.study.api_gateway.api.profile.dto.response.BatchUserSummaryResponse;
+import com.study.api_gateway.enrichment.ProfileEnrichmentUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 다운스트림 응답 바이트를 그대로 보강하는 스트리밍 프로필 보강기
+ * <p>
+ * Map 트리로 역직렬화하지 않고 DataBuffer를 두 번 토큰 단위로 읽어(ID 수집 -> 재작성) 프로필을 주입합니다.
+ * 결과는 {@link RawValue}로 반환되어 BaseResponse.data에 넣으면 다시 파싱되지 않고 그대로 출력됩니다.
+ * 어떤 라우트든 WebClient 응답을 bodyToFlux(DataBuffer.class)로 받아 {@link JsonRewriteSpec}과 함께 넘기면 됩니다.
+ */
+@Slf4j
+@Component
+public class StreamingProfileEnricher {
+	
+	private final ProfileEnrichmentUtil profileEnrichmentUtil;
+	private final JsonProfileRewriter rewriter;
+	private final int maxBufferBytes;
+	
+	public StreamingProfileEnricher(
+			ProfileEnrichmentUtil profileEnrichmentUtil,
+			ObjectMapper objectMapper,
+			@Value("${app.enrichment.streaming.max-buffer-size:4MB}") DataSize maxBufferSize
+	) {
+		this.profileEnrichmentUtil = profileEnrichmentUtil;
+		this.rewriter = new JsonProfileRewriter(objectMapper.getFactory());
+		this.maxBufferBytes = (int) Math.min(Integer.MAX_VALUE, maxBufferSize.toBytes());
+	}
+	
+	/**
+	 * 응답 본문에 프로필 주입
+	 *
+	 * @param body 다운스트림 응답 본문 (max-buffer-size를 넘으면 DataBufferLimitException)
+	 * @param spec ID 필드/주입 형태
+	 * @return 보강된 JSON (본문이 비어 있으면 empty)
+	 */
+	public Mono<RawValue> enrich(Flux<DataBuffer> body, JsonRewriteSpec spec) {
+		return DataBufferUtils.join(body, maxBufferBytes)
+				.flatMap(buffer -> Mono.fromCallable(() -> rewriter.scan(buffer, spec))
+						.flatMap(scan -> loadProfiles(scan.userIds())
+								.flatMap(profiles -> Mono.fromCallable(
+										() -> new RawValue(rewriter.rewrite(buffer, spec, scan, profiles)))))
+						.doFinally(signal -> DataBufferUtils.release(buffer)));
+	}
+	
+	private Mono<Map<String, BatchUserSummaryResponse>> loadProfiles(Set<String> userIds) {
+		if (userIds.isEmpty()) return Mono.just(Map.of());
+		log.debug("[StreamingProfileEnricher] loading {} profiles", userIds.size());
+		return profileEnrichmentUtil.loadProfiles(userIds);
+	}
+}
@@ -0,0 +1,8 @@
+-- 프로필 캐시 일괄 저장 (키마다 TTL 지정, 한 번의 왕복)
+-- KEYS[i]: 캐시 키
+-- ARGV[2i-1]: TTL (ms), ARGV[2i]: 값
+-- 반환: 저장한 키 수
+for i = 1, #KEYS do
+  redis.call('SET', KEYS[i], ARGV[2 * i], 'PX', ARGV[2 * i - 1])
+end
+return #KEYS
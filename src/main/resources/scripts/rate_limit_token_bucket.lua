@@ -0,0 +1,39 @@
+-- 토큰 버킷 원자적 차감 (연속 refill)
+-- KEYS[1]: 버킷 키
+-- ARGV[1]: capacity, ARGV[2]: refill tokens, ARGV[3]: refill period (ms), ARGV[4]: 요청 토큰 수
+-- 반환: { 지급 토큰 수, 남은 토큰 수, 다음 토큰까지 대기 시간(ms) }
+local key = KEYS[1]
+local capacity = tonumber(ARGV[1])
+local refill_tokens = tonumber(ARGV[2])
+local refill_millis = tonumber(ARGV[3])
+local requested = tonumber(ARGV[4])
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local state = redis.call('HMGET', key, 'tokens', 'ts')
+local tokens = tonumber(state[1])
+local ts = tonumber(state[2])
+if tokens == nil or ts == nil then
+  tokens = capacity
+  ts = now
+end
+
+if now > ts then
+  tokens = math.min(capacity, tokens + (now - ts) * refill_tokens / refill_millis)
+  ts = now
+end
+
+local granted = math.min(requested, math.floor(tokens))
+tokens = tokens - granted
+
+local wait = 0
+if granted == 0 then
+  wait = math.ceil((1 - tokens) * refill_millis / refill_tokens)
+end
+
+redis.call('HSET', key, 'tokens', tostring(tokens), 'ts', tostring(ts))
+-- 가득 찰 때까지 걸리는 시간 이후에는 키가 없어도 동일 상태이므로 만료
+redis.call('PEXPIRE', key, math.ceil(capacity * refill_millis / refill_tokens) + 1000)
+
+return { granted, math.floor(tokens), wait }
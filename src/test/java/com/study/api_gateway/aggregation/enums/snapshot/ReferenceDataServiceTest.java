@@ -0,0 +1,91 @@
+package com.study.api_gateway.aggregation.enums.snapshot;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.api_gateway.api.article.client.ArticleClient;
+import com.study.api_gateway.api.auth.client.AuthClient;
+import com.study.api_gateway.api.image.client.ImageClient;
+import com.study.api_gateway.api.place.client.PlaceClient;
+import com.study.api_gateway.api.profile.client.ProfileClient;
+import com.study.api_gateway.api.room.client.RoomClient;
+import com.study.api_gateway.api.support.client.FaqClient;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReferenceDataServiceTest {
+	
+	private final ProfileClient profileClient = mock(ProfileClient.class);
+	private final AuthClient authClient = mock(AuthClient.class);
+	private final ImageClient imageClient = mock(ImageClient.class);
+	private final ArticleClient articleClient = mock(ArticleClient.class);
+	private final FaqClient faqClient = mock(FaqClient.class);
+	private final PlaceClient placeClient = mock(PlaceClient.class);
+	private final RoomClient roomClient = mock(RoomClient.class);
+	private final AtomicInteger genreCalls = new AtomicInteger();
+	private final ReferenceDataService service;
+	
+	ReferenceDataServiceTest() {
+		when(profileClient.fetchInstruments()).thenReturn(Mono.just(Map.of(1, "기타")));
+		when(profileClient.fetchLocations()).thenReturn(Mono.just(Map.of("SEOUL", "서울")));
+		when(authClient.fetchAllConsents(any())).thenReturn(Mono.just(Map.of()));
+		when(imageClient.getExtensions()).thenReturn(Mono.just(Map.of()));
+		when(imageClient.getReferenceType()).thenReturn(Mono.just(Map.of()));
+		when(articleClient.getBoards()).thenReturn(Mono.just(Map.of()));
+		when(articleClient.getKeywords()).thenReturn(Mono.just(Map.of()));
+		when(faqClient.getFaqs(any())).thenReturn(Flux.empty());
+		when(placeClient.getKeywords(any())).thenReturn(Mono.just(List.of()));
+		when(roomClient.getRoomKeywordMap()).thenReturn(Mono.just(Map.of()));
+		service = new ReferenceDataService(profileClient, authClient, imageClient, articleClient, faqClient, placeClient,
+				roomClient, new ObjectMapper(), new ReferenceDataProperties());
+	}
+	
+	@Test
+	@DisplayName("비어 있는 데이터를 채우는 조회는 동시 요청끼리 공유되고, 다 채워지면 다운스트림을 호출하지 않는다")
+	void sharesInFlightFill() {
+		Sinks.One<Map<Integer, String>> genres = Sinks.one();
+		when(profileClient.fetchGenres()).thenAnswer(invocation -> {
+			genreCalls.incrementAndGet();
+			return genres.asMono();
+		});
+		
+		List<Mono<ReferenceDataSnapshot>> requests = List.of(service.snapshot(), service.snapshot(), service.snapshot());
+		Mono<List<ReferenceDataSnapshot>> all = Flux.merge(requests).collectList().cache();
+		all.subscribe();
+		genres.tryEmitValue(Map.of(1, "락"));
+		
+		List<ReferenceDataSnapshot> snapshots = all.block(Duration.ofSeconds(1));
+		assertThat(genreCalls).hasValue(1);
+		assertThat(snapshots).hasSize(3).allSatisfy(snapshot -> assertThat(snapshot.contains(ReferenceDataService.GENRES)).isTrue());
+		
+		assertThat(service.snapshot().block(Duration.ofSeconds(1))).isSameAs(snapshots.get(0));
+		assertThat(genreCalls).hasValue(1);
+	}
+	
+	@Test
+	@DisplayName("채우기에 실패한 데이터는 부분 스냅샷으로 응답하고, 다음 요청에서 다시 조회한다")
+	void retriesFailedFillOnNextRequest() {
+		when(profileClient.fetchGenres()).thenAnswer(invocation -> {
+			genreCalls.incrementAndGet();
+			return Mono.error(new IllegalStateException("profile-service down"));
+		});
+		
+		ReferenceDataSnapshot partial = service.snapshot().block(Duration.ofSeconds(1));
+		service.snapshot().block(Duration.ofSeconds(1));
+		
+		assertThat(partial.contains(ReferenceDataService.GENRES)).isFalse();
+		assertThat(partial.contains(ReferenceDataService.INSTRUMENTS)).isTrue();
+		assertThat(genreCalls).hasValue(2);
+	}
+}
@@ -0,0 +1,88 @@
+package com.study.api_gateway.aggregation.enums.snapshot;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReferenceDataSnapshotTest {
+	
+	private static final String GENRES = "{\"ROCK\":\"락\",\"JAZZ\":\"재즈\"}";
+	private static final String INSTRUMENTS = "{\"GUITAR\":\"기타\"}";
+	
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	
+	@Test
+	@DisplayName("버전은 내용의 SHA-256 앞 16자리라서 갱신 시각과 관계없이 같은 내용이면 같다")
+	void versionDependsOnlyOnContent() {
+		ReferenceDataSnapshot first = ReferenceDataSnapshot.of(datasets(GENRES, INSTRUMENTS), Instant.EPOCH);
+		ReferenceDataSnapshot second = ReferenceDataSnapshot.of(datasets(GENRES, INSTRUMENTS), Instant.now());
+		ReferenceDataSnapshot changed = ReferenceDataSnapshot.of(datasets(GENRES, "{\"DRUM\":\"드럼\"}"), Instant.EPOCH);
+		
+		assertThat(first.version()).hasSize(16).matches("[0-9a-f]{16}");
+		assertThat(second.version()).isEqualTo(first.version());
+		assertThat(changed.version()).isNotEqualTo(first.version());
+		assertThat(first.etag()).isEqualTo('"' + first.version() + '"');
+	}
+	
+	@Test
+	@DisplayName("번들은 version과 데이터별 JSON을 등록 순서대로 담은 하나의 JSON이다")
+	void buildsBundleInOrder() throws Exception {
+		ReferenceDataSnapshot snapshot = ReferenceDataSnapshot.of(datasets(GENRES, INSTRUMENTS), Instant.EPOCH);
+		
+		String bundle = objectMapper.writeValueAsString(snapshot.bundle());
+		
+		assertThat(bundle).isEqualTo("{\"version\":\"" + snapshot.version() + "\",\"datasets\":{\"genres\":" + GENRES + ",\"instruments\":" + INSTRUMENTS + "}}");
+		assertThat(objectMapper.readTree(bundle).path("datasets").path("genres").path("JAZZ").asText()).isEqualTo("재즈");
+	}
+	
+	@Test
+	@DisplayName("데이터 1종은 미리 직렬화된 JSON 그대로 기록되고, 없는 이름은 null이다")
+	void exposesSingleDataset() throws Exception {
+		ReferenceDataSnapshot snapshot = ReferenceDataSnapshot.of(datasets(GENRES, INSTRUMENTS), Instant.EPOCH);
+		
+		assertThat(snapshot.contains("genres")).isTrue();
+		assertThat(snapshot.contains("regions")).isFalse();
+		assertThat(snapshot.json("instruments")).isEqualTo(INSTRUMENTS);
+		assertThat(snapshot.json("regions")).isNull();
+		assertThat(objectMapper.writeValueAsString(Map.of("data", snapshot.datasets().get("genres")))).isEqualTo("{\"data\":" + GENRES + "}");
+		assertThatThrownBy(() -> snapshot.datasets().put("regions", null)).isInstanceOf(UnsupportedOperationException.class);
+	}
+	
+	@Test
+	@DisplayName("If-None-Match는 약한 비교와 *를 허용하고, 다른 버전은 일치하지 않는다")
+	void matchesIfNoneMatch() {
+		ReferenceDataSnapshot snapshot = ReferenceDataSnapshot.of(datasets(GENRES, INSTRUMENTS), Instant.EPOCH);
+		
+		assertThat(snapshot.matches(List.of(snapshot.etag()))).isTrue();
+		assertThat(snapshot.matches(List.of("\"other\"", " W/" + snapshot.etag()))).isTrue();
+		assertThat(snapshot.matches(List.of("*"))).isTrue();
+		assertThat(snapshot.matches(List.of("\"other\""))).isFalse();
+		assertThat(snapshot.matches(List.of(snapshot.version()))).isFalse();
+		assertThat(snapshot.matches(List.of())).isFalse();
+	}
+	
+	@Test
+	@DisplayName("빈 스냅샷도 유효한 번들과 버전을 가진다")
+	void emptySnapshotIsValid() throws Exception {
+		String bundle = objectMapper.writeValueAsString(ReferenceDataSnapshot.EMPTY.bundle());
+		
+		assertThat(ReferenceDataSnapshot.EMPTY.datasets()).isEmpty();
+		assertThat(objectMapper.readTree(bundle).path("datasets").isEmpty()).isTrue();
+		assertThat(objectMapper.readTree(bundle).path("version").asText()).isEqualTo(ReferenceDataSnapshot.EMPTY.version());
+	}
+	
+	private static Map<String, String> datasets(String genres, String instruments) {
+		Map<String, String> datasets = new LinkedHashMap<>();
+		datasets.put("genres", genres);
+		datasets.put("instruments", instruments);
+		return datasets;
+	}
+}
@@ -0,0 +1,129 @@
+package com.study.api_gateway.common.deadline;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeadlineTest {
+	
+	@Test
+	@DisplayName("남은 시간은 지정한 타임아웃 이하이고, 시간이 지나면 만료된다")
+	void tracksRemainingTime() {
+		Deadline future = Deadline.after(Duration.ofSeconds(10));
+		Deadline past = Deadline.after(Duration.ofMillis(-1));
+		
+		assertThat(future.remaining()).isPositive().isLessThanOrEqualTo(Duration.ofSeconds(10));
+		assertThat(future.isExpired()).isFalse();
+		assertThat(past.remaining()).isNegative();
+		assertThat(past.isExpired()).isTrue();
+	}
+	
+	@Test
+	@DisplayName("latest는 두 마감 중 늦은 쪽을, 한쪽이 null이면 다른 쪽을 반환한다")
+	void picksLatestDeadline() {
+		Deadline early = Deadline.after(Duration.ofSeconds(1));
+		Deadline late = Deadline.after(Duration.ofSeconds(5));
+		
+		assertThat(Deadline.latest(early, late)).isSameAs(late);
+		assertThat(Deadline.latest(late, early)).isSameAs(late);
+		assertThat(Deadline.latest(null, early)).isSameAs(early);
+		assertThat(Deadline.latest(early, null)).isSameAs(early);
+		assertThat(Deadline.latest(null, null)).isNull();
+	}
+	
+	@Test
+	@DisplayName("Context에 넣은 마감을 꺼낼 수 있고, 없으면 null이다")
+	void storesInContext() {
+		Deadline deadline = Deadline.after(Duration.ofSeconds(1));
+		
+		assertThat(Deadline.from(deadline.addTo(Context.empty()))).isSameAs(deadline);
+		assertThat(Deadline.from(Context.empty())).isNull();
+	}
+	
+	@Test
+	@DisplayName("예산은 자체 타임아웃과 남은 시간 중 작은 값이고, 마감이 없으면 자체 타임아웃이다")
+	void budgetIsSmallerOfTimeoutAndRemaining() {
+		Context shortDeadline = Deadline.after(Duration.ofMillis(500)).addTo(Context.empty());
+		Context longDeadline = Deadline.after(Duration.ofSeconds(10)).addTo(Context.empty());
+		
+		assertThat(Deadline.budget(Context.empty(), Duration.ofSeconds(2))).isEqualTo(Duration.ofSeconds(2));
+		assertThat(Deadline.budget(longDeadline, Duration.ofSeconds(2))).isEqualTo(Duration.ofSeconds(2));
+		assertThat(Deadline.budget(shortDeadline, Duration.ofSeconds(2))).isLessThanOrEqualTo(Duration.ofMillis(500));
+	}
+	
+	@Test
+	@DisplayName("이미 지난 마감이면 원본을 구독하지 않고 DeadlineExceededException으로 끝난다")
+	void failsFastWhenExpired() {
+		AtomicInteger subscriptions = new AtomicInteger();
+		Context expired = Deadline.after(Duration.ofMillis(-1)).addTo(Context.empty());
+		
+		StepVerifier.create(Mono.fromSupplier(subscriptions::incrementAndGet)
+						.transform(Deadline.<Integer>timeout(Duration.ofSeconds(1)))
+						.contextWrite(expired))
+				.expectError(DeadlineExceededException.class)
+				.verify(Duration.ofSeconds(1));
+		StepVerifier.create(Flux.defer(() -> Flux.just(subscriptions.incrementAndGet()))
+						.transform(Deadline.<Integer>timeoutFlux(Duration.ofSeconds(1)))
+						.contextWrite(expired))
+				.expectError(DeadlineExceededException.class)
+				.verify(Duration.ofSeconds(1));
+		
+		assertThat(subscriptions).hasValue(0);
+	}
+	
+	@Test
+	@DisplayName("남은 시간이 자체 타임아웃보다 짧으면 남은 시간에 DeadlineExceededException으로 끝난다")
+	void timesOutAtDeadline() {
+		Context deadline = Deadline.after(Duration.ofMillis(50)).addTo(Context.empty());
+		
+		StepVerifier.create(Mono.<String>never()
+						.transform(Deadline.<String>timeout(Duration.ofSeconds(10)))
+						.contextWrite(deadline))
+				.expectError(DeadlineExceededException.class)
+				.verify(Duration.ofSeconds(1));
+		StepVerifier.create(Flux.<String>never()
+						.transform(Deadline.<String>timeoutFlux(Duration.ofSeconds(10)))
+						.contextWrite(deadline))
+				.expectError(DeadlineExceededException.class)
+				.verify(Duration.ofSeconds(1));
+	}
+	
+	@Test
+	@DisplayName("자체 타임아웃이 남은 시간보다 짧으면 DeadlineExceededException이 아닌 일반 TimeoutException이다")
+	void ownTimeoutIsPlainTimeout() {
+		Context deadline = Deadline.after(Duration.ofSeconds(10)).addTo(Context.empty());
+		
+		StepVerifier.create(Mono.<String>never()
+						.transform(Deadline.<String>timeout(Duration.ofMillis(50)))
+						.contextWrite(deadline))
+				.expectErrorMatches(e -> e instanceof TimeoutException && !(e instanceof DeadlineExceededException))
+				.verify(Duration.ofSeconds(1));
+		StepVerifier.create(Flux.<String>never()
+						.transform(Deadline.<String>timeoutFlux(Duration.ofMillis(50))))
+				.expectErrorMatches(e -> e instanceof TimeoutException && !(e instanceof DeadlineExceededException))
+				.verify(Duration.ofSeconds(1));
+	}
+	
+	@Test
+	@DisplayName("마감 안에 끝나면 값을 그대로 전달한다")
+	void passesValuesWithinBudget() {
+		StepVerifier.create(Mono.just("value")
+						.transform(Deadline.<String>timeout(Duration.ofSeconds(1)))
+						.contextWrite(Deadline.after(Duration.ofSeconds(5)).addTo(Context.empty())))
+				.expectNext("value")
+				.verifyComplete();
+		StepVerifier.create(Flux.just(1, 2)
+						.transform(Deadline.<Integer>timeoutFlux(Duration.ofSeconds(1))))
+				.expectNext(1, 2)
+				.verifyComplete();
+	}
+}
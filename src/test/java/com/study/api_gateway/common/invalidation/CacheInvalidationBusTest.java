@@ -0,0 +1,120 @@
+package com.study.api_gateway.common.invalidation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.api_gateway.common.monitoring.metrics.ApiGatewayMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class CacheInvalidationBusTest {
+	
+	private static final String CHANNEL = "test:cache-invalidation";
+	
+	private final RecordingInvalidator placeCache = new RecordingInvalidator("placeCache");
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private ReactiveRedisTemplate<String, String> redis;
+	private CacheInvalidationBus bus;
+	
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		redis = mock(ReactiveRedisTemplate.class);
+		doReturn(Flux.never()).when(redis).listenToChannel(anyString());
+		StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("placeCache", placeCache));
+		bus = new CacheInvalidationBus(redis, new ObjectMapper(), new ApiGatewayMetrics(meterRegistry),
+				beanFactory.getBeanProvider(LocalCacheInvalidator.class), true, CHANNEL, 16, Duration.ofMillis(10));
+	}
+	
+	@AfterEach
+	void tearDown() {
+		bus.destroy();
+	}
+	
+	@Test
+	@DisplayName("배치 병합: 같은 캐시의 키는 합집합, clear가 있으면 clear 하나로 대체")
+	void coalescesBatchPerCache() {
+		List<CacheInvalidationEvent> coalesced = CacheInvalidationBus.coalesce(List.of(
+				CacheInvalidationEvent.evict("placeCache", List.of("1", "2")),
+				CacheInvalidationEvent.evict("placeCache", List.of("2", "3")),
+				CacheInvalidationEvent.evict("roomCache", List.of("9")),
+				CacheInvalidationEvent.clearAll("roomCache"),
+				CacheInvalidationEvent.evict("roomCache", List.of("10"))));
+		
+		assertThat(coalesced).containsExactlyInAnyOrder(
+				CacheInvalidationEvent.clearAll("roomCache"),
+				CacheInvalidationEvent.evict("placeCache", List.of("1", "2", "3")));
+	}
+	
+	@Test
+	@DisplayName("publishEvict는 브로드캐스트를 기다리지 않고 로컬 캐시에 즉시 적용된다")
+	void appliesLocallyBeforeBroadcast() {
+		bus.publishEvict("placeCache", List.of("1", "2"));
+		bus.publishClear("placeCache");
+		
+		assertThat(placeCache.evicted).containsExactly("1", "2");
+		assertThat(placeCache.clears).isEqualTo(1);
+	}
+	
+	@Test
+	@DisplayName("한 배치의 발송이 실패해도 이후 무효화는 계속 브로드캐스트된다")
+	void keepsBroadcastingAfterFailedBatch() {
+		doReturn(Mono.error(new IllegalStateException("redis down")), Mono.just(1L))
+				.when(redis).convertAndSend(eq(CHANNEL), anyString());
+		bus.start();
+		
+		bus.publishEvict("placeCache", List.of("1"));
+		verify(redis, timeout(1000).times(1)).convertAndSend(eq(CHANNEL), anyString());
+		
+		bus.publishEvict("placeCache", List.of("2"));
+		verify(redis, timeout(1000).times(2)).convertAndSend(eq(CHANNEL), anyString());
+		
+		assertThat(meterRegistry.get("api_gateway_cache_invalidation_total").tag("result", "failed").counter().count())
+				.isEqualTo(1.0);
+	}
+	
+	private static final class RecordingInvalidator implements LocalCacheInvalidator {
+		
+		private final String name;
+		private final List<String> evicted = new ArrayList<>();
+		private int clears;
+		
+		RecordingInvalidator(String name) {
+			this.name = name;
+		}
+		
+		@Override
+		public String cacheName() {
+			return name;
+		}
+		
+		@Override
+		public void evictLocal(Collection<String> keys) {
+			evicted.addAll(keys);
+		}
+		
+		@Override
+		public void clearLocal() {
+			clears++;
+		}
+	}
+}
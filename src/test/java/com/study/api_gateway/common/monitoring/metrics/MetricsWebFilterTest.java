@@ -0,0 +1,75 @@
+package com.study.api_gateway.common.monitoring.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MetricsWebFilterTest {
+	
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private final ApiGatewayMetrics metrics = new ApiGatewayMetrics(registry);
+	private final MetricsWebFilter filter = new MetricsWebFilter(metrics);
+	
+	@Test
+	@DisplayName("요청 메트릭은 첫 요청 때 라우트 템플릿 태그로 등록되고, 발생한 상태 구간만 카운터가 생긴다")
+	void registersRouteMetersLazily() {
+		assertThat(registry.find("api_gateway_request_duration_seconds").timers()).isEmpty();
+		
+		filter.filter(exchange("/bff/v1/rooms/7", "/bff/v1/rooms/{roomId}", HttpStatus.OK), ex -> Mono.empty()).block();
+		filter.filter(exchange("/bff/v1/rooms/8", "/bff/v1/rooms/{roomId}", HttpStatus.OK), ex -> Mono.empty()).block();
+		
+		assertThat(registry.get("api_gateway_request_duration_seconds").tag("endpoint", "/bff/v1/rooms/{roomId}")
+				.timer().count()).isEqualTo(2);
+		assertThat(registry.get("api_gateway_requests_total").tag("status", "2xx").counter().count()).isEqualTo(2);
+		assertThat(registry.find("api_gateway_requests_total").tag("status", "5xx").counter()).isNull();
+		assertThat(registry.find("api_gateway_errors_total").counters()).isEmpty();
+	}
+	
+	@Test
+	@DisplayName("4xx/5xx 응답은 에러 카운터에도 기록된다")
+	void recordsErrorCategories() {
+		filter.filter(exchange("/bff/v1/rooms/7", "/bff/v1/rooms/{roomId}", HttpStatus.NOT_FOUND), ex -> Mono.empty()).block();
+		
+		assertThat(registry.get("api_gateway_errors_total").tag("error_type", "4xx").counter().count()).isEqualTo(1);
+	}
+	
+	@Test
+	@DisplayName("라우트가 매칭되지 않은 경로는 정규화하고, 최대 개수를 넘으면 UNMATCHED로 집계한다")
+	void capsUnmatchedEndpoints() {
+		for (int i = 0; i < ApiGatewayMetrics.MAX_DYNAMIC_ENDPOINTS + 50; i++) {
+			metrics.requestMeters("/unknown/path" + i, "GET", false);
+		}
+		metrics.requestMeters("/bff/v1/places/{placeId}", "GET", true);
+		
+		assertThat(metrics.requestMetersCount()).isEqualTo(ApiGatewayMetrics.MAX_DYNAMIC_ENDPOINTS + 2);
+		assertThat(metrics.requestMeters("/unknown/other", "GET", false))
+				.isSameAs(metrics.requestMeters(ApiGatewayMetrics.UNMATCHED_ENDPOINT, "GET", false));
+	}
+	
+	@Test
+	@DisplayName("경로 정규화: 숫자/UUID는 {id}, 이메일은 {email}로 바꾸고 바꿀 것이 없으면 원본 유지")
+	void normalizesPathVariables() {
+		assertThat(filter.normalizeEndpoint("/api/users/123/posts")).isEqualTo("/api/users/{id}/posts");
+		assertThat(filter.normalizeEndpoint("/api/items/123e4567-e89b-12d3-a456-426614174000"))
+				.isEqualTo("/api/items/{id}");
+		assertThat(filter.normalizeEndpoint("/api/users/a@b.com")).isEqualTo("/api/users/{email}");
+		String plain = "/api/users/me";
+		assertThat(filter.normalizeEndpoint(plain)).isSameAs(plain);
+	}
+	
+	private static MockServerWebExchange exchange(String path, String routeTemplate, HttpStatus status) {
+		MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(path));
+		exchange.getAttributes().put(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE,
+				PathPatternParser.defaultInstance.parse(routeTemplate));
+		exchange.getResponse().setStatusCode(status);
+		return exchange;
+	}
+}
@@ -0,0 +1,145 @@
+package com.study.api_gateway.common.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Lua 스크립트 자체는 Redis가 필요하므로 여기서는 스크립트 호출 계약(KEYS/ARGV 순서, 반환 형식)과
+ * 로컬 lease 동작을 검증합니다.
+ */
+class DistributedRateLimiterTest {
+	
+	private final RateLimitProperties properties = new RateLimitProperties();
+	private ReactiveRedisTemplate<String, String> redis;
+	private DistributedRateLimiter limiter;
+	
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		redis = mock(ReactiveRedisTemplate.class);
+		properties.getDistributed().setLeaseTtl(Duration.ofSeconds(10));
+		limiter = new DistributedRateLimiter(redis, properties);
+	}
+	
+	@Test
+	@DisplayName("스크립트에는 버킷 키와 capacity, refill tokens, refill ms, 요청 토큰 수 순서로 전달한다")
+	@SuppressWarnings("unchecked")
+	void passesScriptArgumentsInContractOrder() {
+		grant(10, 90, 0);
+		
+		limiter.tryConsume("user:1", new RateLimitProperties.BucketConfig(100, 60)).block();
+		
+		ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+		ArgumentCaptor<List<String>> args = ArgumentCaptor.forClass(List.class);
+		verify(redis).execute(any(RedisScript.class), keys.capture(), args.capture());
+		assertThat(keys.getValue()).containsExactly("rate-limit:user:1");
+		assertThat(args.getValue()).containsExactly("100", "100", "60000", "10");
+	}
+	
+	@Test
+	@DisplayName("lease 크기는 capacity의 1/10을 넘지 않는다 (최소 1)")
+	@SuppressWarnings("unchecked")
+	void capsLeaseSizeByCapacity() {
+		grant(1, 4, 0);
+		
+		limiter.tryConsume("endpoint:login:ip:1", new RateLimitProperties.BucketConfig(5, 60)).block();
+		
+		ArgumentCaptor<List<String>> args = ArgumentCaptor.forClass(List.class);
+		verify(redis).execute(any(RedisScript.class), anyList(), args.capture());
+		assertThat(args.getValue().get(3)).isEqualTo("1");
+	}
+	
+	@Test
+	@DisplayName("한 번 받은 lease 토큰은 Redis 호출 없이 로컬에서 소진한다")
+	void servesLeasedTokensLocally() {
+		grant(10, 90, 0);
+		RateLimitProperties.BucketConfig config = new RateLimitProperties.BucketConfig(100, 60);
+		
+		List<RateLimitService.RateLimitResult> results = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			results.add(limiter.tryConsume("user:1", config).block());
+		}
+		
+		assertThat(results).allMatch(RateLimitService.RateLimitResult::allowed);
+		assertThat(results.get(0).remainingTokens()).isEqualTo(99);
+		assertThat(results.get(9).remainingTokens()).isEqualTo(90);
+		verify(redis, times(1)).execute(any(RedisScript.class), anyList(), anyList());
+		
+		limiter.tryConsume("user:1", config).block();
+		verify(redis, times(2)).execute(any(RedisScript.class), anyList(), anyList());
+	}
+	
+	@Test
+	@DisplayName("같은 키의 동시 lease 요청은 스크립트 호출 하나로 병합된다")
+	void coalescesConcurrentRefills() {
+		Sinks.One<List<Long>> pending = Sinks.one();
+		doReturn(pending.asMono().flux()).when(redis).execute(any(RedisScript.class), anyList(), anyList());
+		RateLimitProperties.BucketConfig config = new RateLimitProperties.BucketConfig(100, 60);
+		
+		List<RateLimitService.RateLimitResult> results = new ArrayList<>();
+		limiter.tryConsume("user:1", config).subscribe(results::add);
+		limiter.tryConsume("user:1", config).subscribe(results::add);
+		pending.tryEmitValue(List.of(10L, 90L, 0L));
+		
+		assertThat(results).hasSize(2).allMatch(RateLimitService.RateLimitResult::allowed);
+		verify(redis, times(1)).execute(any(RedisScript.class), anyList(), anyList());
+	}
+	
+	@Test
+	@DisplayName("토큰을 받지 못하면 스크립트가 알려준 대기 시간으로 거절한다")
+	void deniesWithScriptWaitTime() {
+		grant(0, 0, 250);
+		
+		RateLimitService.RateLimitResult result =
+				limiter.tryConsume("user:1", new RateLimitProperties.BucketConfig(100, 60)).block();
+		
+		assertThat(result.allowed()).isFalse();
+		assertThat(result.waitTimeMillis()).isEqualTo(250);
+	}
+	
+	@Test
+	@DisplayName("Redis 오류는 error 시그널로 전달되어 호출 측이 로컬 버킷으로 폴백할 수 있다")
+	void propagatesRedisErrors() {
+		doReturn(Flux.error(new IllegalStateException("redis down")))
+				.when(redis).execute(any(RedisScript.class), anyList(), anyList());
+		
+		StepVerifier.create(limiter.tryConsume("user:1", new RateLimitProperties.BucketConfig(100, 60)))
+				.expectError(IllegalStateException.class)
+				.verify(Duration.ofSeconds(1));
+	}
+	
+	@Test
+	@DisplayName("토큰 버킷 스크립트는 { granted, remaining, waitMillis }를 반환한다")
+	void scriptReturnsGrantTriple() throws Exception {
+		String script = new ClassPathResource("scripts/rate_limit_token_bucket.lua")
+				.getContentAsString(StandardCharsets.UTF_8);
+		
+		assertThat(script).contains("redis.call('TIME')", "PEXPIRE", "return { granted, math.floor(tokens), wait }");
+	}
+	
+	private void grant(long granted, long remaining, long waitMillis) {
+		doReturn(Flux.just(List.of(granted, remaining, waitMillis)))
+				.when(redis).execute(any(RedisScript.class), anyList(), anyList());
+	}
+}
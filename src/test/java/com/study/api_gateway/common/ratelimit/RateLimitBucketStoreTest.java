@@ -0,0 +1,77 @@
+package com.study.api_gateway.common.ratelimit;
+
+import com.study.api_gateway.common.monitoring.metrics.ApiGatewayMetrics;
+import io.github.bucket4j.Bucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class RateLimitBucketStoreTest {
+	
+	private final RateLimitProperties.BucketConfig config = new RateLimitProperties.BucketConfig(3, 60);
+	
+	@Test
+	@DisplayName("같은 키는 같은 버킷을 공유하고 다른 키는 독립된 버킷을 받는다")
+	void sharesBucketPerKey() {
+		RateLimitBucketStore store = store(100);
+		
+		Bucket first = store.getOrCreate("ip:1", config);
+		
+		assertThat(store.getOrCreate("ip:1", config)).isSameAs(first);
+		assertThat(store.getOrCreate("ip:2", config)).isNotSameAs(first);
+	}
+	
+	@Test
+	@DisplayName("removeAll로 제거한 키는 가득 찬 새 버킷으로 다시 시작한다")
+	void removedKeyStartsWithFullBucket() {
+		RateLimitBucketStore store = store(100);
+		Bucket bucket = store.getOrCreate("ip:1", config);
+		assertThat(bucket.tryConsume(3)).isTrue();
+		assertThat(bucket.tryConsume(1)).isFalse();
+		
+		store.removeAll(List.of("ip:1"));
+		
+		assertThat(store.getOrCreate("ip:1", config).tryConsume(3)).isTrue();
+	}
+	
+	@Test
+	@DisplayName("max-buckets를 넘으면 버킷을 제거하여 저장소 크기를 제한한다")
+	void boundsBucketCount() {
+		RateLimitBucketStore store = store(100);
+		
+		for (int i = 0; i < 2_000; i++) {
+			store.getOrCreate("ip:" + i, config);
+		}
+		
+		await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+			store.getOrCreate("ip:probe", config);
+			assertThat(store.size()).isLessThanOrEqualTo(100);
+		});
+		assertThat(store.evictionCount()).isPositive();
+		assertThat(store.estimatedMemoryBytes()).isEqualTo(store.size() * RateLimitBucketStore.ESTIMATED_BYTES_PER_BUCKET);
+	}
+	
+	@Test
+	@DisplayName("clear 후에는 버킷이 남지 않는다")
+	void clearRemovesAllBuckets() {
+		RateLimitBucketStore store = store(100);
+		store.getOrCreate("ip:1", config);
+		store.getOrCreate("ip:2", config);
+		
+		store.clear();
+		
+		assertThat(store.size()).isZero();
+	}
+	
+	private static RateLimitBucketStore store(long maxBuckets) {
+		RateLimitProperties properties = new RateLimitProperties();
+		properties.setMaxBuckets(maxBuckets);
+		return new RateLimitBucketStore(properties, new ApiGatewayMetrics(new SimpleMeterRegistry()));
+	}
+}
@@ -0,0 +1,91 @@
+package com.study.api_gateway.common.resilience;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+	
+	@Test
+	@DisplayName("한도만큼만 허가를 발급하고 초과 요청은 거절 수로 센다")
+	void rejectsBeyondLimit() {
+		AdaptiveConcurrencyLimiter limiter = limiter(2, 1);
+		
+		AdaptiveConcurrencyLimiter.Permit first = limiter.tryAcquire();
+		AdaptiveConcurrencyLimiter.Permit second = limiter.tryAcquire();
+		
+		assertThat(first).isNotNull();
+		assertThat(second).isNotNull();
+		assertThat(limiter.tryAcquire()).isNull();
+		assertThat(limiter.getRejections()).isEqualTo(1);
+		
+		first.ignore();
+		assertThat(limiter.getInFlight()).isEqualTo(1);
+		assertThat(limiter.tryAcquire()).isNotNull();
+	}
+	
+	@Test
+	@DisplayName("허가는 처음 통지된 결과만 반영하고 한 번만 반납된다")
+	void releasesOnce() {
+		AdaptiveConcurrencyLimiter limiter = limiter(10, 1.0);
+		AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire();
+		
+		permit.ignore();
+		permit.dropped();
+		permit.success();
+		
+		assertThat(limiter.getInFlight()).isZero();
+		assertThat(limiter.getLimit()).isEqualTo(10);
+	}
+	
+	@Test
+	@DisplayName("타임아웃/연결 실패는 한도를 절반으로 줄이고 최소 한도 아래로는 내려가지 않는다")
+	void halvesOnDropAndRespectsMin() {
+		AdaptiveConcurrencyLimiter limiter = limiter(20, 1.0);
+		
+		limiter.tryAcquire().dropped();
+		assertThat(limiter.getLimit()).isEqualTo(10);
+		
+		limiter.tryAcquire().dropped();
+		assertThat(limiter.getLimit()).isEqualTo(5);
+	}
+	
+	@Test
+	@DisplayName("한도의 절반도 쓰지 않는 트래픽의 정상 응답으로는 한도를 늘리지 않는다")
+	void doesNotGrowWhenAppLimited() {
+		AdaptiveConcurrencyLimiter limiter = limiter(20, 1.0);
+		
+		limiter.tryAcquire().success();
+		
+		assertThat(limiter.getLimit()).isEqualTo(20);
+	}
+	
+	@Test
+	@DisplayName("동시 호출이 한도의 절반 이상일 때 지연이 기준 수준이면 sqrt(한도)만큼 늘린다")
+	void growsWhenSaturated() throws InterruptedException {
+		AdaptiveConcurrencyLimiter limiter = limiter(4, 1.0);
+		List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			permits.add(limiter.tryAcquire());
+		}
+		
+		Thread.sleep(1);
+		// 첫 샘플은 기준 RTT와 같으므로 gradient = 1 -> 4 + sqrt(4)
+		permits.get(3).success();
+		
+		assertThat(limiter.getLimit()).isEqualTo(6);
+	}
+	
+	private static AdaptiveConcurrencyLimiter limiter(int initialLimit, double smoothing) {
+		ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+		properties.setInitialLimit(initialLimit);
+		properties.setMinLimit(Math.min(5, initialLimit));
+		properties.setMaxLimit(200);
+		properties.setSmoothing(smoothing);
+		return new AdaptiveConcurrencyLimiter(properties);
+	}
+}
@@ -0,0 +1,92 @@
+package com.study.api_gateway.common.resilience;
+
+import com.study.api_gateway.common.deadline.Deadline;
+import com.study.api_gateway.common.deadline.DeadlineExceededException;
+import com.study.api_gateway.common.monitoring.metrics.ApiGatewayMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimiterRegistryTest {
+	
+	private static final String SERVICE = "profile-service";
+	
+	private final ConcurrencyLimiterRegistry registry;
+	
+	ConcurrencyLimiterRegistryTest() {
+		ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+		properties.setInitialLimit(20);
+		properties.setMinLimit(5);
+		registry = new ConcurrencyLimiterRegistry(properties, new ApiGatewayMetrics(new SimpleMeterRegistry()));
+	}
+	
+	@Test
+	@DisplayName("클라이언트 마감(남은 시간)에 걸려 끊긴 호출은 한도를 낮추지 않는다")
+	void clientDeadlineDoesNotLowerLimit() {
+		for (int i = 0; i < 3; i++) {
+			StepVerifier.create(call(Mono.never(), Duration.ofSeconds(10))
+							.contextWrite(Deadline.after(Duration.ofMillis(20)).addTo(Context.empty())))
+					.expectError(DeadlineExceededException.class)
+					.verify(Duration.ofSeconds(1));
+		}
+		
+		assertThat(registry.limiter(SERVICE).getLimit()).isEqualTo(20);
+		assertThat(registry.limiter(SERVICE).getInFlight()).isZero();
+	}
+	
+	@Test
+	@DisplayName("이미 지난 마감으로 호출조차 하지 않은 경우도 한도를 낮추지 않는다")
+	void expiredDeadlineDoesNotLowerLimit() {
+		StepVerifier.create(call(Mono.just("value"), Duration.ofSeconds(10))
+						.contextWrite(Deadline.after(Duration.ofMillis(-1)).addTo(Context.empty())))
+				.expectError(DeadlineExceededException.class)
+				.verify(Duration.ofSeconds(1));
+		
+		assertThat(registry.limiter(SERVICE).getLimit()).isEqualTo(20);
+	}
+	
+	@Test
+	@DisplayName("서비스 자체 타임아웃과 연결 실패는 과부하 신호로 한도를 절반으로 줄인다")
+	void ownTimeoutAndConnectionFailureLowerLimit() {
+		StepVerifier.create(call(Mono.never(), Duration.ofMillis(20)))
+				.expectErrorMatches(e -> e instanceof TimeoutException && !(e instanceof DeadlineExceededException))
+				.verify(Duration.ofSeconds(1));
+		assertThat(registry.limiter(SERVICE).getLimit()).isEqualTo(10);
+		
+		StepVerifier.create(call(Mono.error(new IOException("connection reset")), Duration.ofSeconds(10)))
+				.expectError(IOException.class)
+				.verify(Duration.ofSeconds(1));
+		assertThat(registry.limiter(SERVICE).getLimit()).isEqualTo(5);
+	}
+	
+	@Test
+	@DisplayName("한도를 넘으면 구독하지 않고 ConcurrencyLimitExceededException으로 실패한다")
+	void rejectsBeyondLimit() {
+		AdaptiveConcurrencyLimiter limiter = registry.limiter(SERVICE);
+		for (int i = 0; i < 20; i++) {
+			limiter.tryAcquire();
+		}
+		
+		StepVerifier.create(call(Mono.just("value"), Duration.ofSeconds(10)))
+				.expectError(ConcurrencyLimitExceededException.class)
+				.verify(Duration.ofSeconds(1));
+	}
+	
+	/**
+	 * ResilienceOperator.protect와 같은 순서: 마감 타임아웃 -> 동시 호출 제한
+	 */
+	private Mono<String> call(Mono<String> downstream, Duration timeout) {
+		return downstream
+				.transform(Deadline.<String>timeout(timeout))
+				.transformDeferred(registry.<String>limit(SERVICE));
+	}
+}
@@ -0,0 +1,76 @@
+package com.study.api_gateway.common.resilience;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HedgePolicyTest {
+	
+	@Test
+	@DisplayName("샘플이 minSamples 미만이면 헤지 지연이 없다")
+	void noDelayUntilEnoughSamples() {
+		HedgePolicy policy = new HedgePolicy(properties(3, 1.0));
+		
+		policy.record(ms(10));
+		policy.record(ms(20));
+		
+		assertThat(policy.hedgeDelay()).isNull();
+		assertThat(policy.getHedgeDelayMillis()).isZero();
+		
+		policy.record(ms(30));
+		assertThat(policy.hedgeDelay()).isEqualTo(Duration.ofMillis(30));
+	}
+	
+	@Test
+	@DisplayName("헤지 지연은 최근 샘플의 백분위수이며 minDelay보다 짧아지지 않는다")
+	void usesPercentileWithFloor() {
+		HedgingProperties properties = properties(1, 10);
+		properties.setPercentile(0.5);
+		properties.setWindowSize(4);
+		HedgePolicy policy = new HedgePolicy(properties);
+		
+		policy.record(ms(1));
+		assertThat(policy.hedgeDelay()).isEqualTo(Duration.ofMillis(5));
+		
+		// 첫 계산 이후에는 32건마다 재계산
+		for (int i = 0; i < 32; i++) {
+			policy.record(ms(i % 4 * 10 + 10));
+		}
+		assertThat(policy.hedgeDelay()).isEqualTo(Duration.ofMillis(20));
+	}
+	
+	@Test
+	@DisplayName("예산은 원 요청마다 budgetPercent만큼 적립되고 maxBurst까지만 쌓인다")
+	void limitsHedgesByBudget() {
+		HedgePolicy policy = new HedgePolicy(properties(1, 50));
+		
+		assertThat(policy.tryWithdraw()).isFalse();
+		policy.deposit();
+		assertThat(policy.tryWithdraw()).isFalse();
+		policy.deposit();
+		assertThat(policy.tryWithdraw()).isTrue();
+		
+		for (int i = 0; i < 100; i++) {
+			policy.deposit();
+		}
+		int hedges = 0;
+		while (policy.tryWithdraw()) hedges++;
+		assertThat(hedges).isEqualTo(2);
+	}
+	
+	private static HedgingProperties properties(int minSamples, double budgetPercent) {
+		HedgingProperties properties = new HedgingProperties();
+		properties.setMinSamples(minSamples);
+		properties.setMinDelay(Duration.ofMillis(5));
+		properties.setBudgetPercent(budgetPercent);
+		properties.setMaxBurst(2);
+		return properties;
+	}
+	
+	private static long ms(long millis) {
+		return Duration.ofMillis(millis).toNanos();
+	}
+}
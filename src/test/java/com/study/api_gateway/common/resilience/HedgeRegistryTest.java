@@ -0,0 +1,144 @@
+package com.study.api_gateway.common.resilience;
+
+import com.study.api_gateway.common.monitoring.metrics.ApiGatewayMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HedgeRegistryTest {
+	
+	private static final String SERVICE = "profile";
+	private static final Duration PRIMED_DELAY = Duration.ofMillis(20);
+	
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final HedgingProperties properties = new HedgingProperties();
+	private final HedgeRegistry registry;
+	
+	HedgeRegistryTest() {
+		properties.setMinSamples(1);
+		properties.setWindowSize(1);
+		properties.setMinDelay(Duration.ofMillis(1));
+		properties.setBudgetPercent(100);
+		registry = new HedgeRegistry(properties, new ApiGatewayMetrics(meterRegistry));
+	}
+	
+	@Test
+	@DisplayName("원 요청이 헤지 지연 안에 끝나면 헤지하지 않는다")
+	void skipsHedgeForFastPrimary() {
+		AtomicInteger calls = new AtomicInteger();
+		prime();
+		
+		String result = registry.<String>hedge(SERVICE)
+				.apply(Mono.fromSupplier(() -> "call-" + calls.incrementAndGet()))
+				.block(Duration.ofSeconds(1));
+		
+		assertThat(result).isEqualTo("call-1");
+		assertThat(calls).hasValue(1);
+		assertThat(hedgeCount("fired")).isZero();
+	}
+	
+	@Test
+	@DisplayName("헤지가 이기면 결과를 쓰고, 취소된 원 요청의 경과 시간을 지연 샘플로 기록한다")
+	void recordsPrimaryLatencyWhenHedgeWins() {
+		AtomicInteger calls = new AtomicInteger();
+		prime();
+		
+		String result = registry.<String>hedge(SERVICE)
+				.apply(Mono.defer(() -> calls.incrementAndGet() == 1
+						? Mono.delay(Duration.ofSeconds(5)).thenReturn("primary")
+						: Mono.just("hedge")))
+				.block(Duration.ofSeconds(1));
+		
+		assertThat(result).isEqualTo("hedge");
+		assertThat(hedgeCount("fired")).isEqualTo(1);
+		assertThat(hedgeCount("won")).isEqualTo(1);
+		// 헤지 자체의 짧은 응답 시간이 아니라 원 요청의 경과 시간(>= 헤지 지연)이 반영된다
+		assertThat(registry.policy(SERVICE).hedgeDelay()).isGreaterThan(PRIMED_DELAY);
+	}
+	
+	@Test
+	@DisplayName("헤지가 먼저 실패해도 원 요청을 취소하지 않고 그 결과를 사용한다")
+	void ignoresFailingHedge() {
+		AtomicInteger calls = new AtomicInteger();
+		prime();
+		
+		String result = registry.<String>hedge(SERVICE)
+				.apply(Mono.defer(() -> calls.incrementAndGet() == 1
+						? Mono.delay(Duration.ofMillis(100)).thenReturn("primary")
+						: Mono.<String>error(new IOException("connection refused"))))
+				.block(Duration.ofSeconds(1));
+		
+		assertThat(result).isEqualTo("primary");
+		assertThat(calls).hasValue(2);
+		assertThat(hedgeCount("fired")).isEqualTo(1);
+		assertThat(hedgeCount("failed")).isEqualTo(1);
+		assertThat(hedgeCount("won")).isZero();
+	}
+	
+	@Test
+	@DisplayName("원 요청이 실패하면 헤지를 기다리지 않고 그 실패를 전달한다")
+	void propagatesPrimaryFailure() {
+		AtomicInteger calls = new AtomicInteger();
+		prime();
+		
+		StepVerifier.create(registry.<String>hedge(SERVICE)
+						.apply(Mono.defer(() -> calls.incrementAndGet() == 1
+								? Mono.delay(Duration.ofMillis(50)).then(Mono.<String>error(new IOException("reset")))
+								: Mono.<String>never())))
+				.expectError(IOException.class)
+				.verify(Duration.ofSeconds(1));
+	}
+	
+	@Test
+	@DisplayName("예산이 없으면 헤지하지 않고 원 요청 결과를 기다린다")
+	void waitsForPrimaryWhenBudgetExhausted() {
+		properties.setBudgetPercent(0);
+		AtomicInteger calls = new AtomicInteger();
+		prime();
+		
+		String result = registry.<String>hedge(SERVICE)
+				.apply(Mono.defer(() -> Mono.delay(Duration.ofMillis(50)).thenReturn("call-" + calls.incrementAndGet())))
+				.block(Duration.ofSeconds(1));
+		
+		assertThat(result).isEqualTo("call-1");
+		assertThat(calls).hasValue(1);
+		assertThat(hedgeCount("budget_exhausted")).isEqualTo(1);
+		assertThat(hedgeCount("fired")).isZero();
+	}
+	
+	@Test
+	@DisplayName("비활성화하면 원본 Mono를 그대로 쓴다")
+	void passesThroughWhenDisabled() {
+		properties.setEnabled(false);
+		Mono<String> mono = Mono.just("value");
+		
+		assertThat(registry.<String>hedge(SERVICE).apply(mono)).isSameAs(mono);
+	}
+	
+	/**
+	 * 헤지 지연을 PRIMED_DELAY로 고정하고, 다음 record 호출에서 재계산되도록 샘플 수를 맞춤
+	 */
+	private void prime() {
+		HedgePolicy policy = registry.policy(SERVICE);
+		for (int i = 0; i < 32; i++) {
+			policy.record(PRIMED_DELAY.toNanos());
+		}
+	}
+	
+	private double hedgeCount(String result) {
+		Counter counter = meterRegistry.find("api_gateway_hedge_requests_total")
+				.tag("service", SERVICE)
+				.tag("result", result)
+				.counter();
+		return counter == null ? 0 : counter.count();
+	}
+}
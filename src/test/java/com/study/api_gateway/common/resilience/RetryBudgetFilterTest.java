@@ -0,0 +1,107 @@
+package com.study.api_gateway.common.resilience;
+
+import com.study.api_gateway.common.monitoring.metrics.ApiGatewayMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RetryBudgetFilterTest {
+	
+	private static final String SERVICE = "profile-service";
+	private static final URI TARGET = URI.create("http://profile/api/v1/profiles/u1");
+	
+	private final RetryBudgetRegistry registry;
+	private final ExchangeFilterFunction filter;
+	private final AtomicInteger calls = new AtomicInteger();
+	
+	RetryBudgetFilterTest() {
+		RetryBudgetProperties properties = new RetryBudgetProperties();
+		properties.setInitialBackoff(Duration.ofMillis(1));
+		properties.setMaxBackoff(Duration.ofMillis(5));
+		properties.setBudgetPercent(50);
+		registry = new RetryBudgetRegistry(properties, new ApiGatewayMetrics(new SimpleMeterRegistry()));
+		filter = new RetryBudgetFilter(registry).forService(SERVICE);
+	}
+	
+	@Test
+	@DisplayName("GET/HEAD/OPTIONS는 연결 실패 시 재시도한다")
+	void retriesReadMethods() {
+		for (HttpMethod method : new HttpMethod[]{HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS}) {
+			calls.set(0);
+			
+			exchangeFailing(ClientRequest.create(method, TARGET).build());
+			
+			assertThat(calls).as(method.name()).hasValue(3);
+		}
+	}
+	
+	@Test
+	@DisplayName("POST/PUT/DELETE는 기본으로 재시도하지 않는다")
+	void doesNotRetryWritesByDefault() {
+		for (HttpMethod method : new HttpMethod[]{HttpMethod.POST, HttpMethod.PUT, HttpMethod.DELETE}) {
+			calls.set(0);
+			
+			exchangeFailing(ClientRequest.create(method, TARGET).build());
+			
+			assertThat(calls).as(method.name()).hasValue(1);
+		}
+	}
+	
+	@Test
+	@DisplayName("IDEMPOTENT 속성이 있으면 메서드와 관계없이 그 값을 따른다")
+	void followsIdempotentAttribute() {
+		exchangeFailing(ClientRequest.create(HttpMethod.POST, TARGET).attribute(RetryBudgetFilter.IDEMPOTENT, true).build());
+		assertThat(calls).hasValue(3);
+		
+		calls.set(0);
+		exchangeFailing(ClientRequest.create(HttpMethod.GET, TARGET).attribute(RetryBudgetFilter.IDEMPOTENT, false).build());
+		assertThat(calls).hasValue(1);
+	}
+	
+	@Test
+	@DisplayName("5xx가 아닌 응답마다 예산을 적립한다 (메서드와 관계없이)")
+	void depositsOnNonServerErrorResponses() {
+		TokenBudget budget = registry.budget(SERVICE);
+		while (budget.tryWithdraw()) {
+			// 시작 토큰을 모두 사용
+		}
+		
+		exchange(ClientRequest.create(HttpMethod.POST, TARGET).build(), HttpStatus.OK);
+		exchange(ClientRequest.create(HttpMethod.GET, TARGET).build(), HttpStatus.NOT_FOUND);
+		exchange(ClientRequest.create(HttpMethod.GET, TARGET).build(), HttpStatus.SERVICE_UNAVAILABLE);
+		
+		assertThat(budget.getAvailable()).isEqualTo(1.0);
+	}
+	
+	private void exchangeFailing(ClientRequest request) {
+		ExchangeFunction next = r -> Mono.defer(() -> {
+			calls.incrementAndGet();
+			return Mono.error(new IOException("connection reset"));
+		});
+		StepVerifier.create(filter.filter(request, next))
+				.expectError(IOException.class)
+				.verify(Duration.ofSeconds(1));
+	}
+	
+	private void exchange(ClientRequest request, HttpStatus status) {
+		ExchangeFunction next = r -> Mono.just(ClientResponse.create(status).build());
+		StepVerifier.create(filter.filter(request, next))
+				.expectNextCount(1)
+				.verifyComplete();
+	}
+}
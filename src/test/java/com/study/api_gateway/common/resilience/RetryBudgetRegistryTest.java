@@ -0,0 +1,169 @@
+package com.study.api_gateway.common.resilience;
+
+import com.study.api_gateway.common.deadline.Deadline;
+import com.study.api_gateway.common.deadline.DeadlineExceededException;
+import com.study.api_gateway.common.monitoring.metrics.ApiGatewayMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RetryBudgetRegistryTest {
+	
+	private static final String SERVICE = "profile-service";
+	
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final RetryBudgetProperties properties = new RetryBudgetProperties();
+	private final RetryBudgetRegistry registry;
+	
+	RetryBudgetRegistryTest() {
+		properties.setInitialBackoff(Duration.ofMillis(1));
+		properties.setMaxBackoff(Duration.ofMillis(5));
+		registry = new RetryBudgetRegistry(properties, new ApiGatewayMetrics(meterRegistry));
+	}
+	
+	@Test
+	@DisplayName("연결 실패는 max-attempts까지 재시도하고 마지막 실패를 전달한다")
+	void retriesTransientFailuresUpToMaxAttempts() {
+		AtomicInteger calls = new AtomicInteger();
+		
+		StepVerifier.create(failing(calls, new IOException("connection reset")).retryWhen(registry.retrySpec(SERVICE)))
+				.expectError(IOException.class)
+				.verify(Duration.ofSeconds(1));
+		
+		assertThat(calls).hasValue(3);
+		assertThat(retryCount("attempted")).isEqualTo(2);
+		assertThat(retryCount("allowed")).isEqualTo(2);
+		assertThat(registry.budget(SERVICE).getAvailable()).isEqualTo(8.0);
+	}
+	
+	@Test
+	@DisplayName("재시도 조건에 맞지 않는 실패는 재시도하지 않는다")
+	void skipsNonRetryableFailures() {
+		AtomicInteger calls = new AtomicInteger();
+		
+		StepVerifier.create(failing(calls, serverError(503)).retryWhen(registry.retrySpec(SERVICE)))
+				.expectError(WebClientResponseException.class)
+				.verify(Duration.ofSeconds(1));
+		
+		assertThat(calls).hasValue(1);
+		assertThat(retryCount("attempted")).isZero();
+	}
+	
+	@Test
+	@DisplayName("조건을 넓힌 스펙은 5xx와 타임아웃도 재시도하지만 4xx는 재시도하지 않는다")
+	void widensRetryCondition() {
+		AtomicInteger calls = new AtomicInteger();
+		
+		StepVerifier.create(failing(calls, serverError(503))
+						.retryWhen(registry.retrySpec(SERVICE, RetryBudgetRegistry::isTransientOrServerError)))
+				.expectError(WebClientResponseException.class)
+				.verify(Duration.ofSeconds(1));
+		
+		assertThat(calls).hasValue(3);
+		assertThat(RetryBudgetRegistry.isTransientOrServerError(new TimeoutException())).isTrue();
+		assertThat(RetryBudgetRegistry.isTransientOrServerError(new DeadlineExceededException())).isFalse();
+		assertThat(RetryBudgetRegistry.isTransientOrServerError(new IOException())).isTrue();
+		assertThat(RetryBudgetRegistry.isTransientOrServerError(serverError(404))).isFalse();
+		assertThat(RetryBudgetRegistry.isTransientOrServerError(new IllegalStateException())).isFalse();
+	}
+	
+	@Test
+	@DisplayName("예산이 바닥나면 재시도를 거절하고, 성공 응답으로 다시 적립된다")
+	void deniesRetriesWithoutBudget() {
+		properties.setMaxBurst(1);
+		properties.setBudgetPercent(50);
+		AtomicInteger calls = new AtomicInteger();
+		
+		StepVerifier.create(failing(calls, new IOException()).retryWhen(registry.retrySpec(SERVICE)))
+				.expectError(IOException.class)
+				.verify(Duration.ofSeconds(1));
+		
+		assertThat(calls).hasValue(2);
+		assertThat(retryCount("allowed")).isEqualTo(1);
+		assertThat(retryCount("denied")).isEqualTo(1);
+		
+		registry.onSuccess(SERVICE);
+		assertThat(registry.budget(SERVICE).getAvailable()).isEqualTo(0.5);
+		registry.onSuccess(SERVICE);
+		registry.onSuccess(SERVICE);
+		assertThat(registry.budget(SERVICE).getAvailable()).isEqualTo(1.0);
+	}
+	
+	@Test
+	@DisplayName("백오프가 요청 마감 안에 들어가지 않으면 예산을 쓰지 않고 포기한다")
+	void givesUpWhenBackoffExceedsDeadline() {
+		AtomicInteger calls = new AtomicInteger();
+		
+		StepVerifier.create(failing(calls, new IOException())
+						.retryWhen(registry.retrySpec(SERVICE))
+						.contextWrite(Deadline.after(Duration.ofMillis(-1)).addTo(Context.empty())))
+				.expectError(IOException.class)
+				.verify(Duration.ofSeconds(1));
+		
+		assertThat(calls).hasValue(1);
+		assertThat(retryCount("denied")).isEqualTo(1);
+		assertThat(registry.budget(SERVICE).getAvailable()).isEqualTo(10.0);
+	}
+	
+	@Test
+	@DisplayName("비활성화하면 재시도하지 않고 예산도 적립하지 않는다")
+	void disabled() {
+		properties.setEnabled(false);
+		properties.setMaxBurst(1);
+		AtomicInteger calls = new AtomicInteger();
+		
+		StepVerifier.create(failing(calls, new IOException()).retryWhen(registry.retrySpec(SERVICE)))
+				.expectError(IOException.class)
+				.verify(Duration.ofSeconds(1));
+		registry.budget(SERVICE).tryWithdraw();
+		registry.onSuccess(SERVICE);
+		
+		assertThat(calls).hasValue(1);
+		assertThat(registry.budget(SERVICE).getAvailable()).isZero();
+	}
+	
+	@Test
+	@DisplayName("백오프는 0 ~ min(max-backoff, initial-backoff * 2^n) 범위의 무작위 값이다")
+	void backoffUsesFullJitter() {
+		properties.setInitialBackoff(Duration.ofMillis(100));
+		properties.setMaxBackoff(Duration.ofMillis(250));
+		
+		for (int i = 0; i < 200; i++) {
+			assertThat(registry.backoff(0)).isBetween(Duration.ZERO, Duration.ofMillis(100));
+			assertThat(registry.backoff(1)).isBetween(Duration.ZERO, Duration.ofMillis(200));
+			assertThat(registry.backoff(40)).isBetween(Duration.ZERO, Duration.ofMillis(250));
+		}
+	}
+	
+	private static Mono<String> failing(AtomicInteger calls, Throwable failure) {
+		return Mono.defer(() -> {
+			calls.incrementAndGet();
+			return Mono.error(failure);
+		});
+	}
+	
+	private static WebClientResponseException serverError(int status) {
+		return WebClientResponseException.create(status, "error", HttpHeaders.EMPTY, new byte[0], null);
+	}
+	
+	private double retryCount(String result) {
+		Counter counter = meterRegistry.find("api_gateway_retries_total")
+				.tag("service", SERVICE)
+				.tag("result", result)
+				.counter();
+		return counter == null ? 0 : counter.count();
+	}
+}
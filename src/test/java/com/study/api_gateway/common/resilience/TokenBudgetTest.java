@@ -0,0 +1,71 @@
+package com.study.api_gateway.common.resilience;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBudgetTest {
+	
+	@Test
+	@DisplayName("기준 이벤트마다 percent/100개씩 적립되고, 토큰 1개가 모여야 사용할 수 있다")
+	void depositsFractionalTokens() {
+		TokenBudget budget = new TokenBudget(25, 10, 0);
+		
+		for (int i = 0; i < 3; i++) {
+			budget.deposit();
+		}
+		assertThat(budget.getAvailable()).isEqualTo(0.75);
+		assertThat(budget.tryWithdraw()).isFalse();
+		
+		budget.deposit();
+		assertThat(budget.tryWithdraw()).isTrue();
+		assertThat(budget.getAvailable()).isZero();
+	}
+	
+	@Test
+	@DisplayName("적립은 maxBurst개까지만 되고, 시작 토큰도 maxBurst를 넘지 않는다")
+	void capsAtMaxBurst() {
+		TokenBudget budget = new TokenBudget(100, 2, 5);
+		assertThat(budget.getAvailable()).isEqualTo(2.0);
+		
+		for (int i = 0; i < 10; i++) {
+			budget.deposit();
+		}
+		assertThat(budget.getAvailable()).isEqualTo(2.0);
+		assertThat(budget.tryWithdraw()).isTrue();
+		assertThat(budget.tryWithdraw()).isTrue();
+		assertThat(budget.tryWithdraw()).isFalse();
+	}
+	
+	@Test
+	@DisplayName("동시에 사용해도 보유한 토큰 수보다 많이 사용되지 않는다")
+	void withdrawsAtomically() throws InterruptedException {
+		TokenBudget budget = new TokenBudget(10, 100, 100);
+		AtomicInteger granted = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		
+		for (int i = 0; i < 8; i++) {
+			executor.submit(() -> {
+				start.await();
+				for (int j = 0; j < 50; j++) {
+					if (budget.tryWithdraw()) granted.incrementAndGet();
+				}
+				return null;
+			});
+		}
+		start.countDown();
+		executor.shutdown();
+		assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+		
+		assertThat(granted).hasValue(100);
+		assertThat(budget.getAvailable()).isZero();
+	}
+}
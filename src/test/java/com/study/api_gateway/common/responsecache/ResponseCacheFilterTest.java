@@ -0,0 +1,163 @@
+package com.study.api_gateway.common.responsecache;
+
+import com.study.api_gateway.common.monitoring.metrics.ApiGatewayMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class ResponseCacheFilterTest {
+	
+	private static final String PATH = "/bff/v1/enums/all";
+	
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final List<ServerWebExchange> downstream = new CopyOnWriteArrayList<>();
+	private volatile String body = "v1";
+	private volatile HttpStatus status = HttpStatus.OK;
+	
+	private final WebFilterChain chain = exchange -> {
+		downstream.add(exchange);
+		ServerHttpResponse response = exchange.getResponse();
+		response.setStatusCode(status);
+		response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+		return response.writeWith(Mono.just(response.bufferFactory().wrap(body.getBytes(StandardCharsets.UTF_8))));
+	};
+	
+	@Test
+	@DisplayName("첫 요청은 MISS로 저장하고, 이후 요청은 다운스트림 호출 없이 같은 ETag로 응답한다")
+	void storesOnMissAndServesHit() {
+		ResponseCacheFilter filter = filter(Duration.ofMinutes(1));
+		
+		MockServerWebExchange first = send(filter, MockServerHttpRequest.get(PATH));
+		MockServerWebExchange second = send(filter, MockServerHttpRequest.get(PATH));
+		
+		assertThat(first.getResponse().getHeaders().getFirst("X-Cache")).isEqualTo("MISS");
+		assertThat(first.getResponse().getBodyAsString().block()).isEqualTo("v1");
+		assertThat(second.getResponse().getHeaders().getFirst("X-Cache")).isEqualTo("HIT");
+		assertThat(second.getResponse().getBodyAsString().block()).isEqualTo("v1");
+		assertThat(second.getResponse().getHeaders().getETag()).isEqualTo(first.getResponse().getHeaders().getETag());
+		assertThat(second.getResponse().getHeaders().getCacheControl()).startsWith("public, max-age=60");
+		assertThat(downstream).hasSize(1);
+		assertThat(meterRegistry.find("api_gateway_response_cache_requests_total").tag("result", "hit").counter().count()).isEqualTo(1);
+		
+		send(filter, MockServerHttpRequest.get(PATH));
+		assertThat(meterRegistry.find("api_gateway_response_cache_requests_total").tag("result", "hit").counters()).hasSize(1);
+		assertThat(meterRegistry.find("api_gateway_response_cache_requests_total").tag("result", "hit").counter().count()).isEqualTo(2);
+	}
+	
+	@Test
+	@DisplayName("If-None-Match가 캐시된 ETag와 같으면 본문 없이 304로 응답한다")
+	void answersNotModified() {
+		ResponseCacheFilter filter = filter(Duration.ofMinutes(1));
+		String etag = send(filter, MockServerHttpRequest.get(PATH)).getResponse().getHeaders().getETag();
+		
+		MockServerWebExchange conditional = send(filter, MockServerHttpRequest.get(PATH).header(HttpHeaders.IF_NONE_MATCH, "W/" + etag));
+		
+		assertThat(conditional.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+		assertThat(conditional.getResponse().getBodyAsString().block()).isEmpty();
+	}
+	
+	@Test
+	@DisplayName("Authorization 헤더가 있는 요청은 캐시를 읽지도 쓰지도 않는다")
+	void bypassesAuthenticatedRequests() {
+		ResponseCacheFilter filter = filter(Duration.ofMinutes(1));
+		
+		MockServerWebExchange authenticated = send(filter, MockServerHttpRequest.get(PATH).header(HttpHeaders.AUTHORIZATION, "Bearer token"));
+		MockServerWebExchange anonymous = send(filter, MockServerHttpRequest.get(PATH));
+		MockServerWebExchange authenticatedAgain = send(filter, MockServerHttpRequest.get(PATH).header(HttpHeaders.AUTHORIZATION, "Bearer token"));
+		
+		assertThat(authenticated.getResponse().getHeaders().getFirst("X-Cache")).isNull();
+		assertThat(anonymous.getResponse().getHeaders().getFirst("X-Cache")).isEqualTo("MISS");
+		assertThat(authenticatedAgain.getResponse().getHeaders().getFirst("X-Cache")).isNull();
+		assertThat(downstream).hasSize(3);
+	}
+	
+	@Test
+	@DisplayName("200이 아닌 응답은 캐시하지 않고 그대로 전달한다")
+	void skipsUncacheableResponses() {
+		ResponseCacheFilter filter = filter(Duration.ofMinutes(1));
+		status = HttpStatus.NOT_FOUND;
+		
+		MockServerWebExchange notFound = send(filter, MockServerHttpRequest.get(PATH));
+		send(filter, MockServerHttpRequest.get(PATH));
+		
+		assertThat(notFound.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+		assertThat(notFound.getResponse().getBodyAsString().block()).isEqualTo("v1");
+		assertThat(downstream).hasSize(2);
+	}
+	
+	@Test
+	@DisplayName("stale 응답 후 백그라운드 갱신은 원래 exchange가 아니라 조건부 헤더를 뺀 새 GET exchange로 수행된다")
+	void refreshesStaleEntryWithCleanExchange() throws InterruptedException {
+		ResponseCacheFilter filter = filter(Duration.ofMillis(1));
+		String etag = send(filter, MockServerHttpRequest.get(PATH)).getResponse().getHeaders().getETag();
+		Thread.sleep(10);
+		body = "v2";
+		
+		MockServerWebExchange stale = MockServerWebExchange.from(MockServerHttpRequest.head(PATH)
+				.header(HttpHeaders.IF_NONE_MATCH, etag)
+				.header("X-Trace", "abc"));
+		stale.getAttributes().put("marker", true);
+		filter.filter(stale, chain).block(Duration.ofSeconds(1));
+		
+		assertThat(stale.getResponse().getHeaders().getFirst("X-Cache")).isEqualTo("STALE");
+		assertThat(stale.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+		await().atMost(Duration.ofSeconds(1)).until(() -> downstream.size() == 2);
+		
+		ServerWebExchange refresh = downstream.get(1);
+		assertThat(refresh).isNotSameAs(stale);
+		assertThat(refresh.getAttributes()).doesNotContainKey("marker");
+		assertThat(refresh.getRequest().getMethod()).isEqualTo(HttpMethod.GET);
+		assertThat(refresh.getRequest().getHeaders().containsKey(HttpHeaders.IF_NONE_MATCH)).isFalse();
+		assertThat(refresh.getRequest().getHeaders().getFirst("X-Trace")).isEqualTo("abc");
+		assertThat(refresh.getRequest().getPath().value()).isEqualTo(PATH);
+		
+		await().atMost(Duration.ofSeconds(1)).untilAsserted(() ->
+				assertThat(send(filter, MockServerHttpRequest.get(PATH)).getResponse().getBodyAsString().block()).isEqualTo("v2"));
+	}
+	
+	@Test
+	@DisplayName("캐시 키는 host + 끝 슬래시를 뗀 경로 + 이름순 쿼리로 만든다")
+	void buildsNormalizedCacheKey() {
+		MockServerHttpRequest request = MockServerHttpRequest.get("/bff/v1/enums/all/?b=2&a=1&")
+				.header(HttpHeaders.HOST, "internal:8080")
+				.header("X-Forwarded-Host", "api.example.com")
+				.build();
+		
+		assertThat(ResponseCacheFilter.cacheKey(request)).isEqualTo("api.example.com/bff/v1/enums/all?a=1&b=2");
+	}
+	
+	private MockServerWebExchange send(ResponseCacheFilter filter, MockServerHttpRequest.BaseBuilder<?> request) {
+		MockServerWebExchange exchange = MockServerWebExchange.from(request);
+		filter.filter(exchange, chain).block(Duration.ofSeconds(1));
+		return exchange;
+	}
+	
+	private ResponseCacheFilter filter(Duration ttl) {
+		ResponseCacheProperties.Route route = new ResponseCacheProperties.Route();
+		route.setPattern("/bff/v1/enums/**");
+		route.setTtl(ttl);
+		route.setStaleWhileRevalidate(Duration.ofMinutes(5));
+		ResponseCacheProperties properties = new ResponseCacheProperties();
+		properties.setRoutes(List.of(route));
+		return new ResponseCacheFilter(properties, new ApiGatewayMetrics(meterRegistry), ServerCodecConfigurer.create());
+	}
+}
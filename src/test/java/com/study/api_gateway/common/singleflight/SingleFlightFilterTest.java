@@ -0,0 +1,119 @@
+package com.study.api_gateway.common.singleflight;
+
+import com.study.api_gateway.common.monitoring.metrics.ApiGatewayMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.function.Tuple2;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SingleFlightFilterTest {
+	
+	private final AtomicInteger exchanges = new AtomicInteger();
+	private final Sinks.Empty<Void> gate = Sinks.empty();
+	private ExchangeFunction exchange;
+	
+	@BeforeEach
+	void setUp() {
+		SingleFlightProperties properties = new SingleFlightProperties();
+		properties.setRoutes(Map.of("place_info", List.of("/api/v1/places/**")));
+		SingleFlightFilter filter = new SingleFlightFilter(properties, new ApiGatewayMetrics(new SimpleMeterRegistry()));
+		
+		// gate가 열릴 때까지 응답을 보류하는 다운스트림 (요청마다 새 응답 생성)
+		ExchangeFunction downstream = request -> {
+			exchanges.incrementAndGet();
+			return gate.asMono().then(Mono.fromSupplier(() -> ClientResponse.create(HttpStatus.OK)
+					.header(HttpHeaders.CONTENT_TYPE, "text/plain")
+					.body("body:" + request.url().getPath())
+					.build()));
+		};
+		exchange = filter.forService("place_info").apply(downstream);
+	}
+	
+	@Test
+	@DisplayName("같은 경로/Authorization의 동시 GET은 다운스트림 호출 1회로 병합되고 각자 본문을 받는다")
+	void coalescesIdenticalRequests() throws Exception {
+		CompletableFuture<Tuple2<String, String>> result = Mono.zip(
+				body(get("/api/v1/places/1", "Bearer a")),
+				body(get("/api/v1/places/1", "Bearer a"))).toFuture();
+		
+		assertThat(exchanges).hasValue(1);
+		gate.tryEmitEmpty();
+		
+		Tuple2<String, String> bodies = result.get(1, TimeUnit.SECONDS);
+		assertThat(bodies.getT1()).isEqualTo("body:/api/v1/places/1");
+		assertThat(bodies.getT2()).isEqualTo("body:/api/v1/places/1");
+	}
+	
+	@Test
+	@DisplayName("Authorization 헤더가 다르면 다른 사용자의 응답을 공유하지 않는다")
+	void separatesByAuthorizationHeader() throws Exception {
+		CompletableFuture<Tuple2<String, String>> result = Mono.zip(
+				body(get("/api/v1/places/1", "Bearer a")),
+				body(get("/api/v1/places/1", "Bearer b"))).toFuture();
+		
+		assertThat(exchanges).hasValue(2);
+		gate.tryEmitEmpty();
+		result.get(1, TimeUnit.SECONDS);
+	}
+	
+	@Test
+	@DisplayName("쿼리 문자열이 다르면 병합하지 않는다")
+	void separatesByQuery() {
+		Mono.zip(body(get("/api/v1/places/1?page=1", null)), body(get("/api/v1/places/1?page=2", null)))
+				.subscribe();
+		
+		assertThat(exchanges).hasValue(2);
+	}
+	
+	@Test
+	@DisplayName("등록되지 않은 경로와 GET이 아닌 요청은 병합하지 않는다")
+	void bypassesUnregisteredRequests() {
+		Mono.zip(body(get("/api/v1/rooms/1", null)), body(get("/api/v1/rooms/1", null))).subscribe();
+		ClientRequest post = ClientRequest.create(HttpMethod.POST, URI.create("http://place/api/v1/places/1")).build();
+		Mono.zip(body(post), body(post)).subscribe();
+		
+		assertThat(exchanges).hasValue(4);
+	}
+	
+	@Test
+	@DisplayName("완료된 요청은 병합 대상에서 제거되어 다음 요청은 새로 호출한다")
+	void releasesKeyAfterCompletion() {
+		gate.tryEmitEmpty();
+		
+		body(get("/api/v1/places/1", "Bearer a")).block(Duration.ofSeconds(1));
+		body(get("/api/v1/places/1", "Bearer a")).block(Duration.ofSeconds(1));
+		
+		assertThat(exchanges).hasValue(2);
+	}
+	
+	private Mono<String> body(ClientRequest request) {
+		return exchange.exchange(request).flatMap(response -> response.bodyToMono(String.class));
+	}
+	
+	private static ClientRequest get(String path, String authorization) {
+		ClientRequest.Builder builder = ClientRequest.create(HttpMethod.GET, URI.create("http://place" + path));
+		if (authorization != null) {
+			builder.header(HttpHeaders.AUTHORIZATION, authorization);
+		}
+		return builder.build();
+	}
+}
@@ -0,0 +1,136 @@
+package com.study.api_gateway.common.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenValidatorTest {
+	
+	private static final String SECRET = "test-secret-key-for-hs256-signature-verification";
+	private static final String HEADER = "{\"alg\":\"HS256\",\"typ\":\"JWT\"}";
+	private static final String BASE64URL = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+	
+	private JwtTokenValidator validator;
+	
+	@BeforeEach
+	void setUp() {
+		validator = new JwtTokenValidator();
+		ReflectionTestUtils.setField(validator, "jwtSecret", SECRET);
+	}
+	
+	@Test
+	@DisplayName("서명과 exp가 유효하면 VALID와 클레임을 반환한다")
+	void validToken() {
+		String token = sign("{\"sub\":\"user-1\",\"role\":\"ADMIN\",\"deviceId\":\"d-1\",\"exp\":" + future() + "}");
+		
+		JwtTokenValidator.Verification verification = validator.verify(token);
+		
+		assertThat(verification.result()).isEqualTo(TokenValidationResult.VALID);
+		assertThat(verification.claims().userId()).isEqualTo("user-1");
+		assertThat(verification.claims().role()).isEqualTo("ADMIN");
+		assertThat(verification.claims().deviceId()).isEqualTo("d-1");
+		assertThat(validator.verify(token).claims()).isSameAs(verification.claims());
+	}
+	
+	@Test
+	@DisplayName("exp가 지난 토큰은 EXPIRED")
+	void expiredToken() {
+		String token = sign("{\"sub\":\"user-1\",\"exp\":" + (Instant.now().getEpochSecond() - 1) + "}");
+		
+		assertThat(validator.validate(token)).isEqualTo(TokenValidationResult.EXPIRED);
+	}
+	
+	@Test
+	@DisplayName("다른 키로 서명했거나 payload가 바뀐 토큰은 INVALID_SIGNATURE")
+	void badSignature() {
+		String payload = "{\"sub\":\"user-1\",\"exp\":" + future() + "}";
+		String otherKey = sign(payload, "another-secret-key-for-hs256-signature-check");
+		String signed = sign(payload);
+		String tampered = encode(HEADER) + "." + encode("{\"sub\":\"admin\",\"exp\":" + future() + "}")
+				+ signed.substring(signed.lastIndexOf('.'));
+		
+		assertThat(validator.validate(otherKey)).isEqualTo(TokenValidationResult.INVALID_SIGNATURE);
+		assertThat(validator.validate(tampered)).isEqualTo(TokenValidationResult.INVALID_SIGNATURE);
+	}
+	
+	@Test
+	@DisplayName("패딩을 붙이거나 끝 비트를 바꾼 비정규 서명 인코딩은 INVALID_SIGNATURE")
+	void nonCanonicalSignatureEncoding() {
+		String token = sign("{\"sub\":\"user-1\",\"exp\":" + future() + "}");
+		String body = token.substring(0, token.length() - 1);
+		int last = BASE64URL.indexOf(token.charAt(token.length() - 1));
+		String trailingBits = body + BASE64URL.charAt(last | 1);
+		
+		assertThat(validator.validate(token + "=")).isEqualTo(TokenValidationResult.INVALID_SIGNATURE);
+		assertThat(validator.validate(trailingBits)).isEqualTo(TokenValidationResult.INVALID_SIGNATURE);
+		assertThat(validator.validate(body)).isEqualTo(TokenValidationResult.INVALID_SIGNATURE);
+		assertThat(validator.validate(token)).isEqualTo(TokenValidationResult.VALID);
+	}
+	
+	@Test
+	@DisplayName("payload를 파싱할 수 없거나 exp가 숫자가 아니면 MALFORMED")
+	void malformedPayload() {
+		String notBase64 = signRaw(encode(HEADER) + ".!!!");
+		String textExp = sign("{\"sub\":\"user-1\",\"exp\":\"tomorrow\"}");
+		
+		assertThat(validator.validate(notBase64)).isEqualTo(TokenValidationResult.MALFORMED);
+		assertThat(validator.validate(textExp)).isEqualTo(TokenValidationResult.MALFORMED);
+	}
+	
+	@Test
+	@DisplayName("sub 또는 exp가 없으면 MISSING_CLAIMS")
+	void missingClaims() {
+		assertThat(validator.validate(sign("{\"exp\":" + future() + "}"))).isEqualTo(TokenValidationResult.MISSING_CLAIMS);
+		assertThat(validator.validate(sign("{\"sub\":\"user-1\"}"))).isEqualTo(TokenValidationResult.MISSING_CLAIMS);
+	}
+	
+	@Test
+	@DisplayName("세그먼트가 3개가 아니거나 비어 있으면 INVALID_FORMAT")
+	void invalidFormat() {
+		assertThat(validator.validate(null)).isEqualTo(TokenValidationResult.INVALID_FORMAT);
+		assertThat(validator.validate("abc")).isEqualTo(TokenValidationResult.INVALID_FORMAT);
+		assertThat(validator.validate("a.b")).isEqualTo(TokenValidationResult.INVALID_FORMAT);
+		assertThat(validator.validate("a..c")).isEqualTo(TokenValidationResult.INVALID_FORMAT);
+		assertThat(validator.validate("a.b.c.d")).isEqualTo(TokenValidationResult.INVALID_FORMAT);
+	}
+	
+	private static long future() {
+		return Instant.now().getEpochSecond() + 3600;
+	}
+	
+	private static String sign(String payloadJson) {
+		return sign(payloadJson, SECRET);
+	}
+	
+	private static String sign(String payloadJson, String secret) {
+		return signRaw(encode(HEADER) + "." + encode(payloadJson), secret);
+	}
+	
+	private static String signRaw(String signingInput) {
+		return signRaw(signingInput, SECRET);
+	}
+	
+	private static String signRaw(String signingInput, String secret) {
+		try {
+			Mac mac = Mac.getInstance("HmacSHA256");
+			mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+			byte[] signature = mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+			return signingInput + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	private static String encode(String json) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,104 @@
+package com.study.api_gateway.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PathPatternTrieTest {
+	
+	@Test
+	@DisplayName("우선순위는 리터럴 > 단일 와일드카드 > ** 순이며 등록 순서와 무관하다")
+	void prefersLiteralThenSingleThenDoubleWildcard() {
+		PathPatternTrie<String> trie = new PathPatternTrie<String>()
+				.add("/api/users/**", "all")
+				.add("/api/users/*", "one")
+				.add("/api/users/me", "me");
+		
+		assertThat(trie.match("/api/users/me")).isEqualTo("me");
+		assertThat(trie.match("/api/users/42")).isEqualTo("one");
+		assertThat(trie.match("/api/users/42/posts")).isEqualTo("all");
+	}
+	
+	@Test
+	@DisplayName("끝의 **는 세그먼트 0개 이상과 일치한다")
+	void trailingDoubleWildcardMatchesZeroOrMoreSegments() {
+		PathPatternTrie<String> trie = new PathPatternTrie<String>().add("/api/places/**", "places");
+		
+		assertThat(trie.match("/api/places")).isEqualTo("places");
+		assertThat(trie.match("/api/places/")).isEqualTo("places");
+		assertThat(trie.match("/api/places/1")).isEqualTo("places");
+		assertThat(trie.match("/api/places/1/rooms/2")).isEqualTo("places");
+		assertThat(trie.match("/api/placesX")).isNull();
+		assertThat(trie.match("/api")).isNull();
+	}
+	
+	@Test
+	@DisplayName("중간의 **는 뒤 세그먼트가 일치하는 위치까지 소비한다")
+	void innerDoubleWildcardBacktracks() {
+		PathPatternTrie<String> trie = new PathPatternTrie<String>().add("/api/**/comments", "comments");
+		
+		assertThat(trie.match("/api/comments")).isEqualTo("comments");
+		assertThat(trie.match("/api/v1/articles/1/comments")).isEqualTo("comments");
+		assertThat(trie.match("/api/v1/articles/1")).isNull();
+	}
+	
+	@Test
+	@DisplayName("리터럴 분기가 실패하면 와일드카드 분기로 되돌아가 다시 찾는다")
+	void fallsBackToWildcardBranch() {
+		PathPatternTrie<String> trie = new PathPatternTrie<String>()
+				.add("/a/b/d", "literal")
+				.add("/a/*/c", "wildcard");
+		
+		assertThat(trie.match("/a/b/c")).isEqualTo("wildcard");
+		assertThat(trie.match("/a/b/d")).isEqualTo("literal");
+	}
+	
+	@Test
+	@DisplayName("{var}는 세그먼트 1개와 일치하고, 정규식/부분 와일드카드 패턴은 AntPathMatcher로 처리한다")
+	void handlesVariablesAndComplexSegments() {
+		PathPatternTrie<String> trie = new PathPatternTrie<String>()
+				.add("/rooms/{roomId}", "room")
+				.add("/users/{id:[0-9]+}", "numeric")
+				.add("/files/*.html", "html");
+		
+		assertThat(trie.match("/rooms/7")).isEqualTo("room");
+		assertThat(trie.match("/rooms/7/slots")).isNull();
+		assertThat(trie.match("/users/12")).isEqualTo("numeric");
+		assertThat(trie.match("/users/ab")).isNull();
+		assertThat(trie.match("/files/index.html")).isEqualTo("html");
+	}
+	
+	@Test
+	@DisplayName("같은 패턴을 다시 등록하면 먼저 등록된 값을 유지한다")
+	void keepsFirstValueForDuplicatePattern() {
+		PathPatternTrie<Integer> trie = new PathPatternTrie<Integer>()
+				.add("/health", 1)
+				.add("/health", 2);
+		
+		assertThat(trie.match("/health")).isEqualTo(1);
+		assertThat(trie.matches("/healthz")).isFalse();
+		assertThat(trie.match(null)).isNull();
+	}
+	
+	@Test
+	@DisplayName("일치 여부는 AntPathMatcher와 같다")
+	void agreesWithAntPathMatcher() {
+		List<String> patterns = List.of("/swagger-ui/**", "/v3/api-docs/**", "/actuator/**", "/health",
+				"/bff/v1/auth/*", "/bff/v1/rooms/{roomId}/slots");
+		List<String> paths = List.of("/swagger-ui", "/swagger-ui/index.html", "/v3/api-docs/swagger-config",
+				"/actuator/health/liveness", "/health", "/health/x", "/bff/v1/auth/login", "/bff/v1/auth/login/x",
+				"/bff/v1/rooms/3/slots", "/bff/v1/rooms/3", "/other");
+		AntPathMatcher ant = new AntPathMatcher();
+		PathPatternTrie<String> trie = new PathPatternTrie<>();
+		patterns.forEach(pattern -> trie.add(pattern, pattern));
+		
+		for (String path : paths) {
+			boolean expected = patterns.stream().anyMatch(pattern -> ant.match(pattern, path));
+			assertThat(trie.matches(path)).as(path).isEqualTo(expected);
+		}
+	}
+}
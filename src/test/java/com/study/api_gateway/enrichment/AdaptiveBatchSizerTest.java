@@ -0,0 +1,94 @@
+package com.study.api_gateway.enrichment;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveBatchSizerTest {
+	
+	private static final long TARGET_LATENCY = Duration.ofMillis(100).toNanos();
+	private static final long FAST = Duration.ofMillis(10).toNanos();
+	private static final long SLOW = Duration.ofMillis(200).toNanos();
+	
+	@Test
+	@DisplayName("초기 크기는 min~max 범위로 보정된다")
+	void clampsInitialSize() {
+		assertThat(new AdaptiveBatchSizer(20, 500, 1000, TARGET_LATENCY, 0).current()).isEqualTo(500);
+		assertThat(new AdaptiveBatchSizer(20, 500, 1, TARGET_LATENCY, 0).current()).isEqualTo(20);
+	}
+	
+	@Test
+	@DisplayName("목표 지연 이하로 끝난 꽉 찬 배치는 step만큼 커지고 max를 넘지 않는다")
+	void growsOnFastFullBatch() {
+		AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(20, 100, 90, TARGET_LATENCY, 0);
+		
+		sizer.onSuccess(90, FAST, 0);
+		assertThat(sizer.current()).isEqualTo(95);
+		
+		sizer.onSuccess(95, FAST, 0);
+		sizer.onSuccess(100, FAST, 0);
+		assertThat(sizer.current()).isEqualTo(100);
+	}
+	
+	@Test
+	@DisplayName("절반도 채우지 못한 배치는 빨라도 크기를 키우지 않는다")
+	void ignoresSparseBatch() {
+		AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(20, 100, 80, TARGET_LATENCY, 0);
+		
+		sizer.onSuccess(10, FAST, 0);
+		
+		assertThat(sizer.current()).isEqualTo(80);
+	}
+	
+	@Test
+	@DisplayName("목표 지연 초과는 3/4, 실패는 절반으로 줄이고 min 아래로 내려가지 않는다")
+	void shrinksOnSlowOrFailedBatch() {
+		AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(20, 500, 200, TARGET_LATENCY, 0);
+		
+		sizer.onSuccess(200, SLOW, 0);
+		assertThat(sizer.current()).isEqualTo(150);
+		
+		sizer.onFailure();
+		assertThat(sizer.current()).isEqualTo(75);
+		
+		sizer.onFailure();
+		sizer.onFailure();
+		assertThat(sizer.current()).isEqualTo(20);
+	}
+	
+	@Test
+	@DisplayName("응답이 목표 크기를 넘으면 빨라도 줄이고, ID당 바이트 기준 상한까지 줄인다")
+	void shrinksOnLargePayload() {
+		AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(10, 500, 200, TARGET_LATENCY, 10_000);
+		
+		// ID당 100바이트 -> 목표 10,000바이트면 최대 100개
+		sizer.onSuccess(200, FAST, 20_000);
+		
+		assertThat(sizer.current()).isEqualTo(100);
+	}
+	
+	@Test
+	@DisplayName("빠른 배치라도 ID당 응답 크기로 계산한 상한 이상으로는 키우지 않는다")
+	void capsGrowthByPayload() {
+		AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(10, 500, 95, TARGET_LATENCY, 10_000);
+		
+		for (int i = 0; i < 10; i++) {
+			sizer.onSuccess(sizer.current(), FAST, sizer.current() * 100L);
+		}
+		
+		assertThat(sizer.current()).isEqualTo(100);
+	}
+	
+	@Test
+	@DisplayName("목표 응답 크기가 0이면 응답 크기는 무시한다")
+	void ignoresPayloadWhenDisabled() {
+		AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(10, 500, 200, TARGET_LATENCY, 0);
+		
+		sizer.onSuccess(200, FAST, 100_000_000L);
+		
+		assertThat(sizer.current()).isEqualTo(225);
+	}
+}
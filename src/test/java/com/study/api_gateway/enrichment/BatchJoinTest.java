@@ -0,0 +1,72 @@
+package com.study.api_gateway.enrichment;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.util.*;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchJoinTest {
+	
+	private final List<List<Long>> loaderCalls = new ArrayList<>();
+	
+	@Test
+	@DisplayName("조인 키는 등장 순서를 유지하고 null 항목, null 키, 중복 키를 제외한다")
+	void collectsDistinctKeysInOrder() {
+		List<Item> items = Arrays.asList(new Item("a", 3L), null, new Item("b", 1L), new Item("c", null), new Item("d", 3L));
+		
+		assertThat(BatchJoin.keys(items, Item::key)).containsExactly(3L, 1L);
+		assertThat(BatchJoin.keys(List.of(), Item::key)).isEmpty();
+		assertThat(BatchJoin.keys(null, Item::key)).isEmpty();
+	}
+	
+	@Test
+	@DisplayName("배치 로더는 중복 없는 키로 한 번만 호출되고, 결과는 상위 항목 순서대로 결합된다")
+	void joinsWithSingleLoaderCall() {
+		List<Item> items = Arrays.asList(new Item("a", 1L), new Item("b", 2L), null, new Item("c", 1L), new Item("d", null));
+		
+		List<String> joined = BatchJoin.join(items, Item::key, loader(Map.of(1L, "one")), (item, value) -> item.name() + "=" + value)
+				.block();
+		
+		assertThat(loaderCalls).containsExactly(List.of(1L, 2L));
+		assertThat(joined).containsExactly("a=one", "b=null", "c=one", "d=null");
+	}
+	
+	@Test
+	@DisplayName("조인 키가 없으면 로더를 호출하지 않는다")
+	void skipsLoaderWithoutKeys() {
+		List<Item> items = List.of(new Item("a", null));
+		
+		assertThat(BatchJoin.join(List.<Item>of(), Item::key, loader(Map.of()), (item, value) -> item.name()).block()).isEmpty();
+		assertThat(BatchJoin.join(items, Item::key, loader(Map.of()), (item, value) -> item.name() + "=" + value).block())
+				.containsExactly("a=null");
+		assertThat(loaderCalls).isEmpty();
+	}
+	
+	@Test
+	@DisplayName("로더가 빈 Mono를 돌려주면 값 없이 결합한다")
+	void treatsEmptyLoaderResultAsNoValues() {
+		Function<List<Long>, Mono<Map<Long, String>>> empty = keys -> Mono.empty();
+		
+		assertThat(BatchJoin.load(List.of(new Item("a", 1L)), Item::key, empty).block()).isEmpty();
+		assertThat(BatchJoin.join(List.of(new Item("a", 1L)), Item::key, empty, (item, value) -> item.name() + "=" + value).block())
+				.containsExactly("a=null");
+	}
+	
+	private Function<List<Long>, Mono<Map<Long, String>>> loader(Map<Long, String> values) {
+		return keys -> {
+			loaderCalls.add(keys);
+			Map<Long, String> found = new HashMap<>();
+			for (Long key : keys) {
+				if (values.containsKey(key)) found.put(key, values.get(key));
+			}
+			return Mono.just(found);
+		};
+	}
+	
+	private record Item(String name, Long key) {
+	}
+}
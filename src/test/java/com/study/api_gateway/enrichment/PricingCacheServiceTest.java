@@ -0,0 +1,163 @@
+package com.study.api_gateway.enrichment;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.api_gateway.api.pricing.dto.response.PlacePricingBatchResponse;
+import com.study.api_gateway.api.pricing.dto.response.PricingPolicyResponse;
+import com.study.api_gateway.api.pricing.dto.response.RoomPricingInfo;
+import com.study.api_gateway.api.pricing.dto.response.RoomsPricingBatchResponse;
+import com.study.api_gateway.api.pricing.dto.response.TimeSlotPricesResponse;
+import com.study.api_gateway.api.reservation.client.YeYakHaeYoClient;
+import com.study.api_gateway.common.config.LocalCacheProperties;
+import com.study.api_gateway.common.invalidation.CacheInvalidationBus;
+import com.study.api_gateway.common.invalidation.LocalCacheInvalidator;
+import com.study.api_gateway.common.monitoring.metrics.ApiGatewayMetrics;
+import com.study.api_gateway.common.resilience.ResilienceOperator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PricingCacheServiceTest {
+	
+	private static final LocalDate DATE = LocalDate.of(2026, 10, 17);
+	
+	private final YeYakHaeYoClient client = mock(YeYakHaeYoClient.class);
+	private final ResilienceOperator resilience = mock(ResilienceOperator.class);
+	private final PricingCacheService service;
+	
+	@SuppressWarnings("unchecked")
+	PricingCacheServiceTest() {
+		doReturn(Function.identity()).when(resilience).protect(anyString());
+		ApiGatewayMetrics metrics = new ApiGatewayMetrics(new SimpleMeterRegistry());
+		StaticListableBeanFactory invalidators = new StaticListableBeanFactory();
+		// 브로드캐스트 없이 로컬 무효화만 적용하는 버스
+		CacheInvalidationBus bus = new CacheInvalidationBus(mock(ReactiveRedisTemplate.class), new ObjectMapper(), metrics,
+				invalidators.getBeanProvider(LocalCacheInvalidator.class), false, "test", 16, Duration.ofMillis(10));
+		service = new PricingCacheService(client, resilience, bus, new LocalCacheProperties(), metrics);
+		invalidators.addBean("pricingCacheService", service);
+	}
+	
+	@Test
+	@DisplayName("여러 룸의 가격 정책은 캐시 미스만 조회하고, 실패한 룸은 결과와 캐시에서 빠진다")
+	void loadsPolicyMissesAndSkipsFailures() {
+		when(client.getPricingPolicy(1L)).thenReturn(Mono.just(policy(1L, 1000)));
+		when(client.getPricingPolicy(2L)).thenReturn(Mono.just(policy(2L, 2000)));
+		when(client.getPricingPolicy(3L)).thenReturn(Mono.error(new IllegalStateException("reservation-service down")));
+		
+		assertThat(service.getPricingPolicy(1L).block()).isEqualTo(policy(1L, 1000));
+		Map<Long, PricingPolicyResponse> first = service.getPricingPolicies(List.of(1L, 2L, 3L)).block();
+		Map<Long, PricingPolicyResponse> second = service.getPricingPolicies(List.of(2L, 3L)).block();
+		
+		assertThat(first).containsOnlyKeys(1L, 2L);
+		assertThat(first.get(2L)).isEqualTo(policy(2L, 2000));
+		assertThat(second).containsOnlyKeys(2L);
+		verify(client, times(1)).getPricingPolicy(1L);
+		verify(client, times(1)).getPricingPolicy(2L);
+		verify(client, times(2)).getPricingPolicy(3L);
+		assertThat(service.getPricingPolicies(List.of()).block()).isEmpty();
+	}
+	
+	@Test
+	@DisplayName("정책 변경 시 해당 룸의 정책/기본 가격/날짜별 가격만 제거하고, 새 정책은 바로 적재한다")
+	void evictsRoomAndWritesThrough() {
+		when(client.getPricingPolicy(1L)).thenReturn(Mono.just(policy(1L, 1000)));
+		when(client.getPricingPoliciesByRoomIds(anyList())).thenAnswer(invocation -> {
+			List<Long> roomIds = invocation.getArgument(0);
+			return Mono.just(RoomsPricingBatchResponse.builder()
+					.rooms(roomIds.stream().map(roomId -> defaultPrice(roomId, null)).toList())
+					.build());
+		});
+		when(client.getTimeSlotPrices(1L, DATE)).thenReturn(Mono.just(TimeSlotPricesResponse.builder().build()));
+		when(client.getTimeSlotPrices(2L, DATE)).thenReturn(Mono.just(TimeSlotPricesResponse.builder().build()));
+		service.getPricingPolicy(1L).block();
+		service.getDefaultPricesByRoomId(List.of(1L, 2L)).block();
+		service.getTimeSlotPrices(1L, DATE).block();
+		service.getTimeSlotPrices(2L, DATE).block();
+		
+		service.onPolicyChanged(1L, policy(1L, 5000));
+		
+		assertThat(service.getPricingPolicy(1L).block()).isEqualTo(policy(1L, 5000));
+		verify(client, times(1)).getPricingPolicy(1L);
+		assertThat(service.getDefaultPricesByRoomId(List.of(1L, 2L)).block()).containsOnlyKeys(1L, 2L);
+		verify(client, times(2)).getPricingPoliciesByRoomIds(anyList());
+		verify(client).getPricingPoliciesByRoomIds(List.of(1L));
+		service.getTimeSlotPrices(1L, DATE).block();
+		service.getTimeSlotPrices(2L, DATE).block();
+		verify(client, times(2)).getTimeSlotPrices(1L, DATE);
+		verify(client, times(1)).getTimeSlotPrices(2L, DATE);
+	}
+	
+	@Test
+	@DisplayName("다른 룸의 정책이 변경 응답으로 오면 적재하지 않고, 숫자가 아닌 무효화 키는 무시한다")
+	void ignoresMismatchedUpdatesAndInvalidKeys() {
+		when(client.getPricingPolicy(1L)).thenReturn(Mono.just(policy(1L, 1000)));
+		
+		service.onPolicyChanged(1L, policy(2L, 5000));
+		service.evictLocal(List.of("not-a-room"));
+		
+		assertThat(service.getPricingPolicy(1L).block()).isEqualTo(policy(1L, 1000));
+		verify(client, times(1)).getPricingPolicy(1L);
+	}
+	
+	@Test
+	@DisplayName("사전 적재는 캐시에 없는 룸이 있을 때만, 장소별로 TTL마다 한 번만 보호 연산자를 거쳐 호출한다")
+	void warmsPlaceOnlyWhenNeeded() {
+		when(client.getPricingPoliciesByPlaceId(10L, null)).thenReturn(Mono.just(PlacePricingBatchResponse.builder()
+				.placeId(10L)
+				.rooms(List.of(defaultPrice(1L, null), defaultPrice(2L, Map.of("09:00", BigDecimal.TEN))))
+				.build()));
+		
+		service.warmPlace(10L, List.of(1L, 2L)).block();
+		// 룸 2는 날짜별 가격이 섞인 응답이라 적재되지 않았지만, TTL 안에는 다시 호출하지 않음
+		service.warmPlace(10L, List.of(1L, 2L)).block();
+		service.warmPlace(10L, List.of(1L)).block();
+		
+		verify(client, times(1)).getPricingPoliciesByPlaceId(10L, null);
+		verify(resilience, atLeastOnce()).protect("reservation-service");
+		assertThat(service.getDefaultPricesByRoomId(List.of(1L)).block()).containsOnlyKeys(1L);
+		verify(client, never()).getPricingPoliciesByRoomIds(anyList());
+		
+		service.clearLocal();
+		service.warmPlace(10L, List.of(1L)).block();
+		verify(client, times(2)).getPricingPoliciesByPlaceId(10L, null);
+	}
+	
+	private static PricingPolicyResponse policy(Long roomId, int price) {
+		return PricingPolicyResponse.builder()
+				.roomId(roomId)
+				.placeId(10L)
+				.timeSlot("HOUR")
+				.defaultPrice(BigDecimal.valueOf(price))
+				.timeRangePrices(List.of())
+				.build();
+	}
+	
+	private static RoomPricingInfo defaultPrice(Long roomId, Map<String, BigDecimal> timeSlotPrices) {
+		return RoomPricingInfo.builder()
+				.roomId(roomId)
+				.timeSlot("HOUR")
+				.defaultPrice(BigDecimal.valueOf(1000))
+				.timeSlotPrices(timeSlotPrices)
+				.build();
+	}
+}
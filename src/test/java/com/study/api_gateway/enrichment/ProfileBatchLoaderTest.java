@@ -0,0 +1,173 @@
+package com.study.api_gateway.enrichment;
+
+import com.study.api_gateway.api.profile.client.ProfileClient;
+import com.study.api_gateway.api.profile.dto.response.BatchUserSummaryResponse;
+import com.study.api_gateway.common.deadline.Deadline;
+import com.study.api_gateway.common.monitoring.metrics.ApiGatewayMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProfileBatchLoaderTest {
+	
+	private static final Duration MAX_WAIT = Duration.ofMillis(20);
+	
+	private final ProfileClient profileClient = mock(ProfileClient.class);
+	
+	@Test
+	@DisplayName("동시에 들어온 요청의 ID는 한 번의 배치 호출로 합쳐지고, 각 요청은 자기 ID의 결과만 받는다")
+	@SuppressWarnings("unchecked")
+	void coalescesCallersIntoOneBatch() throws Exception {
+		Sinks.One<List<BatchUserSummaryResponse>> response = Sinks.one();
+		when(profileClient.fetchUserSummariesBatchOrError(anyList())).thenReturn(response.asMono());
+		ProfileBatchLoader loader = loader(500);
+		
+		CompletableFuture<Map<String, BatchUserSummaryResponse>> first = loader.load(List.of("a", "b")).toFuture();
+		CompletableFuture<Map<String, BatchUserSummaryResponse>> second = loader.load(List.of("b", "c")).toFuture();
+		
+		ArgumentCaptor<List<String>> ids = ArgumentCaptor.forClass(List.class);
+		verify(profileClient, timeout(1000).times(1)).fetchUserSummariesBatchOrError(ids.capture());
+		assertThat(ids.getValue()).containsExactly("a", "b", "c");
+		
+		response.tryEmitValue(List.of(profile("a"), profile("b"), profile("c")));
+		assertThat(first.get(1, TimeUnit.SECONDS)).containsOnlyKeys("a", "b");
+		assertThat(second.get(1, TimeUnit.SECONDS)).containsOnlyKeys("b", "c");
+	}
+	
+	@Test
+	@DisplayName("배치가 최대 크기에 도달하면 대기 시간 없이 바로 발송한다")
+	void dispatchesWhenBatchIsFull() {
+		when(profileClient.fetchUserSummariesBatchOrError(anyList())).thenReturn(Mono.just(List.of(profile("a"))));
+		ProfileBatchLoader loader = new ProfileBatchLoader(profileClient, new ApiGatewayMetrics(new SimpleMeterRegistry()),
+				true, Duration.ofSeconds(10), 2, 2, 2, Duration.ofSeconds(1), 0, 4, 1);
+		
+		Map<String, BatchUserSummaryResponse> result = loader.load(List.of("a", "b")).block(Duration.ofSeconds(1));
+		
+		assertThat(result).containsOnlyKeys("a");
+	}
+	
+	@Test
+	@DisplayName("배치 호출 실패는 빈 결과가 아니라 error로 모든 요청에 전달된다")
+	void propagatesBatchFailure() {
+		when(profileClient.fetchUserSummariesBatchOrError(anyList()))
+				.thenReturn(Mono.error(new IllegalStateException("profile down")));
+		ProfileBatchLoader loader = loader(500);
+		
+		assertThatThrownBy(() -> loader.load(List.of("a")).block(Duration.ofSeconds(1)))
+				.isInstanceOf(IllegalStateException.class);
+	}
+	
+	@Test
+	@DisplayName("발송 전에 모든 요청이 취소되면 배치를 호출하지 않는다")
+	void skipsBatchWhenEveryCallerCancelledBeforeDispatch() {
+		ProfileBatchLoader loader = loader(500);
+		
+		loader.load(List.of("a")).subscribe().dispose();
+		
+		verify(profileClient, after(MAX_WAIT.toMillis() * 5).never()).fetchUserSummariesBatchOrError(anyList());
+	}
+	
+	@Test
+	@DisplayName("발송 후 모든 요청이 취소되면 진행 중인 배치 호출도 취소한다")
+	void cancelsInFlightBatchWhenEveryCallerIsGone() {
+		AtomicBoolean upstreamCancelled = new AtomicBoolean();
+		when(profileClient.fetchUserSummariesBatchOrError(anyList()))
+				.thenReturn(Mono.<List<BatchUserSummaryResponse>>never().doOnCancel(() -> upstreamCancelled.set(true)));
+		ProfileBatchLoader loader = loader(500);
+		
+		Disposable first = loader.load(List.of("a")).subscribe();
+		Disposable second = loader.load(List.of("b")).subscribe();
+		verify(profileClient, timeout(1000).times(1)).fetchUserSummariesBatchOrError(anyList());
+		
+		first.dispose();
+		assertThat(upstreamCancelled).isFalse();
+		second.dispose();
+		await().atMost(Duration.ofSeconds(1)).untilTrue(upstreamCancelled);
+	}
+	
+	@Test
+	@DisplayName("배치 호출은 합류한 요청 중 가장 늦은 마감을 Context로 전달받는다")
+	void propagatesLatestCallerDeadline() throws Exception {
+		AtomicReference<Deadline> seen = new AtomicReference<>();
+		when(profileClient.fetchUserSummariesBatchOrError(anyList())).thenReturn(Mono.deferContextual(context -> {
+			seen.set(Deadline.from(context));
+			return Mono.just(List.of());
+		}));
+		ProfileBatchLoader loader = loader(500);
+		
+		CompletableFuture<?> shortDeadline = loader.load(List.of("a"))
+				.contextWrite(context -> Deadline.after(Duration.ofSeconds(1)).addTo(context)).toFuture();
+		CompletableFuture<?> longDeadline = loader.load(List.of("b"))
+				.contextWrite(context -> Deadline.after(Duration.ofSeconds(30)).addTo(context)).toFuture();
+		CompletableFuture.allOf(shortDeadline, longDeadline).get(1, TimeUnit.SECONDS);
+		
+		assertThat(seen.get()).isNotNull();
+		assertThat(seen.get().remaining()).isGreaterThan(Duration.ofSeconds(20));
+		verify(profileClient, times(1)).fetchUserSummariesBatchOrError(anyList());
+	}
+	
+	@Test
+	@DisplayName("배치 크기를 넘는 요청은 조각으로 나뉘고, 실패한 조각이 있어도 나머지 조각 결과는 전달된다")
+	void loadChunksIsolatesFailedChunk() {
+		when(profileClient.fetchUserSummariesBatchOrError(anyList())).thenAnswer(invocation -> {
+			List<String> ids = invocation.getArgument(0);
+			if (ids.contains("c")) {
+				return Mono.error(new IllegalStateException("boom"));
+			}
+			return Mono.just(ids.stream().map(ProfileBatchLoaderTest::profile).toList());
+		});
+		ProfileBatchLoader loader = loader(2);
+		
+		List<ProfileBatchLoader.Chunk> chunks = loader.loadChunks(List.of("a", "b", "c")).collectList().block(Duration.ofSeconds(1));
+		
+		assertThat(chunks).hasSize(2);
+		assertThat(chunks).filteredOn(ProfileBatchLoader.Chunk::failed)
+				.singleElement()
+				.satisfies(chunk -> assertThat(chunk.requested()).containsExactly("c"));
+		assertThat(chunks).filteredOn(chunk -> !chunk.failed())
+				.singleElement()
+				.satisfies(chunk -> assertThat(chunk.found()).containsOnlyKeys("a", "b"));
+		assertThatThrownBy(() -> loader.load(List.of("a", "b", "c")).block(Duration.ofSeconds(1)))
+				.hasMessageContaining("boom");
+	}
+	
+	@Test
+	@DisplayName("응답 크기는 문자열 필드 길이와 항목당 오버헤드로 추정한다")
+	void estimatesPayloadBytes() {
+		long bytes = ProfileBatchLoader.estimatePayloadBytes(Map.of("a", profile("a"), "b", new BatchUserSummaryResponse("b", null, null)));
+		
+		assertThat(bytes).isEqualTo((48 + 1 + 6 + 5) + (48 + 1));
+	}
+	
+	private ProfileBatchLoader loader(int batchSize) {
+		return new ProfileBatchLoader(profileClient, new ApiGatewayMetrics(new SimpleMeterRegistry()),
+				true, MAX_WAIT, batchSize, 1, batchSize, Duration.ofSeconds(1), 0, 4, 1);
+	}
+	
+	private static BatchUserSummaryResponse profile(String userId) {
+		return new BatchUserSummaryResponse(userId, "nick-" + userId, "img-" + userId);
+	}
+}
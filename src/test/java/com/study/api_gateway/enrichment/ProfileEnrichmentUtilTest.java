@@ -0,0 +1,51 @@
+package com.study.api_gateway.enrichment;
+
+import com.study.api_gateway.enrichment.cache.ProfileCache;
+import com.study.api_gateway.enrichment.plan.EnrichmentPlans;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ProfileEnrichmentUtilTest {
+	
+	private final ProfileCache profileCache = mock(ProfileCache.class);
+	private final ProfileBatchLoader profileBatchLoader = mock(ProfileBatchLoader.class);
+	private final ProfileEnrichmentUtil util = new ProfileEnrichmentUtil(profileCache, profileBatchLoader, new EnrichmentPlans());
+	
+	@Test
+	@DisplayName("조회된 프로필이 하나도 없어도 중첩 구조 전체에 기본 닉네임/이미지를 주입한다")
+	void injectsDefaultsWhenNoProfileFound() {
+		Map<String, Object> child = new LinkedHashMap<>(Map.of("writerId", "u2"));
+		Map<String, Object> root = new LinkedHashMap<>();
+		root.put("userId", "u1");
+		root.put("comments", new ArrayList<>(List.of(child)));
+		
+		util.injectProfilesDeep(root, Map.of());
+		
+		assertThat(root).containsEntry("nickname", ProfileEnrichmentUtil.ANY_PROFILE_SPEC.defaultNickname())
+				.containsEntry("profileImageUrl", ProfileEnrichmentUtil.ANY_PROFILE_SPEC.defaultProfileImage());
+		assertThat(child).containsEntry("nickname", ProfileEnrichmentUtil.ANY_PROFILE_SPEC.defaultNickname());
+	}
+	
+	@Test
+	@DisplayName("음수 캐시된 사용자만 있는 응답도 API 호출 없이 기본값으로 보강한다")
+	void enrichAnyFillsDefaultsForNegativeEntries() {
+		when(profileCache.getAll(any())).thenReturn(Mono.just(Map.of("u1", ProfileCache.NOT_FOUND)));
+		Map<String, Object> data = new LinkedHashMap<>(Map.of("userId", "u1"));
+		
+		Object result = util.enrichAny(data).block(Duration.ofSeconds(1));
+		
+		assertThat(result).isSameAs(data);
+		assertThat(data).containsEntry("nickname", ProfileEnrichmentUtil.ANY_PROFILE_SPEC.defaultNickname());
+		verifyNoInteractions(profileBatchLoader);
+	}
+}
@@ -0,0 +1,33 @@
+package com.study.api_gateway.enrichment.cache;
+
+import com.study.api_gateway.api.profile.dto.response.BatchUserSummaryResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProfileCacheTest {
+	
+	@Test
+	@DisplayName("NOT_FOUND 마커는 변경할 수 없다")
+	void notFoundIsImmutable() {
+		assertThatThrownBy(() -> ProfileCache.NOT_FOUND.setUserId("u1")).isInstanceOf(UnsupportedOperationException.class);
+		assertThatThrownBy(() -> ProfileCache.NOT_FOUND.setNickname("nick")).isInstanceOf(UnsupportedOperationException.class);
+		assertThatThrownBy(() -> ProfileCache.NOT_FOUND.setProfileImageUrl("img")).isInstanceOf(UnsupportedOperationException.class);
+		assertThat(ProfileCache.NOT_FOUND.getUserId()).isNull();
+		assertThat(ProfileCache.NOT_FOUND.getNickname()).isNull();
+	}
+	
+	@Test
+	@DisplayName("필드가 모두 비어 있는 일반 DTO는 NOT_FOUND로 취급하지 않는다")
+	void emptyProfileIsNotNotFound() {
+		BatchUserSummaryResponse empty = new BatchUserSummaryResponse();
+		
+		assertThat(ProfileCache.isNotFound(ProfileCache.NOT_FOUND)).isTrue();
+		assertThat(ProfileCache.isNotFound(empty)).isFalse();
+		assertThat(ProfileCache.isNotFound(null)).isFalse();
+		assertThat(empty).isNotEqualTo(ProfileCache.NOT_FOUND);
+		assertThat(ProfileCache.NOT_FOUND).isNotEqualTo(empty);
+	}
+}
@@ -0,0 +1,76 @@
+package com.study.api_gateway.enrichment.cache;
+
+import com.study.api_gateway.api.profile.dto.response.BatchUserSummaryResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProfileSummaryCodecTest {
+	
+	@Test
+	@DisplayName("모든 필드가 있는 프로필은 그대로 복원된다 (멀티바이트 문자 포함)")
+	void roundTripsFullProfile() {
+		BatchUserSummaryResponse profile = new BatchUserSummaryResponse("user_123", "상어크앙 🦈", "https://cdn.example.com/p.png");
+		
+		assertThat(ProfileSummaryCodec.decode(ProfileSummaryCodec.encode(profile))).isEqualTo(profile);
+	}
+	
+	@Test
+	@DisplayName("null 필드와 빈 문자열은 구분되어 복원된다")
+	void distinguishesNullFromEmpty() {
+		BatchUserSummaryResponse profile = new BatchUserSummaryResponse("u", "", null);
+		
+		byte[] encoded = ProfileSummaryCodec.encode(profile);
+		
+		assertThat(encoded).containsExactly(ProfileSummaryCodec.VERSION, 0b0110, 1, 'u', 0);
+		assertThat(ProfileSummaryCodec.decode(encoded)).isEqualTo(profile);
+	}
+	
+	@Test
+	@DisplayName("127바이트를 넘는 필드는 여러 바이트 varint 길이로 기록된다")
+	void roundTripsLongFields() {
+		BatchUserSummaryResponse profile = new BatchUserSummaryResponse("u".repeat(128), "n".repeat(20_000), "i".repeat(300));
+		
+		assertThat(ProfileSummaryCodec.decode(ProfileSummaryCodec.encode(profile))).isEqualTo(profile);
+	}
+	
+	@Test
+	@DisplayName("NOT_FOUND는 2바이트로 기록되고 같은 마커 인스턴스로 복원된다")
+	void roundTripsNotFound() {
+		byte[] encoded = ProfileSummaryCodec.encode(ProfileCache.NOT_FOUND);
+		
+		assertThat(encoded).hasSize(2);
+		assertThat(ProfileSummaryCodec.decode(encoded)).isSameAs(ProfileCache.NOT_FOUND);
+		
+		// 반환된 배열을 바꿔도 이후 인코딩 결과에는 영향이 없다
+		encoded[1] = 0;
+		assertThat(ProfileSummaryCodec.decode(ProfileSummaryCodec.encode(ProfileCache.NOT_FOUND))).isSameAs(ProfileCache.NOT_FOUND);
+	}
+	
+	@Test
+	@DisplayName("모르는 버전, 너무 짧은 값, 잘린 값은 캐시 미스(null)로 처리한다")
+	void rejectsUnknownOrCorruptedValues() {
+		byte[] encoded = ProfileSummaryCodec.encode(new BatchUserSummaryResponse("user_123", "nick", "img"));
+		byte[] futureVersion = encoded.clone();
+		futureVersion[0] = ProfileSummaryCodec.VERSION + 1;
+		
+		assertThat(ProfileSummaryCodec.decode(futureVersion)).isNull();
+		assertThat(ProfileSummaryCodec.decode(null)).isNull();
+		assertThat(ProfileSummaryCodec.decode(new byte[]{ProfileSummaryCodec.VERSION})).isNull();
+		assertThat(ProfileSummaryCodec.decode(Arrays.copyOf(encoded, encoded.length - 1))).isNull();
+		// 끝나지 않는 varint 길이
+		assertThat(ProfileSummaryCodec.decode(new byte[]{ProfileSummaryCodec.VERSION, 0b0010, (byte) 0x80, (byte) 0x80})).isNull();
+	}
+	
+	@Test
+	@DisplayName("바이너리 코덱 이전의 JSON 값을 구분한다")
+	void detectsLegacyJson() {
+		assertThat(ProfileSummaryCodec.isLegacyJson("{\"userId\":\"u\"}".getBytes(StandardCharsets.UTF_8))).isTrue();
+		assertThat(ProfileSummaryCodec.isLegacyJson(ProfileSummaryCodec.encode(ProfileCache.NOT_FOUND))).isFalse();
+		assertThat(ProfileSummaryCodec.isLegacyJson(new byte[0])).isFalse();
+	}
+}
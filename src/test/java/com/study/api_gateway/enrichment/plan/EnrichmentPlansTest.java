@@ -0,0 +1,160 @@
+package com.study.api_gateway.enrichment.plan;
+
+import com.study.api_gateway.api.article.dto.response.ArticleCursorPageResponse;
+import com.study.api_gateway.api.article.dto.response.ArticleResponse;
+import com.study.api_gateway.api.profile.dto.response.BatchUserSummaryResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EnrichmentPlansTest {
+	
+	private static final String DEFAULT_NICKNAME = "알 수 없음";
+	private static final String DEFAULT_IMAGE = "https://cdn.example.com/default.png";
+	
+	private final EnrichmentPlans plans = new EnrichmentPlans();
+	
+	@Test
+	@DisplayName("@EnrichNested 컬렉션을 따라 @ProfileRef ID를 수집하고 null ID는 건너뛴다")
+	void collectsIdsThroughNestedCollection() {
+		ArticleCursorPageResponse page = page(article("u1"), article(null), article("u2"), article("u1"));
+		Set<String> ids = new LinkedHashSet<>();
+		
+		plans.collect(page, ids);
+		
+		assertThat(ids).containsExactly("u1", "u2");
+	}
+	
+	@Test
+	@DisplayName("조회된 프로필은 지정 필드에 주입하고, 없거나 비어 있는 값은 기본값으로 채운다")
+	void injectsProfilesAndDefaults() {
+		ArticleResponse found = article("u1");
+		ArticleResponse blank = article("u2");
+		ArticleResponse missing = article("u3");
+		Map<String, BatchUserSummaryResponse> profiles = Map.of(
+				"u1", new BatchUserSummaryResponse("u1", "닉네임", "https://cdn.example.com/u1.png"),
+				"u2", new BatchUserSummaryResponse("u2", " ", null));
+		
+		plans.inject(page(found, blank, missing), profiles, DEFAULT_NICKNAME, DEFAULT_IMAGE);
+		
+		assertThat(found.getWriterName()).isEqualTo("닉네임");
+		assertThat(found.getWriterProfileImage()).isEqualTo("https://cdn.example.com/u1.png");
+		assertThat(blank.getWriterName()).isEqualTo(DEFAULT_NICKNAME);
+		assertThat(blank.getWriterProfileImage()).isEqualTo(DEFAULT_IMAGE);
+		assertThat(missing.getWriterName()).isEqualTo(DEFAULT_NICKNAME);
+		assertThat(missing.getWriterProfileImage()).isEqualTo(DEFAULT_IMAGE);
+	}
+	
+	@Test
+	@DisplayName("배열과 리스트도 원소별로 보강한다")
+	void injectsArraysAndLists() {
+		ArticleResponse inArray = article("u1");
+		ArticleResponse inList = article("u1");
+		Map<String, BatchUserSummaryResponse> profiles = Map.of("u1", new BatchUserSummaryResponse("u1", "닉네임", "img"));
+		
+		plans.inject(new Object[]{inArray}, profiles, DEFAULT_NICKNAME, DEFAULT_IMAGE);
+		plans.inject(List.of(inList), profiles, DEFAULT_NICKNAME, DEFAULT_IMAGE);
+		
+		assertThat(inArray.getWriterName()).isEqualTo("닉네임");
+		assertThat(inList.getWriterName()).isEqualTo("닉네임");
+	}
+	
+	@Test
+	@DisplayName("Map, java.* 타입, 어노테이션이 없는 타입은 보강 계획이 없다")
+	void leafAndPlainTypesHaveNoPlan() {
+		Set<String> ids = new HashSet<>();
+		plans.collect(Map.of("writerId", "u1"), ids);
+		plans.collect("u1", ids);
+		plans.collect(new Plain(), ids);
+		
+		assertThat(ids).isEmpty();
+		assertThat(plans.hasPlan(ArticleResponse.class)).isTrue();
+		assertThat(plans.hasPlan(ArticleCursorPageResponse.class)).isTrue();
+		assertThat(plans.hasPlan(String.class)).isFalse();
+		assertThat(plans.hasPlan(Plain.class)).isFalse();
+	}
+	
+	@Test
+	@DisplayName("주입 대상 필드 이름이 빈 문자열이면 해당 값은 주입하지 않는다")
+	void skipsEmptyTargetName() {
+		ImageOnly target = new ImageOnly();
+		target.setUserId("u1");
+		
+		plans.inject(target, Map.of("u1", new BatchUserSummaryResponse("u1", "닉네임", "img")), DEFAULT_NICKNAME, DEFAULT_IMAGE);
+		
+		assertThat(target.getImage()).isEqualTo("img");
+	}
+	
+	@Test
+	@DisplayName("주입 대상 setter가 없으면 계획 생성 시 실패한다")
+	void failsOnMissingSetter() {
+		assertThatThrownBy(() -> plans.hasPlan(MissingSetter.class))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("writerName");
+	}
+	
+	private static ArticleResponse article(String writerId) {
+		return ArticleResponse.builder().writerId(writerId).build();
+	}
+	
+	private static ArticleCursorPageResponse page(ArticleResponse... items) {
+		return ArticleCursorPageResponse.builder().items(List.of(items)).build();
+	}
+	
+	public static class Plain {
+		private String userId = "u1";
+		
+		public String getUserId() {
+			return userId;
+		}
+	}
+	
+	public static class ImageOnly {
+		@ProfileRef(nickname = "", profileImageUrl = "image")
+		private String userId;
+		private String image;
+		
+		public String getUserId() {
+			return userId;
+		}
+		
+		public void setUserId(String userId) {
+			this.userId = userId;
+		}
+		
+		public String getImage() {
+			return image;
+		}
+		
+		public void setImage(String image) {
+			this.image = image;
+		}
+	}
+	
+	public static class MissingSetter {
+		@ProfileRef(nickname = "writerName", profileImageUrl = "writerProfileImage")
+		private String writerId;
+		private String writerName;
+		private String writerProfileImage;
+		
+		public String getWriterId() {
+			return writerId;
+		}
+		
+		public String getWriterName() {
+			return writerName;
+		}
+		
+		public String getWriterProfileImage() {
+			return writerProfileImage;
+		}
+		
+		public void setWriterProfileImage(String writerProfileImage) {
+			this.writerProfileImage = writerProfileImage;
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package com.study.api_gateway.enrichment.stream;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.study.api_gateway.api.profile.dto.response.BatchUserSummaryResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonProfileRewriterTest {
+	
+	private static final JsonRewriteSpec SIBLINGS = JsonRewriteSpec.siblings(
+			Set.of("userId", "writerId"), "nickname", "profileImageUrl", "익명", "default.png");
+	private static final JsonRewriteSpec NESTED = JsonRewriteSpec.nested(
+			Set.of("senderId"), "sender", "userId", "nickname", "profileImage", "익명", "default.png");
+	private static final Map<String, BatchUserSummaryResponse> PROFILES = Map.of(
+			"u1", new BatchUserSummaryResponse("u1", "닉1", "img1"),
+			"u2", new BatchUserSummaryResponse("u2", " ", null),
+			"7", new BatchUserSummaryResponse("7", "seven", "img7"));
+	
+	private final JsonProfileRewriter rewriter = new JsonProfileRewriter(new JsonFactory());
+	
+	@Test
+	@DisplayName("ID 옆에 프로필 필드를 추가하고, 기존 대상 필드는 (객체 값이라도) 버리며 중첩 객체도 보강한다")
+	void injectsSiblingFields() throws IOException {
+		String json = "[{\"userId\":\"u1\",\"nickname\":\"old\",\"title\":\"t\"},"
+				+ "{\"userId\":\"u2\",\"profileImageUrl\":{\"x\":{\"y\":1}},\"meta\":{\"writerId\":\"u3\"}},"
+				+ "{\"title\":\"none\",\"nickname\":\"keep\"}]";
+		
+		assertThat(scan(json, SIBLINGS).userIds()).containsExactly("u1", "u2", "u3");
+		assertThat(rewrite(json, SIBLINGS)).isEqualTo("[{\"userId\":\"u1\",\"nickname\":\"닉1\",\"profileImageUrl\":\"img1\",\"title\":\"t\"},"
+				+ "{\"userId\":\"u2\",\"nickname\":\"익명\",\"profileImageUrl\":\"default.png\","
+				+ "\"meta\":{\"writerId\":\"u3\",\"nickname\":\"익명\",\"profileImageUrl\":\"default.png\"}},"
+				+ "{\"title\":\"none\",\"nickname\":\"keep\"}]");
+	}
+	
+	@Test
+	@DisplayName("객체마다 처음 나온 ID 필드만 사용하고, 숫자 ID도 그대로 복사한다")
+	void usesFirstIdFieldPerObject() throws IOException {
+		String json = "{\"userId\":7,\"writerId\":\"u1\"}";
+		
+		assertThat(scan(json, SIBLINGS).userIds()).containsExactly("7");
+		assertThat(rewrite(json, SIBLINGS)).isEqualTo("{\"userId\":7,\"nickname\":\"seven\",\"profileImageUrl\":\"img7\",\"writerId\":\"u1\"}");
+	}
+	
+	@Test
+	@DisplayName("nested 규칙은 ID 필드를 프로필 객체로 교체하고 기존 객체 필드는 버린다")
+	void replacesIdWithNestedObject() throws IOException {
+		String json = "{\"messages\":[{\"senderId\":\"u1\",\"sender\":\"stale\",\"text\":\"hi\"},{\"text\":\"no\"}]}";
+		
+		assertThat(rewrite(json, NESTED)).isEqualTo(
+				"{\"messages\":[{\"sender\":{\"userId\":\"u1\",\"nickname\":\"닉1\",\"profileImage\":\"img1\"},\"text\":\"hi\"},{\"text\":\"no\"}]}");
+	}
+	
+	@Test
+	@DisplayName("unwrapData면 최상위 data 값만 출력하고, data가 스칼라면 원본 그대로 둔다")
+	void unwrapsDataEnvelope() throws IOException {
+		JsonRewriteSpec spec = SIBLINGS.withUnwrapData();
+		String envelope = "{\"code\":200,\"data\":{\"items\":[{\"userId\":\"u1\"}]},\"extra\":{\"userId\":\"u2\"}}";
+		String scalar = "{\"code\":200,\"data\":\"plain\"}";
+		
+		assertThat(scan(envelope, spec).envelope()).isTrue();
+		assertThat(rewrite(envelope, spec)).isEqualTo("{\"items\":[{\"userId\":\"u1\",\"nickname\":\"닉1\",\"profileImageUrl\":\"img1\"}]}");
+		assertThat(scan(scalar, spec).envelope()).isFalse();
+		assertThat(rewrite(scalar, spec)).isEqualTo(scalar);
+	}
+	
+	@Test
+	@DisplayName("ID가 null인 객체는 건드리지 않고, 두 패스 모두 버퍼 읽기 위치를 복원한다")
+	void leavesNullIdsAndRestoresBuffer() throws IOException {
+		String json = "{\"userId\":null,\"nickname\":\"x\"}";
+		DataBuffer body = buffer(json);
+		
+		JsonProfileRewriter.Scan scan = rewriter.scan(body, SIBLINGS);
+		assertThat(body.readPosition()).isZero();
+		String rewritten = rewriter.rewrite(body, SIBLINGS, scan, PROFILES);
+		
+		assertThat(scan.userIds()).isEmpty();
+		assertThat(rewritten).isEqualTo(json);
+		assertThat(body.readPosition()).isZero();
+	}
+	
+	private JsonProfileRewriter.Scan scan(String json, JsonRewriteSpec spec) throws IOException {
+		return rewriter.scan(buffer(json), spec);
+	}
+	
+	private String rewrite(String json, JsonRewriteSpec spec) throws IOException {
+		DataBuffer body = buffer(json);
+		return rewriter.rewrite(body, spec, rewriter.scan(body, spec), PROFILES);
+	}
+	
+	private static DataBuffer buffer(String json) {
+		return DefaultDataBufferFactory.sharedInstance.wrap(json.getBytes(StandardCharsets.UTF_8));
+	}
+}